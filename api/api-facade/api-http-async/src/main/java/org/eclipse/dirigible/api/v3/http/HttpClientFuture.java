@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.http;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.http.HttpResponse;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+
+/**
+ * The pending response of a request started with {@link HttpClientAsyncFacade#fetch(String, String, String)}.
+ */
+public class HttpClientFuture {
+
+	/** The future. */
+	private final Future<HttpResponse> future;
+
+	/** The binary. */
+	private final boolean binary;
+
+	/** The default timeout. */
+	private final long timeout;
+
+	/**
+	 * Instantiates a new http client future.
+	 *
+	 * @param future the future
+	 * @param binary the binary
+	 * @param timeout the default timeout in milliseconds
+	 */
+	HttpClientFuture(Future<HttpResponse> future, boolean binary, long timeout) {
+		this.future = future;
+		this.binary = binary;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Checks if the request is completed, failed or cancelled.
+	 *
+	 * @return true, if done
+	 */
+	public boolean isDone() {
+		return future.isDone();
+	}
+
+	/**
+	 * Cancels the request.
+	 *
+	 * @return true, if the request has been cancelled
+	 */
+	public boolean cancel() {
+		return future.cancel(true);
+	}
+
+	/**
+	 * Waits for the response for up to the default timeout.
+	 *
+	 * @return the response as JSON
+	 * @throws IOException in case the request failed, has been cancelled or timed out
+	 */
+	public String get() throws IOException {
+		return get(timeout);
+	}
+
+	/**
+	 * Waits for the response for up to the given timeout. The request is cancelled, if it does not complete in time.
+	 *
+	 * @param timeout the timeout in milliseconds
+	 * @return the response as JSON
+	 * @throws IOException in case the request failed, has been cancelled or timed out
+	 */
+	public String get(long timeout) throws IOException {
+		try {
+			HttpResponse response = future.get(timeout, TimeUnit.MILLISECONDS);
+			return GsonHelper.toJson(HttpClientFacade.processHttpClientResponse(response, binary));
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new IOException("The request did not complete in " + timeout + " ms", e);
+		} catch (CancellationException e) {
+			throw new IOException("The request has been cancelled", e);
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause().getMessage(), e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+}
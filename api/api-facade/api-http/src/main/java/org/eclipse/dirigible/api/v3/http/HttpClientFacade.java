@@ -13,6 +13,7 @@ package org.eclipse.dirigible.api.v3.http;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -21,12 +22,14 @@ import org.apache.commons.io.IOUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.EntityBuilder;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpPatch;
@@ -35,6 +38,7 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpTrace;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicNameValuePair;
@@ -44,6 +48,7 @@ import org.eclipse.dirigible.api.v3.http.client.HttpClientParam;
 import org.eclipse.dirigible.api.v3.http.client.HttpClientProxyUtils;
 import org.eclipse.dirigible.api.v3.http.client.HttpClientRequestOptions;
 import org.eclipse.dirigible.api.v3.http.client.HttpClientResponse;
+import org.eclipse.dirigible.api.v3.http.client.HttpClientStreamResponse;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 
@@ -167,6 +172,102 @@ public class HttpClientFacade implements IScriptingFacade {
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
 
+	/**
+	 * Performs a request for the specified URL and options in streaming mode. The request body is read from the
+	 * input while it is sent and the response content is not buffered, so that large transfers run in constant
+	 * memory. The returned response has to be closed after its stream is consumed.
+	 *
+	 * @param method            the HTTP method
+	 * @param url            the URL
+	 * @param options            the options
+	 * @param input            the request body or null, if the body is taken from the options
+	 * @return the response with the content as stream
+	 * @throws IOException             In case an I/O exception occurs
+	 */
+	public static final HttpClientStreamResponse stream(String method, String url, String options, InputStream input) throws IOException {
+		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
+		HttpRequestBase httpRequest = createStreamRequest(method, url, httpClientRequestOptions, input);
+		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		return new HttpClientStreamResponse(httpClient.execute(httpRequest));
+	}
+
+	/**
+	 * Build HTTP Request for streaming mode.
+	 *
+	 * @param method the HTTP method
+	 * @param url the url
+	 * @param httpClientRequestOptions the http client request options
+	 * @param input the request body or null, if the body is taken from the options
+	 * @return the http request
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static HttpRequestBase createStreamRequest(String method, String url, HttpClientRequestOptions httpClientRequestOptions, InputStream input)
+			throws IOException {
+		if (input == null) {
+			return createRequest(method, url, httpClientRequestOptions);
+		}
+		HttpEntityEnclosingRequestBase httpRequest;
+		switch (method.toUpperCase()) {
+			case "POST":
+				httpRequest = new HttpPost(url);
+				break;
+			case "PUT":
+				httpRequest = new HttpPut(url);
+				break;
+			case "PATCH":
+				httpRequest = new HttpPatch(url);
+				break;
+			default:
+				throw new IllegalArgumentException("A request body is not supported for HTTP method: " + method);
+		}
+		httpRequest.setConfig(prepareConfig(httpClientRequestOptions));
+		prepareHeaders(httpClientRequestOptions, httpRequest);
+		String contentTypeString = httpClientRequestOptions.getContentType();
+		ContentType contentType = contentTypeString == null ? ContentType.APPLICATION_OCTET_STREAM : ContentType.parse(contentTypeString);
+		// unknown length, hence sent in chunks
+		httpRequest.setEntity(new InputStreamEntity(input, -1, contentType));
+		return httpRequest;
+	}
+
+	/**
+	 * Build HTTP Request for the method.
+	 *
+	 * @param method the HTTP method
+	 * @param url the url
+	 * @param httpClientRequestOptions the http client request options
+	 * @return the http request
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static HttpRequestBase createRequest(String method, String url, HttpClientRequestOptions httpClientRequestOptions) throws IOException {
+		switch (method.toUpperCase()) {
+			case "GET":
+				return createGetRequest(url, httpClientRequestOptions);
+			case "POST":
+				return createPostRequest(url, httpClientRequestOptions);
+			case "PUT":
+				return createPutRequest(url, httpClientRequestOptions);
+			case "PATCH":
+				return createPatchRequest(url, httpClientRequestOptions);
+			case "DELETE":
+				return createDeleteRequest(url, httpClientRequestOptions);
+			case "HEAD":
+				return createHeadRequest(url, httpClientRequestOptions);
+			case "TRACE":
+				return createTraceRequest(url, httpClientRequestOptions);
+			default:
+				throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+		}
+	}
+
+	/**
+	 * Returns the utilisation of the pooled connections of the HTTP clients.
+	 *
+	 * @return the leased, pending, available and maximum connections per client as JSON
+	 */
+	public static final String getConnectionPoolStats() {
+		return GsonHelper.toJson(HttpClientProxyUtils.getConnectionPoolStats());
+	}
+
 	/**
 	 * Prepare headers.
 	 *
@@ -203,36 +304,48 @@ public class HttpClientFacade implements IScriptingFacade {
 	 */
 	public static HttpClientResponse processHttpClientResponse(CloseableHttpResponse response, boolean binary) throws IOException {
 		try {
-			HttpClientResponse httpClientResponse = new HttpClientResponse();
-			httpClientResponse.setStatusCode(response.getStatusLine().getStatusCode());
-			httpClientResponse.setStatusMessage(response.getStatusLine().getReasonPhrase());
-			httpClientResponse.setProtocol(response.getProtocolVersion().getProtocol());
-			httpClientResponse.setProtocol(response.getProtocolVersion().getProtocol());
-			HttpEntity entity = response.getEntity();
-			if (entity != null && entity.getContent() != null) {
-				byte[] content = IOUtils.toByteArray(entity.getContent());
-				String processedContentType = ContentType.getOrDefault(entity).getMimeType();
-				boolean isSupportedTextType = recognizedTextMimeTypes.contains(processedContentType);
-
-				if (!binary && isSupportedTextType) {
-					Charset charset = ContentType.getOrDefault(entity).getCharset();
-					String text = new String(content, charset != null ? charset : StandardCharsets.UTF_8);
-					httpClientResponse.setText(text);
-				} else {
-					httpClientResponse.setData(content);
-				}
-			}
-
-			for (Header header : response.getAllHeaders()) {
-				httpClientResponse.getHeaders().add(new HttpClientHeader(header.getName(), header.getValue()));
-			}
-			EntityUtils.consume(entity);
-			return httpClientResponse;
+			return processHttpClientResponse((HttpResponse) response, binary);
 		} finally {
 			response.close();
 		}
 	}
 
+	/**
+	 * Process http client response, which does not hold a connection.
+	 *
+	 * @param response the response
+	 * @param binary the binary
+	 * @return the http client response
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static HttpClientResponse processHttpClientResponse(HttpResponse response, boolean binary) throws IOException {
+		HttpClientResponse httpClientResponse = new HttpClientResponse();
+		httpClientResponse.setStatusCode(response.getStatusLine().getStatusCode());
+		httpClientResponse.setStatusMessage(response.getStatusLine().getReasonPhrase());
+		httpClientResponse.setProtocol(response.getProtocolVersion().getProtocol());
+		httpClientResponse.setProtocol(response.getProtocolVersion().getProtocol());
+		HttpEntity entity = response.getEntity();
+		if (entity != null && entity.getContent() != null) {
+			byte[] content = IOUtils.toByteArray(entity.getContent());
+			String processedContentType = ContentType.getOrDefault(entity).getMimeType();
+			boolean isSupportedTextType = recognizedTextMimeTypes.contains(processedContentType);
+
+			if (!binary && isSupportedTextType) {
+				Charset charset = ContentType.getOrDefault(entity).getCharset();
+				String text = new String(content, charset != null ? charset : StandardCharsets.UTF_8);
+				httpClientResponse.setText(text);
+			} else {
+				httpClientResponse.setData(content);
+			}
+		}
+
+		for (Header header : response.getAllHeaders()) {
+			httpClientResponse.getHeaders().add(new HttpClientHeader(header.getName(), header.getValue()));
+		}
+		EntityUtils.consume(entity);
+		return httpClientResponse;
+	}
+
 	/**
 	 * Process response.
 	 *
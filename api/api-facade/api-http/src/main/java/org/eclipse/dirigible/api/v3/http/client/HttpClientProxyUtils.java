@@ -16,6 +16,10 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -28,6 +32,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpException;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
@@ -35,6 +43,8 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.eclipse.dirigible.commons.config.Configuration;
@@ -61,6 +71,33 @@ public class HttpClientProxyUtils {
 	/** The HTTP_NON_PROXY_HOSTS. */
 	public static final String HTTP_NON_PROXY_HOSTS = "http.nonProxyHosts"; //$NON-NLS-1$
 
+	/** The maximum number of pooled connections per client. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS = "DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS"; //$NON-NLS-1$
+
+	/** The maximum number of pooled connections per client and route. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE = "DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE"; //$NON-NLS-1$
+
+	/** The time in seconds after which idle pooled connections are closed. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT = "DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_MAX_CONNECTIONS. */
+	private static final String DEFAULT_MAX_CONNECTIONS = "200"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_MAX_CONNECTIONS_PER_ROUTE. */
+	private static final String DEFAULT_MAX_CONNECTIONS_PER_ROUTE = "20"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_IDLE_TIMEOUT. */
+	private static final String DEFAULT_IDLE_TIMEOUT = "60"; //$NON-NLS-1$
+
+	/** The time in milliseconds after which an idle connection is checked before it is reused. */
+	private static final int VALIDATE_AFTER_INACTIVITY = 2000;
+
+	/** The shared clients per trust mode and proxy settings. */
+	private static final Map<String, CloseableHttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+
+	/** The connection managers of the shared clients. */
+	private static final Map<String, PoolingHttpClientConnectionManager> CONNECTION_MANAGERS = new ConcurrentHashMap<>();
+
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(HttpClientProxyUtils.class);
 
@@ -83,36 +120,86 @@ public class HttpClientProxyUtils {
 	}
 
 	/**
-	 * Returns the http client.
+	 * Returns the http client shared for the trust mode and the current proxy settings. Its connections are pooled
+	 * and kept alive between the requests, so the client must not be closed by the caller, only the responses.
 	 *
 	 * @param trustAll
 	 *            if no SSL verification should be done
 	 * @return the http client
 	 */
 	public static CloseableHttpClient getHttpClient(boolean trustAll) {
-		CloseableHttpClient httpClient = null;
+		String key = trustAll + "|" + Configuration.get(HTTP_PROXY_HOST) + ":" + Configuration.get(HTTP_PROXY_PORT) + "|"
+				+ Configuration.get(HTTP_NON_PROXY_HOSTS);
+		return HTTP_CLIENTS.computeIfAbsent(key, k -> createHttpClient(k, trustAll));
+	}
 
+	/**
+	 * Creates a http client backed by a connection pool.
+	 *
+	 * @param key
+	 *            the key of the client
+	 * @param trustAll
+	 *            if no SSL verification should be done
+	 * @return the http client
+	 */
+	private static CloseableHttpClient createHttpClient(String key, boolean trustAll) {
+		SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
 		if (trustAll) {
 			try {
 				SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
 				sslContextBuilder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-				SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContextBuilder.build(),
-						(hostName, sslSession) -> true);
-				HttpClientBuilder httpClientBuilder = HttpClients.custom();
-				httpClientBuilder.setSSLSocketFactory(sslSocketFactory);
-				setProxyIfNeeded(httpClientBuilder);
-				httpClient = httpClientBuilder.build();
+				sslSocketFactory = new SSLConnectionSocketFactory(sslContextBuilder.build(), (hostName, sslSession) -> true);
 			} catch (Exception e) {
 				if (logger.isErrorEnabled()) {logger.error("Error occurred when trying to create a TRUST ALL HTTP Client", e);}
-				httpClient = HttpClients.createDefault();
 			}
-		} else {
-			HttpClientBuilder httpClientBuilder = HttpClients.custom();
-			setProxyIfNeeded(httpClientBuilder);
-			httpClient = httpClientBuilder.build();
 		}
+		Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory()) //$NON-NLS-1$
+				.register("https", sslSocketFactory) //$NON-NLS-1$
+				.build();
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+		connectionManager.setMaxTotal(Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS)));
+		connectionManager.setDefaultMaxPerRoute(
+				Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_MAX_CONNECTIONS_PER_ROUTE)));
+		connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+
+		HttpClientBuilder httpClientBuilder = HttpClients.custom();
+		httpClientBuilder.setConnectionManager(connectionManager);
+		httpClientBuilder.evictExpiredConnections();
+		httpClientBuilder.evictIdleConnections(Long.parseLong(Configuration.get(DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT)),
+				TimeUnit.SECONDS);
+		setProxyIfNeeded(httpClientBuilder);
+		CONNECTION_MANAGERS.put(key, connectionManager);
+		if (logger.isDebugEnabled()) {logger.debug("Created a pooled HTTP Client for [{}]", key);}
+		return httpClientBuilder.build();
+	}
+
+	/**
+	 * Returns the utilisation of the connection pools of the shared http clients.
+	 *
+	 * @return the leased, pending, available and maximum connections per client
+	 */
+	public static Map<String, PoolStats> getConnectionPoolStats() {
+		Map<String, PoolStats> stats = new TreeMap<>();
+		CONNECTION_MANAGERS.forEach((key, connectionManager) -> stats.put(key, connectionManager.getTotalStats()));
+		return stats;
+	}
 
-		return httpClient;
+	/**
+	 * Closes the shared http clients together with their pooled connections. The next request creates new ones.
+	 */
+	public static void closeHttpClients() {
+		for (String key : HTTP_CLIENTS.keySet()) {
+			CloseableHttpClient httpClient = HTTP_CLIENTS.remove(key);
+			CONNECTION_MANAGERS.remove(key);
+			if (httpClient != null) {
+				try {
+					httpClient.close();
+				} catch (IOException e) {
+					if (logger.isWarnEnabled()) {logger.warn(e.getMessage(), e);}
+				}
+			}
+		}
 	}
 
 	/**
@@ -11,10 +11,18 @@
  */
 package org.eclipse.dirigible.api.v3.messaging;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
 import org.eclipse.dirigible.core.messaging.service.MessagingConsumer;
 import org.eclipse.dirigible.core.messaging.service.MessagingProducer;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducerPool;
 
 /**
  * The Class MessagingFacade.
@@ -22,25 +30,66 @@ import org.eclipse.dirigible.core.messaging.service.MessagingProducer;
 public class MessagingFacade implements IScriptingFacade {
 
 	/**
-	 * Send a message to queue.
+	 * Send a message to queue, before returning.
 	 *
 	 * @param destination the destination
 	 * @param message the message
+	 * @throws MessagingException in case of an error while sending
 	 */
-	public static final void sendToQueue(String destination, String message) {
-		MessagingProducer producer = new MessagingProducer(destination, IMessagingCoreService.QUEUE, message);
-		new Thread(producer).start();
+	public static final void sendToQueue(String destination, String message) throws MessagingException {
+		MessagingProducer.sendBatch(destination, IMessagingCoreService.QUEUE, Collections.singletonList(message),
+				MessagingProducerPool.getDefaultDeliveryMode());
 	}
 	
 	/**
-	 * Send a message to topic.
+	 * Send a message to topic, before returning.
 	 *
 	 * @param destination the destination
 	 * @param message the message
+	 * @throws MessagingException in case of an error while sending
+	 */
+	public static final void sendToTopic(String destination, String message) throws MessagingException {
+		MessagingProducer.sendBatch(destination, IMessagingCoreService.TOPIC, Collections.singletonList(message),
+				MessagingProducerPool.getDefaultDeliveryMode());
+	}
+	
+	/**
+	 * Send a batch of messages to queue in the given order, before returning.
+	 *
+	 * @param destination the destination
+	 * @param messages the messages as JSON array of strings
+	 * @throws MessagingException in case of an error while sending
+	 */
+	public static final void sendBatchToQueue(String destination, String messages) throws MessagingException {
+		MessagingProducer.sendBatch(destination, IMessagingCoreService.QUEUE, Arrays.asList(GsonHelper.fromJson(messages, String[].class)),
+				MessagingProducerPool.getDefaultDeliveryMode());
+	}
+	
+	/**
+	 * Send a batch of messages to topic in the given order, before returning.
+	 *
+	 * @param destination the destination
+	 * @param messages the messages as JSON array of strings
+	 * @throws MessagingException in case of an error while sending
+	 */
+	public static final void sendBatchToTopic(String destination, String messages) throws MessagingException {
+		MessagingProducer.sendBatch(destination, IMessagingCoreService.TOPIC, Arrays.asList(GsonHelper.fromJson(messages, String[].class)),
+				MessagingProducerPool.getDefaultDeliveryMode());
+	}
+	
+	/**
+	 * Gets the statistics of the sent messages.
+	 *
+	 * @return the statistics as JSON
 	 */
-	public static final void sendToTopic(String destination, String message) {
-		MessagingProducer producer = new MessagingProducer(destination, IMessagingCoreService.TOPIC, message);
-		new Thread(producer).start();
+	public static final String getProducerStatistics() {
+		MessagingProducerPool pool = MessagingProducerPool.get();
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		statistics.put("sent", pool.getSentMessages());
+		statistics.put("failed", pool.getFailedMessages());
+		statistics.put("averageSendTime", pool.getAverageSendTime());
+		statistics.put("throughput", pool.getThroughput());
+		return GsonHelper.toJson(statistics);
 	}
 	
 	/**
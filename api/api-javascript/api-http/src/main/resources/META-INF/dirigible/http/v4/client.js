@@ -92,6 +92,43 @@ exports.trace = function(_url, options) {
 	return JSON.parse(result);
 };
 
+/**
+ * Performs the request without buffering the bodies. The request body is read from the optional input stream,
+ * the response body is available as response.stream and the response has to be closed after it is consumed.
+ */
+exports.stream = function(method, _url, options, inputStream) {
+	const streams = require("io/v4/streams");
+	let url = buildUrl(_url, options);
+	let opts = '{}';
+	if (options) {
+		opts = JSON.stringify(options);
+	}
+	const native = org.eclipse.dirigible.api.v3.http.HttpClientFacade.stream(method, url, opts, inputStream ? inputStream.native : null);
+	const response = {
+		statusCode: native.getStatusCode(),
+		statusMessage: native.getStatusMessage(),
+		protocol: native.getProtocol(),
+		contentType: native.getContentType(),
+		headers: [],
+		stream: streams.createInputStream(native.getStream()),
+		close: function() {
+			native.close();
+		}
+	};
+	const headers = native.getHeaders();
+	for (let i = 0; i < headers.size(); i ++) {
+		response.headers.push({
+			name: headers.get(i).getName(),
+			value: headers.get(i).getValue()
+		});
+	}
+	return response;
+};
+
+exports.getConnectionPoolStats = function() {
+	return JSON.parse(org.eclipse.dirigible.api.v3.http.HttpClientFacade.getConnectionPoolStats());
+};
+
 function buildUrl(url, options) {
 	if (options === undefined || options === null || options.params === undefined || options.params === null || options.params.length === 0) {
 		return url;
@@ -198,3 +198,53 @@ function HttpAsyncClient() {
 exports.getInstnace = function() {
 	return new HttpAsyncClient();
 };
+
+function HttpFuture(native) {
+
+	this.isDone = function() {
+		return native.isDone();
+	};
+
+	this.cancel = function() {
+		return native.cancel();
+	};
+
+	/**
+	 * Waits for the response for up to the timeout in milliseconds or the configured default
+	 */
+	this.get = function(timeout) {
+		const result = timeout ? native.get(timeout) : native.get();
+		return JSON.parse(result);
+	};
+}
+
+/**
+ * Starts the request on the shared non-blocking client and returns its future right away
+ */
+exports.fetch = function(method, url, options) {
+	const newUrl = buildUrl(url, options);
+	const native = org.eclipse.dirigible.api.v3.http.HttpClientAsyncFacade.fetch(method, newUrl, JSON.stringify(options ? options : {}));
+	return new HttpFuture(native);
+};
+
+/**
+ * Waits for the responses of all the futures, which run concurrently, for up to the timeout in milliseconds
+ * or the configured default in total. The futures not done yet are cancelled, if one of them fails.
+ */
+exports.all = function(futures, timeout) {
+	const deadline = Date.now() + (timeout ? timeout : org.eclipse.dirigible.api.v3.http.HttpClientAsyncFacade.getDefaultTimeout());
+	const responses = [];
+	try {
+		for (let i = 0; i < futures.length; i ++) {
+			responses.push(futures[i].get(Math.max(1, deadline - Date.now())));
+		}
+	} catch (e) {
+		for (let i = 0; i < futures.length; i ++) {
+			if (!futures[i].isDone()) {
+				futures[i].cancel();
+			}
+		}
+		throw e;
+	}
+	return responses;
+};
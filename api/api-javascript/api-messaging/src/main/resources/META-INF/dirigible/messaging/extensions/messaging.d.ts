@@ -27,6 +27,13 @@ declare module "@dirigible/messaging" {
         send(message:string);
     }
 
+    interface ProducerStatistics {
+        sent: number;
+        failed: number;
+        averageSendTime: number;
+        throughput: number;
+    }
+
     module consumer {
         /**
          * Returns an object representing a Message Queue
@@ -52,5 +59,11 @@ declare module "@dirigible/messaging" {
          * @param destination
          */
         function topic(destination:string): Topic;
+
+        /**
+         * Returns the number of the sent and the failed messages, the average send time in microseconds
+         * and the throughput in messages per second
+         */
+        function getStatistics(): ProducerStatistics;
     }
 }
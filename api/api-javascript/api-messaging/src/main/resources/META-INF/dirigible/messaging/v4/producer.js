@@ -27,14 +27,26 @@ exports.topic = function(destination) {
 	return topic;
 };
 
+exports.getStatistics = function() {
+	return JSON.parse(org.eclipse.dirigible.api.v3.messaging.MessagingFacade.getProducerStatistics());
+};
+
 function Queue() {
 	this.send = function(message) {
 		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendToQueue(this.destination, message);
 	};
+
+	this.sendBatch = function(messages) {
+		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendBatchToQueue(this.destination, JSON.stringify(messages));
+	};
 }
 
 function Topic() {
 	this.send = function(message) {
 		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendToTopic(this.destination, message);
 	};
+
+	this.sendBatch = function(messages) {
+		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendBatchToTopic(this.destination, JSON.stringify(messages));
+	};
 }
@@ -16,21 +16,30 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpTrace;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.http.client.HttpClientRequestOptions;
 import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
 import org.slf4j.Logger;
@@ -46,6 +55,24 @@ public final class HttpClientAsyncFacade {
 
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(HttpClientAsyncFacade.class);
+
+	/** The maximum number of pooled connections of the shared client. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_ASYNC_MAX_CONNECTIONS = "DIRIGIBLE_HTTP_CLIENT_ASYNC_MAX_CONNECTIONS"; //$NON-NLS-1$
+
+	/** The maximum number of concurrent requests per host, further requests wait for a free connection. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_ASYNC_MAX_CONNECTIONS_PER_ROUTE = "DIRIGIBLE_HTTP_CLIENT_ASYNC_MAX_CONNECTIONS_PER_ROUTE"; //$NON-NLS-1$
+
+	/** The timeout in milliseconds used, when the options of a request do not set one. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_ASYNC_TIMEOUT = "DIRIGIBLE_HTTP_CLIENT_ASYNC_TIMEOUT"; //$NON-NLS-1$
+
+	/** The number of the I/O reactor threads of the shared client. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_ASYNC_IO_THREADS = "DIRIGIBLE_HTTP_CLIENT_ASYNC_IO_THREADS"; //$NON-NLS-1$
+
+	/** The shared client, which keeps its reactor and connections between the requests. */
+	private static CloseableHttpAsyncClient sharedHttpClient;
+
+	/** Whether the shutdown hook, which closes the shared client, is registered. */
+	private static boolean shutdownHookRegistered;
 	
 	/** The default engine executor. */
 	private JavascriptService defaultEngineExecutor = null;
@@ -56,8 +83,8 @@ public final class HttpClientAsyncFacade {
 	/** The async http requests. */
 	private List<AsyncHttpRequest> asyncHttpRequests = new ArrayList<AsyncHttpRequest>();
 	
-	/** The count down latch. */
-	private CountDownLatch countDownLatch;
+	/** The completed requests, whose callbacks are pending execution on the calling thread. */
+	private final BlockingQueue<Runnable> completions = new LinkedBlockingQueue<>();
 	
 	@Autowired
 	public HttpClientAsyncFacade(JavascriptService defaultEngineExecutor) {
@@ -73,6 +100,80 @@ public final class HttpClientAsyncFacade {
 		return defaultEngineExecutor;
 	}
 
+	/**
+	 * Gets the shared client, starting it on first use.
+	 *
+	 * @return the shared client
+	 * @throws IOReactorException in case the reactor cannot be created
+	 */
+	static synchronized CloseableHttpAsyncClient getSharedHttpClient() throws IOReactorException {
+		if (sharedHttpClient == null || !sharedHttpClient.isRunning()) {
+			IOReactorConfig reactorConfig = IOReactorConfig.custom()
+					.setIoThreadCount(Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_ASYNC_IO_THREADS,
+							Runtime.getRuntime().availableProcessors() + "")))
+					.build();
+			PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(reactorConfig));
+			connectionManager.setMaxTotal(Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_ASYNC_MAX_CONNECTIONS, "200")));
+			connectionManager.setDefaultMaxPerRoute(Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_ASYNC_MAX_CONNECTIONS_PER_ROUTE, "20")));
+			sharedHttpClient = HttpAsyncClients.custom().setConnectionManager(connectionManager).build();
+			sharedHttpClient.start();
+			if (!shutdownHookRegistered) {
+				Runtime.getRuntime().addShutdownHook(new Thread(HttpClientAsyncFacade::shutdown, "dirigible-http-client-async-shutdown"));
+				shutdownHookRegistered = true;
+			}
+		}
+		return sharedHttpClient;
+	}
+
+	/**
+	 * Stops the shared client and closes its connections. The next request starts a new one.
+	 */
+	public static synchronized void shutdown() {
+		if (sharedHttpClient != null) {
+			try {
+				sharedHttpClient.close();
+			} catch (IOException e) {
+				if (logger.isWarnEnabled()) {logger.warn(e.getMessage(), e);}
+			}
+			sharedHttpClient = null;
+		}
+	}
+
+	/**
+	 * Gets the timeout used, when the options of a request do not set one.
+	 *
+	 * @return the timeout in milliseconds
+	 */
+	public static int getDefaultTimeout() {
+		return Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_ASYNC_TIMEOUT, "60000"));
+	}
+
+	/**
+	 * Starts a request for the specified URL and options on the shared client and returns without waiting for it.
+	 * The response is read from the returned future by the calling script, so no callbacks enter the script engine
+	 * from the reactor threads.
+	 *
+	 * @param method            the HTTP method
+	 * @param url            the URL
+	 * @param options            the options
+	 * @return the future of the response
+	 * @throws IOException             In case an I/O exception occurs
+	 */
+	public static HttpClientFuture fetch(String method, String url, String options) throws IOException {
+		HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
+		HttpRequestBase request = HttpClientFacade.createRequest(method, url, httpClientRequestOptions);
+		int timeout = getDefaultTimeout();
+		RequestConfig config = request.getConfig();
+		// zero means no timeout, which is replaced by the default, so that a hanging host does not hold the script
+		request.setConfig(RequestConfig.copy(config)
+				.setConnectionRequestTimeout(config.getConnectionRequestTimeout() > 0 ? config.getConnectionRequestTimeout() : timeout)
+				.setConnectTimeout(config.getConnectTimeout() > 0 ? config.getConnectTimeout() : timeout)
+				.setSocketTimeout(config.getSocketTimeout() > 0 ? config.getSocketTimeout() : timeout)
+				.build());
+		Future<HttpResponse> future = getSharedHttpClient().execute(request, null);
+		return new HttpClientFuture(future, httpClientRequestOptions.isBinary(), timeout);
+	}
+
 	/**
 	 * Create HttpResponseCallback.
 	 *
@@ -215,19 +316,22 @@ public final class HttpClientAsyncFacade {
 	}
 
 	/**
-	 * Execute request asynchronously.
+	 * Execute request asynchronously. The requests run concurrently on the shared client, while the callbacks are executed
+	 * on the calling thread as the requests complete, since the script engine cannot be entered from the reactor threads.
 	 *
 	 * @throws InterruptedException in case an concurrency exception occurs
 	 * @throws IOException in case an I/O exception occurs
 	 */
 	public void execute() throws InterruptedException, IOException {
-		countDownLatch = new CountDownLatch(requestsCounter);
-		try (CloseableHttpAsyncClient httpClient = HttpAsyncClients.createDefault()) {
-			httpClient.start();
-			for (AsyncHttpRequest next : asyncHttpRequests) {
-				httpClient.execute(next.getRequest(), next.getCallback());
-			}
-			countDownLatch.await();
+		CloseableHttpAsyncClient httpClient = getSharedHttpClient();
+		int pending = requestsCounter;
+		for (AsyncHttpRequest next : asyncHttpRequests) {
+			httpClient.execute(next.getRequest(), next.getCallback());
+		}
+		asyncHttpRequests.clear();
+		requestsCounter = 0;
+		for (; pending > 0; pending--) {
+			completions.take().run();
 		}
 	}
 
@@ -328,31 +432,34 @@ public final class HttpClientAsyncFacade {
 
 				@Override
 				public void completed(HttpResponse response) {
-					countDownLatch.countDown();
-					if (completeCallback != null) {
-						executionContext.put("response", response);
-						executionContext.put("httpClientRequestOptions", httpClientRequestOptions);
-						executeCallback(completeCallback, executionContext);
-					}
+					completions.add(() -> {
+						if (completeCallback != null) {
+							executionContext.put("response", response);
+							executionContext.put("httpClientRequestOptions", httpClientRequestOptions);
+							executeCallback(completeCallback, executionContext);
+						}
+					});
 				}
 
 				@Override
 				public void failed(Exception exception) {
-					countDownLatch.countDown();
-					if (failCallback != null) {
-						executionContext.put("exception", exception);
-						executionContext.put("httpClientRequestOptions", httpClientRequestOptions);
-						executeCallback(failCallback, executionContext);
-					}
+					completions.add(() -> {
+						if (failCallback != null) {
+							executionContext.put("exception", exception);
+							executionContext.put("httpClientRequestOptions", httpClientRequestOptions);
+							executeCallback(failCallback, executionContext);
+						}
+					});
 				}
 
 				@Override
 				public void cancelled() {
-					countDownLatch.countDown();
-					if (cancelCallback != null) {
-						executionContext.put("httpClientRequestOptions", httpClientRequestOptions);
-						executeCallback(cancelCallback, executionContext);
-					}
+					completions.add(() -> {
+						if (cancelCallback != null) {
+							executionContext.put("httpClientRequestOptions", httpClientRequestOptions);
+							executeCallback(cancelCallback, executionContext);
+						}
+					});
 				}
 
 				private void executeCallback(String completeCallback, Map<Object, Object> executionContext) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+
+/**
+ * The response of a request in streaming mode. The content is not buffered, but read from the connection
+ * through {@link #getStream()}, so the response has to be closed to give the connection back to the pool.
+ */
+public class HttpClientStreamResponse implements Closeable {
+
+	/** The response. */
+	private final CloseableHttpResponse response;
+
+	/** The headers. */
+	private final List<HttpClientHeader> headers = new ArrayList<HttpClientHeader>();
+
+	/**
+	 * Instantiates a new http client stream response.
+	 *
+	 * @param response
+	 *            the response
+	 */
+	public HttpClientStreamResponse(CloseableHttpResponse response) {
+		this.response = response;
+		for (Header header : response.getAllHeaders()) {
+			headers.add(new HttpClientHeader(header.getName(), header.getValue()));
+		}
+	}
+
+	/**
+	 * Gets the status code.
+	 *
+	 * @return the status code
+	 */
+	public int getStatusCode() {
+		return response.getStatusLine().getStatusCode();
+	}
+
+	/**
+	 * Gets the status message.
+	 *
+	 * @return the status message
+	 */
+	public String getStatusMessage() {
+		return response.getStatusLine().getReasonPhrase();
+	}
+
+	/**
+	 * Gets the protocol.
+	 *
+	 * @return the protocol
+	 */
+	public String getProtocol() {
+		return response.getProtocolVersion().getProtocol();
+	}
+
+	/**
+	 * Gets the headers.
+	 *
+	 * @return the headers
+	 */
+	public List<HttpClientHeader> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Gets the content type.
+	 *
+	 * @return the content type or null, if there is no content
+	 */
+	public String getContentType() {
+		HttpEntity entity = response.getEntity();
+		return entity != null && entity.getContentType() != null ? entity.getContentType().getValue() : null;
+	}
+
+	/**
+	 * Gets the content length.
+	 *
+	 * @return the content length or -1, if it is not known
+	 */
+	public long getContentLength() {
+		HttpEntity entity = response.getEntity();
+		return entity != null ? entity.getContentLength() : -1;
+	}
+
+	/**
+	 * Gets the stream of the content.
+	 *
+	 * @return the stream or null, if there is no content
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public InputStream getStream() throws IOException {
+		HttpEntity entity = response.getEntity();
+		return entity != null ? entity.getContent() : null;
+	}
+
+	/**
+	 * Closes the response. A fully read content lets the connection be reused, otherwise the connection is closed.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public void close() throws IOException {
+		response.close();
+	}
+
+}
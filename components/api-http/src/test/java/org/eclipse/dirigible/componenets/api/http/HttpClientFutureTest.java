@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.componenets.api.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.components.api.http.HttpClientAsyncFacade;
+import org.eclipse.dirigible.components.api.http.HttpClientFuture;
+import org.eclipse.dirigible.components.api.http.client.HttpClientResponse;
+import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpClientFutureTest {
+
+	private HttpServer server;
+
+	private ExecutorService executor;
+
+	private String url;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		executor = Executors.newFixedThreadPool(20);
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(executor);
+		server.createContext("/slow", exchange -> {
+			try {
+				Thread.sleep(Long.parseLong(exchange.getRequestURI().getQuery()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = exchange.getRequestURI().toString().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/plain");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort() + "/slow";
+	}
+
+	@AfterEach
+	public void tearDown() {
+		HttpClientAsyncFacade.shutdown();
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void fetchConcurrently() throws Exception {
+		long start = System.currentTimeMillis();
+		List<HttpClientFuture> futures = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			futures.add(HttpClientAsyncFacade.fetch("GET", url + "?200", "{}"));
+		}
+		for (HttpClientFuture future : futures) {
+			HttpClientResponse response = GsonHelper.fromJson(future.get(), HttpClientResponse.class);
+			assertEquals(200, response.getStatusCode());
+			assertEquals("/slow?200", response.getText());
+		}
+		// 40 requests of 200 ms each, run at most 20 at a time
+		assertTrue(System.currentTimeMillis() - start < 40 * 200);
+	}
+
+	@Test
+	public void fetchTimeout() throws Exception {
+		HttpClientFuture future = HttpClientAsyncFacade.fetch("GET", url + "?2000", "{}");
+		assertThrows(IOException.class, () -> future.get(100));
+		assertTrue(future.isDone());
+	}
+
+	@Test
+	public void callbacksOnCallingThread() throws Exception {
+		List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+		HttpClientAsyncFacade facade = new HttpClientAsyncFacade(new JavascriptService() {
+			@Override
+			public Object handleCallback(String filePath, Map<Object, Object> parameters) {
+				threads.add(Thread.currentThread());
+				return null;
+			}
+		});
+		for (int i = 0; i < 3; i++) {
+			facade.getAsync(url + "?100", "{}", facade.createCallback("complete.js"));
+		}
+		facade.execute();
+		assertEquals(Collections.nCopies(3, Thread.currentThread()), threads);
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.componenets.api.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.pool.PoolStats;
+import org.eclipse.dirigible.components.api.http.client.HttpClientProxyUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HttpClientProxyUtilsTest {
+
+	@AfterEach
+	public void tearDown() {
+		HttpClientProxyUtils.closeHttpClients();
+	}
+
+	@Test
+	public void sharedClientPerTrustMode() {
+		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(false);
+		CloseableHttpClient trustAllHttpClient = HttpClientProxyUtils.getHttpClient(true);
+
+		assertSame(httpClient, HttpClientProxyUtils.getHttpClient(false));
+		assertSame(trustAllHttpClient, HttpClientProxyUtils.getHttpClient(true));
+		assertNotSame(httpClient, trustAllHttpClient);
+
+		assertEquals(2, HttpClientProxyUtils.getConnectionPoolStats().size());
+		for (PoolStats stats : HttpClientProxyUtils.getConnectionPoolStats().values()) {
+			assertEquals(0, stats.getLeased());
+			assertEquals(200, stats.getMax());
+		}
+	}
+
+	@Test
+	public void closedClientsAreRecreated() {
+		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(false);
+		HttpClientProxyUtils.closeHttpClients();
+
+		assertEquals(0, HttpClientProxyUtils.getConnectionPoolStats().size());
+		assertNotSame(httpClient, HttpClientProxyUtils.getHttpClient(false));
+	}
+
+}
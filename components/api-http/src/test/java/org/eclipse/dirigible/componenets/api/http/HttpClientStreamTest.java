@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.componenets.api.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.components.api.http.HttpClientFacade;
+import org.eclipse.dirigible.components.api.http.client.HttpClientStreamResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpClientStreamTest {
+
+	private HttpServer server;
+
+	private String url;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/echo", exchange -> {
+			exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+			exchange.getResponseHeaders().add("X-Request-Transfer-Encoding",
+					String.valueOf(exchange.getRequestHeaders().getFirst("Transfer-Encoding")));
+			exchange.sendResponseHeaders(200, 0);
+			try (InputStream in = exchange.getRequestBody(); OutputStream out = exchange.getResponseBody()) {
+				IOUtils.copyLarge(in, out);
+			}
+		});
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort() + "/echo";
+	}
+
+	@AfterEach
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void streamRequestAndResponse() throws Exception {
+		byte[] content = new byte[1024 * 1024];
+		new Random(7).nextBytes(content);
+
+		try (HttpClientStreamResponse response = HttpClientFacade.stream("POST", url, "{\"contentType\": \"application/octet-stream\"}",
+				new ByteArrayInputStream(content))) {
+			assertEquals(200, response.getStatusCode());
+			assertEquals("application/octet-stream", response.getContentType());
+			assertEquals("chunked", response.getHeaders().stream()
+					.filter(header -> header.getName().equalsIgnoreCase("X-Request-Transfer-Encoding")).findFirst().get().getValue());
+			assertArrayEquals(content, IOUtils.toByteArray(response.getStream()));
+		}
+	}
+
+}
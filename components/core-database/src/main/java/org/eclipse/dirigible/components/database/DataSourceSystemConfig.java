@@ -61,6 +61,8 @@ public class DataSourceSystemConfig {
 		Properties properties = new Properties();
 		properties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
 		properties.setProperty("hibernate.hbm2ddl.auto", "update");
+		properties.setProperty("hibernate.jdbc.batch_size", "50");
+		properties.setProperty("hibernate.order_updates", "true");
 		em.setJpaProperties(properties);
 
 		return em;
@@ -56,6 +56,21 @@ public class Definition extends Artefact {
 	@Expose
     protected String message;
 	
+	/** The size of the file. */
+	@Column(name = "DEFINITION_FILE_SIZE", nullable = true)
+	@Expose
+	protected Long fileSize;
+	
+	/** The last modified time of the file. */
+	@Column(name = "DEFINITION_FILE_MODIFIED", nullable = true)
+	@Expose
+	protected Long fileModified;
+	
+	/** The file key, e.g. the device and the inode. */
+	@Column(name = "DEFINITION_FILE_KEY", columnDefinition = "VARCHAR", nullable = true, length = 255)
+	@Expose
+	protected String fileKey;
+	
 	/** The content. */
 	@Transient
 	private transient byte[] content;
@@ -71,7 +86,9 @@ public class Definition extends Artefact {
 	public Definition(String location, String name, String type, byte[] content) {
 		super(location, name, type, null, null);
 		this.content = content;
-		updateChecksum(content);
+		if (content != null) {
+			updateChecksum(content);
+		}
 	}
 	
 	/**
@@ -153,6 +170,60 @@ public class Definition extends Artefact {
 		this.message = message;
 	}
 	
+	/**
+	 * Gets the size of the file.
+	 *
+	 * @return the file size
+	 */
+	public Long getFileSize() {
+		return fileSize;
+	}
+
+	/**
+	 * Sets the size of the file.
+	 *
+	 * @param fileSize the new file size
+	 */
+	public void setFileSize(Long fileSize) {
+		this.fileSize = fileSize;
+	}
+
+	/**
+	 * Gets the last modified time of the file.
+	 *
+	 * @return the file modified
+	 */
+	public Long getFileModified() {
+		return fileModified;
+	}
+
+	/**
+	 * Sets the last modified time of the file.
+	 *
+	 * @param fileModified the new file modified
+	 */
+	public void setFileModified(Long fileModified) {
+		this.fileModified = fileModified;
+	}
+
+	/**
+	 * Gets the file key.
+	 *
+	 * @return the file key
+	 */
+	public String getFileKey() {
+		return fileKey;
+	}
+
+	/**
+	 * Sets the file key.
+	 *
+	 * @param fileKey the new file key
+	 */
+	public void setFileKey(String fileKey) {
+		this.fileKey = fileKey;
+	}
+
 	/**
 	 * Update checksum.
 	 *
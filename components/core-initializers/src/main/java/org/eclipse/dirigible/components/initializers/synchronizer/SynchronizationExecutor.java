@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologyWrapper;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.annotation.OrderUtils;
+
+/**
+ * Runs a phase of the synchronization for all the synchronizers on a bounded pool. The synchronizers of different
+ * {@link Order} run one order after the other, as they would sequentially. Within the same order, a synchronizer starts
+ * once the synchronizers of the artefacts its own artefacts depend on are done, while the independent ones run concurrently.
+ * With a single thread or a cycle between the synchronizers, the order runs sequentially in the order of the synchronizers.
+ */
+public class SynchronizationExecutor {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(SynchronizationExecutor.class);
+
+	/** The Constant DIRIGIBLE_SYNCHRONIZER_THREADS. */
+	public static final String DIRIGIBLE_SYNCHRONIZER_THREADS = "DIRIGIBLE_SYNCHRONIZER_THREADS";
+
+	/** The number of threads. */
+	private final int threads;
+
+	/** The pool, created on first use. */
+	private ExecutorService pool;
+
+	/**
+	 * Instantiates a new synchronization executor.
+	 *
+	 * @param threads the number of threads
+	 */
+	public SynchronizationExecutor(int threads) {
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * Gets the dependencies between the synchronizers, derived from the dependencies between their artefacts.
+	 *
+	 * @param wrappers the wrappers of the artefacts
+	 * @return the synchronizers each synchronizer depends on
+	 */
+	public static Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> getDependencies(List<TopologyWrapper<? extends Artefact>> wrappers) {
+		Map<String, Synchronizer<Artefact>> owners = new HashMap<>();
+		for (TopologyWrapper<? extends Artefact> wrapper : wrappers) {
+			owners.put(wrapper.getId(), wrapper.getSynchronizer());
+		}
+		Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> dependencies = new HashMap<>();
+		for (TopologyWrapper<? extends Artefact> wrapper : wrappers) {
+			String keys = wrapper.getArtefact().getDependencies();
+			if (keys == null) {
+				continue;
+			}
+			for (String key : keys.split(",")) {
+				Synchronizer<Artefact> owner = owners.get(key);
+				if (owner != null && !owner.equals(wrapper.getSynchronizer())) {
+					dependencies.computeIfAbsent(wrapper.getSynchronizer(), k -> new HashSet<>()).add(owner);
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Runs the task for each synchronizer.
+	 *
+	 * @param synchronizers the synchronizers in their sequential order
+	 * @param dependencies the synchronizers each synchronizer depends on
+	 * @param reverse whether the dependents run first, as when dropping
+	 * @param task the task
+	 * @return the durations of the task per synchronizer in milliseconds
+	 */
+	public Map<Synchronizer<Artefact>, Long> execute(List<Synchronizer<Artefact>> synchronizers,
+			Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> dependencies, boolean reverse, Consumer<Synchronizer<Artefact>> task) {
+		Map<Synchronizer<Artefact>, Long> durations = new LinkedHashMap<>();
+		for (List<Synchronizer<Artefact>> level : getLevels(synchronizers)) {
+			durations.putAll(executeLevel(level, dependencies, reverse, task));
+		}
+		return durations;
+	}
+
+	/**
+	 * Groups the synchronizers by their order, keeping their sequential order.
+	 *
+	 * @param synchronizers the synchronizers in their sequential order
+	 * @return the synchronizers of the same order
+	 */
+	static List<List<Synchronizer<Artefact>>> getLevels(List<Synchronizer<Artefact>> synchronizers) {
+		List<List<Synchronizer<Artefact>>> levels = new ArrayList<>();
+		Integer current = null;
+		for (Synchronizer<Artefact> synchronizer : synchronizers) {
+			int order = getOrder(synchronizer);
+			if (current == null || current != order) {
+				levels.add(new ArrayList<>());
+				current = order;
+			}
+			levels.get(levels.size() - 1).add(synchronizer);
+		}
+		return levels;
+	}
+
+	/**
+	 * Gets the order of the synchronizer.
+	 *
+	 * @param synchronizer the synchronizer
+	 * @return the order
+	 */
+	private static int getOrder(Synchronizer<Artefact> synchronizer) {
+		if (synchronizer instanceof Ordered) {
+			return ((Ordered) synchronizer).getOrder();
+		}
+		return OrderUtils.getOrder(synchronizer.getClass(), Ordered.LOWEST_PRECEDENCE);
+	}
+
+	/**
+	 * Runs the task for each synchronizer of the same order.
+	 *
+	 * @param synchronizers the synchronizers in their sequential order
+	 * @param dependencies the synchronizers each synchronizer depends on
+	 * @param reverse whether the dependents run first, as when dropping
+	 * @param task the task
+	 * @return the durations of the task per synchronizer in milliseconds
+	 */
+	private Map<Synchronizer<Artefact>, Long> executeLevel(List<Synchronizer<Artefact>> synchronizers,
+			Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> dependencies, boolean reverse, Consumer<Synchronizer<Artefact>> task) {
+		Map<Synchronizer<Artefact>, Long> durations = new LinkedHashMap<>();
+		Map<Synchronizer<Artefact>, AtomicInteger> awaiting = new HashMap<>();
+		Map<Synchronizer<Artefact>, List<Synchronizer<Artefact>>> followers = new HashMap<>();
+		for (Synchronizer<Artefact> synchronizer : synchronizers) {
+			awaiting.put(synchronizer, new AtomicInteger());
+			followers.put(synchronizer, new ArrayList<>());
+		}
+		for (Map.Entry<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> entry : dependencies.entrySet()) {
+			for (Synchronizer<Artefact> dependency : entry.getValue()) {
+				Synchronizer<Artefact> first = reverse ? entry.getKey() : dependency;
+				Synchronizer<Artefact> next = reverse ? dependency : entry.getKey();
+				if (awaiting.containsKey(first) && awaiting.containsKey(next)) {
+					followers.get(first).add(next);
+					awaiting.get(next).incrementAndGet();
+				}
+			}
+		}
+
+		if (threads == 1 || synchronizers.size() < 2 || isCyclic(synchronizers, awaiting, followers)) {
+			for (Synchronizer<Artefact> synchronizer : synchronizers) {
+				durations.put(synchronizer, run(synchronizer, task));
+			}
+			return durations;
+		}
+
+		CompletionService<Synchronizer<Artefact>> completion = new ExecutorCompletionService<>(getPool());
+		int running = 0;
+		for (Synchronizer<Artefact> synchronizer : synchronizers) {
+			if (awaiting.get(synchronizer).get() == 0) {
+				submit(completion, synchronizer, task, durations);
+				running++;
+			}
+		}
+		while (running > 0) {
+			Synchronizer<Artefact> done;
+			try {
+				done = completion.take().get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the synchronizers", e);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+			running--;
+			for (Synchronizer<Artefact> follower : followers.get(done)) {
+				if (awaiting.get(follower).decrementAndGet() == 0) {
+					submit(completion, follower, task, durations);
+					running++;
+				}
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Stops the pool.
+	 */
+	public synchronized void shutdown() {
+		if (pool != null) {
+			pool.shutdownNow();
+			pool = null;
+		}
+	}
+
+	/**
+	 * Submits the task for the synchronizer.
+	 *
+	 * @param completion the completion service
+	 * @param synchronizer the synchronizer
+	 * @param task the task
+	 * @param durations the durations
+	 */
+	private static void submit(CompletionService<Synchronizer<Artefact>> completion, Synchronizer<Artefact> synchronizer,
+			Consumer<Synchronizer<Artefact>> task, Map<Synchronizer<Artefact>, Long> durations) {
+		completion.submit(() -> {
+			long duration = run(synchronizer, task);
+			synchronized (durations) {
+				durations.put(synchronizer, duration);
+			}
+			return synchronizer;
+		});
+	}
+
+	/**
+	 * Runs the task for the synchronizer. A failure is logged and does not stop the other synchronizers.
+	 *
+	 * @param synchronizer the synchronizer
+	 * @param task the task
+	 * @return the duration in milliseconds
+	 */
+	private static long run(Synchronizer<Artefact> synchronizer, Consumer<Synchronizer<Artefact>> task) {
+		long start = System.currentTimeMillis();
+		try {
+			task.accept(synchronizer);
+		} catch (RuntimeException e) {
+			if (logger.isErrorEnabled()) {logger.error(String.format("Synchronizer for [%s] failed: %s", synchronizer.getArtefactType(), e.getMessage()), e);}
+		}
+		return System.currentTimeMillis() - start;
+	}
+
+	/**
+	 * Checks whether some of the synchronizers would never start due to a cycle.
+	 *
+	 * @param synchronizers the synchronizers
+	 * @param awaiting the number of the awaited synchronizers per synchronizer
+	 * @param followers the followers per synchronizer
+	 * @return true, if cyclic
+	 */
+	private static boolean isCyclic(List<Synchronizer<Artefact>> synchronizers, Map<Synchronizer<Artefact>, AtomicInteger> awaiting,
+			Map<Synchronizer<Artefact>, List<Synchronizer<Artefact>>> followers) {
+		Map<Synchronizer<Artefact>, Integer> remaining = new HashMap<>();
+		List<Synchronizer<Artefact>> ready = new ArrayList<>();
+		for (Synchronizer<Artefact> synchronizer : synchronizers) {
+			int count = awaiting.get(synchronizer).get();
+			remaining.put(synchronizer, count);
+			if (count == 0) {
+				ready.add(synchronizer);
+			}
+		}
+		int visited = 0;
+		while (!ready.isEmpty()) {
+			Synchronizer<Artefact> synchronizer = ready.remove(ready.size() - 1);
+			visited++;
+			for (Synchronizer<Artefact> follower : followers.get(synchronizer)) {
+				if (remaining.merge(follower, -1, Integer::sum) == 0) {
+					ready.add(follower);
+				}
+			}
+		}
+		if (visited < synchronizers.size()) {
+			if (logger.isWarnEnabled()) {logger.warn("Cyclic dependencies between the synchronizers, running them sequentially");}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the pool.
+	 *
+	 * @return the pool
+	 */
+	private synchronized ExecutorService getPool() {
+		if (pool == null) {
+			AtomicInteger counter = new AtomicInteger();
+			pool = Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "dirigible-synchronizer-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return pool;
+	}
+
+}
@@ -21,9 +21,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.FilenameUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.artefact.Artefact;
 import org.eclipse.dirigible.components.base.artefact.ArtefactLifecycle;
 import org.eclipse.dirigible.components.base.artefact.ArtefactState;
@@ -40,6 +43,7 @@ import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.local.LocalRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -47,7 +51,7 @@ import org.springframework.stereotype.Component;
  * The Class SynchronizationProcessor.
  */
 @Component
-public class SynchronizationProcessor implements SynchronizationWalkerCallback, SynchronizerCallback {
+public class SynchronizationProcessor implements SynchronizationWalkerCallback, SynchronizerCallback, DisposableBean {
 	
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(SynchronizationProcessor.class);
@@ -55,6 +59,12 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 	/** The definitions. */
 	private Map<Synchronizer<Artefact>, Map<String, Definition>> definitions = new HashMap<>();
 	
+	/** The known definitions per key, loaded once per synchronization. */
+	private Map<String, Definition> known = new HashMap<>();
+	
+	/** The new and the updated definitions, persisted at once after the collection. */
+	private List<Definition> changed = new ArrayList<>();
+	
 	/** The artefacts. */
 	private List<? extends Artefact> artefacts = new ArrayList<>();
 	
@@ -65,7 +75,10 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 	private final List<Synchronizer<Artefact>> synchronizers;
 	
 	/** The errors. */
-	private List<String> errors = new ArrayList<>();
+	private List<String> errors = Collections.synchronizedList(new ArrayList<>());
+	
+	/** The executor of the prepare and process phases. */
+	private final SynchronizationExecutor executor;
 	
 	/** The definition service. */
 	private DefinitionService definitionService;
@@ -83,8 +96,18 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 		this.synchronizers = synchronizers;
 		this.definitionService = definitionService;
 		this.synchronizers.forEach(s -> s.setCallback(this));
+		this.executor = new SynchronizationExecutor(Integer.parseInt(Configuration.get(SynchronizationExecutor.DIRIGIBLE_SYNCHRONIZER_THREADS,
+				Math.min(4, Runtime.getRuntime().availableProcessors()) + "")));
 	}
 	
+	/**
+	 * Stops the threads of the synchronization.
+	 */
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
 	/**
 	 * Process synchronizers.
 	 */
@@ -121,26 +144,31 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 		// reverse the order
 		Collections.reverse(wrappers);
 		
+		// synchronizers of the same order depend on each other only through the dependencies of their artefacts
+		Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> dependencies = SynchronizationExecutor.getDependencies(wrappers);
+		
 		if (logger.isDebugEnabled()) {logger.debug("Preparing for processing...");}
-		// preparing and depleting
-		for (Synchronizer<? extends Artefact> synchronizer : synchronizers) {
+		// preparing and depleting, the dependents first
+		final List<TopologyWrapper<? extends Artefact>> reversed = wrappers;
+		Map<Synchronizer<Artefact>, Long> preparing = executor.execute(synchronizers, dependencies, true, synchronizer -> {
 			List<TopologyWrapper<? extends Artefact>> locals = 
-					wrappers.stream().filter(w -> w.getSynchronizer().equals(synchronizer)).collect(Collectors.toList());
+					reversed.stream().filter(w -> w.getSynchronizer().equals(synchronizer)).collect(Collectors.toList());
 			synchronizer.prepare(locals, depleter);
-		}
-		if (logger.isDebugEnabled()) {logger.debug("Preparing for processing done.");}
+		});
+		if (logger.isDebugEnabled()) {logger.debug("Preparing for processing done. {}", formatDurations(preparing));}
 		
 		// return back to the sorted the order 
-		Collections.reverse(wrappers);
+		final List<TopologyWrapper<? extends Artefact>> sorted = new ArrayList<>(wrappers);
+		Collections.reverse(sorted);
 		
 		if (logger.isDebugEnabled()) {logger.debug("Processing of artefacts...");}
-		// processing and depleting
-		for (Synchronizer<? extends Artefact> synchronizer : synchronizers) {
+		// processing and depleting, the dependencies first
+		Map<Synchronizer<Artefact>, Long> processing = executor.execute(synchronizers, dependencies, false, synchronizer -> {
 			List<TopologyWrapper<? extends Artefact>> locals = 
-					wrappers.stream().filter(w -> w.getSynchronizer().equals(synchronizer)).collect(Collectors.toList());
+					sorted.stream().filter(w -> w.getSynchronizer().equals(synchronizer)).collect(Collectors.toList());
 			synchronizer.process(locals, depleter);
-		}
-		if (logger.isDebugEnabled()) {logger.debug("Processing of artefacts done.");}
+		});
+		if (logger.isDebugEnabled()) {logger.debug("Processing of artefacts done. {}", formatDurations(processing));}
 		
 		if (logger.isDebugEnabled()) {logger.debug("Cleaning up removed artefacts...");}
 		// cleanup
@@ -166,10 +194,26 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 		artefacts.clear();
 	}
 
+	/**
+	 * Formats the durations per synchronizer.
+	 *
+	 * @param durations the durations
+	 * @return the formatted durations
+	 */
+	private static String formatDurations(Map<Synchronizer<Artefact>, Long> durations) {
+		return durations.entrySet().stream().map(e -> e.getKey().getArtefactType() + ": " + e.getValue() + " ms")
+				.collect(Collectors.joining(", ", "Durations per artefact type - [", "]"));
+	}
+
+	/**
+	 * Prepare.
+	 */
 	private void prepare() {
 		errors.clear();
 		definitions.clear();
 		artefacts.clear();
+		known.clear();
+		changed.clear();
 	}
 
 	/**
@@ -178,6 +222,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 	 * @param errorCallback the error callback
 	 */
 	private void collectFiles() {
+		definitionService.getAll().forEach(d -> known.put(d.getKey(), d));
 		String registryFolder = getRegistryFolder();
 		SynchronizationWalker synchronizationWalker = new SynchronizationWalker(this);
 		try {
@@ -186,6 +231,12 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 			logger.error(e.getMessage(), e);
 			addError(e.getMessage());
 		}
+		if (!changed.isEmpty()) {
+			if (logger.isDebugEnabled()) {logger.debug("Saving {} new or updated definitions...", changed.size());}
+			definitionService.saveAll(changed);
+		}
+		known.clear();
+		changed.clear();
 	}
 	
 	/**
@@ -246,7 +297,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 			if (synchronizer.isAccepted(file, attrs)) {
 				// synchronizer knows this artefact, hence check whether to process it or not
 				try {
-					checkAndCollect(file, location, synchronizer);
+					checkAndCollect(file, attrs, location, synchronizer);
 				} catch (IOException e) {
 					logger.error(e.getMessage(), e);
 				}
@@ -256,15 +307,17 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 	}
 
 	/**
-	 * Collect for processing, if new or modified.
+	 * Collect for processing, if new or modified. The content of a known file is read and its checksum calculated
+	 * only when its size, last modified time or file key differ from the ones recorded at the last check.
 	 *
 	 * @param file the file
+	 * @param attrs the attrs
 	 * @param location the location
 	 * @param synchronizer the synchronizer
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 * @throws FileNotFoundException the file not found exception
 	 */
-	private void checkAndCollect(Path file, String location, Synchronizer<Artefact> synchronizer)
+	private void checkAndCollect(Path file, BasicFileAttributes attrs, String location, Synchronizer<Artefact> synchronizer)
 			throws IOException, FileNotFoundException {
 		
 		String type = "definition";
@@ -272,27 +325,37 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 			// generate the type by the file extension
 			type = location.substring(location.lastIndexOf('.') + 1);
 		}
+		Definition definition = new Definition(location, FilenameUtils.getBaseName(file.getFileName().toString()), type, null);
+		// check whether this artefact has been processed in the past already
+		Definition maybe = known.get(definition.getKey());
+		if (maybe != null && isUnchanged(maybe, attrs)) {
+			// the file has not been touched since the last check, hence its content is the same
+			if (isPending(maybe)) {
+				// pending from a previous run, add again for processing
+				if (definitions.get(synchronizer).get(definition.getKey()) == null && loadContent(file, definition)) {
+					definitions.get(synchronizer).put(definition.getKey(), definition);
+				}
+			} else if (maybe.getState().equals(ArtefactLifecycle.FAILED.toString())) {
+				// report the erronous state
+				logger.warn("Definition with key: {} has been failed with reason {}", maybe.getKey(), maybe.getMessage());
+			}
+			return;
+		}
 		// load the content to calculate the checksum
-		byte[] content = Files.readAllBytes(file);
-		if (content == null) {
-			logger.error("Reading file {} returns null content", file.toString());
+		if (!loadContent(file, definition)) {
 			return;
 		}
-		Definition definition = new Definition(location, FilenameUtils.getBaseName(file.getFileName().toString()), type, content);
-		// check whether this artefact has been processed in the past already
-		Definition maybe = definitionService.findByKey(definition.getKey());
 		if (maybe != null) {
 			// artefact has been processed in the past
+			setFileAttributes(maybe, attrs);
+			changed.add(maybe);
 			if (!maybe.getChecksum().equals(definition.getChecksum())) {
 				// the content has been modified since the last processing
 				maybe.setChecksum(definition.getChecksum());
 				maybe.setState(ArtefactLifecycle.MODIFIED.toString());
-				// update the artefact with the new checksum and status
-				definitionService.save(maybe);
 				// added to artefacts for processing
 				definitions.get(synchronizer).put(definition.getKey(), definition);
-			} else if (maybe.getState().equals(ArtefactLifecycle.CREATED.toString())
-					|| maybe.getState().equals(ArtefactLifecycle.MODIFIED.toString())) {
+			} else if (isPending(maybe)) {
 				// pending from a previous run, add again for processing
 				if (definitions.get(synchronizer).get(definition.getKey()) == null) {
 					definitions.get(synchronizer).put(definition.getKey(), definition);
@@ -304,11 +367,80 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 		} else {
 			// artefact is new, hence stored for processing
 			definition.setState(ArtefactLifecycle.CREATED.toString());
-			definitionService.save(definition);
+			setFileAttributes(definition, attrs);
+			changed.add(definition);
+			known.put(definition.getKey(), definition);
 			definitions.get(synchronizer).put(definition.getKey(), definition);
 		}
 	}
 	
+	/**
+	 * Loads the content of the file to the definition and calculates its checksum.
+	 *
+	 * @param file the file
+	 * @param definition the definition
+	 * @return true, if the content has been loaded
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private boolean loadContent(Path file, Definition definition) throws IOException {
+		byte[] content = Files.readAllBytes(file);
+		if (content == null) {
+			logger.error("Reading file {} returns null content", file.toString());
+			return false;
+		}
+		definition.setContent(content);
+		definition.updateChecksum(content);
+		return true;
+	}
+	
+	/**
+	 * Checks whether the size, the last modified time and the key of the file are the recorded ones.
+	 *
+	 * @param definition the definition
+	 * @param attrs the attrs
+	 * @return true, if unchanged
+	 */
+	private static boolean isUnchanged(Definition definition, BasicFileAttributes attrs) {
+		return definition.getFileSize() != null
+				&& definition.getFileSize() == attrs.size()
+				&& definition.getFileModified() != null
+				&& definition.getFileModified() == attrs.lastModifiedTime().toMillis()
+				&& Objects.equals(definition.getFileKey(), getFileKey(attrs));
+	}
+	
+	/**
+	 * Records the size, the last modified time and the key of the file.
+	 *
+	 * @param definition the definition
+	 * @param attrs the attrs
+	 */
+	private static void setFileAttributes(Definition definition, BasicFileAttributes attrs) {
+		definition.setFileSize(attrs.size());
+		definition.setFileModified(attrs.lastModifiedTime().toMillis());
+		definition.setFileKey(getFileKey(attrs));
+	}
+	
+	/**
+	 * Gets the file key, if supported by the file system.
+	 *
+	 * @param attrs the attrs
+	 * @return the file key or null
+	 */
+	private static String getFileKey(BasicFileAttributes attrs) {
+		return attrs.fileKey() != null ? attrs.fileKey().toString() : null;
+	}
+	
+	/**
+	 * Checks whether the definition is pending from a previous run.
+	 *
+	 * @param definition the definition
+	 * @return true, if created or modified, but not processed yet
+	 */
+	private static boolean isPending(Definition definition) {
+		return definition.getState().equals(ArtefactLifecycle.CREATED.toString())
+				|| definition.getState().equals(ArtefactLifecycle.MODIFIED.toString());
+	}
+	
 	/**
 	 * Sets the definition state.
 	 *
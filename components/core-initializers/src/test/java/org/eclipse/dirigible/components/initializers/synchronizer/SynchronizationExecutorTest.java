@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.artefact.ArtefactService;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologicalDepleter;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologyFactory;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologyWrapper;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+
+public class SynchronizationExecutorTest {
+
+	private final SynchronizationExecutor executor = new SynchronizationExecutor(4);
+
+	private final TestSynchronizer tables = new TestSynchronizer("table");
+
+	private final TestSynchronizer views = new TestSynchronizer("view");
+
+	private final TestSynchronizer jobs = new TestSynchronizer("job");
+
+	private final List<Synchronizer<Artefact>> synchronizers = Arrays.asList(views, tables, jobs);
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testDependencies() {
+		Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> dependencies = getDependencies();
+		assertEquals(1, dependencies.size());
+		assertEquals(Collections.singleton(tables), dependencies.get(views));
+	}
+
+	@Test
+	public void testProcessingOrder() {
+		List<String> finished = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch jobsStarted = new CountDownLatch(1);
+		Map<Synchronizer<Artefact>, Long> durations = executor.execute(synchronizers, getDependencies(), false, synchronizer -> {
+			if (synchronizer == jobs) {
+				jobsStarted.countDown();
+			} else if (synchronizer == tables) {
+				// the independent synchronizer runs meanwhile
+				await(jobsStarted);
+			}
+			finished.add(synchronizer.getArtefactType());
+		});
+		assertEquals(3, durations.size());
+		assertTrue(finished.indexOf("table") < finished.indexOf("view"));
+	}
+
+	@Test
+	public void testPreparingOrder() {
+		List<String> finished = Collections.synchronizedList(new ArrayList<>());
+		executor.execute(synchronizers, getDependencies(), true, synchronizer -> finished.add(synchronizer.getArtefactType()));
+		assertTrue(finished.indexOf("view") < finished.indexOf("table"));
+	}
+
+	@Test
+	public void testCycle() {
+		Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> dependencies = new HashMap<>(getDependencies());
+		dependencies.put(tables, Collections.singleton(views));
+		List<String> finished = Collections.synchronizedList(new ArrayList<>());
+		executor.execute(synchronizers, dependencies, false, synchronizer -> finished.add(synchronizer.getArtefactType()));
+		assertEquals(Arrays.asList("view", "table", "job"), finished);
+	}
+
+	@Test
+	public void testOrderLevels() {
+		TestSynchronizer roles = new FirstSynchronizer("role");
+		TestSynchronizer listeners = new SecondSynchronizer("listener");
+		TestSynchronizer websockets = new SecondSynchronizer("websocket");
+		List<Synchronizer<Artefact>> ordered = Arrays.asList(roles, listeners, websockets);
+		assertEquals(Arrays.asList(Collections.singletonList(roles), Arrays.asList(listeners, websockets)),
+				SynchronizationExecutor.getLevels(ordered));
+
+		List<String> started = Collections.synchronizedList(new ArrayList<>());
+		List<String> finished = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		executor.execute(ordered, Collections.emptyMap(), false, synchronizer -> {
+			started.add(synchronizer.getArtefactType());
+			if (synchronizer != roles) {
+				// the synchronizers of the same order run concurrently
+				bothStarted.countDown();
+				await(bothStarted);
+			}
+			finished.add(synchronizer.getArtefactType());
+		});
+		assertEquals("role", started.get(0));
+		assertEquals("role", finished.get(0));
+		assertEquals(3, finished.size());
+	}
+
+	private Map<Synchronizer<Artefact>, Set<Synchronizer<Artefact>>> getDependencies() {
+		TestArtefact table = new TestArtefact("/test/orders.table", "ORDERS", "table", null);
+		TestArtefact view = new TestArtefact("/test/orders.view", "ORDERS_VIEW", "view", table.getKey());
+		TestArtefact job = new TestArtefact("/test/cleanup.job", "cleanup", "job", null);
+		List<TopologyWrapper<? extends Artefact>> wrappers = TopologyFactory.wrap(Arrays.asList(view, table, job), synchronizers);
+		return SynchronizationExecutor.getDependencies(wrappers);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	static class TestArtefact extends Artefact {
+
+		private static final long serialVersionUID = 1L;
+
+		TestArtefact(String location, String name, String type, String dependencies) {
+			super(location, name, type, null, dependencies);
+		}
+
+	}
+
+	static class TestSynchronizer implements Synchronizer<Artefact> {
+
+		private final String type;
+
+		TestSynchronizer(String type) {
+			this.type = type;
+		}
+
+		@Override
+		public boolean isAccepted(Path file, BasicFileAttributes attrs) {
+			return file.toString().endsWith("." + type);
+		}
+
+		@Override
+		public boolean isAccepted(String type) {
+			return this.type.equals(type);
+		}
+
+		@Override
+		public List<Artefact> load(String location, byte[] content) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public void prepare(List<TopologyWrapper<? extends Artefact>> wrappers, TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter) {
+		}
+
+		@Override
+		public void process(List<TopologyWrapper<? extends Artefact>> wrappers, TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter) {
+		}
+
+		@Override
+		public ArtefactService<Artefact> getService() {
+			return null;
+		}
+
+		@Override
+		public void cleanup(Artefact artefact) {
+		}
+
+		@Override
+		public boolean complete(TopologyWrapper<Artefact> wrapper, String flow) {
+			return true;
+		}
+
+		@Override
+		public void setCallback(SynchronizerCallback callback) {
+		}
+
+		@Override
+		public String getFileExtension() {
+			return "." + type;
+		}
+
+		@Override
+		public String getArtefactType() {
+			return type;
+		}
+
+	}
+
+	@Order(30)
+	static class FirstSynchronizer extends TestSynchronizer {
+
+		FirstSynchronizer(String type) {
+			super(type);
+		}
+
+	}
+
+	@Order(60)
+	static class SecondSynchronizer extends TestSynchronizer {
+
+		SecondSynchronizer(String type) {
+			super(type);
+		}
+
+	}
+
+}
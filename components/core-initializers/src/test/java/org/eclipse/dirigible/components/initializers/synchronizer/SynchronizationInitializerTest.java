@@ -11,10 +11,16 @@
  */
 package org.eclipse.dirigible.components.initializers.synchronizer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
 import java.io.IOException;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.components.initializers.SynchronousSpringEventsConfig;
+import org.eclipse.dirigible.components.initializers.definition.Definition;
+import org.eclipse.dirigible.components.initializers.definition.DefinitionService;
 import org.eclipse.dirigible.components.repository.RepositoryConfig;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.RepositoryWriteException;
@@ -54,6 +60,12 @@ public class SynchronizationInitializerTest {
 	@Autowired
     private IRepository repository;
 	
+	@Autowired
+    private SynchronizationProcessor processor;
+	
+	@Autowired
+    private DefinitionService definitionService;
+	
 	@Test
     public void testContextStartedHandler() throws RepositoryWriteException, IOException {
 		System.out.println("Test context started listener.");
@@ -63,6 +75,30 @@ public class SynchronizationInitializerTest {
 		listener.handleContextStart(null);
     }
 	
+	@Test
+    public void testChangeDetection() throws RepositoryWriteException, IOException {
+		String path = "/registry/public/test/detect.extensionpoint";
+		byte[] content = "{\"location\":\"/test/detect.extensionpoint\",\"name\":\"/test/detect\",\"description\":\"Detect\"}".getBytes();
+		repository.createResource(path, content);
+		processor.processSynchronizers();
+		Definition definition = definitionService.findByLocation("/test/detect.extensionpoint");
+		assertNotNull(definition);
+		assertEquals(content.length, definition.getFileSize());
+		assertNotNull(definition.getFileModified());
+		String checksum = definition.getChecksum();
+		
+		processor.processSynchronizers();
+		assertEquals(checksum, definitionService.findByLocation("/test/detect.extensionpoint").getChecksum());
+		
+		byte[] modified = "{\"location\":\"/test/detect.extensionpoint\",\"name\":\"/test/detect\",\"description\":\"Detect modified\"}".getBytes();
+		repository.getResource(path).setContent(modified);
+		processor.processSynchronizers();
+		definition = definitionService.findByLocation("/test/detect.extensionpoint");
+		assertNotEquals(checksum, definition.getChecksum());
+		assertEquals(modified.length, definition.getFileSize());
+		repository.removeResource(path);
+    }
+	
 	@SpringBootApplication
 	static class TestConfiguration {
 	}
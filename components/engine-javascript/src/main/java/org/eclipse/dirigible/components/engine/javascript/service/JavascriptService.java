@@ -17,7 +17,9 @@ import java.util.Map;
 
 import org.eclipse.dirigible.components.base.http.access.UserRequestVerifier;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
 import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
+import org.eclipse.dirigible.graalium.core.pool.CodeRunnerLease;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
@@ -59,12 +61,18 @@ public class JavascriptService {
             }
 
             Path absoluteSourcePath = dirigibleSourceProvider.getAbsoluteSourcePath(projectName, projectFilePath);
-            try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(parameters, debug)) {
-            	Source source = runner.prepareSource(absoluteSourcePath);
-            	runner.getGraalJSInterceptor().onBeforeRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner().getGraalContext());
-            	Value value = runner.run(source);
-            	runner.getGraalJSInterceptor().onAfterRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner().getGraalContext(), value);
-            	return transformValue(value);
+            try (CodeRunnerLease<DirigibleJavascriptCodeRunner> lease = DirigibleJavascriptCodeRunnerPool.borrow(parameters, debug)) {
+            	DirigibleJavascriptCodeRunner runner = lease.getRunner();
+            	try {
+            		Source source = runner.prepareSource(absoluteSourcePath);
+            		runner.getGraalJSInterceptor().onBeforeRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner().getGraalContext());
+            		Value value = runner.run(source);
+            		runner.getGraalJSInterceptor().onAfterRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner().getGraalContext(), value);
+            		return transformValue(value);
+            	} catch (RuntimeException e) {
+            		lease.invalidate();
+            		throw e;
+            	}
             }
         } catch (Exception e) {
         	if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
@@ -13,6 +13,7 @@ package org.eclipse.dirigible.components.security.domain;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -28,6 +29,7 @@ import com.google.gson.annotations.Expose;
 
 @Entity
 @Table(name = "DIRIGIBLE_SECURITY_ACCESS")
+@EntityListeners(AccessListener.class)
 public class Access extends Artefact {
 
     /**
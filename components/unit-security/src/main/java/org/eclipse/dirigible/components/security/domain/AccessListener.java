@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import javax.persistence.PreRemove;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts the changes of the security accesses, so that the caches built from them know when to be rebuilt.
+ */
+public class AccessListener {
+
+    /**
+     * The version of the security accesses.
+     */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    /**
+     * Gets the version of the security accesses.
+     *
+     * @return the version
+     */
+    public static long getVersion() {
+        return VERSION.get();
+    }
+
+    /**
+     * Increments the version on a change and once again after the end of the transaction,
+     * so that a cache built in between from the not yet committed state is rebuilt as well.
+     * A removal is counted already when requested, as it is executed only on the next flush.
+     *
+     * @param access the access
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    @PreRemove
+    public void onChange(Access access) {
+        VERSION.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    VERSION.incrementAndGet();
+                }
+            });
+        }
+    }
+
+}
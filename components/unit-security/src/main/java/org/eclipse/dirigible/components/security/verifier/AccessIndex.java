@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.verifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.dirigible.components.security.domain.Access;
+
+/**
+ * Immutable prefix trie of the security accesses per scope. The lookup walks the characters of the path once
+ * and keeps the accesses of the deepest node, which match the method, i.e. the ones with the longest path
+ * being a prefix of the given path.
+ */
+public class AccessIndex {
+
+    /** The Constant ANY_METHOD. */
+    private static final String ANY_METHOD = "*";
+
+    /** The security accesses the index is built from. */
+    private final List<Access> accesses;
+
+    /** The version of the security accesses. */
+    private final long version;
+
+    /** The root nodes per scope. */
+    private final Map<String, Node> scopes = new HashMap<>();
+
+    /**
+     * Instantiates a new access index.
+     *
+     * @param accesses the security accesses
+     * @param version the version of the security accesses
+     */
+    public AccessIndex(List<Access> accesses, long version) {
+        this.accesses = accesses;
+        this.version = version;
+        for (Access access : accesses) {
+            if (access.getScope() == null || access.getPath() == null || access.getMethod() == null) {
+                continue;
+            }
+            Node node = scopes.computeIfAbsent(access.getScope().toUpperCase(Locale.ROOT), k -> new Node());
+            String path = access.getPath();
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), k -> new Node());
+            }
+            node.accesses.add(access);
+        }
+        for (Node root : scopes.values()) {
+            root.seal();
+        }
+    }
+
+    /**
+     * Gets the security accesses the index is built from.
+     *
+     * @return the security accesses
+     */
+    public List<Access> getAccesses() {
+        return accesses;
+    }
+
+    /**
+     * Gets the version of the security accesses the index is built from.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the security accesses with the longest path, which is a prefix of the given path.
+     *
+     * @param scope the scope
+     * @param path the path
+     * @param method the method
+     * @return the matching security accesses in their original order or an empty list
+     */
+    public List<Access> getMatchingSecurityAccesses(String scope, String path, String method) {
+        Node node = scopes.get(scope.toUpperCase(Locale.ROOT));
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<Access> matching = node.getAccesses(method);
+        for (int i = 0; i < path.length(); i++) {
+            node = node.children.get(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            List<Access> current = node.getAccesses(method);
+            if (!current.isEmpty()) {
+                matching = current;
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * The node for a path prefix.
+     */
+    private static class Node {
+
+        /** The children per next character. */
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        /** The security accesses with exactly this path. */
+        private List<Access> accesses = new ArrayList<>(1);
+
+        /** The security accesses per method, including the ones for any method. */
+        private Map<String, List<Access>> methods = Collections.emptyMap();
+
+        /** The security accesses for any method. */
+        private List<Access> anyMethod = Collections.emptyList();
+
+        /**
+         * Gets the security accesses for the method.
+         *
+         * @param method the method
+         * @return the security accesses
+         */
+        List<Access> getAccesses(String method) {
+            return methods.getOrDefault(method, anyMethod);
+        }
+
+        /**
+         * Groups the security accesses of the node and its descendants per method.
+         */
+        void seal() {
+            if (!accesses.isEmpty()) {
+                Set<String> methodNames = new LinkedHashSet<>();
+                List<Access> wildcard = new ArrayList<>();
+                for (Access access : accesses) {
+                    if (ANY_METHOD.equals(access.getMethod())) {
+                        wildcard.add(access);
+                    } else {
+                        methodNames.add(access.getMethod());
+                    }
+                }
+                Map<String, List<Access>> grouped = new HashMap<>();
+                for (String methodName : methodNames) {
+                    List<Access> forMethod = new ArrayList<>();
+                    for (Access access : accesses) {
+                        if (ANY_METHOD.equals(access.getMethod()) || methodName.equals(access.getMethod())) {
+                            forMethod.add(access);
+                        }
+                    }
+                    grouped.put(methodName, Collections.unmodifiableList(forMethod));
+                }
+                methods = grouped;
+                anyMethod = Collections.unmodifiableList(wildcard);
+            }
+            accesses = null;
+            for (Node child : children.values()) {
+                child.seal();
+            }
+        }
+    }
+
+}
@@ -12,6 +12,7 @@
 package org.eclipse.dirigible.components.security.verifier;
 
 import org.eclipse.dirigible.components.security.domain.Access;
+import org.eclipse.dirigible.components.security.domain.AccessListener;
 import org.eclipse.dirigible.components.security.service.AccessService;
 
 import org.slf4j.Logger;
@@ -19,8 +20,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Utility class that checks whether the location is secured via the *.access file
@@ -40,6 +41,11 @@ public class AccessVerifier {
     @Autowired
     private AccessService securityAccessService;
 
+    /**
+     * The index of the security accesses, replaced as a whole when they change.
+     */
+    private final AtomicReference<AccessIndex> index = new AtomicReference<>();
+
     /**
      * Checks whether the URI is secured via the *.access file or not
      *
@@ -49,31 +55,34 @@ public class AccessVerifier {
      * @return all the most specific security access entry matching the URI if any
      */
     public List<Access> getMatchingSecurityAccesses(String scope, String path, String method) {
-        List<Access> securityAccesses = new ArrayList<>();
-        Access currentSecurityAccess = null;
-        List<Access> existingSecurityAccesses = securityAccessService.getAll();
-        for (Access securityAccess : existingSecurityAccesses) {
-            if (scope.equalsIgnoreCase(securityAccess.getScope()) && path.startsWith(securityAccess.getPath())
-                    && (securityAccess.getMethod().equals("*") || method.equals(securityAccess.getMethod()))) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
-                            securityAccess.getLocation()));
-                }
-                if ((currentSecurityAccess == null) || (securityAccess.getPath().length() > currentSecurityAccess.getPath().length())) {
-                    currentSecurityAccess = securityAccess;
-                    securityAccesses.clear();
-                    securityAccesses.add(securityAccess);
-                } else if (securityAccess.getPath().length() == currentSecurityAccess.getPath().length()) {
-                    securityAccesses.add(securityAccess);
-                }
-            }
-        }
+        List<Access> securityAccesses = getIndex().getMatchingSecurityAccesses(scope, path, method);
         if (securityAccesses.isEmpty()) {
             if (logger.isTraceEnabled()) {
                 logger.trace(String.format("URI [%s] with HTTP method [%s] is NOT secured", path, method));
             }
+        } else if (logger.isDebugEnabled()) {
+            for (Access securityAccess : securityAccesses) {
+                logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
+                        securityAccess.getLocation()));
+            }
         }
         return securityAccesses;
     }
 
+    /**
+     * Gets the index of the current security accesses, rebuilding it only if they have changed since it was built.
+     *
+     * @return the index
+     */
+    private AccessIndex getIndex() {
+        long version = AccessListener.getVersion();
+        AccessIndex current = index.get();
+        if (current == null || current.getVersion() != version) {
+            AccessIndex rebuilt = new AccessIndex(securityAccessService.getAll(), version);
+            index.compareAndSet(current, rebuilt);
+            current = rebuilt;
+        }
+        return current;
+    }
+
 }
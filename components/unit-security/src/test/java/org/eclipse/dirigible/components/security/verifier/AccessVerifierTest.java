@@ -82,6 +82,27 @@ class AccessVerifierTest {
         assertEquals(2, matchingSecurityAccesses.size());
     }
 
+    @Test
+    void testGetMatchingSecurityAccessesAfterChange() {
+        securityAccessRepository.save(createSecurityAccess("/a/b/c/test.access", "test3", "description", "HTTP", "/a" +
+                "/b", "*", "test1"));
+
+        List<Access> matchingSecurityAccesses = securityAccessVerifier.getMatchingSecurityAccesses("HTTP", "/a/b/c", "GET");
+        assertEquals(1, matchingSecurityAccesses.size());
+        assertEquals("/a/b", matchingSecurityAccesses.get(0).getPath());
+
+        matchingSecurityAccesses = securityAccessVerifier.getMatchingSecurityAccesses("HTTP", "/a/b/c/test.txt", "POST");
+        assertEquals(1, matchingSecurityAccesses.size());
+        assertEquals("/a/b", matchingSecurityAccesses.get(0).getPath());
+
+        matchingSecurityAccesses = securityAccessVerifier.getMatchingSecurityAccesses("CMIS", "/a/b/c/test.txt", "GET");
+        assertTrue(matchingSecurityAccesses.isEmpty());
+
+        securityAccessRepository.deleteAll();
+        matchingSecurityAccesses = securityAccessVerifier.getMatchingSecurityAccesses("HTTP", "/a/b/c/test.txt", "GET");
+        assertTrue(matchingSecurityAccesses.isEmpty());
+    }
+
     @SpringBootApplication
     static class TestConfiguration {
     }
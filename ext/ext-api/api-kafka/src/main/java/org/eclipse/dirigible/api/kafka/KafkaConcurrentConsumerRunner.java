@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.kafka;
+
+import static java.text.MessageFormat.format;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.clients.consumer.CommitFailedException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RebalanceInProgressException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
+import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumer runner, which dispatches the polled records to a number of worker threads and commits the offsets
+ * only after the records have been processed.
+ * <p>
+ * All the records of a partition go to the same worker, so they are processed in the order of their offsets.
+ * In batch mode a worker passes all its records from a poll to the handler in a single invocation.
+ * The polling thread waits for the workers before the next poll, hence the processing of a poll result
+ * has to fit in the <code>max.poll.interval.ms</code> of the consumer.
+ * <p>
+ * Since the workers are done before the next poll, the only records in flight on a rebalance are the processed ones,
+ * whose offsets could not be committed yet. These are committed before the revoked partitions are given up.
+ * <p>
+ * A failed record is consumed again after a backoff, during which its partition is paused. The backoff doubles
+ * with every failed attempt. Once the retries are exhausted, the record is logged and skipped, in batch mode together
+ * with the rest of the records of its partition from the same poll.
+ */
+public class KafkaConcurrentConsumerRunner extends KafkaConsumerRunner {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(KafkaConcurrentConsumerRunner.class);
+
+	/** The Constant DIRIGIBLE_KAFKA_WRAPPER_MODULE_ON_MESSAGES. */
+	private static final String DIRIGIBLE_KAFKA_WRAPPER_MODULE_ON_MESSAGES = "kafka/wrappers/onMessages";
+
+	/** The Constant DEFAULT_MAX_RETRIES. */
+	public static final int DEFAULT_MAX_RETRIES = 3;
+
+	/** The Constant DEFAULT_RETRY_BACKOFF in milliseconds. */
+	public static final long DEFAULT_RETRY_BACKOFF = 1000;
+
+	/** The Constant MAX_RETRY_BACKOFF in milliseconds. */
+	private static final long MAX_RETRY_BACKOFF = 60000;
+
+	/** The workers, each one single threaded to keep the order within a partition. */
+	private final ExecutorService[] workers;
+
+	/** The batch mode. */
+	private final boolean batch;
+
+	/** The handler invocations. */
+	private final LongAdder invocations = new LongAdder();
+
+	/** The committed offsets. */
+	private final LongAdder commits = new LongAdder();
+
+	/** The skipped records. */
+	private final LongAdder skippedRecords = new LongAdder();
+
+	/** The max number of the retries of a failed record. */
+	private final int maxRetries;
+
+	/** The backoff before the first retry in milliseconds. */
+	private final long retryBackoff;
+
+	/** The offsets of the processed records, which are not committed yet. Accessed by the polling thread only. */
+	private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets = new HashMap<>();
+
+	/** The failed record per partition. Accessed by the polling thread only. */
+	private final Map<TopicPartition, FailedRecord> failures = new HashMap<>();
+
+	/** The time to resume the paused partitions at. Accessed by the polling thread only. */
+	private final Map<TopicPartition, Long> pausedPartitions = new HashMap<>();
+
+	/**
+	 * Instantiates a new kafka concurrent consumer runner with the default retries.
+	 *
+	 * @param consumer the consumer, with auto commit disabled
+	 * @param name the name
+	 * @param handler the handler
+	 * @param timeout the timeout
+	 * @param threads the number of the worker threads
+	 * @param batch whether to pass the records to the handler in batches
+	 */
+	public KafkaConcurrentConsumerRunner(Consumer consumer, String name, String handler, int timeout, int threads, boolean batch) {
+		this(consumer, name, handler, timeout, threads, batch, DEFAULT_MAX_RETRIES, DEFAULT_RETRY_BACKOFF);
+	}
+
+	/**
+	 * Instantiates a new kafka concurrent consumer runner.
+	 *
+	 * @param consumer the consumer, with auto commit disabled
+	 * @param name the name
+	 * @param handler the handler
+	 * @param timeout the timeout
+	 * @param threads the number of the worker threads
+	 * @param batch whether to pass the records to the handler in batches
+	 * @param maxRetries the max number of the retries of a failed record, before it is skipped
+	 * @param retryBackoff the backoff before the first retry in milliseconds
+	 */
+	public KafkaConcurrentConsumerRunner(Consumer consumer, String name, String handler, int timeout, int threads, boolean batch,
+			int maxRetries, long retryBackoff) {
+		super(consumer, name, handler, timeout);
+		this.batch = batch;
+		this.maxRetries = Math.max(0, maxRetries);
+		this.retryBackoff = Math.max(0, retryBackoff);
+		this.workers = new ExecutorService[Math.max(1, threads)];
+		for (int i = 0; i < workers.length; i++) {
+			int index = i;
+			workers[i] = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "kafka-consumer-" + name + "-" + index);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Start the consumer.
+	 */
+	@Override
+	public void run() {
+		try {
+			if (logger.isInfoEnabled()) {logger.info("Starting a Kafka listener for {} with {} workers{} ...", this.name, workers.length, batch ? " in batch mode" : "");}
+			consumer.subscribe(Arrays.asList(this.name), new RebalanceListener());
+			while (!stopped.get()) {
+				resumePartitions();
+				ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(this.timeout));
+				if (!records.isEmpty()) {
+					process(records);
+				}
+				updateLag();
+			}
+		} catch (WakeupException e) {
+			// Ignore exception if closing
+			if (!stopped.get())
+				throw e;
+		} finally {
+			for (ExecutorService worker : workers) {
+				worker.shutdownNow();
+			}
+			consumer.close();
+		}
+	}
+
+	/**
+	 * Dispatches the records to the workers, waits for them and commits the offsets of the processed records.
+	 * The partitions with unprocessed records are rewound and paused for the backoff, so that these records are
+	 * polled again, unless the retries of the failed record are exhausted.
+	 *
+	 * @param records the records
+	 */
+	private void process(ConsumerRecords<String, String> records) {
+		Map<Integer, List<TopicPartition>> assignments = new HashMap<>();
+		for (TopicPartition partition : records.partitions()) {
+			assignments.computeIfAbsent(Math.floorMod(partition.hashCode(), workers.length), k -> new ArrayList<>()).add(partition);
+		}
+
+		List<Future<Map<TopicPartition, Long>>> futures = new ArrayList<>();
+		for (Map.Entry<Integer, List<TopicPartition>> assignment : assignments.entrySet()) {
+			List<TopicPartition> partitions = assignment.getValue();
+			futures.add(workers[assignment.getKey()].submit(() -> batch ? processBatch(records, partitions) : processRecords(records, partitions)));
+		}
+
+		Map<TopicPartition, Long> positions = new HashMap<>();
+		for (Future<Map<TopicPartition, Long>> future : futures) {
+			try {
+				positions.putAll(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new WakeupException();
+			} catch (ExecutionException e) {
+				if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			}
+		}
+
+		Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+		for (TopicPartition partition : records.partitions()) {
+			List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+			long first = partitionRecords.get(0).offset();
+			long last = partitionRecords.get(partitionRecords.size() - 1).offset();
+			long next = positions.getOrDefault(partition, first);
+			if (next > last) {
+				failures.remove(partition);
+			} else {
+				next = retry(partition, next, last);
+			}
+			if (next > first) {
+				offsets.put(partition, new OffsetAndMetadata(next));
+			}
+		}
+
+		pendingOffsets.putAll(offsets);
+		commit(new ArrayList<>(pendingOffsets.keySet()));
+	}
+
+	/**
+	 * Rewinds the partition to the failed record and pauses it for the backoff, or skips the failed record,
+	 * if its retries are exhausted.
+	 *
+	 * @param partition the partition
+	 * @param next the offset of the failed record
+	 * @param last the offset of the last polled record of the partition
+	 * @return the offset to continue from
+	 */
+	private long retry(TopicPartition partition, long next, long last) {
+		FailedRecord failure = failures.get(partition);
+		int attempts = failure != null && failure.offset == next ? failure.attempts + 1 : 1;
+		if (attempts > maxRetries) {
+			long skipped = batch ? last + 1 : next + 1;
+			if (logger.isErrorEnabled()) {logger.error(format("Skipping records of [{0}] from offset [{1}] to [{2}] after [{3}] failed attempts",
+					partition, next, skipped - 1, attempts));}
+			skippedRecords.add(skipped - next);
+			failures.remove(partition);
+			if (skipped <= last) {
+				consumer.seek(partition, skipped);
+			}
+			return skipped;
+		}
+		failures.put(partition, new FailedRecord(next, attempts));
+		long backoff = Math.min(retryBackoff << Math.min(attempts - 1, 16), MAX_RETRY_BACKOFF);
+		if (logger.isWarnEnabled()) {logger.warn(format("Records of [{0}] from offset [{1}] will be consumed again in [{2}] ms, retry [{3}] of [{4}]",
+				partition, next, backoff, attempts, maxRetries));}
+		consumer.seek(partition, next);
+		if (backoff > 0) {
+			consumer.pause(Collections.singleton(partition));
+			pausedPartitions.put(partition, System.currentTimeMillis() + backoff);
+		}
+		return next;
+	}
+
+	/**
+	 * Resumes the paused partitions, whose backoff has passed.
+	 */
+	private void resumePartitions() {
+		if (pausedPartitions.isEmpty()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		List<TopicPartition> resumed = new ArrayList<>();
+		for (Iterator<Map.Entry<TopicPartition, Long>> iterator = pausedPartitions.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<TopicPartition, Long> entry = iterator.next();
+			if (entry.getValue() <= now) {
+				resumed.add(entry.getKey());
+				iterator.remove();
+			}
+		}
+		if (!resumed.isEmpty()) {
+			consumer.resume(resumed);
+		}
+	}
+
+	/**
+	 * Commits the pending offsets of the partitions. The offsets, which could not be committed, stay pending
+	 * and are committed with the next poll result or on revocation of the partition.
+	 *
+	 * @param partitions the partitions
+	 */
+	private void commit(Collection<TopicPartition> partitions) {
+		Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+		for (TopicPartition partition : partitions) {
+			OffsetAndMetadata offset = pendingOffsets.get(partition);
+			if (offset != null) {
+				offsets.put(partition, offset);
+			}
+		}
+		if (offsets.isEmpty()) {
+			return;
+		}
+		try {
+			consumer.commitSync(offsets);
+			commits.add(offsets.size());
+			pendingOffsets.keySet().removeAll(offsets.keySet());
+		} catch (CommitFailedException | RebalanceInProgressException e) {
+			if (logger.isWarnEnabled()) {logger.warn(format("Committing the offsets of [{0}] failed, the records may be consumed again", this.name), e);}
+		}
+	}
+
+	/**
+	 * Passes the records of the partitions to the handler one by one.
+	 *
+	 * @param records the records
+	 * @param partitions the partitions
+	 * @return the offsets to continue from per partition
+	 */
+	private Map<TopicPartition, Long> processRecords(ConsumerRecords<String, String> records, List<TopicPartition> partitions) {
+		Map<TopicPartition, Long> positions = new HashMap<>();
+		for (TopicPartition partition : partitions) {
+			for (ConsumerRecord<String, String> record : records.records(partition)) {
+				if (stopped.get() || !handle(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE, "message", GsonHelper.toJson(record), 1)) {
+					break;
+				}
+				positions.put(partition, record.offset() + 1);
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Passes the records of the partitions to the handler in a single invocation.
+	 *
+	 * @param records the records
+	 * @param partitions the partitions
+	 * @return the offsets to continue from per partition
+	 */
+	private Map<TopicPartition, Long> processBatch(ConsumerRecords<String, String> records, List<TopicPartition> partitions) {
+		List<ConsumerRecord<String, String>> batchRecords = new ArrayList<>();
+		for (TopicPartition partition : partitions) {
+			batchRecords.addAll(records.records(partition));
+		}
+		Map<TopicPartition, Long> positions = new HashMap<>();
+		if (!stopped.get() && handle(DIRIGIBLE_KAFKA_WRAPPER_MODULE_ON_MESSAGES, "messages", GsonHelper.toJson(batchRecords), batchRecords.size())) {
+			for (TopicPartition partition : partitions) {
+				List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+				positions.put(partition, partitionRecords.get(partitionRecords.size() - 1).offset() + 1);
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Invokes the handler. A failure of the handler is passed to its error callback, and the records count as processed
+	 * once the error callback has completed.
+	 *
+	 * @param wrapper the wrapper module
+	 * @param key the context key of the payload
+	 * @param payload the payload
+	 * @param count the number of the records in the payload
+	 * @return true, if the records have been processed
+	 */
+	private boolean handle(String wrapper, String key, String payload, int count) {
+		if (this.handler == null) {
+			if (logger.isInfoEnabled()) {logger.info(String.format("[Kafka Consumer] %s - %s%n", this.name, payload));}
+			processedRecords.add(count);
+			return true;
+		}
+		if (logger.isTraceEnabled()) {logger.trace(format("Start processing [{0}] received records in [{1}] by [{2}] ...", count, this.name, this.handler));}
+		Map<Object, Object> context = createMessagingContext();
+		context.put(key, escapeCodeString(payload));
+		invocations.increment();
+		try {
+			execute(wrapper, context);
+		} catch (ScriptingException e) {
+			failedRecords.add(count);
+			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			try {
+				context.put("error", escapeCodeString(e.getMessage()));
+				execute(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR, context);
+			} catch (RuntimeException es) {
+				if (logger.isErrorEnabled()) {logger.error(es.getMessage(), es);}
+				return false;
+			}
+		} catch (RuntimeException e) {
+			failedRecords.add(count);
+			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			return false;
+		}
+		processedRecords.add(count);
+		if (logger.isTraceEnabled()) {logger.trace(format("Done processing [{0}] received records in [{1}] by [{2}]", count, this.name, this.handler));}
+		return true;
+	}
+
+	/**
+	 * Executes the wrapper module of the handler.
+	 *
+	 * @param wrapper the wrapper module
+	 * @param context the context
+	 * @throws ScriptingException the scripting exception
+	 */
+	protected void execute(String wrapper, Map<Object, Object> context) throws ScriptingException {
+		ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, wrapper, context);
+	}
+
+	/**
+	 * Gets the metrics of the consumer.
+	 *
+	 * @return the metrics
+	 */
+	@Override
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = super.getMetrics();
+		metrics.put("invocations", invocations.sum());
+		metrics.put("commits", commits.sum());
+		metrics.put("skipped", skippedRecords.sum());
+		metrics.put("workers", workers.length);
+		metrics.put("batch", batch);
+		return metrics;
+	}
+
+	/**
+	 * Commits the pending offsets of the revoked partitions, before another consumer of the group takes them over.
+	 * The rebalance callbacks are invoked by the polling thread.
+	 */
+	private class RebalanceListener implements ConsumerRebalanceListener {
+
+		/**
+		 * On partitions revoked.
+		 *
+		 * @param partitions the partitions
+		 */
+		@Override
+		public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+			commit(partitions);
+			pendingOffsets.keySet().removeAll(partitions);
+			failures.keySet().removeAll(partitions);
+			pausedPartitions.keySet().removeAll(partitions);
+		}
+
+		/**
+		 * On partitions assigned.
+		 *
+		 * @param partitions the partitions
+		 */
+		@Override
+		public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+			if (logger.isDebugEnabled()) {logger.debug(format("Partitions [{0}] assigned to [{1}]", partitions, name));}
+		}
+
+		/**
+		 * On partitions lost. The partitions may be owned by another consumer already, so the pending offsets are discarded.
+		 *
+		 * @param partitions the partitions
+		 */
+		@Override
+		public void onPartitionsLost(Collection<TopicPartition> partitions) {
+			if (logger.isWarnEnabled()) {logger.warn(format("Partitions [{0}] of [{1}] lost, the records may be consumed again", partitions, name));}
+			pendingOffsets.keySet().removeAll(partitions);
+			failures.keySet().removeAll(partitions);
+			pausedPartitions.keySet().removeAll(partitions);
+		}
+	}
+
+	/**
+	 * The failed record of a partition and the number of its failed attempts.
+	 */
+	private static class FailedRecord {
+
+		/** The offset. */
+		private final long offset;
+
+		/** The attempts. */
+		private final int attempts;
+
+		/**
+		 * Instantiates a new failed record.
+		 *
+		 * @param offset the offset
+		 * @param attempts the attempts
+		 */
+		FailedRecord(long offset, int attempts) {
+			this.offset = offset;
+			this.attempts = attempts;
+		}
+	}
+
+}
@@ -16,12 +16,16 @@ import static java.text.MessageFormat.format;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
@@ -39,25 +43,37 @@ public class KafkaConsumerRunner implements Runnable {
 	private static final Logger logger = LoggerFactory.getLogger(KafkaConsumerRunner.class);
 	
 	/** The Constant DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE. */
-	private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE = "messaging/wrappers/onMessage";
+	protected static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE = "messaging/wrappers/onMessage";
 	
 	/** The Constant DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR. */
-	private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR = "messaging/wrappers/onError";
+	protected static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR = "messaging/wrappers/onError";
 
 	/** The stopped. */
-	private final AtomicBoolean stopped = new AtomicBoolean(false);
+	protected final AtomicBoolean stopped = new AtomicBoolean(false);
 	
 	/** The consumer. */
-	private final Consumer consumer;
+	protected final Consumer consumer;
 
 	/** The name. */
-	private String name;
+	protected String name;
 	
 	/** The handler. */
-	private String handler;
+	protected String handler;
 	
 	/** The timeout. */
-	private int timeout = 1000;
+	protected int timeout = 1000;
+	
+	/** The processed records. */
+	protected final LongAdder processedRecords = new LongAdder();
+	
+	/** The failed records. */
+	protected final LongAdder failedRecords = new LongAdder();
+	
+	/** The lag of the assigned partitions, as of the last poll. */
+	protected volatile long lag;
+	
+	/** The start time. */
+	private final long startedAt = System.currentTimeMillis();
 
 	/**
 	 * Instantiates a new kafka consumer runner.
@@ -92,6 +108,7 @@ public class KafkaConsumerRunner implements Runnable {
 						try {
 							ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE, context);
 						} catch (ScriptingException e) {
+							failedRecords.increment();
 							if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
 							try {
 								context.put("error", escapeCodeString(e.getMessage()));
@@ -103,9 +120,10 @@ public class KafkaConsumerRunner implements Runnable {
 					} else {
 						if (logger.isInfoEnabled()) {logger.info(String.format("[Kafka Consumer] %s -  offset = %d, key = %s, value = %s%n", this.name, record.offset(), record.key(), record.value()));}
 					}
+					processedRecords.increment();
 					if (logger.isTraceEnabled()) {logger.trace(format("Done processing the received record in [{0}] by [{1}]", this.name, this.handler));}
 				}
-				
+				updateLag();
 			}
 		} catch (WakeupException e) {
 			// Ignore exception if closing
@@ -124,12 +142,43 @@ public class KafkaConsumerRunner implements Runnable {
 		consumer.wakeup();
 	}
 	
+	/**
+	 * Gets the metrics of the consumer.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Object> getMetrics() {
+		long processed = processedRecords.sum();
+		long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("processed", processed);
+		metrics.put("failed", failedRecords.sum());
+		metrics.put("lag", lag);
+		metrics.put("throughput", processed * 1000d / elapsed);
+		return metrics;
+	}
+	
+	/**
+	 * Updates the lag from the positions and the end offsets known to the consumer, without a request to the broker.
+	 * It has to be called from the polling thread.
+	 */
+	protected void updateLag() {
+		long total = 0;
+		for (Object partition : consumer.assignment()) {
+			OptionalLong partitionLag = consumer.currentLag((TopicPartition) partition);
+			if (partitionLag.isPresent()) {
+				total += partitionLag.getAsLong();
+			}
+		}
+		lag = total;
+	}
+	
 	/**
 	 * Create a context map and set the handler.
 	 *
 	 * @return the context map
 	 */
-	private Map<Object, Object> createMessagingContext() {
+	protected Map<Object, Object> createMessagingContext() {
 		Map<Object, Object> context = new HashMap<Object, Object>();
 		context.put("handler", this.handler);
 		return context;
@@ -142,7 +191,7 @@ public class KafkaConsumerRunner implements Runnable {
 	 *            the raw
 	 * @return the string
 	 */
-	private String escapeCodeString(String raw) {
+	protected String escapeCodeString(String raw) {
 		return raw.replace("'", "&amp;");
 	}
 
@@ -54,6 +54,12 @@ public class KafkaFacade implements IScriptingFacade {
 	/** The Constant DEFAULT_BOOTSTRAP_SERVER. */
 	private static final String DEFAULT_BOOTSTRAP_SERVER = "localhost:9092";
 	
+	/** The Constant DIRIGIBLE_KAFKA_CONSUMER_RETRIES. */
+	private static final String DIRIGIBLE_KAFKA_CONSUMER_RETRIES = "DIRIGIBLE_KAFKA_CONSUMER_RETRIES";
+
+	/** The Constant DIRIGIBLE_KAFKA_CONSUMER_RETRY_BACKOFF. */
+	private static final String DIRIGIBLE_KAFKA_CONSUMER_RETRY_BACKOFF = "DIRIGIBLE_KAFKA_CONSUMER_RETRY_BACKOFF";
+
 	/** The Constant DIRIGIBLE_KAFKA_ACKS_ALL. */
 	private static final String DIRIGIBLE_KAFKA_ACKS_ALL = "all";
 	
@@ -168,9 +174,27 @@ public class KafkaFacade implements IScriptingFacade {
 	 * @param configuration the configuration
 	 */
 	public static final void startListening(String destination, String handler, int timeout, String configuration) {
+		startListening(destination, handler, timeout, configuration, null);
+	}
+	
+	/**
+	 * Start listening with worker threads and manual offset commits, when the options contain
+	 * <code>threads</code> or <code>batch</code>.
+	 * The records of a partition are processed in order by the same worker. In batch mode, each worker passes
+	 * all its records from a poll to the <code>onMessages</code> function of the handler in one invocation.
+	 *
+	 * @param destination the destination
+	 * @param handler the handler
+	 * @param timeout the timeout
+	 * @param configuration the configuration
+	 * @param options the consumer options, e.g. <code>{"threads": 4, "batch": true, "retries": 3, "retryBackoff": 1000}</code>
+	 */
+	public static final void startListening(String destination, String handler, int timeout, String configuration, String options) {
 		if (configuration == null) {
 			configuration = "{}";
 		}
+		Map consumerOptions = options != null ? GsonHelper.fromJson(options, Map.class) : Collections.emptyMap();
+		boolean concurrent = consumerOptions.get("threads") != null || consumerOptions.get("batch") != null;
 		
 		Map map = GsonHelper.fromJson(configuration, Map.class);
 		
@@ -196,7 +220,10 @@ public class KafkaFacade implements IScriptingFacade {
 				// default to handler
 				props.put("group.id", handler != null ? handler : destination);
 			}
-			if (props.get("enable.auto.commit") == null) {
+			if (concurrent) {
+				// the offsets are committed after the records have been processed
+				props.put("enable.auto.commit", "false");
+			} else if (props.get("enable.auto.commit") == null) {
 				// autocommit
 				String enableAutoCommit = Configuration.get(DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED, DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED_DEFAULT);
 				props.put("enable.auto.commit", enableAutoCommit);
@@ -219,7 +246,17 @@ public class KafkaFacade implements IScriptingFacade {
 			
 			consumer = new KafkaConsumer<>(props);
 			
-			consumerRunner = new KafkaConsumerRunner(consumer, destination, handler, timeout);
+			if (concurrent) {
+				int threads = consumerOptions.get("threads") != null ? ((Number) consumerOptions.get("threads")).intValue() : 1;
+				boolean batch = Boolean.TRUE.equals(consumerOptions.get("batch"));
+				int retries = consumerOptions.get("retries") != null ? ((Number) consumerOptions.get("retries")).intValue()
+						: Integer.parseInt(Configuration.get(DIRIGIBLE_KAFKA_CONSUMER_RETRIES, KafkaConcurrentConsumerRunner.DEFAULT_MAX_RETRIES + ""));
+				long retryBackoff = consumerOptions.get("retryBackoff") != null ? ((Number) consumerOptions.get("retryBackoff")).longValue()
+						: Long.parseLong(Configuration.get(DIRIGIBLE_KAFKA_CONSUMER_RETRY_BACKOFF, KafkaConcurrentConsumerRunner.DEFAULT_RETRY_BACKOFF + ""));
+				consumerRunner = new KafkaConcurrentConsumerRunner(consumer, destination, handler, timeout, threads, batch, retries, retryBackoff);
+			} else {
+				consumerRunner = new KafkaConsumerRunner(consumer, destination, handler, timeout);
+			}
 			Thread consumerThread = new Thread(consumerRunner);
 			consumerThread.setDaemon(false);
 			consumerThread.start();
@@ -259,6 +296,32 @@ public class KafkaFacade implements IScriptingFacade {
 		}
 	}
 
+	/**
+	 * Gets the processed and failed records, the lag and the throughput of a consumer.
+	 *
+	 * @param destination the destination
+	 * @param configuration the configuration
+	 * @return the metrics as JSON
+	 */
+	public static final String getConsumerMetrics(String destination, String configuration) {
+		if (configuration == null) {
+			configuration = "{}";
+		}
+		
+		Map map = GsonHelper.fromJson(configuration, Map.class);
+		
+		String bootstrapServer = Configuration.get(DIRIGIBLE_KAFKA_BOOTSTRAP_SERVER, DEFAULT_BOOTSTRAP_SERVER);
+		String server = map.get("bootstrap.servers") != null ? map.get("bootstrap.servers").toString() : bootstrapServer;
+		String location = createLocation(destination, server);
+		KafkaConsumerRunner consumerRunner = CONSUMERS.get(location);
+		
+		if (consumerRunner == null) {
+			if (logger.isWarnEnabled()) {logger.warn("Kafka Consumer [" + location + "] has not been started yet.");}
+			return null;
+		}
+		return GsonHelper.toJson(consumerRunner.getMetrics());
+	}
+
 	/**
 	 * Create internal identifier for a consumer.
 	 *
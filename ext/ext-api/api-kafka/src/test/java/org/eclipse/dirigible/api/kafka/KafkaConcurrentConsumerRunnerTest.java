@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.CommitFailedException;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * The Class KafkaConcurrentConsumerRunnerTest.
+ */
+public class KafkaConcurrentConsumerRunnerTest {
+
+	/** The Constant TOPIC. */
+	private static final String TOPIC = "test-topic";
+
+	/** The Constant P0. */
+	private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+
+	/** The Constant P1. */
+	private static final TopicPartition P1 = new TopicPartition(TOPIC, 1);
+
+	/** The consumer. */
+	private final TestConsumer consumer = new TestConsumer();
+
+	/**
+	 * The records of a partition are passed to the handler in the order of their offsets.
+	 */
+	@Test
+	public void orderTest() {
+		TestRunner runner = new TestRunner(consumer, 2);
+		consume(runner, () -> {
+			for (int offset = 0; offset < 5; offset++) {
+				addRecord(P0, offset, "value");
+				addRecord(P1, offset, "value");
+			}
+		});
+		assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), runner.handled.get(0));
+		assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), runner.handled.get(1));
+		assertEquals(5, consumer.commits.get(consumer.commits.size() - 1).get(P0).offset());
+		assertEquals(5, consumer.commits.get(consumer.commits.size() - 1).get(P1).offset());
+	}
+
+	/**
+	 * Only the offsets of the successfully processed records are committed.
+	 */
+	@Test
+	public void commitTest() {
+		TestRunner runner = new TestRunner(consumer, 1);
+		runner.failures.put(2L, Integer.MAX_VALUE);
+		List<Long> positions = new ArrayList<>();
+		consume(runner, () -> {
+			for (int offset = 0; offset < 4; offset++) {
+				addRecord(P0, offset, "value");
+			}
+		}, () -> positions.add(consumer.position(P0)));
+		assertEquals(1, consumer.commits.size());
+		assertEquals(2, consumer.commits.get(0).get(P0).offset());
+		assertEquals(Arrays.asList(0L, 1L), consumer.handledOnCommit.get(0));
+		assertEquals(Collections.singletonList(2L), positions);
+	}
+
+	/**
+	 * The records from the failed one on are consumed again with the next poll.
+	 */
+	@Test
+	public void redeliveryTest() {
+		TestRunner runner = new TestRunner(consumer, 1);
+		runner.failures.put(2L, 1);
+		consume(runner, () -> {
+			for (int offset = 0; offset < 4; offset++) {
+				addRecord(P0, offset, "value");
+			}
+		}, () -> {
+			// the broker returns the records from the position of the consumer
+			addRecord(P0, 2, "value");
+			addRecord(P0, 3, "value");
+		});
+		assertEquals(Arrays.asList(0L, 1L, 2L, 3L), runner.handled.get(0));
+		assertEquals(2, consumer.commits.size());
+		assertEquals(2, consumer.commits.get(0).get(P0).offset());
+		assertEquals(4, consumer.commits.get(1).get(P0).offset());
+	}
+
+	/**
+	 * The offsets, which could not be committed, are committed on revocation of the partition.
+	 */
+	@Test
+	public void revokeTest() {
+		TestRunner runner = new TestRunner(consumer, 1);
+		consumer.failedCommits = 1;
+		consume(runner, () -> {
+			addRecord(P0, 0, "value");
+			addRecord(P0, 1, "value");
+		}, () -> consumer.listener.onPartitionsRevoked(Collections.singleton(P0)));
+		assertEquals(1, consumer.commits.size());
+		assertEquals(2, consumer.commits.get(0).get(P0).offset());
+	}
+
+	/**
+	 * The offsets of lost partitions are not committed.
+	 */
+	@Test
+	public void lostTest() {
+		TestRunner runner = new TestRunner(consumer, 1);
+		consumer.failedCommits = 1;
+		consume(runner, () -> {
+			addRecord(P0, 0, "value");
+			addRecord(P0, 1, "value");
+		}, () -> {
+			consumer.listener.onPartitionsLost(Collections.singleton(P0));
+			consumer.listener.onPartitionsRevoked(Collections.singleton(P0));
+		});
+		assertTrue(consumer.commits.isEmpty());
+	}
+
+	/**
+	 * A record, which keeps failing, is skipped once its retries are exhausted.
+	 */
+	@Test
+	public void retryLimitTest() {
+		TestRunner runner = new TestRunner(consumer, 1, 2, 0);
+		runner.failures.put(1L, Integer.MAX_VALUE);
+		consume(runner, () -> {
+			for (int offset = 0; offset < 3; offset++) {
+				addRecord(P0, offset, "value");
+			}
+		}, () -> {
+			addRecord(P0, 1, "value");
+			addRecord(P0, 2, "value");
+		}, () -> {
+			addRecord(P0, 1, "value");
+			addRecord(P0, 2, "value");
+		}, () -> addRecord(P0, 2, "value"));
+		assertEquals(Arrays.asList(0L, 2L), runner.handled.get(0));
+		// the first attempt and two retries
+		assertEquals(Integer.MAX_VALUE - 3, (int) runner.failures.get(1L));
+		assertEquals(3, consumer.commits.get(consumer.commits.size() - 1).get(P0).offset());
+		assertEquals(1L, runner.getMetrics().get("skipped"));
+	}
+
+	/**
+	 * The partition of a failed record is paused for the backoff.
+	 */
+	@Test
+	public void backoffTest() {
+		TestRunner runner = new TestRunner(consumer, 1, 3, 200);
+		runner.failures.put(0L, 1);
+		List<Boolean> paused = new ArrayList<>();
+		consume(runner, () -> addRecord(P0, 0, "value"), () -> {
+			paused.add(consumer.paused().contains(P0));
+			addRecord(P0, 0, "value");
+		}, () -> {
+			paused.add(consumer.paused().contains(P0));
+			sleep(300);
+		}, () -> paused.add(consumer.paused().contains(P0)));
+		assertEquals(Arrays.asList(true, true, false), paused);
+		assertEquals(Collections.singletonList(0L), runner.handled.get(0));
+		assertEquals(1, consumer.commits.get(consumer.commits.size() - 1).get(P0).offset());
+	}
+
+	/**
+	 * Sleeps.
+	 *
+	 * @param millis the milliseconds
+	 */
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Runs the consumer with the partitions assigned, executing the tasks on the subsequent polls and stopping afterwards.
+	 *
+	 * @param runner the runner
+	 * @param tasks the tasks
+	 */
+	private void consume(TestRunner runner, Runnable... tasks) {
+		consumer.schedulePollTask(() -> {
+			consumer.rebalance(Arrays.asList(P0, P1));
+			Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+			beginningOffsets.put(P0, 0L);
+			beginningOffsets.put(P1, 0L);
+			consumer.updateBeginningOffsets(beginningOffsets);
+			tasks[0].run();
+		});
+		for (int i = 1; i < tasks.length; i++) {
+			consumer.schedulePollTask(tasks[i]);
+		}
+		consumer.schedulePollTask(runner::stop);
+		runner.run();
+	}
+
+	/**
+	 * Adds the record.
+	 *
+	 * @param partition the partition
+	 * @param offset the offset
+	 * @param value the value
+	 */
+	private void addRecord(TopicPartition partition, long offset, String value) {
+		consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, "key", value));
+	}
+
+	/**
+	 * The Class TestConsumer.
+	 */
+	private class TestConsumer extends MockConsumer<String, String> {
+
+		/** The listener. */
+		private ConsumerRebalanceListener listener;
+
+		/** The committed offsets. */
+		private final List<Map<TopicPartition, OffsetAndMetadata>> commits = new ArrayList<>();
+
+		/** The handled offsets of partition 0 at the time of the commits. */
+		private final List<List<Long>> handledOnCommit = new ArrayList<>();
+
+		/** The number of the commits to fail. */
+		private int failedCommits;
+
+		/** The runner. */
+		private TestRunner runner;
+
+		/**
+		 * Instantiates a new test consumer.
+		 */
+		TestConsumer() {
+			super(OffsetResetStrategy.EARLIEST);
+		}
+
+		/**
+		 * Subscribe.
+		 *
+		 * @param topics the topics
+		 * @param listener the listener
+		 */
+		@Override
+		public synchronized void subscribe(Collection<String> topics, ConsumerRebalanceListener listener) {
+			super.subscribe(topics, listener);
+			this.listener = listener;
+		}
+
+		/**
+		 * Commit sync.
+		 *
+		 * @param offsets the offsets
+		 */
+		@Override
+		public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+			if (failedCommits > 0) {
+				failedCommits--;
+				throw new CommitFailedException();
+			}
+			super.commitSync(offsets);
+			commits.add(new HashMap<>(offsets));
+			handledOnCommit.add(new ArrayList<>(runner.handled.getOrDefault(0, Collections.emptyList())));
+		}
+	}
+
+	/**
+	 * The Class TestRunner, which records the handled offsets per partition instead of executing the handler.
+	 */
+	private static class TestRunner extends KafkaConcurrentConsumerRunner {
+
+		/** The handled offsets per partition. */
+		private final Map<Integer, List<Long>> handled = new ConcurrentHashMap<>();
+
+		/** The number of the failures per offset. */
+		private final Map<Long, Integer> failures = new ConcurrentHashMap<>();
+
+		/**
+		 * Instantiates a new test runner.
+		 *
+		 * @param consumer the consumer
+		 * @param threads the threads
+		 */
+		TestRunner(TestConsumer consumer, int threads) {
+			this(consumer, threads, DEFAULT_MAX_RETRIES, 0);
+		}
+
+		/**
+		 * Instantiates a new test runner.
+		 *
+		 * @param consumer the consumer
+		 * @param threads the threads
+		 * @param maxRetries the max retries
+		 * @param retryBackoff the retry backoff
+		 */
+		TestRunner(TestConsumer consumer, int threads, int maxRetries, long retryBackoff) {
+			super(consumer, TOPIC, "test/handler.js", 10, threads, false, maxRetries, retryBackoff);
+			consumer.runner = this;
+		}
+
+		/**
+		 * Execute.
+		 *
+		 * @param wrapper the wrapper
+		 * @param context the context
+		 */
+		@Override
+		protected void execute(String wrapper, Map<Object, Object> context) {
+			JsonObject record = GsonHelper.parseJson((String) context.get("message")).getAsJsonObject();
+			int partition = record.get("partition").getAsInt();
+			long offset = record.get("offset").getAsLong();
+			if (failures.computeIfPresent(offset, (k, v) -> v - 1) != null && failures.get(offset) >= 0) {
+				throw new IllegalStateException("Failed record at offset " + offset);
+			}
+			handled.computeIfAbsent(partition, k -> Collections.synchronizedList(new ArrayList<>())).add(offset);
+		}
+	}
+
+}
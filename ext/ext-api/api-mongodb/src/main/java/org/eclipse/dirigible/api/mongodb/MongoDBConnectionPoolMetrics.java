@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.mongodb;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.event.ConnectionAddedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListenerAdapter;
+import com.mongodb.event.ConnectionRemovedEvent;
+
+/**
+ * Counts the connection pool events of the shared MongoDB client.
+ */
+public class MongoDBConnectionPoolMetrics extends ConnectionPoolListenerAdapter {
+	
+	/** The checked out connections. */
+	private final LongAdder checkedOut = new LongAdder();
+	
+	/** The checked in connections. */
+	private final LongAdder checkedIn = new LongAdder();
+	
+	/** The added connections. */
+	private final LongAdder added = new LongAdder();
+	
+	/** The removed connections. */
+	private final LongAdder removed = new LongAdder();
+	
+	/**
+	 * Connection checked out.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+		checkedOut.increment();
+	}
+	
+	/**
+	 * Connection checked in.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+		checkedIn.increment();
+	}
+	
+	/**
+	 * Connection added.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void connectionAdded(ConnectionAddedEvent event) {
+		added.increment();
+	}
+	
+	/**
+	 * Connection removed.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void connectionRemoved(ConnectionRemovedEvent event) {
+		removed.increment();
+	}
+	
+	/**
+	 * Gets the statistics.
+	 *
+	 * @return the statistics
+	 */
+	public Map<String, Object> getStats() {
+		long out = checkedOut.sum();
+		long in = checkedIn.sum();
+		long opened = added.sum();
+		long closed = removed.sum();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("active", out - in);
+		stats.put("open", opened - closed);
+		stats.put("checkedOut", out);
+		stats.put("checkedIn", in);
+		stats.put("created", opened);
+		stats.put("destroyed", closed);
+		return stats;
+	}
+	
+}
@@ -11,14 +11,21 @@
  */
 package org.eclipse.dirigible.api.mongodb;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
+import com.mongodb.InsertOptions;
 import com.mongodb.MongoClient;
+import com.mongodb.MongoClientOptions;
 import com.mongodb.MongoClientURI;
 
 /**
@@ -38,22 +45,127 @@ public class MongoDBFacade implements IScriptingFacade {
 	/** The Constant DIRIGIBLE_MONGODB_DATABASE_DEFAULT_DB. */
 	private static final String DIRIGIBLE_MONGODB_DATABASE_DEFAULT_DB = "db";
 	
+	/** The Constant DIRIGIBLE_MONGODB_POOL_MAX_SIZE. */
+	private static final String DIRIGIBLE_MONGODB_POOL_MAX_SIZE = "DIRIGIBLE_MONGODB_POOL_MAX_SIZE";
+	
+	/** The Constant DIRIGIBLE_MONGODB_POOL_MIN_SIZE. */
+	private static final String DIRIGIBLE_MONGODB_POOL_MIN_SIZE = "DIRIGIBLE_MONGODB_POOL_MIN_SIZE";
+	
+	/** The Constant DIRIGIBLE_MONGODB_POOL_MAX_WAIT. */
+	private static final String DIRIGIBLE_MONGODB_POOL_MAX_WAIT = "DIRIGIBLE_MONGODB_POOL_MAX_WAIT";
+	
+	/** The Constant DIRIGIBLE_MONGODB_POOL_MAX_IDLE_TIME. */
+	private static final String DIRIGIBLE_MONGODB_POOL_MAX_IDLE_TIME = "DIRIGIBLE_MONGODB_POOL_MAX_IDLE_TIME";
+	
+	/** The Constant DEFAULT_POOL_MAX_SIZE. */
+	private static final int DEFAULT_POOL_MAX_SIZE = 100;
+	
+	/** The Constant DEFAULT_POOL_MIN_SIZE. */
+	private static final int DEFAULT_POOL_MIN_SIZE = 0;
+	
+	/** The Constant DEFAULT_POOL_MAX_WAIT in milliseconds. */
+	private static final int DEFAULT_POOL_MAX_WAIT = 5000;
+	
+	/** The Constant DEFAULT_POOL_MAX_IDLE_TIME in milliseconds. */
+	private static final int DEFAULT_POOL_MAX_IDLE_TIME = 60000;
+	
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(MongoDBFacade.class);
 	
+	/** The shared client. */
+	private static MongoClient client;
+	
+	/** The URI of the shared client. */
+	private static String clientUri;
+	
+	/** The connection pool metrics of the shared client. */
+	private static MongoDBConnectionPoolMetrics metrics;
 	
 	/**
-	 * Gets the client.
+	 * Gets the client. The client is shared and keeps a pool of connections,
+	 * so it must not be closed by the callers.
 	 *
 	 * @return the client
 	 */
-	public static MongoClient getClient() {
-		
-		String clientUri = Configuration.get(DIRIGIBLE_MONGODB_CLIENT_URI, CLIENT_URI);
-		
-		MongoClient mongoClient = new MongoClient(new MongoClientURI(clientUri));
-		
-		return mongoClient;
+	public static synchronized MongoClient getClient() {
+		String uri = Configuration.get(DIRIGIBLE_MONGODB_CLIENT_URI, CLIENT_URI);
+		if (client == null || !uri.equals(clientUri)) {
+			shutdown();
+			
+			MongoDBConnectionPoolMetrics poolMetrics = new MongoDBConnectionPoolMetrics();
+			// the options given in the URI itself take precedence over the configured ones
+			MongoClientOptions.Builder options = MongoClientOptions.builder()
+					.connectionsPerHost(Integer.parseInt(Configuration.get(DIRIGIBLE_MONGODB_POOL_MAX_SIZE, DEFAULT_POOL_MAX_SIZE + "")))
+					.minConnectionsPerHost(Integer.parseInt(Configuration.get(DIRIGIBLE_MONGODB_POOL_MIN_SIZE, DEFAULT_POOL_MIN_SIZE + "")))
+					.maxWaitTime(Integer.parseInt(Configuration.get(DIRIGIBLE_MONGODB_POOL_MAX_WAIT, DEFAULT_POOL_MAX_WAIT + "")))
+					.maxConnectionIdleTime(Integer.parseInt(Configuration.get(DIRIGIBLE_MONGODB_POOL_MAX_IDLE_TIME, DEFAULT_POOL_MAX_IDLE_TIME + "")))
+					.addConnectionPoolListener(poolMetrics);
+			
+			client = new MongoClient(new MongoClientURI(uri, options));
+			clientUri = uri;
+			metrics = poolMetrics;
+			if (logger.isDebugEnabled()) {logger.debug("MongoDB client created for [{}]", uri);}
+		}
+		return client;
+	}
+	
+	/**
+	 * Gets the statistics of the connection pool.
+	 *
+	 * @return the statistics as JSON
+	 */
+	public static String getPoolStats() {
+		getClient();
+		return GsonHelper.toJson(metrics.getStats());
+	}
+	
+	/**
+	 * Closes the shared client together with its pooled connections.
+	 */
+	public static synchronized void shutdown() {
+		if (client != null) {
+			client.close();
+			client = null;
+			clientUri = null;
+			metrics = null;
+		}
+	}
+	
+	/**
+	 * Inserts the documents with a single batched command instead of one round trip per document.
+	 *
+	 * @param collection the collection
+	 * @param documents the documents as JSON array
+	 * @param ordered whether to stop at the first failed document
+	 * @return the number of the inserted documents
+	 */
+	public static int insertMany(DBCollection collection, String documents, boolean ordered) {
+		List<DBObject> dbObjects = parseDocuments(documents);
+		if (!dbObjects.isEmpty()) {
+			collection.insert(dbObjects, new InsertOptions().continueOnError(!ordered));
+		}
+		return dbObjects.size();
+	}
+	
+	/**
+	 * Parses the documents.
+	 *
+	 * @param documents the documents as JSON array
+	 * @return the DB objects
+	 */
+	private static List<DBObject> parseDocuments(String documents) {
+		Object parsed = BasicDBObject.parse("{\"documents\":" + documents + "}").get("documents");
+		if (!(parsed instanceof List)) {
+			throw new IllegalArgumentException("The documents must be a JSON array");
+		}
+		List<DBObject> dbObjects = new ArrayList<>();
+		for (Object document : (List<?>) parsed) {
+			if (!(document instanceof DBObject)) {
+				throw new IllegalArgumentException("The documents must be JSON objects");
+			}
+			dbObjects.add((DBObject) document);
+		}
+		return dbObjects;
 	}
 	
 	/**
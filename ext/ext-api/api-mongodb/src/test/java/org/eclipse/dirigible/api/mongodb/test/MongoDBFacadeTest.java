@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.mongodb.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.eclipse.dirigible.api.mongodb.MongoDBFacade;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.InsertOptions;
+
+/**
+ * The Class MongoDBFacadeTest.
+ */
+public class MongoDBFacadeTest {
+
+	/**
+	 * The documents are inserted with a single batched command.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void insertManyTest() {
+		DBCollection collection = mock(DBCollection.class);
+		int inserted = MongoDBFacade.insertMany(collection, "[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]", true);
+		assertEquals(3, inserted);
+
+		ArgumentCaptor<List<DBObject>> documents = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<InsertOptions> options = ArgumentCaptor.forClass(InsertOptions.class);
+		verify(collection, times(1)).insert(documents.capture(), options.capture());
+		assertEquals(3, documents.getValue().size());
+		assertEquals("a", documents.getValue().get(0).get("name"));
+		assertEquals("c", documents.getValue().get(2).get("name"));
+		assertFalse(options.getValue().isContinueOnError());
+	}
+
+	/**
+	 * An unordered insert continues after a failed document.
+	 */
+	@Test
+	public void insertManyUnorderedTest() {
+		DBCollection collection = mock(DBCollection.class);
+		MongoDBFacade.insertMany(collection, "[{\"name\":\"a\"},{\"name\":\"b\"}]", false);
+
+		ArgumentCaptor<InsertOptions> options = ArgumentCaptor.forClass(InsertOptions.class);
+		verify(collection, times(1)).insert(anyList(), options.capture());
+		assertTrue(options.getValue().isContinueOnError());
+	}
+
+	/**
+	 * An empty array does not reach the database.
+	 */
+	@Test
+	public void insertManyEmptyTest() {
+		DBCollection collection = mock(DBCollection.class);
+		assertEquals(0, MongoDBFacade.insertMany(collection, "[]", true));
+		verify(collection, never()).insert(anyList(), any(InsertOptions.class));
+	}
+
+	/**
+	 * Documents, which are not JSON objects, are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void insertManyInvalidTest() {
+		MongoDBFacade.insertMany(mock(DBCollection.class), "[{\"name\":\"a\"}, 42]", true);
+	}
+
+}
@@ -11,36 +11,142 @@
  */
 package org.eclipse.dirigible.api.redis;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 
 import org.eclipse.dirigible.commons.config.Configuration;
-import redis.clients.jedis.Jedis;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.ConnectionPoolConfig;
+import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.util.Pool;
 
 /**
  * The Class RedisFacade.
  */
 public class RedisFacade implements IScriptingFacade {
 	
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(RedisFacade.class);
+	
 	/** The Constant DIRIGIBLE_REDIS_CLIENT_URI. */
 	private static final String DIRIGIBLE_REDIS_CLIENT_URI = "DIRIGIBLE_REDIS_CLIENT_URI";
 	
+	/** The Constant DIRIGIBLE_REDIS_POOL_MAX_TOTAL. */
+	private static final String DIRIGIBLE_REDIS_POOL_MAX_TOTAL = "DIRIGIBLE_REDIS_POOL_MAX_TOTAL";
+	
+	/** The Constant DIRIGIBLE_REDIS_POOL_MAX_IDLE. */
+	private static final String DIRIGIBLE_REDIS_POOL_MAX_IDLE = "DIRIGIBLE_REDIS_POOL_MAX_IDLE";
+	
+	/** The Constant DIRIGIBLE_REDIS_POOL_MIN_IDLE. */
+	private static final String DIRIGIBLE_REDIS_POOL_MIN_IDLE = "DIRIGIBLE_REDIS_POOL_MIN_IDLE";
+	
+	/** The Constant DIRIGIBLE_REDIS_POOL_MAX_WAIT. */
+	private static final String DIRIGIBLE_REDIS_POOL_MAX_WAIT = "DIRIGIBLE_REDIS_POOL_MAX_WAIT";
+	
 	/** The Constant CLIENT_URI. */
 	private static final String CLIENT_URI = "localhost:6379";
 	
+	/** The Constant DEFAULT_POOL_MAX_TOTAL. */
+	private static final int DEFAULT_POOL_MAX_TOTAL = 64;
+	
+	/** The Constant DEFAULT_POOL_MAX_IDLE. */
+	private static final int DEFAULT_POOL_MAX_IDLE = 16;
+	
+	/** The Constant DEFAULT_POOL_MIN_IDLE. */
+	private static final int DEFAULT_POOL_MIN_IDLE = 0;
+	
+	/** The Constant DEFAULT_POOL_MAX_WAIT in milliseconds. */
+	private static final long DEFAULT_POOL_MAX_WAIT = 5000;
+	
+	/** The shared client. */
+	private static JedisPooled client;
+	
+	/** The URI of the shared client. */
+	private static String clientUri;
+	
 	/**
-	 * Gets the client.
+	 * Gets the client. The client is shared and borrows a pooled connection for each command,
+	 * so it must not be closed by the callers.
 	 *
 	 * @return the client
 	 */
-	public static Jedis getClient() {
-		
-		String[] splitUri = Configuration.get(DIRIGIBLE_REDIS_CLIENT_URI, CLIENT_URI).split(":");
-
-		String host = splitUri[0];
-		int port = Integer.parseInt(splitUri[1]);
-		
-		Jedis redisClient = new Jedis(host, port);
-		
-		return redisClient;
+	public static synchronized JedisPooled getClient() {
+		String uri = Configuration.get(DIRIGIBLE_REDIS_CLIENT_URI, CLIENT_URI);
+		if (client == null || !uri.equals(clientUri)) {
+			shutdown();
+			
+			String[] splitUri = uri.split(":");
+			String host = splitUri[0];
+			int port = Integer.parseInt(splitUri[1]);
+			
+			client = new JedisPooled(createPoolConfig(), host, port);
+			clientUri = uri;
+			if (logger.isDebugEnabled()) {logger.debug("Redis connection pool created for [{}]", uri);}
+		}
+		return client;
+	}
+	
+	/**
+	 * Creates a pipeline, which sends all its commands in a single round trip on execution.
+	 * The pipeline holds a pooled connection until it is closed.
+	 *
+	 * @return the pipeline
+	 */
+	public static RedisPipeline pipeline() {
+		return new RedisPipeline(getClient().getPool().getResource());
+	}
+	
+	/**
+	 * Gets the statistics of the connection pool.
+	 *
+	 * @return the statistics as JSON
+	 */
+	public static String getPoolStats() {
+		Pool<?> pool = getClient().getPool();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("active", pool.getNumActive());
+		stats.put("idle", pool.getNumIdle());
+		stats.put("waiters", pool.getNumWaiters());
+		stats.put("maxTotal", pool.getMaxTotal());
+		stats.put("borrowed", pool.getBorrowedCount());
+		stats.put("returned", pool.getReturnedCount());
+		stats.put("created", pool.getCreatedCount());
+		stats.put("destroyed", pool.getDestroyedCount());
+		stats.put("meanBorrowWaitTimeMillis", pool.getMeanBorrowWaitTimeMillis());
+		stats.put("maxBorrowWaitTimeMillis", pool.getMaxBorrowWaitTimeMillis());
+		return GsonHelper.toJson(stats);
+	}
+	
+	/**
+	 * Closes the shared client together with its pooled connections.
+	 */
+	public static synchronized void shutdown() {
+		if (client != null) {
+			client.close();
+			client = null;
+			clientUri = null;
+		}
+	}
+	
+	/**
+	 * Creates the pool configuration.
+	 *
+	 * @return the connection pool config
+	 */
+	private static ConnectionPoolConfig createPoolConfig() {
+		ConnectionPoolConfig poolConfig = new ConnectionPoolConfig();
+		poolConfig.setMaxTotal(Integer.parseInt(Configuration.get(DIRIGIBLE_REDIS_POOL_MAX_TOTAL, DEFAULT_POOL_MAX_TOTAL + "")));
+		poolConfig.setMaxIdle(Integer.parseInt(Configuration.get(DIRIGIBLE_REDIS_POOL_MAX_IDLE, DEFAULT_POOL_MAX_IDLE + "")));
+		poolConfig.setMinIdle(Integer.parseInt(Configuration.get(DIRIGIBLE_REDIS_POOL_MIN_IDLE, DEFAULT_POOL_MIN_IDLE + "")));
+		poolConfig.setMaxWait(Duration.ofMillis(Long.parseLong(Configuration.get(DIRIGIBLE_REDIS_POOL_MAX_WAIT, DEFAULT_POOL_MAX_WAIT + ""))));
+		poolConfig.setBlockWhenExhausted(true);
+		poolConfig.setTestWhileIdle(true);
+		return poolConfig;
 	}
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.redis;
+
+import java.util.List;
+
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Pipeline;
+
+/**
+ * A pipeline on a pooled connection, which gives the connection back to the pool when closed.
+ */
+public class RedisPipeline extends Pipeline {
+	
+	/** The connection. */
+	private final Connection connection;
+	
+	/**
+	 * Instantiates a new redis pipeline.
+	 *
+	 * @param connection the pooled connection
+	 */
+	public RedisPipeline(Connection connection) {
+		super(connection);
+		this.connection = connection;
+	}
+	
+	/**
+	 * Sends the queued commands, closes the pipeline and returns the replies in the order of the commands.
+	 *
+	 * @return the replies
+	 */
+	public List<Object> execute() {
+		try {
+			return syncAndReturnAll();
+		} finally {
+			close();
+		}
+	}
+	
+	/**
+	 * Flushes the queued commands and gives the connection back to the pool.
+	 */
+	@Override
+	public void close() {
+		try {
+			super.close();
+		} finally {
+			connection.close();
+		}
+	}
+}
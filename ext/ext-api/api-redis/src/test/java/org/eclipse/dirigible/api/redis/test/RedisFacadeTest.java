@@ -12,12 +12,15 @@
 package org.eclipse.dirigible.api.redis.test;
 
 import org.eclipse.dirigible.api.redis.RedisFacade;
+import org.eclipse.dirigible.api.redis.RedisPipeline;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.junit.Before;
 import org.junit.Test;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.DockerImageName;
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPooled;
+
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 
@@ -37,8 +40,21 @@ public class RedisFacadeTest {
 
     @Test
     public void getClient(){
-        Jedis client = RedisFacade.getClient();
+        JedisPooled client = RedisFacade.getClient();
         client.set("key", "value");
         assertEquals("value", client.get("key"));
     }
+
+    @Test
+    public void pipeline(){
+        RedisPipeline pipeline = RedisFacade.pipeline();
+        assertEquals(1, RedisFacade.getClient().getPool().getNumActive());
+        pipeline.set("key", "value");
+        pipeline.get("key");
+        assertEquals(Arrays.asList("OK", "value"), pipeline.execute());
+        assertEquals(0, RedisFacade.getClient().getPool().getNumActive());
+
+        RedisFacade.pipeline().close();
+        assertEquals(0, RedisFacade.getClient().getPool().getNumActive());
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.redis.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.dirigible.api.redis.RedisPipeline;
+import org.junit.Test;
+
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+/**
+ * The Class RedisPipelineTest.
+ */
+public class RedisPipelineTest {
+
+	/**
+	 * The queued commands are sent on execute and the connection is given back to the pool.
+	 */
+	@Test
+	public void executeTest() {
+		Connection connection = mock(Connection.class);
+		when(connection.getMany(2)).thenReturn(Arrays.asList("OK".getBytes(), "value".getBytes()));
+		RedisPipeline pipeline = new RedisPipeline(connection);
+		pipeline.set("key", "value");
+		pipeline.get("key");
+		List<Object> replies = pipeline.execute();
+		assertEquals(Arrays.asList("OK", "value"), replies);
+		verify(connection).getMany(2);
+		verify(connection, times(1)).close();
+	}
+
+	/**
+	 * The connection is given back to the pool, when the pipeline is closed without being executed.
+	 */
+	@Test
+	public void closeTest() {
+		Connection connection = mock(Connection.class);
+		RedisPipeline pipeline = new RedisPipeline(connection);
+		pipeline.close();
+		verify(connection, times(1)).close();
+	}
+
+	/**
+	 * The connection is given back to the pool, even if sending the commands fails.
+	 */
+	@Test
+	public void executeFailureTest() {
+		Connection connection = mock(Connection.class);
+		doThrow(new JedisConnectionException("Connection reset")).when(connection).getMany(anyInt());
+		RedisPipeline pipeline = new RedisPipeline(connection);
+		pipeline.set("key", "value");
+		try {
+			pipeline.execute();
+			fail("The failure of the pipeline is expected");
+		} catch (JedisConnectionException e) {
+			// expected
+		}
+		verify(connection, times(1)).close();
+	}
+
+}
@@ -19,11 +19,16 @@ exports.topic = function(destination, configuration) {
 };
 
 function Topic() {
-	this.startListening = function(handler, timeout) {
-        org.eclipse.dirigible.api.kafka.KafkaFacade.startListening(this.destination, handler, timeout, this.configuration);
+	this.startListening = function(handler, timeout, options) {
+        org.eclipse.dirigible.api.kafka.KafkaFacade.startListening(this.destination, handler, timeout, this.configuration, options ? JSON.stringify(options) : null);
 	};
 
     this.stopListening = function(handler, timeout) {
         org.eclipse.dirigible.api.kafka.KafkaFacade.stopListening(this.destination, this.configuration);
 	};
+
+    this.getMetrics = function() {
+        var metrics = org.eclipse.dirigible.api.kafka.KafkaFacade.getConsumerMetrics(this.destination, this.configuration);
+        return metrics ? JSON.parse(metrics) : null;
+    };
 };
\ No newline at end of file
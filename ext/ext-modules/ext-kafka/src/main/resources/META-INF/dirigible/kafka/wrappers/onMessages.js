@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+const handler = require(__context.get("handler"));
+const messages = __context.get("messages");
+if (handler.onMessages) {
+	handler.onMessages(messages);
+} else {
+	JSON.parse(messages).forEach(function(message) {
+		handler.onMessage(JSON.stringify(message));
+	});
+}
@@ -19,6 +19,10 @@ exports.getClient = function() {
 	return client;
 };
 
+exports.getPoolStats = function() {
+	return JSON.parse(org.eclipse.dirigible.api.mongodb.MongoDBFacade.getPoolStats());
+};
+
 exports.createBasicDBObject = function() {
 	var dbObject = new DBObject();
 	var native = org.eclipse.dirigible.api.mongodb.MongoDBFacade.createBasicDBObject();
@@ -72,6 +76,16 @@ function DBCollection() {
 		this.native.insert(dbObject.native);
 	};
 
+	this.insertMany = function(documents, ordered) {
+		if (!Array.isArray(documents)) {
+			throw new Error("The documents must be an array");
+		}
+		var json = JSON.stringify(documents.map(function(document) {
+			return document && document.native ? JSON.parse(document.native.toJson()) : document;
+		}));
+		return org.eclipse.dirigible.api.mongodb.MongoDBFacade.insertMany(this.native, json, ordered !== false);
+	};
+
 	this.find = function(query, projection) {
 		query = implicit(query);
 		projection = implicit(projection);
@@ -16,6 +16,17 @@ exports.getClient = function () {
   return client;
 };
 
+exports.pipeline = function () {
+  var pipeline = new Pipeline();
+  var native = org.eclipse.dirigible.api.redis.RedisFacade.pipeline();
+  pipeline.native = native;
+  return pipeline;
+};
+
+exports.getPoolStats = function () {
+  return JSON.parse(org.eclipse.dirigible.api.redis.RedisFacade.getPoolStats());
+};
+
 function Client() {
   // Strings
 
@@ -85,3 +96,77 @@ function Client() {
     return this.native.rpush(key, value);
   };
 }
+
+/**
+ * Pipeline object, which queues the commands and sends them in a single round trip on execute
+ */
+function Pipeline() {
+
+  this.append = function (key, value) {
+    this.native.append(key, value);
+    return this;
+  };
+
+  this.decr = function (key) {
+    this.native.decr(key);
+    return this;
+  };
+
+  this.del = function (key) {
+    this.native.del(key);
+    return this;
+  };
+
+  this.exists = function (key) {
+    this.native.exists(key);
+    return this;
+  };
+
+  this.get = function (key) {
+    this.native.get(key);
+    return this;
+  };
+
+  this.incr = function (key) {
+    this.native.incr(key);
+    return this;
+  };
+
+  this.set = function (key, value) {
+    this.native.set(key, value);
+    return this;
+  };
+
+  this.lpop = function (key) {
+    this.native.lpop(key);
+    return this;
+  };
+
+  this.lpush = function (key, value) {
+    this.native.lpush(key, value);
+    return this;
+  };
+
+  this.rpop = function (key) {
+    this.native.rpop(key);
+    return this;
+  };
+
+  this.rpush = function (key, value) {
+    this.native.rpush(key, value);
+    return this;
+  };
+
+  this.execute = function () {
+    var results = [];
+    var replies = this.native.execute();
+    for (var i = 0; i < replies.size(); i++) {
+      results.push(replies.get(i));
+    }
+    return results;
+  };
+
+  this.close = function () {
+    this.native.close();
+  };
+}
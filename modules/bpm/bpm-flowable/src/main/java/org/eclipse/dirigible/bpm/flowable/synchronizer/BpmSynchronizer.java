@@ -232,6 +232,16 @@ public class BpmSynchronizer extends AbstractSynchronizer {
 		if (logger.isTraceEnabled()) {logger.trace("Done synchronizing BPMN files from Registry.");}
 	}
 
+	/**
+	 * Gets the file extensions.
+	 *
+	 * @return the file extensions
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IBpmCoreService.FILE_EXTENSION_BPMN };
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
@@ -19,8 +19,8 @@ import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
  */
 public class BpmSynchronizerJob extends AbstractSynchronizerJob {
 
-	/** The bpm synchronizer. */
-	private BpmSynchronizer bpmSynchronizer = new BpmSynchronizer();
+	/** The bpm synchronizer, shared by the runs of the job. */
+	private static final BpmSynchronizer bpmSynchronizer = new BpmSynchronizer();
 
 	/**
 	 * Gets the synchronizer.
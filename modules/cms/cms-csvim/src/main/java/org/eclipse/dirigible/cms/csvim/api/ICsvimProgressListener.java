@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.cms.csvim.api;
+
+import org.eclipse.dirigible.cms.csvim.definition.CsvFileDefinition;
+
+/**
+ * The listener notified about the progress of a CSV import.
+ */
+public interface ICsvimProgressListener {
+
+	/**
+	 * Called periodically while the records of the CSV file are imported.
+	 *
+	 * @param csvFileDefinition the csv file definition
+	 * @param processedRecords the number of the records written so far
+	 * @param elapsedTime the elapsed time in milliseconds
+	 */
+	public void onProgress(CsvFileDefinition csvFileDefinition, long processedRecords, long elapsedTime);
+
+}
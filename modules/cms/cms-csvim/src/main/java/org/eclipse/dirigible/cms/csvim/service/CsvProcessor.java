@@ -14,9 +14,13 @@ package org.eclipse.dirigible.cms.csvim.service;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -91,25 +95,40 @@ public class CsvProcessor {
 		String schemaName = csvRecordDefinitions.get(0).getTableMetadataModel().getSchemaName();
 		try (Connection connection = getDataSource().getConnection()) {
 			List<TableColumn> availableTableColumns = TableMetadataHelper.getColumns(connection, tableName, schemaName);
-			InsertBuilder insertBuilder = new InsertBuilder(SqlFactory.deriveDialect(connection));
-			insertBuilder.into(tableName);
+			insert(connection, availableTableColumns, csvRecordDefinitions, csvFileDefinition);
+		} catch(Throwable t) {
+			String errorMessage = String.format("Error occurred while trying to BATCH INSERT CSV records [%s] into table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName);
+			logProcessorErrors(errorMessage, ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
+			if (logger.isErrorEnabled()) {logger.error(errorMessage, t);}
+		}
+	}
 
-			for (int i = 0; i < csvRecordDefinitions.get(0).getCsvRecord().size(); i++) {
-				String columnName = availableTableColumns.get(i).getName();
-				insertBuilder.column("\"" + columnName + "\"").value("?");
-			}
-			try (PreparedStatement preparedStatement = connection.prepareStatement(insertBuilder.generate())) {
-				for (CsvRecordDefinition next : csvRecordDefinitions) {
-					populateInsertPreparedStatementValues(next, availableTableColumns, preparedStatement);
-					preparedStatement.addBatch();
-				}
-				if (logger.isInfoEnabled()) {logger.info(String.format("CSV records with Ids [%s] were successfully added in BATCH INSERT for table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName));}
-				preparedStatement.executeBatch();
-			} catch(Throwable t) {
-				String errorMessage = String.format("Error occurred while trying to BATCH INSERT CSV records [%s] into table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName);
-				logProcessorErrors(errorMessage, ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
-				if (logger.isErrorEnabled()) {logger.error(errorMessage, t);}
+	/**
+	 * Insert the records as a single JDBC batch on the given connection.
+	 *
+	 * @param connection the connection
+	 * @param availableTableColumns the available table columns
+	 * @param csvRecordDefinitions the csv record definitions
+	 * @param csvFileDefinition the csv file definition
+	 * @throws SQLException the SQL exception, if the batch fails
+	 */
+	public void insert(Connection connection, List<TableColumn> availableTableColumns, List<CsvRecordDefinition> csvRecordDefinitions,
+			CsvFileDefinition csvFileDefinition) throws SQLException {
+		String tableName = csvRecordDefinitions.get(0).getTableMetadataModel().getTableName();
+		InsertBuilder insertBuilder = new InsertBuilder(SqlFactory.deriveDialect(connection));
+		insertBuilder.into(tableName);
+
+		for (int i = 0; i < csvRecordDefinitions.get(0).getCsvRecord().size(); i++) {
+			String columnName = availableTableColumns.get(i).getName();
+			insertBuilder.column("\"" + columnName + "\"").value("?");
+		}
+		try (PreparedStatement preparedStatement = connection.prepareStatement(insertBuilder.generate())) {
+			for (CsvRecordDefinition next : csvRecordDefinitions) {
+				populateInsertPreparedStatementValues(next, availableTableColumns, preparedStatement);
+				preparedStatement.addBatch();
 			}
+			preparedStatement.executeBatch();
+			if (logger.isDebugEnabled()) {logger.debug(String.format("CSV records with Ids [%s] were successfully added in BATCH INSERT for table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName));}
 		}
 	}
 
@@ -125,37 +144,52 @@ public class CsvProcessor {
 		String schemaName = csvRecordDefinitions.get(0).getTableMetadataModel().getSchemaName();
 		try (Connection connection = getDataSource().getConnection()) {
 			List<TableColumn> availableTableColumns = TableMetadataHelper.getColumns(connection, tableName, schemaName);
-			UpdateBuilder updateBuilder = new UpdateBuilder(SqlFactory.deriveDialect(connection));
-			updateBuilder.table(tableName);
-
-			CSVRecord csvRecord = csvRecordDefinitions.get(0).getCsvRecord();
-			for (int i = 0; i < csvRecord.size(); i++) {
-				String columnName = availableTableColumns.get(i).getName();
-				if (columnName.equals(csvRecordDefinitions.get(0).getPkColumnName())) {
-					continue;
-				}
+			update(connection, availableTableColumns, csvRecordDefinitions, csvFileDefinition);
+		} catch(Throwable t) {
+			String errorMessage = String.format("Error occurred while trying to BATCH UPDATE CSV records [%s] into table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName);
+			logProcessorErrors(errorMessage, ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
+			if (logger.isErrorEnabled()) {logger.error(errorMessage, t);}
+		}
+	}
 
-				updateBuilder.set("\"" + columnName + "\"", "?");
+	/**
+	 * Update the records as a single JDBC batch on the given connection.
+	 *
+	 * @param connection the connection
+	 * @param availableTableColumns the available table columns
+	 * @param csvRecordDefinitions the csv record definitions
+	 * @param csvFileDefinition the csv file definition
+	 * @throws SQLException the SQL exception, if the batch fails
+	 */
+	public void update(Connection connection, List<TableColumn> availableTableColumns, List<CsvRecordDefinition> csvRecordDefinitions,
+			CsvFileDefinition csvFileDefinition) throws SQLException {
+		String tableName = csvRecordDefinitions.get(0).getTableMetadataModel().getTableName();
+		UpdateBuilder updateBuilder = new UpdateBuilder(SqlFactory.deriveDialect(connection));
+		updateBuilder.table(tableName);
+
+		CSVRecord csvRecord = csvRecordDefinitions.get(0).getCsvRecord();
+		for (int i = 0; i < csvRecord.size(); i++) {
+			String columnName = availableTableColumns.get(i).getName();
+			if (columnName.equals(csvRecordDefinitions.get(0).getPkColumnName())) {
+				continue;
 			}
 
-			if (csvRecordDefinitions.get(0).getHeaderNames().size() > 0) {
-				updateBuilder.where(String.format("%s = ?", csvRecordDefinitions.get(0).getPkColumnName()));
-			} else {
-				updateBuilder.where(String.format("%s = ?", availableTableColumns.get(0).getName()));
-			}
+			updateBuilder.set("\"" + columnName + "\"", "?");
+		}
+
+		if (csvRecordDefinitions.get(0).getHeaderNames().size() > 0) {
+			updateBuilder.where(String.format("%s = ?", csvRecordDefinitions.get(0).getPkColumnName()));
+		} else {
+			updateBuilder.where(String.format("%s = ?", availableTableColumns.get(0).getName()));
+		}
 
-			try (PreparedStatement preparedStatement = connection.prepareStatement(updateBuilder.generate())) {
-				for (CsvRecordDefinition next : csvRecordDefinitions) {
-					executeUpdatePreparedStatement(next, availableTableColumns, preparedStatement);
-					preparedStatement.addBatch();
-				}
-				if (logger.isInfoEnabled()) {logger.info(String.format("CSV records with Ids [%s] were successfully added in BATCH UPDATED for table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName));}
-				preparedStatement.executeBatch();
-			} catch (Throwable t) {
-				String errorMessage = String.format("Error occurred while trying to BATCH UPDATE CSV records [%s] into table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName);
-				logProcessorErrors(errorMessage, ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
-				if (logger.isErrorEnabled()) {logger.error(errorMessage, t);}
+		try (PreparedStatement preparedStatement = connection.prepareStatement(updateBuilder.generate())) {
+			for (CsvRecordDefinition next : csvRecordDefinitions) {
+				populateUpdatePreparedStatementValues(next, availableTableColumns, preparedStatement);
+				preparedStatement.addBatch();
 			}
+			preparedStatement.executeBatch();
+			if (logger.isDebugEnabled()) {logger.debug(String.format("CSV records with Ids [%s] were successfully added in BATCH UPDATED for table [%s].", csvRecordDefinitions.stream().map(e -> e.getCsvRecord().get(0)).collect(Collectors.toList()), tableName));}
 		}
 	}
 
@@ -260,22 +294,20 @@ public class CsvProcessor {
 	}
 
 	/**
-	 * Execute update prepared statement.
+	 * Populate update prepared statement values.
 	 *
 	 * @param csvRecordDefinition the csv record definition
 	 * @param tableColumns the table columns
 	 * @param statement the statement
 	 * @throws SQLException the SQL exception
 	 */
-	private void executeUpdatePreparedStatement(CsvRecordDefinition csvRecordDefinition, List<TableColumn> tableColumns,
+	private void populateUpdatePreparedStatementValues(CsvRecordDefinition csvRecordDefinition, List<TableColumn> tableColumns,
 			PreparedStatement statement) throws SQLException {
 		if (csvRecordDefinition.getHeaderNames().size() > 0) {
 			updateCsvWithHeader(csvRecordDefinition, tableColumns, statement);
 		} else {
 			updateCsvWithoutHeader(csvRecordDefinition, tableColumns, statement);
 		}
-
-		statement.execute();
 	}
 
 	/**
@@ -384,12 +416,12 @@ public class CsvProcessor {
 		} else if (Types.REAL == dataType) {
 			value = numberize(value);
 			preparedStatement.setFloat(i, Float.parseFloat(value));
-		} else if (Types.DOUBLE == dataType) {
+		} else if (Types.DOUBLE == dataType || Types.FLOAT == dataType) {
 			value = numberize(value);
 			preparedStatement.setDouble(i, Double.parseDouble(value));
 		} else if (Types.BOOLEAN == dataType || Types.BIT == dataType) {
 			preparedStatement.setBoolean(i, Boolean.parseBoolean(value));
-		} else if (Types.DECIMAL == dataType) {
+		} else if (Types.DECIMAL == dataType || Types.NUMERIC == dataType) {
 			value = numberize(value);
 			preparedStatement.setBigDecimal(i, new BigDecimal(value));
 		} else if (Types.NCLOB == dataType) {
@@ -400,6 +432,72 @@ public class CsvProcessor {
 		}
 	}
 
+	/**
+	 * Gets the key of a CSV value, which is equal to the key of the same value read from a column of the given type.
+	 *
+	 * @param dataType the data type
+	 * @param value    the value
+	 * @return the key
+	 */
+	protected Object getKey(int dataType, String value) {
+		if (value == null) {
+			return null;
+		} else if (Types.DATE == dataType) {
+			return DateTimeUtils.parseDate(value).getTime();
+		} else if (Types.TIME == dataType) {
+			return DateTimeUtils.parseTime(value).getTime();
+		} else if (Types.TIMESTAMP == dataType) {
+			return DateTimeUtils.parseDateTime(value).getTime();
+		} else if (Types.INTEGER == dataType || Types.TINYINT == dataType || Types.SMALLINT == dataType
+				|| Types.BIGINT == dataType || Types.DECIMAL == dataType || Types.NUMERIC == dataType) {
+			return new BigDecimal(numberize(value)).stripTrailingZeros();
+		} else if (Types.REAL == dataType) {
+			return Float.parseFloat(numberize(value));
+		} else if (Types.DOUBLE == dataType || Types.FLOAT == dataType) {
+			return Double.parseDouble(numberize(value));
+		} else if (Types.BOOLEAN == dataType || Types.BIT == dataType) {
+			return Boolean.parseBoolean(value);
+		}
+		return sanitize(value);
+	}
+
+	/**
+	 * Gets the key of a value read from a column of the given type.
+	 *
+	 * @param resultSet the result set
+	 * @param i         the i
+	 * @param dataType  the data type
+	 * @return the key
+	 * @throws SQLException the SQL exception
+	 */
+	protected Object getKey(ResultSet resultSet, int i, int dataType) throws SQLException {
+		Object key;
+		if (Types.DATE == dataType) {
+			Date date = resultSet.getDate(i);
+			key = date != null ? date.getTime() : null;
+		} else if (Types.TIME == dataType) {
+			Time time = resultSet.getTime(i);
+			key = time != null ? time.getTime() : null;
+		} else if (Types.TIMESTAMP == dataType) {
+			Timestamp timestamp = resultSet.getTimestamp(i);
+			key = timestamp != null ? timestamp.getTime() : null;
+		} else if (Types.INTEGER == dataType || Types.TINYINT == dataType || Types.SMALLINT == dataType
+				|| Types.BIGINT == dataType || Types.DECIMAL == dataType || Types.NUMERIC == dataType) {
+			BigDecimal decimal = resultSet.getBigDecimal(i);
+			key = decimal != null ? decimal.stripTrailingZeros() : null;
+		} else if (Types.REAL == dataType) {
+			key = resultSet.getFloat(i);
+		} else if (Types.DOUBLE == dataType || Types.FLOAT == dataType) {
+			key = resultSet.getDouble(i);
+		} else if (Types.BOOLEAN == dataType || Types.BIT == dataType) {
+			key = resultSet.getBoolean(i);
+		} else {
+			String string = resultSet.getString(i);
+			key = string != null ? string.trim() : null;
+		}
+		return resultSet.wasNull() ? null : key;
+	}
+
 	/**
 	 * Sanitize.
 	 *
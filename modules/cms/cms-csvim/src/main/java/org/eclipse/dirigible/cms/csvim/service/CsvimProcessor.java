@@ -13,16 +13,21 @@ package org.eclipse.dirigible.cms.csvim.service;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -35,12 +40,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.dirigible.api.v3.problems.IProblemsConstants;
 import org.eclipse.dirigible.api.v3.problems.ProblemsFacade;
 import org.eclipse.dirigible.cms.csvim.api.CsvimException;
+import org.eclipse.dirigible.cms.csvim.api.ICsvimProgressListener;
 import org.eclipse.dirigible.cms.csvim.artefacts.CsvSynchronizationArtefactType;
 import org.eclipse.dirigible.cms.csvim.definition.CsvFileDefinition;
 import org.eclipse.dirigible.cms.csvim.definition.CsvRecordDefinition;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
+import org.eclipse.dirigible.database.ds.model.transfer.TableColumn;
+import org.eclipse.dirigible.database.ds.model.transfer.TableMetadataHelper;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
 import org.eclipse.dirigible.database.persistence.utils.DatabaseMetadataUtil;
@@ -53,18 +61,16 @@ import org.eclipse.dirigible.repository.api.RepositoryReadException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Lists;
-
 /**
  * The Class CsvimProcessor.
  */
 public class CsvimProcessor {
 
-	/** The Constant DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE. */
-	private static final String DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE = "DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE";
+	/** The Constant DIRIGIBLE_CSV_DATA_PROGRESS_INTERVAL. */
+	private static final String DIRIGIBLE_CSV_DATA_PROGRESS_INTERVAL = "DIRIGIBLE_CSV_DATA_PROGRESS_INTERVAL";
 	
-	/** The Constant DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE_DEFAULT. */
-	private static final int DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE_DEFAULT = 1000;
+	/** The Constant DIRIGIBLE_CSV_DATA_PROGRESS_INTERVAL_DEFAULT. */
+	private static final long DIRIGIBLE_CSV_DATA_PROGRESS_INTERVAL_DEFAULT = 5000;
 
 	/** The Constant DIRIGIBLE_CSV_DATA_BATCH_SIZE. */
 	private static final String DIRIGIBLE_CSV_DATA_BATCH_SIZE = "DIRIGIBLE_CSV_DATA_BATCH_SIZE";
@@ -172,201 +178,256 @@ public class CsvimProcessor {
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
 	public void process(CsvFileDefinition csvFileDefinition, String content, Connection connection) throws CsvimException, SQLException, IOException {
+		process(csvFileDefinition, new StringReader(content), connection, null);
+	}
+
+	/**
+	 * Process the CSV content as a stream. The records are read lazily and written chunk by chunk,
+	 * so that the memory footprint does not depend on the size of the file.
+	 *
+	 * @param csvFileDefinition the csv file definition
+	 * @param content the content
+	 * @param connection the connection
+	 * @param progressListener the progress listener, can be null
+	 * @return the number of the processed records
+	 * @throws CsvimException the csvim exception
+	 * @throws SQLException the SQL exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public long process(CsvFileDefinition csvFileDefinition, InputStream content, Connection connection,
+			ICsvimProgressListener progressListener) throws CsvimException, SQLException, IOException {
+		return process(csvFileDefinition, new InputStreamReader(content, StandardCharsets.UTF_8), connection, progressListener);
+	}
+
+	/**
+	 * Process the CSV content read from the reader.
+	 *
+	 * @param csvFileDefinition the csv file definition
+	 * @param content the content
+	 * @param connection the connection
+	 * @param progressListener the progress listener, can be null
+	 * @return the number of the processed records
+	 * @throws CsvimException the csvim exception
+	 * @throws SQLException the SQL exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private long process(CsvFileDefinition csvFileDefinition, Reader content, Connection connection,
+			ICsvimProgressListener progressListener) throws CsvimException, SQLException, IOException {
 		String tableName = csvFileDefinition.getTable();
-		CSVParser csvParser = getCsvParser(csvFileDefinition, content);
 		PersistenceTableModel tableMetadata = getTableMetadata(csvFileDefinition);
-		if (tableMetadata == null || csvParser == null) {
-			return;
+		PersistenceTableModel tableModel = getTableMetadata(tableName);
+		if (tableMetadata == null || tableModel == null) {
+			return 0;
 		}
 
-		List<CSVRecord> recordsToInsert = new ArrayList<>();
-	    List<CSVRecord> recordsToUpdate = new ArrayList<>();
-
-	    String pkNameForCSVRecord = getPkNameForCSVRecord(tableName, csvParser.getHeaderNames());
-	    
-		Map<String, List<String>> keysMap = csvFileDefinition.getKeysAsMap();
-		List<CSVRecord> csvRecords = csvParser.getRecords();
-		int maxCompareSize = DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE_DEFAULT;
-		try {
-			maxCompareSize = Integer.parseInt(Configuration.get(DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE));
-		} catch (NumberFormatException e) {
-			// Do nothing
-		}
-		List<PersistenceTableColumnModel> tableColumns = tableMetadata.getColumns();
-		if (csvRecords.size() > maxCompareSize) {
-			if (isEmptyTable(tableName, connection)) {
-				recordsToInsert = csvRecords.stream().filter(e -> recordShouldBeIncluded(e, tableColumns, keysMap)).collect(Collectors.toList());
+		try (CSVParser csvParser = getCsvParser(csvFileDefinition, content)) {
+			if (csvParser == null) {
+				return 0;
 			}
-		} else {
-			for (CSVRecord csvRecord : csvRecords) {
-				if (recordShouldBeIncluded(csvRecord, tableColumns, keysMap)) {
-
-					String pkValueForCSVRecord = getPkValueForCSVRecord(csvRecord, tableName, csvParser.getHeaderNames());
+			List<String> headerNames = csvParser.getHeaderNames();
+			List<PersistenceTableColumnModel> tableColumns = tableMetadata.getColumns();
+			Map<String, List<String>> keysMap = csvFileDefinition.getKeysAsMap();
+			List<TableColumn> availableTableColumns = TableMetadataHelper.getColumns(connection, tableName, tableModel.getSchemaName());
+			int pkIndex = getPkIndex(tableModel, headerNames);
+			int pkColumnType = getPkColumnType(tableModel, availableTableColumns);
+			boolean emptyTable = isEmptyTable(tableName, connection);
+
+			int batchSize = getCsvDataBatchSize();
+			long progressInterval = getCsvDataProgressInterval();
+			long startTime = System.currentTimeMillis();
+			long lastProgressTime = startTime;
+			long allRecords = 0;
+			long processedRecords = 0;
+			List<CsvRecordDefinition> chunk = new ArrayList<>(batchSize);
+			for (CSVRecord csvRecord : csvParser) {
+				allRecords++;
+				if (!recordShouldBeIncluded(csvRecord, tableColumns, keysMap)) {
+					continue;
+				}
 
-					if (pkValueForCSVRecord == null) {
-						logProcessorErrors(PROBLEM_MESSAGE_NO_PRIMARY_KEY, ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
-						throw new CsvimException(String.format(ERROR_MESSAGE_NO_PRIMARY_KEY, csvFileDefinition.getFile()));
-					}
+				String pkValueForCSVRecord = pkIndex >= 0 && pkIndex < csvRecord.size() ? csvRecord.get(pkIndex) : null;
+				if (pkValueForCSVRecord == null || (headerNames.isEmpty() && StringUtils.isEmpty(pkValueForCSVRecord))) {
+					logProcessorErrors(PROBLEM_MESSAGE_NO_PRIMARY_KEY, ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
+					throw new CsvimException(String.format(ERROR_MESSAGE_NO_PRIMARY_KEY, csvFileDefinition.getFile()));
+				}
 
-					if (csvRecord.size() != tableColumns.size()) {
-						logProcessorErrors(String.format(PROBLEM_MESSAGE_DIFFERENT_COLUMNS_SIZE, pkValueForCSVRecord), ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
-						throw new CsvimException(String.format(ERROR_MESSAGE_DIFFERENT_COLUMNS_SIZE, pkValueForCSVRecord, csvFileDefinition.getFile()));
-					}
+				if (csvRecord.size() != tableColumns.size()) {
+					logProcessorErrors(String.format(PROBLEM_MESSAGE_DIFFERENT_COLUMNS_SIZE, pkValueForCSVRecord), ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
+					throw new CsvimException(String.format(ERROR_MESSAGE_DIFFERENT_COLUMNS_SIZE, pkValueForCSVRecord, csvFileDefinition.getFile()));
+				}
 
-					if (!recordExists(tableName, pkNameForCSVRecord, pkValueForCSVRecord, connection)) {
-						recordsToInsert.add(csvRecord);
-					} else {
-						recordsToUpdate.add(csvRecord);
+				chunk.add(new CsvRecordDefinition(csvRecord, tableModel, headerNames, csvFileDefinition.getDistinguishEmptyFromNull()));
+				if (chunk.size() >= batchSize) {
+					processedRecords += processChunk(chunk, emptyTable, pkColumnType, availableTableColumns, csvFileDefinition, connection);
+					chunk.clear();
+					long now = System.currentTimeMillis();
+					if (progressListener != null && now - lastProgressTime >= progressInterval) {
+						progressListener.onProgress(csvFileDefinition, processedRecords, now - startTime);
+						lastProgressTime = now;
 					}
 				}
 			}
-		}
-
-		insertCsvRecords(recordsToInsert, csvParser.getHeaderNames(), csvFileDefinition);
-		updateCsvRecords(recordsToUpdate, csvParser.getHeaderNames(), csvFileDefinition);
-
-		if ((recordsToInsert.size() > 0 || recordsToUpdate.size() > 0) && csvFileDefinition.getSequence() != null) {
-			int sequenceStart = csvRecords.size() + 1;
+			if (!chunk.isEmpty()) {
+				processedRecords += processChunk(chunk, emptyTable, pkColumnType, availableTableColumns, csvFileDefinition, connection);
+			}
+			if (progressListener != null) {
+				progressListener.onProgress(csvFileDefinition, processedRecords, System.currentTimeMillis() - startTime);
+			}
 
-			PreparedStatement preparedStatement = null;
-			try {
-				String createSequenceSql = SqlFactory.getNative(connection).create().sequence(csvFileDefinition.getSequence()).start(sequenceStart).build();
-				preparedStatement = connection.prepareStatement(createSequenceSql);
-				preparedStatement.executeUpdate();
-			} catch (SQLException e) {
-				if (preparedStatement != null) {
-					preparedStatement.close();
-				}
-				try {
-					String alterSequenceSql = SqlFactory.getNative(connection).alter().sequence(csvFileDefinition.getSequence()).restartWith(sequenceStart).build();
-					preparedStatement = connection.prepareStatement(alterSequenceSql);
-					preparedStatement.executeUpdate();
-				} catch (SQLException e1) {
-					logger.error("Failed to restart database sequence [" + csvFileDefinition.getSequence() + "]", e1);
-				} finally {
-					if (preparedStatement != null) {
-						preparedStatement.close();
-					}
-				}
-			} finally {
-				if (preparedStatement != null) {
-					preparedStatement.close();
-				}
+			if (processedRecords > 0 && csvFileDefinition.getSequence() != null) {
+				restartSequence(csvFileDefinition.getSequence(), allRecords + 1, connection);
 			}
+			return processedRecords;
 		}
 	}
 
 	/**
-	 * Checks if is empty table.
+	 * Split the chunk into new and existing records, using a single query for the keys, and write them as JDBC batches.
 	 *
-	 * @param tableName the table name
+	 * @param chunk the chunk
+	 * @param emptyTable whether the table was empty before the import
+	 * @param pkColumnType the pk column type
+	 * @param availableTableColumns the available table columns
+	 * @param csvFileDefinition the csv file definition
 	 * @param connection the connection
-	 * @return true, if is empty table
-	 * @throws SQLException the SQL exception
+	 * @return the number of the processed records
+	 * @throws SQLException the SQL exception, if the chunk cannot be written
 	 */
-	private boolean isEmptyTable(String tableName, Connection connection) throws SQLException {
-		boolean isEmpty = false;
-		SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
-		String sql = selectBuilder.column("COUNT(*)").from(tableName).build();
-		try (PreparedStatement pstmt = connection.prepareCall(sql)) {
-			ResultSet rs = pstmt.executeQuery();
-			if (rs.next()) {
-				isEmpty = rs.getInt(1) == 0;
+	private int processChunk(List<CsvRecordDefinition> chunk, boolean emptyTable, int pkColumnType, List<TableColumn> availableTableColumns,
+			CsvFileDefinition csvFileDefinition, Connection connection) throws SQLException {
+		List<CsvRecordDefinition> recordsToInsert = new ArrayList<>();
+		List<CsvRecordDefinition> recordsToUpdate = new ArrayList<>();
+		if (emptyTable) {
+			recordsToInsert.addAll(chunk);
+		} else {
+			Set<Object> existingKeys = getExistingKeys(chunk, pkColumnType, connection);
+			for (CsvRecordDefinition next : chunk) {
+				if (existingKeys.contains(csvProcessor.getKey(pkColumnType, next.getCsvRecordPkValue()))) {
+					recordsToUpdate.add(next);
+				} else {
+					recordsToInsert.add(next);
+				}
 			}
 		}
-		return isEmpty;
+
+		String tableName = csvFileDefinition.getTable();
+		try {
+			if (!recordsToInsert.isEmpty()) {
+				csvProcessor.insert(connection, availableTableColumns, recordsToInsert, csvFileDefinition);
+			}
+			if (!recordsToUpdate.isEmpty()) {
+				csvProcessor.update(connection, availableTableColumns, recordsToUpdate, csvFileDefinition);
+			}
+		} catch (SQLException e) {
+			String csvRecordValue = e.getMessage();
+			logProcessorErrors(String.format(PROBLEM_MESSAGE_INSERT_RECORD, tableName, csvRecordValue), ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
+			if (logger.isErrorEnabled()) {logger.error(String.format(ERROR_MESSAGE_INSERT_RECORD, tableName, csvRecordValue, csvFileDefinition.getFile()), e);}
+			throw e;
+		}
+		return chunk.size();
 	}
 
 	/**
-	 * Record exists.
+	 * Gets the primary keys of the records from the chunk, which already exist in the table. The keys are read
+	 * according to the type of the column, so that they can be matched with the keys of the CSV records.
 	 *
-	 * @param tableName the table name
-	 * @param pkNameForCSVRecord the pk name for CSV record
-	 * @param pkValueForCSVRecord the pk value for CSV record
+	 * @param chunk the chunk
+	 * @param pkColumnType the pk column type
 	 * @param connection the connection
-	 * @return true, if successful
+	 * @return the existing keys
 	 * @throws SQLException the SQL exception
 	 */
-	private boolean recordExists(String tableName, String pkNameForCSVRecord, String pkValueForCSVRecord, Connection connection) throws SQLException {
-		boolean exists = false;
+	private Set<Object> getExistingKeys(List<CsvRecordDefinition> chunk, int pkColumnType, Connection connection) throws SQLException {
+		String pkColumnName = chunk.get(0).getPkColumnName();
+		String tableName = chunk.get(0).getTableMetadataModel().getTableName();
+		String placeholders = chunk.stream().map(e -> "?").collect(Collectors.joining(", "));
 		SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
-		String sql = selectBuilder.distinct().column("1 " + pkNameForCSVRecord).from(tableName).where(pkNameForCSVRecord + " = ?").build();
-		try (PreparedStatement pstmt = connection.prepareCall(sql)) {
-			ResultSet rs = null;
-			try {
-				pstmt.setString(1, pkValueForCSVRecord);
-				rs = pstmt.executeQuery();
-			} catch (Throwable e) {
-				pstmt.setInt(1, Integer.valueOf(pkValueForCSVRecord));
-				rs = pstmt.executeQuery();
+		String sql = selectBuilder.column(pkColumnName).from(tableName).where(pkColumnName + " IN (" + placeholders + ")").build();
+
+		Set<Object> existingKeys = new HashSet<>();
+		try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+			for (int i = 0; i < chunk.size(); i++) {
+				csvProcessor.setValue(pstmt, i + 1, pkColumnType, chunk.get(i).getCsvRecordPkValue());
 			}
-			if (rs.next()) {
-				try {
-					exists = "1".equals(rs.getString(1));
-				} catch(Throwable e) {
-					exists = 1 == rs.getInt(1);
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					existingKeys.add(csvProcessor.getKey(rs, 1, pkColumnType));
 				}
 			}
 		}
-		return exists;
+		return existingKeys;
 	}
 
 	/**
-	 * Insert csv records.
+	 * Creates the sequence or restarts it, if it already exists.
 	 *
-	 * @param recordsToProcess the records to process
-	 * @param headerNames the header names
-	 * @param csvFileDefinition the csv file definition
+	 * @param sequence the sequence
+	 * @param sequenceStart the sequence start
+	 * @param connection the connection
 	 * @throws SQLException the SQL exception
 	 */
-	private void insertCsvRecords(List<CSVRecord> recordsToProcess, List<String> headerNames, CsvFileDefinition csvFileDefinition) throws SQLException {
-		String tableName = csvFileDefinition.getTable();
-		PersistenceTableModel tableModel = databaseMetadataUtil.getTableMetadata(tableName, DatabaseMetadataUtil.getTableSchema(getDataSource(), tableName));
-
-		CsvRecordDefinition csvRecordDefinition = null;
-
+	private void restartSequence(String sequence, long sequenceStart, Connection connection) throws SQLException {
+		PreparedStatement preparedStatement = null;
 		try {
-			for (List<CSVRecord> csvBatch : Lists.partition(recordsToProcess, getCsvDataBatchSize())) {
-				List<CsvRecordDefinition> csvRecordDefinitions = csvBatch.stream().map(
-						e -> new CsvRecordDefinition(e, tableModel, headerNames, csvFileDefinition.getDistinguishEmptyFromNull()))
-						.collect(Collectors.toList()
-				);
-				csvProcessor.insert(csvRecordDefinitions, csvFileDefinition);
-			}
+			String createSequenceSql = SqlFactory.getNative(connection).create().sequence(sequence).start((int) sequenceStart).build();
+			preparedStatement = connection.prepareStatement(createSequenceSql);
+			preparedStatement.executeUpdate();
 		} catch (SQLException e) {
-			String csvRecordValue = e.getMessage();
-			logProcessorErrors(String.format(PROBLEM_MESSAGE_INSERT_RECORD, tableName, csvRecordValue), ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
-			if (logger.isErrorEnabled()) {logger.error(String.format(ERROR_MESSAGE_INSERT_RECORD, tableName, csvRecordValue, csvFileDefinition.getFile()), e);}
+			if (preparedStatement != null) {
+				preparedStatement.close();
+			}
+			try {
+				String alterSequenceSql = SqlFactory.getNative(connection).alter().sequence(sequence).restartWith((int) sequenceStart).build();
+				preparedStatement = connection.prepareStatement(alterSequenceSql);
+				preparedStatement.executeUpdate();
+			} catch (SQLException e1) {
+				logger.error("Failed to restart database sequence [" + sequence + "]", e1);
+			} finally {
+				if (preparedStatement != null) {
+					preparedStatement.close();
+				}
+			}
+		} finally {
+			if (preparedStatement != null) {
+				preparedStatement.close();
+			}
 		}
 	}
 
 	/**
-	 * Update csv records.
+	 * Checks if is empty table.
 	 *
-	 * @param recordsToProcess the records to process
-	 * @param headerNames the header names
-	 * @param csvFileDefinition the csv file definition
+	 * @param tableName the table name
+	 * @param connection the connection
+	 * @return true, if is empty table
 	 * @throws SQLException the SQL exception
 	 */
-	private void updateCsvRecords(List<CSVRecord> recordsToProcess, List<String> headerNames, CsvFileDefinition csvFileDefinition) throws SQLException {
-		String tableName = csvFileDefinition.getTable();
-		PersistenceTableModel tableModel = databaseMetadataUtil.getTableMetadata(tableName, DatabaseMetadataUtil.getTableSchema(getDataSource(), tableName));
-
-		CsvRecordDefinition csvRecordDefinition = null;
+	private boolean isEmptyTable(String tableName, Connection connection) throws SQLException {
+		boolean isEmpty = false;
+		SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
+		String sql = selectBuilder.column("COUNT(*)").from(tableName).build();
+		try (PreparedStatement pstmt = connection.prepareCall(sql)) {
+			ResultSet rs = pstmt.executeQuery();
+			if (rs.next()) {
+				isEmpty = rs.getInt(1) == 0;
+			}
+		}
+		return isEmpty;
+	}
 
+	/**
+	 * Gets the csv data progress interval.
+	 *
+	 * @return the csv data progress interval in milliseconds
+	 */
+	private long getCsvDataProgressInterval() {
+		long progressInterval = DIRIGIBLE_CSV_DATA_PROGRESS_INTERVAL_DEFAULT;
 		try {
-			for (List<CSVRecord> csvBatch : Lists.partition(recordsToProcess, getCsvDataBatchSize())) {
-				List<CsvRecordDefinition> csvRecordDefinitions = csvBatch.stream().map(
-						e -> new CsvRecordDefinition(e, tableModel, headerNames, csvFileDefinition.getDistinguishEmptyFromNull()))
-						.collect(Collectors.toList()
-				);
-				csvProcessor.update(csvRecordDefinitions, csvFileDefinition);
-			}
-		} catch (SQLException e) {
-			String csvRecordValue = e.getMessage();
-			logProcessorErrors(String.format(PROBLEM_MESSAGE_INSERT_RECORD, tableName, csvRecordValue), ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
-			if (logger.isErrorEnabled()) {logger.error(String.format(ERROR_MESSAGE_INSERT_RECORD, tableName, csvRecordValue, csvFileDefinition.getFile()), e);}
+			progressInterval = Long.parseLong(Configuration.get(DIRIGIBLE_CSV_DATA_PROGRESS_INTERVAL));
+		} catch (NumberFormatException e) {
+			// Do nothing
 		}
+		return progressInterval;
 	}
 
 	/**
@@ -433,14 +494,14 @@ public class CsvimProcessor {
 	 * Gets the csv parser.
 	 *
 	 * @param csvFileDefinition the csv file definition
-	 * @param contentAsString the content as string
+	 * @param content the content
 	 * @return the csv parser
 	 * @throws CsvimException the csvim exception
 	 */
-	private CSVParser getCsvParser(CsvFileDefinition csvFileDefinition, String contentAsString) throws CsvimException {
+	private CSVParser getCsvParser(CsvFileDefinition csvFileDefinition, Reader content) throws CsvimException {
 		try {
 			CSVFormat csvFormat = createCSVFormat(csvFileDefinition);
-			return CSVParser.parse(contentAsString, csvFormat);
+			return CSVParser.parse(content, csvFormat);
 		} catch (IOException e) {
 			String errorMessage = String.format("Error occurred while trying to parse data from CSV file [%s].", csvFileDefinition.getFile());
 			logProcessorErrors(errorMessage, ERROR_TYPE_PROCESSOR, csvFileDefinition.getFile(), ARTEFACT_TYPE_CSV);
@@ -498,58 +559,38 @@ public class CsvimProcessor {
 	}
 	
 	/**
-	 * Gets the pk name for CSV record.
+	 * Gets the index of the primary key value in the CSV records.
 	 *
-	 * @param tableName the table name
+	 * @param tableModel the table model
 	 * @param headerNames the header names
-	 * @return the pk name for CSV record
+	 * @return the pk index or -1
 	 */
-	private String getPkNameForCSVRecord(String tableName, List<String> headerNames) {
-		PersistenceTableModel tableModel = getTableMetadata(tableName);
-		if (tableModel != null) {
-			List<PersistenceTableColumnModel> columnModels = tableModel.getColumns();
-			if (headerNames.size() > 0) {
-				String pkColumnName = columnModels.stream().filter(PersistenceTableColumnModel::isPrimaryKey).findFirst().get().getName();
-				return pkColumnName;
-			}
-	
-			for (int i = 0; i < columnModels.size(); i++) {
-				if (columnModels.get(i).isPrimaryKey()) {
-					return columnModels.get(i).getName();
-				}
+	private int getPkIndex(PersistenceTableModel tableModel, List<String> headerNames) {
+		List<PersistenceTableColumnModel> columnModels = tableModel.getColumns();
+		for (int i = 0; i < columnModels.size(); i++) {
+			if (columnModels.get(i).isPrimaryKey()) {
+				return headerNames.size() > 0 ? headerNames.indexOf(columnModels.get(i).getName()) : i;
 			}
 		}
-
-		return null;
+		return -1;
 	}
 
 	/**
-	 * Gets the pk value for CSV record.
+	 * Gets the JDBC type of the primary key column.
 	 *
-	 * @param csvRecord the csv record
-	 * @param tableName the table name
-	 * @param headerNames the header names
-	 * @return the pk value for CSV record
+	 * @param tableModel the table model
+	 * @param availableTableColumns the available table columns
+	 * @return the pk column type
 	 */
-	private String getPkValueForCSVRecord(CSVRecord csvRecord, String tableName, List<String> headerNames) {
-		PersistenceTableModel tableModel = getTableMetadata(tableName);
-		if (tableModel != null) {
-			List<PersistenceTableColumnModel> columnModels = tableModel.getColumns();
-			if (headerNames.size() > 0) {
-				String pkColumnName = columnModels.stream().filter(PersistenceTableColumnModel::isPrimaryKey).findFirst().get().getName();
-				int csvRecordPkValueIndex = headerNames.indexOf(pkColumnName);
-				return csvRecordPkValueIndex >= 0 ? csvRecord.get(csvRecordPkValueIndex) : null;
-			}
-	
-			for (int i = 0; i < csvRecord.size(); i++) {
-				boolean isColumnPk = columnModels.get(i).isPrimaryKey();
-				if (isColumnPk && !StringUtils.isEmpty(csvRecord.get(i))) {
-					return csvRecord.get(i);
-				}
+	private int getPkColumnType(PersistenceTableModel tableModel, List<TableColumn> availableTableColumns) {
+		String pkColumnName = tableModel.getColumns().stream().filter(PersistenceTableColumnModel::isPrimaryKey)
+				.map(PersistenceTableColumnModel::getName).findFirst().orElse(null);
+		for (TableColumn next : availableTableColumns) {
+			if (next.getName().equals(pkColumnName)) {
+				return next.getType();
 			}
 		}
-
-		return null;
+		return availableTableColumns.get(0).getType();
 	}
 
 	/**
@@ -13,6 +13,7 @@ package org.eclipse.dirigible.cms.csvim.synchronizer;
 
 import static java.text.MessageFormat.format;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -418,29 +419,60 @@ public class CsvimSynchronizer extends AbstractSynchronizer implements IOrderedS
 		for (CsvFileDefinition csvFileDefinition : sortedConfigurationDefinitions) {
 			try {
 				CsvDefinition csvDefinition = csvimCoreService.getCsv(csvFileDefinition.getFile());
-				String content = null;
 				IResource resource = csvimProcessor.getCsvResource(csvFileDefinition);
-				if (resource.exists()) {
-					content = csvimProcessor.getCsvContent(resource);
-				} else {
-					CsvDefinition predeliveredCsvDefinition = CSV_PREDELIVERED.get(csvFileDefinition.getFile());
-					content = predeliveredCsvDefinition != null ? predeliveredCsvDefinition.getContent() : null;
+				String hash;
+				try (InputStream content = getCsvContent(csvFileDefinition, resource)) {
+					hash = content != null ? DigestUtils.md5Hex(content) : null;
 				}
-				String hash = content != null ? DigestUtils.md5Hex(content.getBytes()) : null;
 				if (hash == null) {
 					if (logger.isErrorEnabled()) {logger.error("CSV content not found for file [" + csvFileDefinition.getFile() + "]");}
+					continue;
 				} else if (hash.equals(csvDefinition.getHash())
 						&& csvDefinition.getImported()) {
 					continue;
 				}
-				csvimProcessor.process(csvFileDefinition, content, connection);
+				long start = System.currentTimeMillis();
+				long processedRecords;
+				try (InputStream content = getCsvContent(csvFileDefinition, resource)) {
+					processedRecords = csvimProcessor.process(csvFileDefinition, content, connection,
+							(definition, records, elapsed) -> applyArtefactState(csvDefinition, CSV_ARTEFACT, ArtefactState.IN_PROGRESS, formatProgress(records, elapsed)));
+				}
 				csvimCoreService.updateCsv(csvFileDefinition.getFile(), hash, true);
+				applyArtefactState(csvDefinition, CSV_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE_UPDATE, formatProgress(processedRecords, System.currentTimeMillis() - start));
 			} catch (SQLException | CsvimException | IOException e) {
 				if (logger.isErrorEnabled()) {logger.error(String.format("An error occurred while trying to execute the data import: %s", e.getMessage()), e);}
 			}
 		}
 	}
 
+	/**
+	 * Opens the content of a CSV file, which is streamed from the repository or taken from the predelivered definitions.
+	 *
+	 * @param csvFileDefinition the CSV file definition
+	 * @param resource the CSV resource
+	 * @return the content stream or null, if there is no content
+	 */
+	private InputStream getCsvContent(CsvFileDefinition csvFileDefinition, IResource resource) {
+		if (resource.exists()) {
+			return resource.getContentStream();
+		}
+		CsvDefinition predeliveredCsvDefinition = CSV_PREDELIVERED.get(csvFileDefinition.getFile());
+		return predeliveredCsvDefinition != null && predeliveredCsvDefinition.getContent() != null
+				? new ByteArrayInputStream(predeliveredCsvDefinition.getContent().getBytes(StandardCharsets.UTF_8)) : null;
+	}
+
+	/**
+	 * Formats the progress of a CSV import.
+	 *
+	 * @param processedRecords the processed records
+	 * @param elapsedTime the elapsed time in milliseconds
+	 * @return the progress message
+	 */
+	private static String formatProgress(long processedRecords, long elapsedTime) {
+		long throughput = elapsedTime > 0 ? processedRecords * 1000 / elapsedTime : processedRecords;
+		return format("{0} records processed, {1} records/s", processedRecords, throughput);
+	}
+
 	/**
 	 * Gets the priority.
 	 *
@@ -13,11 +13,14 @@ package org.eclipse.dirigible.cms.csvim.service;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.sql.DataSource;
 
@@ -190,4 +193,132 @@ public class CsvimProcessorTest extends AbstractDirigibleTest {
 		}
 	}
 
+	@Test
+	public void testStreamUpsert() throws SQLException, CsvimException, IOException {
+		CsvimProcessor csvimProcessor = new CsvimProcessor();
+		DataSource dataSource = (DataSource) StaticObjects.get(StaticObjects.DATASOURCE);
+
+		StringBuilder content = new StringBuilder();
+		for (int i = 1; i <= 250; i++) {
+			content.append(i).append(",Name").append(i).append(",Doe\n");
+		}
+		CsvFileDefinition csvFileDefinition = new CsvFileDefinition();
+		csvFileDefinition.setFile("/csvim/test.csv");
+		csvFileDefinition.setTable("TEST_CSV");
+
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement stmt = connection.createStatement()) {
+				stmt.executeUpdate("CREATE TABLE TEST_CSV (ID INT PRIMARY KEY, FIRST_NAME VARCHAR(20), LAST_NAME VARCHAR(20))");
+				stmt.executeUpdate("INSERT INTO TEST_CSV VALUES (150,'Jennifer','Doe')");
+			}
+
+			AtomicLong reported = new AtomicLong();
+			long processed = csvimProcessor.process(csvFileDefinition, new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)),
+					connection, (definition, records, elapsed) -> reported.set(records));
+			assertEquals(250, processed);
+			assertEquals(250, reported.get());
+
+			try (Statement stmt = connection.createStatement()) {
+				ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM TEST_CSV");
+				if (rs.next()) {
+					assertEquals(250, rs.getInt(1));
+				}
+			}
+
+			try (Statement stmt = connection.createStatement()) {
+				ResultSet rs = stmt.executeQuery("SELECT * FROM TEST_CSV WHERE ID=150");
+				if (rs.next()) {
+					assertEquals("Name150", rs.getString("FIRST_NAME"));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testUpdateTypedKey() throws SQLException, CsvimException, IOException {
+		CsvimProcessor csvimProcessor = new CsvimProcessor();
+		DataSource dataSource = (DataSource) StaticObjects.get(StaticObjects.DATASOURCE);
+
+		String content = "1,John,Doe\n2,Jane,Doe\n";
+		CsvFileDefinition csvFileDefinition = new CsvFileDefinition();
+		csvFileDefinition.setFile("/csvim/test.csv");
+		csvFileDefinition.setTable("TEST_CSV");
+
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement stmt = connection.createStatement()) {
+				stmt.executeUpdate("CREATE TABLE TEST_CSV (ID DECIMAL(10,2) PRIMARY KEY, FIRST_NAME VARCHAR(20), LAST_NAME VARCHAR(20))");
+				stmt.executeUpdate("INSERT INTO TEST_CSV VALUES (2.00,'Jennifer','Doe')");
+			}
+
+			csvimProcessor.process(csvFileDefinition, content, connection);
+
+			try (Statement stmt = connection.createStatement()) {
+				ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM TEST_CSV");
+				if (rs.next()) {
+					assertEquals(2, rs.getInt(1));
+				}
+			}
+
+			try (Statement stmt = connection.createStatement()) {
+				ResultSet rs = stmt.executeQuery("SELECT * FROM TEST_CSV WHERE ID=2");
+				if (rs.next()) {
+					assertEquals("Jane", rs.getString("FIRST_NAME"));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testUpdateNumericKey() throws SQLException, CsvimException, IOException {
+		CsvimProcessor csvimProcessor = new CsvimProcessor();
+		DataSource dataSource = (DataSource) StaticObjects.get(StaticObjects.DATASOURCE);
+
+		String content = "1,John,Doe\n2.5,Jane,Doe\n";
+		CsvFileDefinition csvFileDefinition = new CsvFileDefinition();
+		csvFileDefinition.setFile("/csvim/test.csv");
+		csvFileDefinition.setTable("TEST_CSV");
+
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement stmt = connection.createStatement()) {
+				stmt.executeUpdate("CREATE TABLE TEST_CSV (ID NUMERIC(10,2) PRIMARY KEY, FIRST_NAME VARCHAR(20), LAST_NAME VARCHAR(20))");
+				stmt.executeUpdate("INSERT INTO TEST_CSV VALUES (2.50,'Jennifer','Doe')");
+			}
+
+			csvimProcessor.process(csvFileDefinition, content, connection);
+
+			try (Statement stmt = connection.createStatement()) {
+				ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM TEST_CSV");
+				if (rs.next()) {
+					assertEquals(2, rs.getInt(1));
+				}
+			}
+
+			try (Statement stmt = connection.createStatement()) {
+				ResultSet rs = stmt.executeQuery("SELECT * FROM TEST_CSV WHERE ID=2.5");
+				if (rs.next()) {
+					assertEquals("Jane", rs.getString("FIRST_NAME"));
+				}
+			}
+		}
+	}
+
+	@Test(expected = SQLException.class)
+	public void testFailedChunk() throws SQLException, CsvimException, IOException {
+		CsvimProcessor csvimProcessor = new CsvimProcessor();
+		DataSource dataSource = (DataSource) StaticObjects.get(StaticObjects.DATASOURCE);
+
+		String content = "1,John,Doe\n2,Jane with a name longer than the column,Doe\n";
+		CsvFileDefinition csvFileDefinition = new CsvFileDefinition();
+		csvFileDefinition.setFile("/csvim/test.csv");
+		csvFileDefinition.setTable("TEST_CSV");
+
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement stmt = connection.createStatement()) {
+				stmt.executeUpdate("CREATE TABLE TEST_CSV (ID INT PRIMARY KEY, FIRST_NAME VARCHAR(20), LAST_NAME VARCHAR(20))");
+			}
+
+			csvimProcessor.process(csvFileDefinition, content, connection);
+		}
+	}
+
 }
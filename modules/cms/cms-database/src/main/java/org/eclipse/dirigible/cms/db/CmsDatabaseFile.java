@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.cms.db;
 
+import java.io.InputStream;
 import java.sql.SQLException;
 
 /**
@@ -113,6 +114,33 @@ public class CmsDatabaseFile extends CmsDatabaseObject {
 		}
 	}
 
+	/**
+	 * Gets the data as a stream, which has to be closed by the caller.
+	 *
+	 * @return the data stream or null
+	 * @throws CmsDatabaseRepositoryException
+	 *             the local repository exception
+	 */
+	public InputStream getDataStream() throws CmsDatabaseRepositoryException {
+		return getRepository().getRepositoryDao().getFileContentStream(this);
+	}
+
+	/**
+	 * Sets the data from a stream.
+	 *
+	 * @param content
+	 *            the data stream
+	 * @throws CmsDatabaseRepositoryException
+	 *             the local repository exception
+	 */
+	public void setData(InputStream content) throws CmsDatabaseRepositoryException {
+		try {
+			getRepository().getRepositoryDao().setFileContent(this, content);
+		} catch (SQLException e) {
+			throw new CmsDatabaseRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Checks if is binary.
 	 *
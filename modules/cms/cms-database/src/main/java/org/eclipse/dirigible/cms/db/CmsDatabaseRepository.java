@@ -608,4 +608,15 @@ public class CmsDatabaseRepository implements IRepository {
 	protected void setLastModified(long time) {
 		lastModified.set(time);
 	}
+
+	/**
+	 * Publishes a changed path to the search index.
+	 *
+	 * @param path the created, updated, renamed or removed path
+	 */
+	public void pathChanged(String path) {
+		if (repositorySearcher != null) {
+			repositorySearcher.pathChanged(path);
+		}
+	}
 }
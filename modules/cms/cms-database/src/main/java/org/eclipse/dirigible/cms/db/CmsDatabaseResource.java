@@ -13,6 +13,8 @@ package org.eclipse.dirigible.cms.db;
 
 import static java.text.MessageFormat.format;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -213,6 +215,27 @@ public class CmsDatabaseResource extends CmsDatabaseEntity implements IResource
 		}
 	}
 
+	/**
+	 * Gets the content as a stream, read from the database while consuming it.
+	 *
+	 * @return the content stream
+	 * @throws RepositoryReadException the repository read exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentStream()
+	 */
+	@Override
+	public InputStream getContentStream() throws RepositoryReadException {
+		final CmsDatabaseFile document = getDocumentSafe();
+		try {
+			InputStream content = document.getDataStream();
+			return content != null ? content : new ByteArrayInputStream(new byte[0]);
+		} catch (CmsDatabaseRepositoryException ex) {
+			throw new RepositoryReadException("Could not read resource content.", ex);
+		}
+	}
+
 	/**
 	 * Sets the content.
 	 *
@@ -378,4 +401,35 @@ public class CmsDatabaseResource extends CmsDatabaseEntity implements IResource
 
 	}
 
+	/**
+	 * Sets the content from a stream, which is passed to the database without loading it into the memory.
+	 *
+	 * @param content the content stream
+	 * @param isBinary the is binary
+	 * @param contentType the content type
+	 * @throws RepositoryWriteException the repository write exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream, boolean, java.lang.String)
+	 */
+	@Override
+	public void setContent(InputStream content, boolean isBinary, String contentType) throws RepositoryWriteException {
+
+		this.binary = isBinary;
+		this.contentType = contentType;
+
+		try {
+			if (exists()) {
+				final CmsDatabaseFile document = getDocumentSafe();
+				document.setData(content);
+			} else {
+				getRepository().getRepositoryDao().createFile(getPath(), content, isBinary, contentType);
+			}
+		} catch (CmsDatabaseRepositoryException ex) {
+			throw new RepositoryWriteException("Could not update document.", ex);
+		}
+
+	}
+
 }
@@ -11,7 +11,6 @@
  */
 package org.eclipse.dirigible.cms.db.api;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -80,15 +79,15 @@ public class Document extends CmisObject {
 	}
 
 	/**
-	 * Returns the ContentStream representing the contents of this Document.
+	 * Returns the ContentStream representing the contents of this Document. The content is streamed from
+	 * the repository, hence its length is unknown (-1) and the stream has to be closed by the caller.
 	 *
 	 * @return Content Stream
 	 * @throws IOException IO Exception
 	 */
 	public ContentStream getContentStream() throws IOException {
-		byte[] content = this.internalResource.getContent();
-		return new ContentStream(session, this.internalResource.getName(), content.length, this.internalResource.getContentType(),
-				new ByteArrayInputStream(content));
+		return new ContentStream(session, this.internalResource.getName(), -1, this.internalResource.getContentType(),
+				this.internalResource.getContentStream());
 	}
 
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.cms.db.dao;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * The Database File Content Chunk Definition. The content of a file or of a file version stored in chunks,
+ * for the databases which cannot stream the content of a single BLOB.
+ */
+@Table(name = "DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS")
+public class CmisDatabaseFileContentChunkDefinition {
+
+	/** The id, composed of the path, the version and the index. */
+	@Id
+	@Column(name = "CHUNK_ID", columnDefinition = "VARCHAR", nullable = false, length = 300)
+	private String id;
+
+	/** The path. */
+	@Column(name = "FILE_PATH", columnDefinition = "VARCHAR", nullable = false, length = 255)
+	private String path;
+
+	/** The version, zero for the current content. */
+	@Column(name = "FILE_VERSION", columnDefinition = "INTEGER", nullable = false)
+	private int version;
+
+	/** The index. */
+	@Column(name = "CHUNK_INDEX", columnDefinition = "INTEGER", nullable = false)
+	private int index;
+
+	/** The content. */
+	@Column(name = "CHUNK_CONTENT", columnDefinition = "BLOB", nullable = true)
+	private byte[] content;
+
+	/**
+	 * Gets the id.
+	 *
+	 * @return the id
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Sets the id.
+	 *
+	 * @param id the new id
+	 */
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * Gets the path.
+	 *
+	 * @return the path
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Sets the path.
+	 *
+	 * @param path the new path
+	 */
+	public void setPath(String path) {
+		this.path = path;
+	}
+
+	/**
+	 * Gets the version.
+	 *
+	 * @return the version
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Sets the version.
+	 *
+	 * @param version the new version
+	 */
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
+	/**
+	 * Gets the index.
+	 *
+	 * @return the index
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Sets the index.
+	 *
+	 * @param index the new index
+	 */
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
+	/**
+	 * Gets the content.
+	 *
+	 * @return the content
+	 */
+	public byte[] getContent() {
+		return content != null ? content.clone() : new byte[] {};
+	}
+
+	/**
+	 * Sets the content.
+	 *
+	 * @param content the new content
+	 */
+	public void setContent(byte[] content) {
+		this.content = content != null ? content.clone() : null;
+	}
+
+}
@@ -11,6 +11,8 @@
  */
 package org.eclipse.dirigible.cms.db.dao;
 
+import java.util.Locale;
+
 import javax.persistence.Column;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -39,6 +41,18 @@ public class CmisDatabaseFileDefinition {
 	@Column(name = "FILE_NAME", columnDefinition = "VARCHAR", nullable = false, length = 255)
 	private String name;
 
+	/** The path of the parent folder, derived from the path. */
+	@Column(name = "FILE_PARENT", columnDefinition = "VARCHAR", nullable = true, length = 255)
+	private String parent;
+
+	/** The upper case path, derived from the path. */
+	@Column(name = "FILE_PATH_UPPER", columnDefinition = "VARCHAR", nullable = true, length = 255)
+	private String pathUpper;
+
+	/** The upper case name, derived from the name. */
+	@Column(name = "FILE_NAME_UPPER", columnDefinition = "VARCHAR", nullable = true, length = 255)
+	private String nameUpper;
+
 	/** The type. */
 	@Column(name = "FILE_TYPE", columnDefinition = "TINYINT", nullable = false)
 	private byte type;
@@ -79,6 +93,8 @@ public class CmisDatabaseFileDefinition {
 	 */
 	public void setPath(String path) {
 		this.path = path;
+		this.parent = getParentPath(path);
+		this.pathUpper = path != null ? path.toUpperCase(Locale.ROOT) : null;
 	}
 
 	/**
@@ -97,6 +113,51 @@ public class CmisDatabaseFileDefinition {
 	 */
 	public void setName(String name) {
 		this.name = name;
+		this.nameUpper = name != null ? name.toUpperCase(Locale.ROOT) : null;
+	}
+
+	/**
+	 * Gets the path of the parent folder.
+	 *
+	 * @return the parent path
+	 */
+	public String getParent() {
+		return parent;
+	}
+
+	/**
+	 * Gets the upper case path.
+	 *
+	 * @return the upper case path
+	 */
+	public String getPathUpper() {
+		return pathUpper;
+	}
+
+	/**
+	 * Gets the upper case name.
+	 *
+	 * @return the upper case name
+	 */
+	public String getNameUpper() {
+		return nameUpper;
+	}
+
+	/**
+	 * Gets the path of the parent folder of a path.
+	 *
+	 * @param path the path
+	 * @return the parent path or null for the root
+	 */
+	static String getParentPath(String path) {
+		if (path == null) {
+			return null;
+		}
+		int index = path.lastIndexOf('/', path.endsWith("/") ? path.length() - 2 : path.length() - 1);
+		if (index < 0 || path.length() <= 1) {
+			return null;
+		}
+		return index == 0 ? "/" : path.substring(0, index);
 	}
 
 	/**
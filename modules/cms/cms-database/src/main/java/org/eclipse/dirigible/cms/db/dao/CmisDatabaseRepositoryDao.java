@@ -12,6 +12,7 @@
 package org.eclipse.dirigible.cms.db.dao;
 
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -88,6 +89,9 @@ public class CmisDatabaseRepositoryDao {
 	}
 
 	private DataSource datasource;
+
+	/** Whether the tables have been checked. */
+	private volatile boolean initialized = false;
 	
 	/** The datasource. */
 	private DataSource getDatasource() {
@@ -162,6 +166,7 @@ public class CmisDatabaseRepositoryDao {
 				} finally {
 					closeConnection(connection);
 				}
+				pathChanged(path);
 				createVersion(path, content);
 			}
 		} catch (Exception e) {
@@ -169,6 +174,49 @@ public class CmisDatabaseRepositoryDao {
 		}
 	}
 
+	/**
+	 * Publishes a changed path to the search index of the repository.
+	 *
+	 * @param path the path
+	 */
+	private void pathChanged(String path) {
+		CmsDatabaseRepository cmsRepository = getRepository();
+		if (cmsRepository != null) {
+			cmsRepository.pathChanged(path);
+		}
+	}
+
+	/**
+	 * Creates the file from a stream.
+	 *
+	 * @param path
+	 *            the path
+	 * @param content
+	 *            the content stream, which is read to its end, but not closed
+	 * @param isBinary
+	 *            the is binary
+	 * @param contentType
+	 *            the content type
+	 * @throws CmsDatabaseRepositoryException
+	 *             the database repository exception
+	 */
+	public void createFile(String path, InputStream content, boolean isBinary, String contentType) throws CmsDatabaseRepositoryException {
+		try {
+			Connection connection = null;
+			try {
+				connection = openConnection();
+				ensureFoldersCreated(path);
+				CmisDatabaseRepositoryUtils.saveFile(connection, path, content, isBinary, contentType);
+			} finally {
+				closeConnection(connection);
+			}
+			pathChanged(path);
+			createVersion(path);
+		} catch (Exception e) {
+			throw new CmsDatabaseRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Ensure folders created.
 	 *
@@ -203,6 +251,7 @@ public class CmisDatabaseRepositoryDao {
 	 * @throws SQLException the SQL exception
 	 */
 	private Connection openConnection() throws SQLException {
+		checkInitialized();
 		return getDatasource().getConnection();
 	}
 
@@ -224,6 +273,23 @@ public class CmisDatabaseRepositoryDao {
 		}
 	}
 
+	/**
+	 * Creates a version with the stored content of the file.
+	 *
+	 * @param path            the workspace path
+	 * @throws SQLException             on sql error
+	 */
+	private void createVersion(String path) throws SQLException {
+		Connection connection = null;
+		try {
+			connection = openConnection();
+			int version = CmisDatabaseRepositoryUtils.getLastFileVersion(connection, path);
+			CmisDatabaseRepositoryUtils.saveFileVersion(connection, path, ++version);
+		} finally {
+			closeConnection(connection);
+		}
+	}
+
 	/**
 	 * Removes the versions.
 	 *
@@ -241,11 +307,29 @@ public class CmisDatabaseRepositoryDao {
 	}
 
 	/**
-	 * Check initialized.
+	 * Checks once whether the files table is up to date and migrates it if needed.
 	 */
 	public void checkInitialized() {
-		// TODO Auto-generated method stub
-
+		if (!initialized) {
+			synchronized (this) {
+				if (!initialized) {
+					Connection connection = null;
+					try {
+						connection = getDatasource().getConnection();
+						CmisDatabaseRepositoryUtils.initializeFilesTable(connection);
+						initialized = true;
+					} catch (SQLException e) {
+						throw new CmsDatabaseRepositoryException(e);
+					} finally {
+						try {
+							closeConnection(connection);
+						} catch (SQLException e) {
+							if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+						}
+					}
+				}
+			}
+		}
 	}
 
 	/**
@@ -265,12 +349,52 @@ public class CmisDatabaseRepositoryDao {
 			} finally {
 				closeConnection(connection);
 			}
+			pathChanged(workspacePath);
 			createVersion(workspacePath, content);
 		} catch (Exception e) {
 			throw new CmsDatabaseRepositoryException(e);
 		}
 	}
 
+	/**
+	 * Sets the file content from a stream.
+	 *
+	 * @param databaseFile            the database file
+	 * @param content            the content stream, which is read to its end, but not closed
+	 * @throws SQLException the SQL exception
+	 */
+	public void setFileContent(CmsDatabaseFile databaseFile, InputStream content) throws SQLException {
+		try {
+			String workspacePath = databaseFile.getPath();
+			Connection connection = null;
+			try {
+				connection = openConnection();
+				CmisDatabaseRepositoryUtils.saveFile(connection, workspacePath, content, databaseFile.isBinary(), databaseFile.getContentType());
+			} finally {
+				closeConnection(connection);
+			}
+			pathChanged(workspacePath);
+			createVersion(workspacePath);
+		} catch (Exception e) {
+			throw new CmsDatabaseRepositoryException(e);
+		}
+	}
+
+	/**
+	 * Gets the file content as a stream. The stream holds a connection until it is closed or fully read.
+	 *
+	 * @param databaseFile
+	 *            the database file
+	 * @return the file content stream or null
+	 */
+	public InputStream getFileContentStream(CmsDatabaseFile databaseFile) {
+		try {
+			return CmisDatabaseRepositoryUtils.openFileContent(openConnection(), databaseFile.getPath());
+		} catch (Exception e) {
+			throw new CmsDatabaseRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Gets the file content.
 	 *
@@ -303,18 +427,16 @@ public class CmisDatabaseRepositoryDao {
 	public void renameFile(String path, String newPath) throws SQLException {
 		try {
 			Connection connection = null;
-			byte[] content = null;
 			try {
 				connection = openConnection();
 				CmisDatabaseRepositoryUtils.moveFile(connection, path, newPath);
-				content = CmisDatabaseRepositoryUtils.loadFile(connection, newPath);
 			} finally {
 				closeConnection(connection);
 			}
-			if (content != null) {
-				createVersion(newPath, content);
-				removeVersions(path);
-			}
+			pathChanged(path);
+			pathChanged(newPath);
+			createVersion(newPath);
+			removeVersions(path);
 
 		} catch (Exception e) {
 			throw new CmsDatabaseRepositoryException(e);
@@ -330,18 +452,15 @@ public class CmisDatabaseRepositoryDao {
 	 */
 	public void copyFile(String path, String newPath) throws SQLException {
 		try {
-			byte[] content = null;
 			Connection connection = null;
 			try {
 				connection = openConnection();
 				CmisDatabaseRepositoryUtils.copyFile(connection, path, newPath);
-				content = CmisDatabaseRepositoryUtils.loadFile(connection, newPath);
 			} finally {
 				closeConnection(connection);
 			}
-			if (content != null) {
-				createVersion(newPath, content);
-			}
+			pathChanged(newPath);
+			createVersion(newPath);
 		} catch (Exception e) {
 			throw new CmsDatabaseRepositoryException(e);
 		}
@@ -362,6 +481,7 @@ public class CmisDatabaseRepositoryDao {
 			} finally {
 				closeConnection(connection);
 			}
+			pathChanged(path);
 			removeVersions(path);
 		} catch (Exception e) {
 			throw new CmsDatabaseRepositoryException(e);
@@ -383,6 +503,7 @@ public class CmisDatabaseRepositoryDao {
 			} finally {
 				closeConnection(connection);
 			}
+			pathChanged(path);
 			removeVersions(path);
 		} catch (Exception e) {
 			throw new CmsDatabaseRepositoryException(e);
@@ -425,6 +546,8 @@ public class CmisDatabaseRepositoryDao {
 			} finally {
 				closeConnection(connection);
 			}
+			pathChanged(path);
+			pathChanged(newPath);
 			removeVersions(newPath);
 		} catch (Exception e) {
 			throw new CmsDatabaseRepositoryException(e);
@@ -451,6 +574,7 @@ public class CmisDatabaseRepositoryDao {
 			} finally {
 				closeConnection(connection);
 			}
+			pathChanged(newPath);
 		} catch (Exception e) {
 			throw new CmsDatabaseRepositoryException(e);
 		}
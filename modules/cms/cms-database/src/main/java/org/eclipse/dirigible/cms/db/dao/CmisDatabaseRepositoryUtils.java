@@ -11,16 +11,28 @@
  */
 package org.eclipse.dirigible.cms.db.dao;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import org.eclipse.dirigible.api.v3.security.UserFacade;
+import org.eclipse.dirigible.cms.db.CmsDatabaseRepositoryException;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.eclipse.dirigible.database.sql.DataType;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
@@ -40,9 +52,155 @@ public class CmisDatabaseRepositoryUtils {
 	/** The persistence manager files versions. */
 	private static PersistenceManager<CmisDatabaseFileVersionDefinition> persistenceManagerFilesVersions = new PersistenceManager<CmisDatabaseFileVersionDefinition>();
 
+	/** The persistence manager files content chunks. */
+	private static PersistenceManager<CmisDatabaseFileContentChunkDefinition> persistenceManagerFilesContentChunks = new PersistenceManager<CmisDatabaseFileContentChunkDefinition>();
+
 	/** The Constant PERCENT. */
 	private static final String PERCENT = "%";
 
+	/** Whether to store the content in chunks - true, false or auto, i.e. only for the databases without BLOB streaming. */
+	public static final String DIRIGIBLE_CMS_DATABASE_CONTENT_CHUNKED = "DIRIGIBLE_CMS_DATABASE_CONTENT_CHUNKED";
+
+	/** The size of the content chunks in bytes. */
+	public static final String DIRIGIBLE_CMS_DATABASE_CONTENT_CHUNK_SIZE = "DIRIGIBLE_CMS_DATABASE_CONTENT_CHUNK_SIZE";
+
+	/** The Constant DEFAULT_CHUNK_SIZE. */
+	private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+	/** The Constant CURRENT_VERSION. */
+	private static final int CURRENT_VERSION = 0;
+
+	/** The Constant FILES_TABLE. */
+	private static final String FILES_TABLE = "DIRIGIBLE_CMS_FILES";
+
+	/** The derived columns used by the listing and the search, which are missing in the tables of the older versions. */
+	private static final String[] FILES_DERIVED_COLUMNS = {"FILE_PARENT", "FILE_PATH_UPPER", "FILE_NAME_UPPER"};
+
+	/** The indices of the files table per index name. */
+	private static final String[][] FILES_INDICES = {
+			{"DIRIGIBLE_CMS_FILES_PARENT_IDX", "FILE_PARENT"},
+			{"DIRIGIBLE_CMS_FILES_NAME_IDX", "FILE_NAME"},
+			{"DIRIGIBLE_CMS_FILES_NAME_UPPER_IDX", "FILE_NAME_UPPER"},
+			{"DIRIGIBLE_CMS_FILES_PATH_UPPER_IDX", "FILE_PATH_UPPER"}};
+
+	/** The Constant MIGRATION_BATCH_SIZE. */
+	private static final int MIGRATION_BATCH_SIZE = 1000;
+
+	/**
+	 * Prepares the files table for the listing and the search - adds the derived columns to a table created by an
+	 * older version, fills them in for the existing files and creates the missing indices.
+	 *
+	 * @param connection            the connection
+	 * @throws SQLException             in case of a database error
+	 */
+	public static void initializeFilesTable(Connection connection) throws SQLException {
+		persistenceManagerFiles.tableCheck(connection, CmisDatabaseFileDefinition.class);
+		Set<String> columns = getColumnNames(connection, FILES_TABLE);
+		for (String column : FILES_DERIVED_COLUMNS) {
+			if (!columns.contains(column)) {
+				String sql = SqlFactory.getNative(connection).alter().table(FILES_TABLE).add()
+						.column(column, DataType.VARCHAR, false, true, false, "(255)").build();
+				persistenceManagerFiles.execute(connection, sql);
+			}
+		}
+		fillDerivedColumns(connection);
+		Set<String> indices = getIndexNames(connection, FILES_TABLE);
+		for (String[] index : FILES_INDICES) {
+			if (!indices.contains(index[0])) {
+				for (String sql : SqlFactory.getNative(connection).create().table(FILES_TABLE)
+						.index(index[0], false, null, new LinkedHashSet<String>(Arrays.asList(index[1]))).buildTable().getCreateIndicesStatements()) {
+					persistenceManagerFiles.execute(connection, sql);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fills in the derived columns of the files stored before they have been introduced.
+	 *
+	 * @param connection            the connection
+	 * @throws SQLException             in case of a database error
+	 */
+	private static void fillDerivedColumns(Connection connection) throws SQLException {
+		String select = SqlFactory.getNative(connection).select().column("FILE_PATH").column("FILE_NAME").from(FILES_TABLE)
+				.where("FILE_PATH_UPPER IS NULL").build();
+		String update = SqlFactory.getNative(connection).update().table(FILES_TABLE).set("FILE_PARENT", "?").set("FILE_PATH_UPPER", "?")
+				.set("FILE_NAME_UPPER", "?").where("FILE_PATH = ?").build();
+		try (PreparedStatement selectStatement = connection.prepareStatement(select);
+				ResultSet resultSet = selectStatement.executeQuery();
+				PreparedStatement updateStatement = connection.prepareStatement(update)) {
+			int pending = 0;
+			while (resultSet.next()) {
+				CmisDatabaseFileDefinition file = new CmisDatabaseFileDefinition();
+				file.setPath(resultSet.getString(1));
+				file.setName(resultSet.getString(2));
+				updateStatement.setString(1, file.getParent());
+				updateStatement.setString(2, file.getPathUpper());
+				updateStatement.setString(3, file.getNameUpper());
+				updateStatement.setString(4, file.getPath());
+				updateStatement.addBatch();
+				if (++pending == MIGRATION_BATCH_SIZE) {
+					updateStatement.executeBatch();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				updateStatement.executeBatch();
+			}
+		}
+	}
+
+	/**
+	 * Gets the upper case names of the columns of a table.
+	 *
+	 * @param connection            the connection
+	 * @param table            the table
+	 * @return the column names
+	 * @throws SQLException             in case of a database error
+	 */
+	private static Set<String> getColumnNames(Connection connection, String table) throws SQLException {
+		Set<String> names = new HashSet<String>();
+		DatabaseMetaData metadata = connection.getMetaData();
+		for (String tableName : new String[] {table, table.toLowerCase(Locale.ROOT)}) {
+			try (ResultSet resultSet = metadata.getColumns(null, null, tableName, null)) {
+				while (resultSet.next()) {
+					names.add(resultSet.getString("COLUMN_NAME").toUpperCase(Locale.ROOT));
+				}
+			}
+			if (!names.isEmpty()) {
+				break;
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Gets the upper case names of the indices of a table.
+	 *
+	 * @param connection            the connection
+	 * @param table            the table
+	 * @return the index names
+	 * @throws SQLException             in case of a database error
+	 */
+	private static Set<String> getIndexNames(Connection connection, String table) throws SQLException {
+		Set<String> names = new HashSet<String>();
+		DatabaseMetaData metadata = connection.getMetaData();
+		for (String tableName : new String[] {table, table.toLowerCase(Locale.ROOT)}) {
+			try (ResultSet resultSet = metadata.getIndexInfo(null, null, tableName, false, true)) {
+				while (resultSet.next()) {
+					String name = resultSet.getString("INDEX_NAME");
+					if (name != null) {
+						names.add(name.toUpperCase(Locale.ROOT));
+					}
+				}
+			}
+			if (!names.isEmpty()) {
+				break;
+			}
+		}
+		return names;
+	}
+
 	/**
 	 * Save file.
 	 *
@@ -53,6 +211,50 @@ public class CmisDatabaseRepositoryUtils {
 	 * @param contentType            the content type
 	 */
 	public static void saveFile(Connection connection, String path, byte[] content, boolean isBinary, String contentType) {
+		saveFileDefinition(connection, path, isBinary, contentType);
+
+		removeFileChunks(connection, path, CURRENT_VERSION);
+		CmisDatabaseFileContentDefinition databaseFileContentDefinition = persistenceManagerFilesContent.find(connection,
+				CmisDatabaseFileContentDefinition.class, path);
+		if (databaseFileContentDefinition != null) {
+			databaseFileContentDefinition.setContent(content);
+			persistenceManagerFilesContent.update(connection, databaseFileContentDefinition);
+		} else {
+			databaseFileContentDefinition = new CmisDatabaseFileContentDefinition();
+			databaseFileContentDefinition.setPath(path);
+			databaseFileContentDefinition.setContent(content);
+			persistenceManagerFilesContent.insert(connection, databaseFileContentDefinition);
+		}
+
+	}
+
+	/**
+	 * Save file from a stream. The content is passed to the database as a stream or in chunks, hence it is never
+	 * loaded into the memory as a whole.
+	 *
+	 * @param connection            the underlying connection
+	 * @param path            the path of the file
+	 * @param content            the content stream, which is read to its end, but not closed
+	 * @param isBinary            whether the file is binary
+	 * @param contentType            the content type
+	 * @throws SQLException             in case of a database error
+	 * @throws IOException             in case of an error reading the content
+	 */
+	public static void saveFile(Connection connection, String path, InputStream content, boolean isBinary, String contentType)
+			throws SQLException, IOException {
+		saveFileDefinition(connection, path, isBinary, contentType);
+		saveFileContent(connection, path, content);
+	}
+
+	/**
+	 * Creates or updates the definition of a file.
+	 *
+	 * @param connection            the underlying connection
+	 * @param path            the path of the file
+	 * @param isBinary            whether the file is binary
+	 * @param contentType            the content type
+	 */
+	private static void saveFileDefinition(Connection connection, String path, boolean isBinary, String contentType) {
 		String username = UserFacade.getName();
 		CmisDatabaseFileDefinition file = persistenceManagerFiles.find(connection, CmisDatabaseFileDefinition.class, path);
 		if ((file != null) && (file.getType() != CmisDatabaseFileDefinition.OBJECT_TYPE_FOLDER)) {
@@ -74,19 +276,333 @@ public class CmisDatabaseRepositoryUtils {
 			file.setModifiedBy(username);
 			persistenceManagerFiles.insert(connection, file);
 		}
+	}
 
-		CmisDatabaseFileContentDefinition databaseFileContentDefinition = persistenceManagerFilesContent.find(connection,
-				CmisDatabaseFileContentDefinition.class, path);
-		if (databaseFileContentDefinition != null) {
-			databaseFileContentDefinition.setContent(content);
-			persistenceManagerFilesContent.update(connection, databaseFileContentDefinition);
+	/**
+	 * Stores the content of a file from a stream, either as a single BLOB or in chunks depending on the configuration
+	 * and the database.
+	 *
+	 * @param connection            the underlying connection
+	 * @param path            the path of the file
+	 * @param content            the content stream, which is read to its end, but not closed
+	 * @throws SQLException             in case of a database error
+	 * @throws IOException             in case of an error reading the content
+	 */
+	public static void saveFileContent(Connection connection, String path, InputStream content) throws SQLException, IOException {
+		removeFileChunks(connection, path, CURRENT_VERSION);
+		if (isChunked(connection)) {
+			writeFileContent(connection, path, new ByteArrayInputStream(new byte[0]));
+			saveFileChunks(connection, path, CURRENT_VERSION, content);
 		} else {
-			databaseFileContentDefinition = new CmisDatabaseFileContentDefinition();
-			databaseFileContentDefinition.setPath(path);
-			databaseFileContentDefinition.setContent(content);
-			persistenceManagerFilesContent.insert(connection, databaseFileContentDefinition);
+			writeFileContent(connection, path, content);
+		}
+	}
+
+	/**
+	 * Writes the BLOB with the content of a file.
+	 *
+	 * @param connection            the underlying connection
+	 * @param path            the path of the file
+	 * @param content            the content stream
+	 * @throws SQLException             in case of a database error
+	 */
+	private static void writeFileContent(Connection connection, String path, InputStream content) throws SQLException {
+		persistenceManagerFilesContent.tableCheck(connection, CmisDatabaseFileContentDefinition.class);
+		// the stream can be consumed only once, so check for an existing row instead of trying an update first
+		boolean exists;
+		String sql = SqlFactory.getNative(connection).select().column("FILE_PATH").from("DIRIGIBLE_CMS_FILES_CONTENT").where("FILE_PATH = ?").build();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, path);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				exists = resultSet.next();
+			}
+		}
+		if (exists) {
+			sql = SqlFactory.getNative(connection).update().table("DIRIGIBLE_CMS_FILES_CONTENT").set("FILE_CONTENT", "?").where("FILE_PATH = ?").build();
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				statement.setBinaryStream(1, content);
+				statement.setString(2, path);
+				statement.executeUpdate();
+			}
+		} else {
+			sql = SqlFactory.getNative(connection).insert().into("DIRIGIBLE_CMS_FILES_CONTENT").column("FILE_PATH").column("FILE_CONTENT").build();
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				statement.setString(1, path);
+				statement.setBinaryStream(2, content);
+				statement.executeUpdate();
+			}
+		}
+	}
+
+	/**
+	 * Opens a stream over the content of a file. The stream owns the connection and closes it when the stream
+	 * is closed or fully read. The connection is closed immediately, if the file has no content.
+	 *
+	 * @param connection            the connection, which is closed with the stream
+	 * @param path            the path
+	 * @return the content stream or null if the file has no content
+	 * @throws SQLException             in case of a database error
+	 */
+	public static InputStream openFileContent(Connection connection, String path) throws SQLException {
+		PreparedStatement statement = null;
+		ResultSet resultSet = null;
+		try {
+			if (existsFileChunks(connection, path, CURRENT_VERSION)) {
+				statement = prepareChunkStatement(connection);
+				return new CmisDatabaseFileChunksInputStream(statement, path, CURRENT_VERSION, connection);
+			}
+			persistenceManagerFilesContent.tableCheck(connection, CmisDatabaseFileContentDefinition.class);
+			String sql = SqlFactory.getNative(connection).select().column("FILE_CONTENT").from("DIRIGIBLE_CMS_FILES_CONTENT").where("FILE_PATH = ?")
+					.build();
+			statement = connection.prepareStatement(sql);
+			statement.setString(1, path);
+			resultSet = statement.executeQuery();
+			if (resultSet.next()) {
+				InputStream content = resultSet.getBinaryStream(1);
+				return new CmisDatabaseFileContentInputStream(content != null ? content : new ByteArrayInputStream(new byte[0]), resultSet,
+						statement, connection);
+			}
+		} catch (SQLException | RuntimeException e) {
+			closeQuietly(resultSet, statement, connection);
+			throw e;
+		}
+		closeQuietly(resultSet, statement, connection);
+		return null;
+	}
+
+	/**
+	 * Copies the content of a file to another file through the database, without loading it into the memory.
+	 *
+	 * @param connection            the connection
+	 * @param path            the path of the source file
+	 * @param newPath            the path of the target file
+	 * @throws SQLException             in case of a database error
+	 */
+	private static void copyFileContent(Connection connection, String path, String newPath) throws SQLException {
+		removeFileChunks(connection, newPath, CURRENT_VERSION);
+		if (existsFileChunks(connection, path, CURRENT_VERSION)) {
+			writeFileContent(connection, newPath, new ByteArrayInputStream(new byte[0]));
+			copyFileChunks(connection, path, CURRENT_VERSION, newPath, CURRENT_VERSION);
+			return;
+		}
+		String sql = SqlFactory.getNative(connection).select().column("FILE_CONTENT").from("DIRIGIBLE_CMS_FILES_CONTENT").where("FILE_PATH = ?").build();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, path);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				InputStream content = resultSet.next() ? resultSet.getBinaryStream(1) : null;
+				writeFileContent(connection, newPath, content != null ? content : new ByteArrayInputStream(new byte[0]));
+			}
+		}
+	}
+
+	/**
+	 * Whether to store the content in chunks. By default the content is chunked only for PostgreSQL, where
+	 * the BLOBs are mapped to BYTEA, which the driver always loads into the memory as a whole.
+	 *
+	 * @param connection            the connection
+	 * @return true, if the content is to be stored in chunks
+	 * @throws SQLException             in case of a database error
+	 */
+	private static boolean isChunked(Connection connection) throws SQLException {
+		String chunked = Configuration.get(DIRIGIBLE_CMS_DATABASE_CONTENT_CHUNKED, "auto");
+		if (Boolean.TRUE.toString().equalsIgnoreCase(chunked) || Boolean.FALSE.toString().equalsIgnoreCase(chunked)) {
+			return Boolean.parseBoolean(chunked);
+		}
+		String productName = connection.getMetaData().getDatabaseProductName();
+		return (productName != null) && productName.toLowerCase(Locale.ROOT).contains("postgres");
+	}
+
+	/**
+	 * Gets the configured chunk size.
+	 *
+	 * @return the chunk size
+	 */
+	private static int getChunkSize() {
+		try {
+			int chunkSize = Integer.parseInt(Configuration.get(DIRIGIBLE_CMS_DATABASE_CONTENT_CHUNK_SIZE, DEFAULT_CHUNK_SIZE + ""));
+			return chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+		} catch (NumberFormatException e) {
+			return DEFAULT_CHUNK_SIZE;
+		}
+	}
+
+	/**
+	 * Gets the id of a content chunk.
+	 *
+	 * @param path            the path
+	 * @param version            the version, zero for the current content
+	 * @param index            the index of the chunk
+	 * @return the chunk id
+	 */
+	static String getChunkId(String path, int version, int index) {
+		return path + "#" + version + "#" + index;
+	}
+
+	/**
+	 * Prepares the statement selecting the content of a chunk by its id.
+	 *
+	 * @param connection            the connection
+	 * @return the statement
+	 * @throws SQLException             in case of a database error
+	 */
+	private static PreparedStatement prepareChunkStatement(Connection connection) throws SQLException {
+		String sql = SqlFactory.getNative(connection).select().column("CHUNK_CONTENT").from("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").where("CHUNK_ID = ?")
+				.build();
+		return connection.prepareStatement(sql);
+	}
+
+	/**
+	 * Whether the content is stored in chunks.
+	 *
+	 * @param connection            the connection
+	 * @param path            the path
+	 * @param version            the version, zero for the current content
+	 * @return true, if there are chunks
+	 * @throws SQLException             in case of a database error
+	 */
+	private static boolean existsFileChunks(Connection connection, String path, int version) throws SQLException {
+		persistenceManagerFilesContentChunks.tableCheck(connection, CmisDatabaseFileContentChunkDefinition.class);
+		String sql = SqlFactory.getNative(connection).select().column("CHUNK_INDEX").from("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").where("CHUNK_ID = ?")
+				.build();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, getChunkId(path, version, 0));
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next();
+			}
+		}
+	}
+
+	/**
+	 * Stores the content in chunks.
+	 *
+	 * @param connection            the connection
+	 * @param path            the path
+	 * @param version            the version, zero for the current content
+	 * @param content            the content stream
+	 * @throws SQLException             in case of a database error
+	 * @throws IOException             in case of an error reading the content
+	 */
+	private static void saveFileChunks(Connection connection, String path, int version, InputStream content) throws SQLException, IOException {
+		byte[] buffer = new byte[getChunkSize()];
+		String sql = SqlFactory.getNative(connection).insert().into("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").column("CHUNK_ID").column("FILE_PATH")
+				.column("FILE_VERSION").column("CHUNK_INDEX").column("CHUNK_CONTENT").build();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			int index = 0;
+			int read;
+			while ((read = content.readNBytes(buffer, 0, buffer.length)) > 0) {
+				insertFileChunk(statement, path, version, index++, buffer, read);
+			}
+		}
+	}
+
+	/**
+	 * Copies the chunks of a content through the database. Only a single chunk is loaded into the memory at a time.
+	 *
+	 * @param connection            the connection
+	 * @param path            the source path
+	 * @param version            the source version
+	 * @param newPath            the target path
+	 * @param newVersion            the target version
+	 * @throws SQLException             in case of a database error
+	 */
+	private static void copyFileChunks(Connection connection, String path, int version, String newPath, int newVersion) throws SQLException {
+		String sql = SqlFactory.getNative(connection).insert().into("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").column("CHUNK_ID").column("FILE_PATH")
+				.column("FILE_VERSION").column("CHUNK_INDEX").column("CHUNK_CONTENT").build();
+		try (PreparedStatement select = prepareChunkStatement(connection); PreparedStatement insert = connection.prepareStatement(sql)) {
+			for (int index = 0;; index++) {
+				select.setString(1, getChunkId(path, version, index));
+				byte[] chunk;
+				try (ResultSet resultSet = select.executeQuery()) {
+					if (!resultSet.next()) {
+						break;
+					}
+					chunk = resultSet.getBytes(1);
+				}
+				chunk = chunk != null ? chunk : new byte[0];
+				insertFileChunk(insert, newPath, newVersion, index, chunk, chunk.length);
+			}
+		}
+	}
+
+	/**
+	 * Inserts a chunk.
+	 *
+	 * @param statement            the insert statement
+	 * @param path            the path
+	 * @param version            the version
+	 * @param index            the index
+	 * @param buffer            the buffer with the content
+	 * @param length            the length of the content in the buffer
+	 * @throws SQLException             in case of a database error
+	 */
+	private static void insertFileChunk(PreparedStatement statement, String path, int version, int index, byte[] buffer, int length)
+			throws SQLException {
+		statement.setString(1, getChunkId(path, version, index));
+		statement.setString(2, path);
+		statement.setInt(3, version);
+		statement.setInt(4, index);
+		statement.setBinaryStream(5, new ByteArrayInputStream(buffer, 0, length), length);
+		statement.executeUpdate();
+	}
+
+	/**
+	 * Loads the content stored in chunks.
+	 *
+	 * @param connection            the connection
+	 * @param path            the path
+	 * @param version            the version, zero for the current content
+	 * @return the content or null if there are no chunks
+	 */
+	private static byte[] loadFileChunks(Connection connection, String path, int version) {
+		try {
+			if (!existsFileChunks(connection, path, version)) {
+				return null;
+			}
+			try (InputStream content = new CmisDatabaseFileChunksInputStream(prepareChunkStatement(connection), path, version)) {
+				return content.readAllBytes();
+			}
+		} catch (SQLException | IOException e) {
+			throw new CmsDatabaseRepositoryException(e);
+		}
+	}
+
+	/**
+	 * Removes the chunks of a content. The chunks are removed one by one by their ids, so that no scan is needed.
+	 *
+	 * @param connection            the connection
+	 * @param path            the path
+	 * @param version            the version, zero for the current content
+	 */
+	private static void removeFileChunks(Connection connection, String path, int version) {
+		persistenceManagerFilesContentChunks.tableCheck(connection, CmisDatabaseFileContentChunkDefinition.class);
+		String sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").where("CHUNK_ID = ?").build();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			for (int index = 0;; index++) {
+				statement.setString(1, getChunkId(path, version, index));
+				if (statement.executeUpdate() == 0) {
+					break;
+				}
+			}
+		} catch (SQLException e) {
+			throw new CmsDatabaseRepositoryException(e);
 		}
+	}
 
+	/**
+	 * Closes the resources quietly.
+	 *
+	 * @param resources            the resources
+	 */
+	private static void closeQuietly(AutoCloseable... resources) {
+		for (AutoCloseable resource : resources) {
+			if (resource != null) {
+				try {
+					resource.close();
+				} catch (Exception e) {
+					// ignore
+				}
+			}
+		}
 	}
 
 	/**
@@ -122,7 +638,14 @@ public class CmisDatabaseRepositoryUtils {
 		CmisDatabaseFileContentDefinition databaseFileContentDefinition = persistenceManagerFilesContent.find(connection,
 				CmisDatabaseFileContentDefinition.class, path);
 		if (databaseFileContentDefinition != null) {
-			return databaseFileContentDefinition.getContent();
+			byte[] content = databaseFileContentDefinition.getContent();
+			if (content.length == 0) {
+				byte[] chunks = loadFileChunks(connection, path, CURRENT_VERSION);
+				if (chunks != null) {
+					return chunks;
+				}
+			}
+			return content;
 		}
 		return null;
 	}
@@ -152,9 +675,13 @@ public class CmisDatabaseRepositoryUtils {
 			if (databaseFileDefinition.getType() == CmisDatabaseFileDefinition.OBJECT_TYPE_FOLDER) {
 				createFolder(connection, fullPath);
 			} else {
-				byte[] content = loadFile(connection, databaseFileDefinition.getPath());
-				saveFile(connection, fullPath, content, databaseFileDefinition.getType() == CmisDatabaseFileDefinition.OBJECT_TYPE_BINARY,
+				saveFileDefinition(connection, fullPath, databaseFileDefinition.getType() == CmisDatabaseFileDefinition.OBJECT_TYPE_BINARY,
 						databaseFileDefinition.getContentType());
+				try {
+					copyFileContent(connection, databaseFileDefinition.getPath(), fullPath);
+				} catch (SQLException e) {
+					throw new CmsDatabaseRepositoryException(e);
+				}
 			}
 		}
 		removeFile(connection, path);
@@ -182,8 +709,13 @@ public class CmisDatabaseRepositoryUtils {
 			if (databaseFileDefinition.getType() == CmisDatabaseFileDefinition.OBJECT_TYPE_FOLDER) {
 				createFolder(connection, fullPath);
 			} else {
-				saveFile(connection, fullPath, loadFile(connection, databaseFileDefinition.getPath()),
-						databaseFileDefinition.getType() == CmisDatabaseFileDefinition.OBJECT_TYPE_BINARY, databaseFileDefinition.getContentType());
+				saveFileDefinition(connection, fullPath, databaseFileDefinition.getType() == CmisDatabaseFileDefinition.OBJECT_TYPE_BINARY,
+						databaseFileDefinition.getContentType());
+				try {
+					copyFileContent(connection, databaseFileDefinition.getPath(), fullPath);
+				} catch (SQLException e) {
+					throw new CmsDatabaseRepositoryException(e);
+				}
 			}
 		}
 
@@ -199,6 +731,7 @@ public class CmisDatabaseRepositoryUtils {
 		persistenceManagerFiles.tableCheck(connection, CmisDatabaseFileDefinition.class);
 		persistenceManagerFilesContent.tableCheck(connection, CmisDatabaseFileContentDefinition.class);
 		persistenceManagerFilesVersions.tableCheck(connection, CmisDatabaseFileVersionDefinition.class);
+		persistenceManagerFilesContentChunks.tableCheck(connection, CmisDatabaseFileContentChunkDefinition.class);
 		
 		String sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_CMS_FILES").where("FILE_PATH = ?").build();
 		persistenceManagerFiles.execute(connection, sql, path);
@@ -214,6 +747,11 @@ public class CmisDatabaseRepositoryUtils {
 		persistenceManagerFilesContent.execute(connection, sql, path);
 		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_CMS_FILES_VERSIONS").where("FILE_PATH LIKE ?").build();
 		persistenceManagerFilesContent.execute(connection, sql, path + IRepositoryStructure.SEPARATOR + PERCENT);
+		
+		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").where("FILE_PATH = ?").build();
+		persistenceManagerFilesContentChunks.execute(connection, sql, path);
+		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").where("FILE_PATH LIKE ?").build();
+		persistenceManagerFilesContentChunks.execute(connection, sql, path + IRepositoryStructure.SEPARATOR + PERCENT);
 	}
 
 	/**
@@ -314,13 +852,9 @@ public class CmisDatabaseRepositoryUtils {
 	 */
 	public static List<CmisDatabaseFileDefinition> findChildren(Connection connection, String path) {
 		persistenceManagerFiles.tableCheck(connection, CmisDatabaseFileDefinition.class);
-		String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_CMS_FILES").where("FILE_PATH LIKE ? AND FILE_PATH NOT LIKE ?")
-				.build();
-		String param1 = (IRepository.SEPARATOR.equals(path) ? "" : path) //$NON-NLS-1$
-				+ IRepository.SEPARATOR + PERCENT;
-		String param2 = (IRepository.SEPARATOR.equals(path) ? "" : path) //$NON-NLS-1$
-				+ IRepository.SEPARATOR + PERCENT + IRepository.SEPARATOR + PERCENT;
-		return persistenceManagerFiles.query(connection, CmisDatabaseFileDefinition.class, sql, param1, param2);
+		String sql = SqlFactory.getNative(connection).select().column("*").from(FILES_TABLE).where("FILE_PARENT = ?").build();
+		String parent = (path.length() > 1 && path.endsWith(IRepository.SEPARATOR)) ? path.substring(0, path.length() - 1) : path;
+		return persistenceManagerFiles.query(connection, CmisDatabaseFileDefinition.class, sql, parent);
 
 	}
 
@@ -335,8 +869,8 @@ public class CmisDatabaseRepositoryUtils {
 	 */
 	public static List<CmisDatabaseFileDefinition> searchName(Connection connection, String parameter, boolean caseInsensitive) throws SQLException {
 		persistenceManagerFiles.tableCheck(connection, CmisDatabaseFileDefinition.class);
-		String condition = caseInsensitive ? "UPPER(FILE_NAME) LIKE ?" : "FILE_NAME LIKE ?";
-		String name = caseInsensitive ? parameter.toUpperCase() : parameter;
+		String condition = caseInsensitive ? "FILE_NAME_UPPER LIKE ?" : "FILE_NAME LIKE ?";
+		String name = caseInsensitive ? parameter.toUpperCase(Locale.ROOT) : parameter;
 		String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_CMS_FILES").where(condition).build();
 
 		List<CmisDatabaseFileDefinition> results = persistenceManagerFiles.query(connection, CmisDatabaseFileDefinition.class, sql, PERCENT + name + PERCENT);
@@ -356,9 +890,9 @@ public class CmisDatabaseRepositoryUtils {
 	public static List<CmisDatabaseFileDefinition> searchName(Connection connection, String root, String parameter, boolean caseInsensitive)
 			throws SQLException {
 		persistenceManagerFiles.tableCheck(connection, CmisDatabaseFileDefinition.class);
-		String condition = caseInsensitive ? "UPPER(FILE_PATH) LIKE ? AND UPPER(FILE_NAME) LIKE ?" : "FILE_PATH LIKE ? AND FILE_NAME LIKE ?";
-		String path = caseInsensitive ? root.toUpperCase() : root;
-		String name = caseInsensitive ? parameter.toUpperCase() : parameter;
+		String condition = caseInsensitive ? "FILE_PATH_UPPER LIKE ? AND FILE_NAME_UPPER LIKE ?" : "FILE_PATH LIKE ? AND FILE_NAME LIKE ?";
+		String path = caseInsensitive ? root.toUpperCase(Locale.ROOT) : root;
+		String name = caseInsensitive ? parameter.toUpperCase(Locale.ROOT) : parameter;
 		String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_CMS_FILES").where(condition).build();
 
 		List<CmisDatabaseFileDefinition> results = persistenceManagerFiles.query(connection, CmisDatabaseFileDefinition.class, sql, PERCENT + path + PERCENT,
@@ -377,8 +911,8 @@ public class CmisDatabaseRepositoryUtils {
 	 */
 	public static List<CmisDatabaseFileDefinition> searchPath(Connection connection, String parameter, boolean caseInsensitive) throws SQLException {
 		persistenceManagerFiles.tableCheck(connection, CmisDatabaseFileDefinition.class);
-		String condition = caseInsensitive ? "UPPER(FILE_PATH) LIKE ?" : "FILE_PATH LIKE ?";
-		String name = caseInsensitive ? parameter.toUpperCase() : parameter;
+		String condition = caseInsensitive ? "FILE_PATH_UPPER LIKE ?" : "FILE_PATH LIKE ?";
+		String name = caseInsensitive ? parameter.toUpperCase(Locale.ROOT) : parameter;
 		String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_CMS_FILES").where(condition).build();
 
 		List<CmisDatabaseFileDefinition> results = persistenceManagerFiles.query(connection, CmisDatabaseFileDefinition.class, sql, PERCENT + name + PERCENT);
@@ -422,6 +956,40 @@ public class CmisDatabaseRepositoryUtils {
 
 	}
 
+	/**
+	 * Stores a version with the current content of the file. The content is copied through the database,
+	 * without loading it into the memory.
+	 *
+	 * @param connection            the connection
+	 * @param path            the path
+	 * @param version            the version
+	 * @throws SQLException             in case of an error
+	 */
+	public static void saveFileVersion(Connection connection, String path, int version) throws SQLException {
+		saveFileVersion(connection, path, version, new byte[0]);
+		if (existsFileChunks(connection, path, CURRENT_VERSION)) {
+			copyFileChunks(connection, path, CURRENT_VERSION, path, version);
+			return;
+		}
+		String sql = SqlFactory.getNative(connection).select().column("FILE_CONTENT").from("DIRIGIBLE_CMS_FILES_CONTENT").where("FILE_PATH = ?").build();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, path);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				InputStream content = resultSet.next() ? resultSet.getBinaryStream(1) : null;
+				if (content != null) {
+					sql = SqlFactory.getNative(connection).update().table("DIRIGIBLE_CMS_FILES_VERSIONS").set("FILE_CONTENT", "?")
+							.where("FILE_PATH = ? AND FILE_VERSION = ?").build();
+					try (PreparedStatement update = connection.prepareStatement(sql)) {
+						update.setBinaryStream(1, content);
+						update.setString(2, path);
+						update.setInt(3, version);
+						update.executeUpdate();
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Removes all the file versions.
 	 *
@@ -442,6 +1010,12 @@ public class CmisDatabaseRepositoryUtils {
 				statement.close();
 			}
 		}
+		persistenceManagerFilesContentChunks.tableCheck(connection, CmisDatabaseFileContentChunkDefinition.class);
+		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_CMS_FILES_CONTENT_CHUNKS").where("FILE_PATH = ? AND FILE_VERSION > 0").build();
+		try (PreparedStatement chunksStatement = connection.prepareStatement(sql)) {
+			chunksStatement.setString(1, path);
+			chunksStatement.executeUpdate();
+		}
 	}
 
 	/**
@@ -489,7 +1063,14 @@ public class CmisDatabaseRepositoryUtils {
 		if (list.isEmpty()) {
 			return null;
 		}
-		return list.get(0);
+		CmisDatabaseFileVersionDefinition fileVersion = list.get(0);
+		if (fileVersion.getContent().length == 0) {
+			byte[] chunks = loadFileChunks(connection, path, version);
+			if (chunks != null) {
+				fileVersion.setContent(chunks);
+			}
+		}
+		return fileVersion;
 	}
 
 	/**
@@ -283,6 +283,16 @@ public class ExtensionsSynchronizer extends AbstractSynchronizer {
 		if (logger.isTraceEnabled()) {logger.trace("Done synchronizing Extension Points and Extensions from Registry.");}
 	}
 
+	/**
+	 * Gets the file extensions.
+	 *
+	 * @return the file extensions
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IExtensionsCoreService.FILE_EXTENSION_EXTENSIONPOINT, IExtensionsCoreService.FILE_EXTENSION_EXTENSION };
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
@@ -19,8 +19,8 @@ import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
  */
 public class ExtensionsSynchronizerJob extends AbstractSynchronizerJob {
 
-	/** The extensions synchronizer. */
-	private ExtensionsSynchronizer extensionsSynchronizer = new ExtensionsSynchronizer();
+	/** The extensions synchronizer, shared by the runs of the job. */
+	private static final ExtensionsSynchronizer extensionsSynchronizer = new ExtensionsSynchronizer();
 
 	/**
 	 * Gets the synchronizer.
@@ -13,15 +13,11 @@ package org.eclipse.dirigible.core.messaging.service;
 
 import static java.text.MessageFormat.format;
 
-import javax.jms.Connection;
+import java.util.Collections;
+import java.util.List;
+
 import javax.jms.DeliveryMode;
-import javax.jms.Destination;
-import javax.jms.MessageProducer;
-import javax.jms.Session;
-import javax.jms.TextMessage;
 
-import org.apache.activemq.ActiveMQConnectionFactory;
-import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
 import org.eclipse.dirigible.core.messaging.api.MessagingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +31,8 @@ public class MessagingProducer implements Runnable {
 
 	private String name;
 	private char type;
-	private String message;
+	private List<String> messages;
+	private int deliveryMode;
 
 	/**
 	 * Instantiates a new messaging producer.
@@ -48,9 +45,51 @@ public class MessagingProducer implements Runnable {
 	 *            the message
 	 */
 	public MessagingProducer(String name, char type, String message) {
+		this(name, type, Collections.singletonList(message), MessagingProducerPool.getDefaultDeliveryMode());
+	}
+
+	/**
+	 * Instantiates a new messaging producer for a batch of messages.
+	 *
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param messages
+	 *            the messages, sent in this order
+	 * @param deliveryMode
+	 *            the delivery mode as in {@link DeliveryMode}
+	 */
+	public MessagingProducer(String name, char type, List<String> messages, int deliveryMode) {
 		this.name = name;
 		this.type = type;
-		this.message = message;
+		this.messages = messages;
+		this.deliveryMode = deliveryMode;
+	}
+
+	/**
+	 * Sends the messages to the destination with a pooled session, without spawning a thread.
+	 *
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param messages
+	 *            the messages, sent in this order
+	 * @param deliveryMode
+	 *            the delivery mode as in {@link DeliveryMode}
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	public static void sendBatch(String name, char type, List<String> messages, int deliveryMode) throws MessagingException {
+		try {
+			MessagingProducerPool.get().send(name, type, messages, deliveryMode);
+			if (logger.isTraceEnabled()) {logger.trace(format("[{0}] messages sent in [{1}]", messages.size(), name));}
+		} catch (MessagingException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new MessagingException(format("Failed sending messages to [{0}]", name), e);
+		}
 	}
 
 	/*
@@ -60,33 +99,7 @@ public class MessagingProducer implements Runnable {
 	@Override
 	public void run() {
 		try {
-			ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
-
-			Connection connection = connectionFactory.createConnection();
-			connection.start();
-
-			Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-			try {
-				Destination destination = null;
-				if (type == IMessagingCoreService.QUEUE) {
-					destination = session.createQueue(this.name);
-				} else if (type == IMessagingCoreService.TOPIC) {
-					destination = session.createTopic(this.name);
-				} else {
-					throw new MessagingException(format("Invalid Destination Type [{0}] for destination [{1}]", this.type, this.name));
-				}
-
-				MessageProducer producer = session.createProducer(destination);
-				producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-
-				TextMessage textMessage = session.createTextMessage(this.message);
-
-				producer.send(textMessage);
-				if (logger.isTraceEnabled()) {logger.trace(format("Message sent in [{0}]", this.name));}
-			} finally {
-				session.close();
-				connection.close();
-			}
+			sendBatch(this.name, this.type, this.messages, this.deliveryMode);
 		} catch (Exception e) {
 			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
 		}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.messaging.service;
+
+import static java.text.MessageFormat.format;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.ExceptionListener;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares one broker connection between all the producers and keeps the sessions and their message producers
+ * per destination for reuse. A session is used by a single thread at a time, so it is borrowed from the pool
+ * for a send and given back afterwards.
+ */
+public class MessagingProducerPool implements ExceptionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(MessagingProducerPool.class);
+
+	/** The Constant DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE. */
+	public static final String DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE = "DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE";
+
+	/** The Constant DIRIGIBLE_MESSAGING_DELIVERY_MODE. */
+	public static final String DIRIGIBLE_MESSAGING_DELIVERY_MODE = "DIRIGIBLE_MESSAGING_DELIVERY_MODE";
+
+	/** The Constant DELIVERY_MODE_PERSISTENT. */
+	public static final String DELIVERY_MODE_PERSISTENT = "PERSISTENT";
+
+	/** The Constant DELIVERY_MODE_NON_PERSISTENT. */
+	public static final String DELIVERY_MODE_NON_PERSISTENT = "NON_PERSISTENT";
+
+	/** The Constant DEFAULT_POOL_SIZE. */
+	private static final int DEFAULT_POOL_SIZE = 8;
+
+	/** The instance. */
+	private static MessagingProducerPool INSTANCE;
+
+	/** The idle producers per destination. */
+	private final Map<String, BlockingQueue<PooledProducer>> idleProducers = new ConcurrentHashMap<>();
+
+	/** The pool size. */
+	private final int poolSize;
+
+	/** The connection. */
+	private Connection connection;
+
+	/** The generation of the connection, changed whenever the connection is closed. */
+	private volatile long generation;
+
+	/** The sent messages. */
+	private final LongAdder sentMessages = new LongAdder();
+
+	/** The failed messages. */
+	private final LongAdder failedMessages = new LongAdder();
+
+	/** The send time in nanoseconds. */
+	private final LongAdder sendTime = new LongAdder();
+
+	/** The creation time. */
+	private final long createdAt = System.currentTimeMillis();
+
+	/**
+	 * Instantiates a new messaging producer pool.
+	 */
+	private MessagingProducerPool() {
+		this.poolSize = Math.max(1, Integer.parseInt(Configuration.get(DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE, DEFAULT_POOL_SIZE + "")));
+	}
+
+	/**
+	 * Gets the pool.
+	 *
+	 * @return the messaging producer pool
+	 */
+	public static synchronized MessagingProducerPool get() {
+		if (INSTANCE == null) {
+			INSTANCE = new MessagingProducerPool();
+		}
+		return INSTANCE;
+	}
+
+	/**
+	 * Closes the pooled sessions and the connection, if the pool has been used.
+	 */
+	public static synchronized void shutdown() {
+		if (INSTANCE != null) {
+			INSTANCE.close();
+			INSTANCE = null;
+		}
+	}
+
+	/**
+	 * Gets the configured delivery mode.
+	 *
+	 * @return the delivery mode as in {@link DeliveryMode}
+	 */
+	public static int getDefaultDeliveryMode() {
+		String deliveryMode = Configuration.get(DIRIGIBLE_MESSAGING_DELIVERY_MODE, DELIVERY_MODE_PERSISTENT);
+		return DELIVERY_MODE_NON_PERSISTENT.equalsIgnoreCase(deliveryMode) ? DeliveryMode.NON_PERSISTENT : DeliveryMode.PERSISTENT;
+	}
+
+	/**
+	 * Sends the messages to the destination in the given order, all with the same session.
+	 *
+	 * @param name the destination name
+	 * @param type the destination type
+	 * @param messages the messages
+	 * @param deliveryMode the delivery mode as in {@link DeliveryMode}
+	 * @throws MessagingException in case of an invalid destination type
+	 * @throws JMSException in case of an error while sending
+	 */
+	public void send(String name, char type, List<String> messages, int deliveryMode) throws MessagingException, JMSException {
+		if (type != IMessagingCoreService.QUEUE && type != IMessagingCoreService.TOPIC) {
+			throw new MessagingException(format("Invalid Destination Type [{0}] for destination [{1}]", type, name));
+		}
+		String key = type + name;
+		PooledProducer pooledProducer = borrow(key, name, type);
+		long start = System.nanoTime();
+		int sent = 0;
+		try {
+			for (String message : messages) {
+				pooledProducer.producer.send(pooledProducer.session.createTextMessage(message), deliveryMode,
+						Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE);
+				sent++;
+			}
+		} catch (JMSException e) {
+			// the session may be broken, so it is not given back
+			pooledProducer.close();
+			pooledProducer = null;
+			failedMessages.add(messages.size() - sent);
+			throw e;
+		} finally {
+			sentMessages.add(sent);
+			sendTime.add(System.nanoTime() - start);
+			if (pooledProducer != null) {
+				giveBack(key, pooledProducer);
+			}
+		}
+	}
+
+	/**
+	 * Borrows a producer for the destination or creates one, if there is no idle one.
+	 *
+	 * @param key the key
+	 * @param name the name
+	 * @param type the type
+	 * @return the pooled producer
+	 * @throws JMSException the JMS exception
+	 */
+	private PooledProducer borrow(String key, String name, char type) throws JMSException {
+		BlockingQueue<PooledProducer> idle = idleProducers.get(key);
+		PooledProducer pooledProducer;
+		while (idle != null && (pooledProducer = idle.poll()) != null) {
+			if (pooledProducer.generation == generation) {
+				return pooledProducer;
+			}
+			pooledProducer.close();
+		}
+		return create(name, type);
+	}
+
+	/**
+	 * Creates a producer for the destination with the current connection.
+	 *
+	 * @param name the name
+	 * @param type the type
+	 * @return the pooled producer
+	 * @throws JMSException the JMS exception
+	 */
+	private synchronized PooledProducer create(String name, char type) throws JMSException {
+		Session session = getConnection().createSession(false, Session.AUTO_ACKNOWLEDGE);
+		try {
+			Destination destination = type == IMessagingCoreService.QUEUE ? session.createQueue(name) : session.createTopic(name);
+			MessageProducer producer = session.createProducer(destination);
+			if (logger.isDebugEnabled()) {logger.debug(format("Created a producer for [{0}]", name));}
+			return new PooledProducer(session, producer, generation);
+		} catch (JMSException e) {
+			session.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Gives back the producer to the pool or closes it, if the pool of the destination is full or
+	 * the connection of the producer is gone meanwhile.
+	 *
+	 * @param key the key
+	 * @param pooledProducer the pooled producer
+	 */
+	private void giveBack(String key, PooledProducer pooledProducer) {
+		if (pooledProducer.generation != generation) {
+			pooledProducer.close();
+			return;
+		}
+		BlockingQueue<PooledProducer> idle = idleProducers.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(poolSize));
+		if (!idle.offer(pooledProducer)) {
+			pooledProducer.close();
+		}
+	}
+
+	/**
+	 * Gets the shared connection, opening it on first use.
+	 *
+	 * @return the connection
+	 * @throws JMSException the JMS exception
+	 */
+	private synchronized Connection getConnection() throws JMSException {
+		if (connection == null) {
+			ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
+			Connection newConnection = connectionFactory.createConnection();
+			newConnection.setExceptionListener(this);
+			newConnection.start();
+			connection = newConnection;
+		}
+		return connection;
+	}
+
+	/**
+	 * Drops the connection and the pooled producers, so that the next send opens a new connection.
+	 *
+	 * @param exception the exception
+	 */
+	@Override
+	public void onException(JMSException exception) {
+		if (logger.isErrorEnabled()) {logger.error("Messaging producer connection failed, it will be reopened on the next send", exception);}
+		close();
+	}
+
+	/**
+	 * Closes the pooled producers and the connection.
+	 */
+	private synchronized void close() {
+		generation++;
+		for (BlockingQueue<PooledProducer> idle : idleProducers.values()) {
+			PooledProducer pooledProducer;
+			while ((pooledProducer = idle.poll()) != null) {
+				pooledProducer.close();
+			}
+		}
+		idleProducers.clear();
+		if (connection != null) {
+			try {
+				connection.close();
+			} catch (JMSException e) {
+				if (logger.isWarnEnabled()) {logger.warn(e.getMessage(), e);}
+			}
+			connection = null;
+		}
+		if (logger.isInfoEnabled()) {logger.info(format("Messaging producer pool closed after [{0}] sent and [{1}] failed messages, [{2}] messages per second",
+				getSentMessages(), getFailedMessages(), getThroughput()));}
+	}
+
+	/**
+	 * Gets the number of the sent messages.
+	 *
+	 * @return the sent messages
+	 */
+	public long getSentMessages() {
+		return sentMessages.sum();
+	}
+
+	/**
+	 * Gets the number of the messages, which failed to be sent.
+	 *
+	 * @return the failed messages
+	 */
+	public long getFailedMessages() {
+		return failedMessages.sum();
+	}
+
+	/**
+	 * Gets the average time spent sending a message.
+	 *
+	 * @return the average send time in microseconds
+	 */
+	public double getAverageSendTime() {
+		long sent = getSentMessages();
+		return sent == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(sendTime.sum()) / (double) sent;
+	}
+
+	/**
+	 * Gets the number of the sent messages per second since the pool was created.
+	 *
+	 * @return the throughput
+	 */
+	public double getThroughput() {
+		long elapsed = Math.max(1, System.currentTimeMillis() - createdAt);
+		return getSentMessages() * 1000d / elapsed;
+	}
+
+	/**
+	 * A session together with the producer for its destination.
+	 */
+	private static class PooledProducer {
+
+		/** The session. */
+		private final Session session;
+
+		/** The producer. */
+		private final MessageProducer producer;
+
+		/** The generation of the connection of the session. */
+		private final long generation;
+
+		/**
+		 * Instantiates a new pooled producer.
+		 *
+		 * @param session the session
+		 * @param producer the producer
+		 * @param generation the generation of the connection of the session
+		 */
+		PooledProducer(Session session, MessageProducer producer, long generation) {
+			this.session = session;
+			this.producer = producer;
+			this.generation = generation;
+		}
+
+		/**
+		 * Closes the session together with its producer.
+		 */
+		void close() {
+			try {
+				session.close();
+			} catch (JMSException e) {
+				if (logger.isDebugEnabled()) {logger.debug(e.getMessage(), e);}
+			}
+		}
+	}
+
+}
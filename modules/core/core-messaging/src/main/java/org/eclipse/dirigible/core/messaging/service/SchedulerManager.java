@@ -112,8 +112,12 @@ public class SchedulerManager {
 		for (MessagingConsumer consumer : LISTENERS.values()) {
 			consumer.stop();
 		}
-		if (broker != null) {
-			broker.stop();
+		MessagingProducerPool.shutdown();
+		synchronized (SchedulerManager.class) {
+			if (broker != null) {
+				broker.stop();
+				broker = null;
+			}
 		}
 	}
 
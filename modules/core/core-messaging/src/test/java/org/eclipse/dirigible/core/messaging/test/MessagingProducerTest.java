@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.messaging.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import javax.jms.DeliveryMode;
+import javax.jms.JMSException;
+
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.service.MessagingConsumer;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducer;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducerPool;
+import org.eclipse.dirigible.core.messaging.service.SchedulerManager;
+import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class MessagingProducerTest.
+ */
+public class MessagingProducerTest extends AbstractDirigibleTest {
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		new SchedulerManager().initialize();
+	}
+
+	/**
+	 * Tear down.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		SchedulerManager.shutdown();
+	}
+
+	/**
+	 * Send batch test.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void sendBatchTest() throws Exception {
+		long sentBefore = MessagingProducerPool.get().getSentMessages();
+
+		MessagingProducer.sendBatch("/test/batch", IMessagingCoreService.QUEUE, Arrays.asList("first", "second"), DeliveryMode.NON_PERSISTENT);
+		MessagingProducer.sendBatch("/test/batch/persistent", IMessagingCoreService.QUEUE, Arrays.asList("third"), DeliveryMode.PERSISTENT);
+
+		MessagingConsumer consumer = new MessagingConsumer("/test/batch", IMessagingCoreService.QUEUE, 1000);
+		assertEquals("first", consumer.receiveMessage());
+		assertEquals("second", consumer.receiveMessage());
+		assertEquals("third", new MessagingConsumer("/test/batch/persistent", IMessagingCoreService.QUEUE, 1000).receiveMessage());
+
+		assertEquals(3, MessagingProducerPool.get().getSentMessages() - sentBefore);
+		assertEquals(0, MessagingProducerPool.get().getFailedMessages());
+		assertTrue(MessagingProducerPool.get().getThroughput() > 0);
+	}
+
+	/**
+	 * The producers of a failed connection are not reused.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void sendAfterConnectionFailureTest() throws Exception {
+		MessagingProducer.sendBatch("/test/reconnect", IMessagingCoreService.QUEUE, Arrays.asList("first"), DeliveryMode.NON_PERSISTENT);
+		MessagingProducerPool.get().onException(new JMSException("Connection lost"));
+		MessagingProducer.sendBatch("/test/reconnect", IMessagingCoreService.QUEUE, Arrays.asList("second"), DeliveryMode.NON_PERSISTENT);
+
+		MessagingConsumer consumer = new MessagingConsumer("/test/reconnect", IMessagingCoreService.QUEUE, 1000);
+		assertEquals("first", consumer.receiveMessage());
+		assertEquals("second", consumer.receiveMessage());
+	}
+
+}
@@ -49,13 +49,26 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	/** The forced synchronization. */
 	private final AtomicBoolean forcedSynchronization = new AtomicBoolean(false);
 	
+	/** The subscription for the registry changes. */
+	private RegistryWatcher.Subscription subscription;
+	
 	/**
-	 * Before synchronizing.
+	 * Before synchronizing. The synchronizers declaring their file extensions run only after a change of such a file
+	 * in the registry, when the registry can be watched, and otherwise after any change of the repository.
 	 *
 	 * @return true, if successful
 	 */
 	@Override
 	public boolean beforeSynchronizing() {
+		String[] extensions = getFileExtensions();
+		if (extensions != null && isSynchronizationEnabled()) {
+			RegistryWatcher watcher = RegistryWatcher.get(getRepository());
+			if (watcher != null) {
+				subscription = watcher.subscribe(this.getClass().getName());
+				boolean changed = subscription.consume(extensions);
+				return changed || forcedSynchronization.get() || getLastSynchronized() == 0;
+			}
+		}
 		if (forcedSynchronization.get() || getLastSynchronized() < getRepository().getLastModified()) {
 			return true;
 		}
@@ -163,6 +176,15 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 		return resourcePath;
 	}
 
+	/**
+	 * Gets the extensions or the names of the registry files processed by the synchronizer.
+	 *
+	 * @return the file extensions or names, or null to synchronize after any change of the repository
+	 */
+	protected String[] getFileExtensions() {
+		return null;
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
@@ -256,6 +278,9 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	 * @throws SchedulerException the scheduler exception
 	 */
 	protected void failedSynchronization(String name, String message) throws SchedulerException {
+		if (subscription != null) {
+			subscription.requestFullScan();
+		}
 		SynchronizerStateDefinition synchronizerStateDefinition = synchronizerCoreService.getSynchronizerState(name);
 		long currentTimeMillis = System.currentTimeMillis();
 		if (synchronizerStateDefinition == null) {
@@ -19,6 +19,12 @@ public interface ISynchronizer {
 	/** The Constant DIRIGIBLE_SYNCHRONIZER_IGNORE_DEPENDENCIES. */
 	public static final String DIRIGIBLE_SYNCHRONIZER_IGNORE_DEPENDENCIES = "DIRIGIBLE_SYNCHRONIZER_IGNORE_DEPENDENCIES";
 
+	/** The Constant DIRIGIBLE_SYNCHRONIZER_WATCH_ENABLED. */
+	public static final String DIRIGIBLE_SYNCHRONIZER_WATCH_ENABLED = "DIRIGIBLE_SYNCHRONIZER_WATCH_ENABLED";
+
+	/** The Constant DIRIGIBLE_SYNCHRONIZER_WATCH_DEBOUNCE. */
+	public static final String DIRIGIBLE_SYNCHRONIZER_WATCH_DEBOUNCE = "DIRIGIBLE_SYNCHRONIZER_WATCH_DEBOUNCE";
+
 	/**
 	 * Synchronize.
 	 */
@@ -0,0 +1,498 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.scheduler.api;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryChangeListener;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared change feed of the public registry of a file system based repository.
+ * <p>
+ * The changes made through the repository are reported right away, while the ones made directly on the file system
+ * are picked up by a {@link WatchService} and become visible to the subscriptions after a quiet period (the debounce
+ * window). An overflow of the watch service requests a full scan from all the subscriptions.
+ */
+public class RegistryWatcher implements IRepositoryChangeListener {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(RegistryWatcher.class);
+
+	/** The Constant DEFAULT_DEBOUNCE in milliseconds. */
+	private static final long DEFAULT_DEBOUNCE = 500;
+
+	/** The time in milliseconds, within which the file system events for a path reported by the repository are ignored. */
+	private static final long ECHO_TIMEOUT = 5000;
+
+	/** The Constant MAX_REPORTED. */
+	private static final int MAX_REPORTED = 1000;
+
+	/** The Constant REGISTRY_PREFIX. */
+	private static final String REGISTRY_PREFIX = IRepositoryStructure.PATH_REGISTRY_PUBLIC + IRepository.SEPARATOR;
+
+	/** The instance. */
+	private static RegistryWatcher instance;
+
+	/** The repository, which cannot be watched. */
+	private static IRepository unsupported;
+
+	/** The repository. */
+	private final IRepository repository;
+
+	/** The file system folder of the registry. */
+	private final Path root;
+
+	/** The debounce window in milliseconds. */
+	private final long debounce;
+
+	/** The watch service. */
+	private final WatchService watchService;
+
+	/** The watched folders per watch key. */
+	private final Map<WatchKey, Path> keys = new ConcurrentHashMap<WatchKey, Path>();
+
+	/** The watched folders. */
+	private final Set<Path> directories = ConcurrentHashMap.newKeySet();
+
+	/** The subscriptions per name. */
+	private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<String, Subscription>();
+
+	/** The times of the changes reported by the repository per path. */
+	private final Map<String, Long> reported = new ConcurrentHashMap<String, Long>();
+
+	/** Whether the watcher is running. */
+	private volatile boolean available = true;
+
+	/** Whether the watcher has been stopped due to an error. */
+	private volatile boolean failed;
+
+	/**
+	 * Instantiates a new registry watcher and starts watching.
+	 *
+	 * @param repository the repository
+	 * @param root the file system folder of the registry
+	 * @param debounce the debounce window in milliseconds
+	 * @throws IOException in case the folders cannot be registered
+	 */
+	RegistryWatcher(IRepository repository, Path root, long debounce) throws IOException {
+		this.repository = repository;
+		this.root = root;
+		this.debounce = debounce;
+		this.watchService = root.getFileSystem().newWatchService();
+		try {
+			register(root, false);
+		} catch (IOException e) {
+			watchService.close();
+			throw e;
+		}
+		repository.addChangeListener(this);
+		Thread thread = new Thread(this::watch, "dirigible-registry-watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Gets the watcher of the registry of the repository.
+	 *
+	 * @param repository the repository
+	 * @return the watcher or null, if the registry cannot be watched
+	 */
+	public static synchronized RegistryWatcher get(IRepository repository) {
+		if (repository == null || repository == unsupported
+				|| !Boolean.parseBoolean(Configuration.get(ISynchronizer.DIRIGIBLE_SYNCHRONIZER_WATCH_ENABLED, "true"))) {
+			return null;
+		}
+		if (instance != null) {
+			if (instance.repository == repository && instance.available) {
+				return instance;
+			}
+			if (instance.repository == repository && instance.failed) {
+				unsupported = repository;
+				instance = null;
+				return null;
+			}
+			instance.close();
+			instance = null;
+		}
+		Path root;
+		try {
+			root = Paths.get(repository.getInternalResourcePath(IRepositoryStructure.PATH_REGISTRY_PUBLIC));
+		} catch (RepositoryException | InvalidPathException e) {
+			unsupported = repository;
+			return null;
+		}
+		if (!Files.isDirectory(root)) {
+			return null;
+		}
+		long debounce = Long.parseLong(Configuration.get(ISynchronizer.DIRIGIBLE_SYNCHRONIZER_WATCH_DEBOUNCE, DEFAULT_DEBOUNCE + ""));
+		try {
+			instance = new RegistryWatcher(repository, root, debounce);
+			if (logger.isInfoEnabled()) {logger.info("Watching the registry at [{}] for changes", root);}
+		} catch (IOException | UnsupportedOperationException e) {
+			unsupported = repository;
+			if (logger.isWarnEnabled()) {logger.warn("Watching the registry for changes is not possible, the synchronizers will scan it on every change of the repository", e);}
+		}
+		return instance;
+	}
+
+	/**
+	 * Subscribes for the changes. The subscriptions are shared by name and the new ones start with a full scan request.
+	 *
+	 * @param name the name of the subscription
+	 * @return the subscription
+	 */
+	public Subscription subscribe(String name) {
+		return subscriptions.computeIfAbsent(name, k -> new Subscription(debounce));
+	}
+
+	/**
+	 * Checks if the watcher is running.
+	 *
+	 * @return true, if running
+	 */
+	public boolean isAvailable() {
+		return available;
+	}
+
+	/**
+	 * Stops watching.
+	 */
+	public void close() {
+		available = false;
+		try {
+			repository.removeChangeListener(this);
+		} catch (RepositoryException e) {
+			if (logger.isDebugEnabled()) {logger.debug(e.getMessage(), e);}
+		}
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			if (logger.isWarnEnabled()) {logger.warn(e.getMessage(), e);}
+		}
+	}
+
+	/**
+	 * Called by the repository after a path has been changed through it.
+	 *
+	 * @param path the repository path
+	 */
+	@Override
+	public void pathChanged(String path) {
+		if (!path.startsWith(REGISTRY_PREFIX)) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (reported.size() > MAX_REPORTED) {
+			reported.values().removeIf(time -> now - time >= ECHO_TIMEOUT);
+		}
+		reported.put(path, now);
+		Path file = root.resolve(path.substring(REGISTRY_PREFIX.length()));
+		changed(path, directories.contains(file) || Files.isDirectory(file), 0);
+	}
+
+	/**
+	 * Processes the events of the watch service until closed.
+	 */
+	private void watch() {
+		while (available) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				break;
+			}
+			Path directory = keys.get(key);
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == OVERFLOW) {
+					overflow();
+					continue;
+				}
+				if (directory == null) {
+					continue;
+				}
+				Path path = directory.resolve((Path) event.context());
+				boolean isDirectory = Files.isDirectory(path);
+				if (event.kind() == ENTRY_CREATE && isDirectory) {
+					try {
+						register(path, true);
+					} catch (IOException e) {
+						fail(e);
+					}
+				} else if (event.kind() == ENTRY_DELETE) {
+					changed(getRegistryPath(path), directories.contains(path), System.currentTimeMillis());
+				} else if (!isDirectory) {
+					changed(getRegistryPath(path), false, System.currentTimeMillis());
+				}
+			}
+			if (!key.reset()) {
+				Path removed = keys.remove(key);
+				if (removed != null) {
+					directories.remove(removed);
+					if (removed.equals(root)) {
+						if (logger.isInfoEnabled()) {logger.info("The watched registry at [{}] has been removed", root);}
+						overflow();
+						close();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Registers the folder and its descendants to the watch service.
+	 *
+	 * @param start the folder
+	 * @param report whether to report the files found as changed
+	 * @throws IOException in case a folder cannot be registered
+	 */
+	private void register(Path start, boolean report) throws IOException {
+		Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				try {
+					keys.put(dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+				} catch (NoSuchFileException e) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				directories.add(dir);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				if (report) {
+					changed(getRegistryPath(file), false, System.currentTimeMillis());
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException e) {
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * Requests a full scan from all the subscriptions and registers the folders created meanwhile.
+	 */
+	private void overflow() {
+		for (Subscription subscription : subscriptions.values()) {
+			subscription.requestFullScan();
+		}
+		if (available && Files.isDirectory(root)) {
+			try {
+				register(root, false);
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+	}
+
+	/**
+	 * Stops watching due to an error.
+	 *
+	 * @param e the error
+	 */
+	private void fail(IOException e) {
+		if (logger.isWarnEnabled()) {logger.warn("Watching the registry for changes stopped, the synchronizers will scan it on every change of the repository", e);}
+		failed = true;
+		for (Subscription subscription : subscriptions.values()) {
+			subscription.requestFullScan();
+		}
+		close();
+	}
+
+	/**
+	 * Reports a changed path to all the subscriptions.
+	 *
+	 * @param path the registry path
+	 * @param directory whether the path is a folder
+	 * @param time the time of the file system change or 0 for the changes made through the repository
+	 */
+	private void changed(String path, boolean directory, long time) {
+		if (time != 0) {
+			Long reportedTime = reported.get(path);
+			if (reportedTime != null && time - reportedTime < ECHO_TIMEOUT) {
+				return;
+			}
+		}
+		String changed = directory ? path + IRepository.SEPARATOR : path;
+		for (Subscription subscription : subscriptions.values()) {
+			subscription.add(changed, time);
+		}
+	}
+
+	/**
+	 * Gets the registry path of a file system path.
+	 *
+	 * @param path the file system path
+	 * @return the registry path
+	 */
+	private String getRegistryPath(Path path) {
+		String relative = root.relativize(path).toString();
+		if (!IRepository.SEPARATOR.equals(File.separator)) {
+			relative = relative.replace(File.separator, IRepository.SEPARATOR);
+		}
+		return REGISTRY_PREFIX + relative;
+	}
+
+	/**
+	 * The changes collected for a consumer since its last run.
+	 */
+	public static class Subscription {
+
+		/** The Constant MAX_PENDING, above which the changes are replaced by a full scan request. */
+		private static final int MAX_PENDING = 10000;
+
+		/** The debounce window in milliseconds. */
+		private final long debounce;
+
+		/** The paths changed through the repository, the folders ending with a separator. */
+		private final Set<String> paths = new HashSet<String>();
+
+		/** The paths changed on the file system, the folders ending with a separator. */
+		private final Set<String> external = new HashSet<String>();
+
+		/** Whether a full scan is requested. */
+		private boolean fullScan = true;
+
+		/** The time of the last file system change. */
+		private long lastExternalChange;
+
+		/**
+		 * Instantiates a new subscription.
+		 *
+		 * @param debounce the debounce window in milliseconds
+		 */
+		Subscription(long debounce) {
+			this.debounce = debounce;
+		}
+
+		/**
+		 * Adds a changed path.
+		 *
+		 * @param path the path
+		 * @param time the time of the file system change or 0 for the changes made through the repository
+		 */
+		synchronized void add(String path, long time) {
+			if (fullScan) {
+				return;
+			}
+			if (paths.size() + external.size() >= MAX_PENDING) {
+				requestFullScan();
+				return;
+			}
+			if (time == 0) {
+				external.remove(path);
+				paths.add(path);
+			} else {
+				external.add(path);
+				lastExternalChange = Math.max(lastExternalChange, time);
+			}
+		}
+
+		/**
+		 * Requests a full scan.
+		 */
+		public synchronized void requestFullScan() {
+			paths.clear();
+			external.clear();
+			fullScan = true;
+		}
+
+		/**
+		 * Consumes the pending changes. The file system changes are kept until there are no new ones within
+		 * the debounce window.
+		 *
+		 * @param extensions the extensions or the names of the files of interest
+		 * @return true, if a full scan has been requested or a file of interest or a folder has been changed
+		 */
+		public synchronized boolean consume(String[] extensions) {
+			boolean changed = fullScan || matches(paths, extensions);
+			if (System.currentTimeMillis() - lastExternalChange >= debounce) {
+				changed = changed || matches(external, extensions);
+				external.clear();
+			}
+			paths.clear();
+			fullScan = false;
+			return changed;
+		}
+
+		/**
+		 * Checks whether any of the paths is a folder or a file of interest.
+		 *
+		 * @param paths the paths
+		 * @param extensions the extensions or the names of the files of interest
+		 * @return true, if matching
+		 */
+		private static boolean matches(Set<String> paths, String[] extensions) {
+			for (String path : paths) {
+				if (matches(path, extensions)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Checks whether the path is a folder or a file of interest.
+		 *
+		 * @param path the path
+		 * @param extensions the extensions or the names of the files of interest
+		 * @return true, if matching
+		 */
+		private static boolean matches(String path, String[] extensions) {
+			if (path.endsWith(IRepository.SEPARATOR)) {
+				return true;
+			}
+			for (String extension : extensions) {
+				if (path.endsWith(extension)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+}
@@ -17,6 +17,7 @@ import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
 import org.eclipse.dirigible.core.scheduler.api.ISchedulerCoreService;
 import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
 import org.eclipse.dirigible.core.scheduler.manager.SchedulerManager;
+import org.eclipse.dirigible.core.scheduler.service.JobLogWriter;
 import org.eclipse.dirigible.core.scheduler.service.SchedulerCoreService;
 import org.eclipse.dirigible.core.scheduler.service.definition.JobLogDefinition;
 import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
@@ -36,6 +37,9 @@ public class JobHandler implements Job {
 	
 	/** The scheduler core service. */
 	private ISchedulerCoreService schedulerCoreService = new SchedulerCoreService();
+	
+	/** The job log writer, if the job logs are written in the background. */
+	private JobLogWriter jobLogWriter = JobLogWriter.get();
 
 	/**
 	 * Execute.
@@ -78,7 +82,9 @@ public class JobHandler implements Job {
 	private JobLogDefinition registerTriggered(String name, String module) {
 		JobLogDefinition triggered = null;
 		try {
-			triggered = schedulerCoreService.jobTriggered(name, module);
+			triggered = jobLogWriter != null
+					? jobLogWriter.jobTriggered(name, module)
+					: schedulerCoreService.jobTriggered(name, module);
 		} catch (SchedulerException e) {
 			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
 		}
@@ -95,7 +101,11 @@ public class JobHandler implements Job {
 	 */
 	private void registeredFailed(String name, String module, JobLogDefinition triggered, ScriptingException e) {
 		try {
-			schedulerCoreService.jobFailed(name, module, triggered.getId(), new Date(triggered.getTriggeredAt().getTime()), e.getMessage());
+			if (jobLogWriter != null) {
+				jobLogWriter.jobFailed(triggered, e.getMessage());
+			} else {
+				schedulerCoreService.jobFailed(name, module, triggered.getId(), new Date(triggered.getTriggeredAt().getTime()), e.getMessage());
+			}
 		} catch (SchedulerException se) {
 			if (logger.isErrorEnabled()) {logger.error(se.getMessage(), se);}
 		}
@@ -110,7 +120,11 @@ public class JobHandler implements Job {
 	 */
 	private void registeredFinished(String name, String module, JobLogDefinition triggered) {
 		try {
-			schedulerCoreService.jobFinished(name, module, triggered.getId(), new Date(triggered.getTriggeredAt().getTime()));
+			if (jobLogWriter != null) {
+				jobLogWriter.jobFinished(triggered);
+			} else {
+				schedulerCoreService.jobFinished(name, module, triggered.getId(), new Date(triggered.getTriggeredAt().getTime()));
+			}
 		} catch (SchedulerException e) {
 			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
 		}
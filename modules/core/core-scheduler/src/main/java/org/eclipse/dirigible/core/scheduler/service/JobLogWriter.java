@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.scheduler.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
+import org.eclipse.dirigible.core.scheduler.service.definition.JobLogDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the job logs of the executed jobs in the background. The logs are queued in a bounded buffer
+ * and inserted in batches, so that the job threads do not wait for the system database.
+ */
+public class JobLogWriter {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(JobLogWriter.class);
+
+	/** The Constant DIRIGIBLE_SCHEDULER_LOGS_ASYNC. */
+	public static final String DIRIGIBLE_SCHEDULER_LOGS_ASYNC = "DIRIGIBLE_SCHEDULER_LOGS_ASYNC";
+
+	/** The Constant DIRIGIBLE_SCHEDULER_LOGS_BUFFER. */
+	public static final String DIRIGIBLE_SCHEDULER_LOGS_BUFFER = "DIRIGIBLE_SCHEDULER_LOGS_BUFFER";
+
+	/** The Constant DIRIGIBLE_SCHEDULER_LOGS_BATCH. */
+	public static final String DIRIGIBLE_SCHEDULER_LOGS_BATCH = "DIRIGIBLE_SCHEDULER_LOGS_BATCH";
+
+	/** The Constant DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL. */
+	public static final String DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL = "DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL";
+
+	/** The Constant DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW. */
+	public static final String DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW = "DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW";
+
+	/** The Constant OVERFLOW_BLOCK - the job waits for room in the buffer. */
+	public static final String OVERFLOW_BLOCK = "block";
+
+	/** The Constant OVERFLOW_DROP - the log is discarded and counted. */
+	public static final String OVERFLOW_DROP = "drop";
+
+	/** The instance. */
+	private static JobLogWriter INSTANCE;
+
+	/** The scheduler core service. */
+	private final SchedulerCoreService schedulerCoreService;
+
+	/** The buffer. */
+	private final BlockingQueue<JobLogDefinition> buffer;
+
+	/** The batch size. */
+	private final int batchSize;
+
+	/** The flush interval in milliseconds. */
+	private final long flushInterval;
+
+	/** Whether to drop the logs on a full buffer. */
+	private final boolean drop;
+
+	/** The dropped logs since the last report. */
+	private final AtomicLong dropped = new AtomicLong();
+
+	/** The next reserved identifier. */
+	private long nextId = 1;
+
+	/** The last reserved identifier. */
+	private long lastId = 0;
+
+	/**
+	 * Instantiates a new job log writer.
+	 *
+	 * @param schedulerCoreService the scheduler core service
+	 * @param capacity the capacity of the buffer
+	 * @param batchSize the batch size
+	 * @param flushInterval the flush interval in milliseconds
+	 * @param overflow the overflow policy
+	 */
+	public JobLogWriter(SchedulerCoreService schedulerCoreService, int capacity, int batchSize, long flushInterval, String overflow) {
+		this.schedulerCoreService = schedulerCoreService;
+		this.buffer = new ArrayBlockingQueue<>(Math.max(1, capacity));
+		this.batchSize = Math.max(1, batchSize);
+		this.flushInterval = Math.max(1, flushInterval);
+		this.drop = OVERFLOW_DROP.equalsIgnoreCase(overflow);
+	}
+
+	/**
+	 * Gets the started writer, if the asynchronous job logs are enabled.
+	 *
+	 * @return the writer or null
+	 */
+	public static synchronized JobLogWriter get() {
+		if (INSTANCE == null && Boolean.parseBoolean(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_ASYNC, "true"))) {
+			JobLogWriter writer = new JobLogWriter(new SchedulerCoreService(),
+					Integer.parseInt(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_BUFFER, "10000")),
+					Integer.parseInt(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_BATCH, "500")),
+					Long.parseLong(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL, "1000")),
+					Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW, OVERFLOW_BLOCK));
+			writer.start();
+			INSTANCE = writer;
+		}
+		return INSTANCE;
+	}
+
+	/**
+	 * Starts the background thread, which also flushes the buffer on shutdown.
+	 */
+	public void start() {
+		Thread thread = new Thread(this::run, "dirigible-job-logs");
+		thread.setDaemon(true);
+		thread.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "dirigible-job-logs-shutdown"));
+	}
+
+	/**
+	 * Job triggered.
+	 *
+	 * @param name the name
+	 * @param handler the handler
+	 * @return the job log definition
+	 * @throws SchedulerException the scheduler exception
+	 */
+	public JobLogDefinition jobTriggered(String name, String handler) throws SchedulerException {
+		JobLogDefinition jobLogDefinition = new JobLogDefinition();
+		jobLogDefinition.setName(name);
+		jobLogDefinition.setHandler(handler);
+		jobLogDefinition.setStatus(JobLogDefinition.JOB_LOG_STATUS_TRIGGRED);
+		jobLogDefinition.setTriggeredAt(new Timestamp(System.currentTimeMillis()));
+		return enqueue(jobLogDefinition);
+	}
+
+	/**
+	 * Job finished.
+	 *
+	 * @param triggered the triggered job log definition
+	 * @return the job log definition
+	 * @throws SchedulerException the scheduler exception
+	 */
+	public JobLogDefinition jobFinished(JobLogDefinition triggered) throws SchedulerException {
+		return enqueue(createOutcome(triggered, JobLogDefinition.JOB_LOG_STATUS_FINISHED, null));
+	}
+
+	/**
+	 * Job failed.
+	 *
+	 * @param triggered the triggered job log definition
+	 * @param message the message
+	 * @return the job log definition
+	 * @throws SchedulerException the scheduler exception
+	 */
+	public JobLogDefinition jobFailed(JobLogDefinition triggered, String message) throws SchedulerException {
+		return enqueue(createOutcome(triggered, JobLogDefinition.JOB_LOG_STATUS_FAILED, message));
+	}
+
+	/**
+	 * Writes all the buffered logs.
+	 */
+	public void flush() {
+		List<JobLogDefinition> batch = new ArrayList<>();
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	/**
+	 * Creates the log of the outcome of a job execution.
+	 *
+	 * @param triggered the triggered job log definition
+	 * @param status the status
+	 * @param message the message
+	 * @return the job log definition
+	 */
+	private static JobLogDefinition createOutcome(JobLogDefinition triggered, short status, String message) {
+		JobLogDefinition jobLogDefinition = new JobLogDefinition();
+		jobLogDefinition.setName(triggered.getName());
+		jobLogDefinition.setHandler(triggered.getHandler());
+		jobLogDefinition.setStatus(status);
+		jobLogDefinition.setTriggeredId(triggered.getId());
+		jobLogDefinition.setTriggeredAt(triggered.getTriggeredAt());
+		jobLogDefinition.setFinishedAt(new Timestamp(System.currentTimeMillis()));
+		jobLogDefinition.setMessage(message);
+		return jobLogDefinition;
+	}
+
+	/**
+	 * Assigns an identifier to the log and puts it in the buffer according to the overflow policy.
+	 *
+	 * @param jobLogDefinition the job log definition
+	 * @return the job log definition
+	 * @throws SchedulerException the scheduler exception
+	 */
+	private JobLogDefinition enqueue(JobLogDefinition jobLogDefinition) throws SchedulerException {
+		jobLogDefinition.setId(nextId());
+		if (drop) {
+			if (!buffer.offer(jobLogDefinition)) {
+				dropped.incrementAndGet();
+			}
+		} else {
+			try {
+				buffer.put(jobLogDefinition);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SchedulerException(e);
+			}
+		}
+		return jobLogDefinition;
+	}
+
+	/**
+	 * Gets the next identifier, reserving a new range in the system database once the current one is used up.
+	 *
+	 * @return the identifier
+	 * @throws SchedulerException the scheduler exception
+	 */
+	private synchronized long nextId() throws SchedulerException {
+		if (nextId > lastId) {
+			lastId = schedulerCoreService.reserveJobLogIds(batchSize);
+			nextId = lastId - batchSize + 1;
+		}
+		return nextId++;
+	}
+
+	/**
+	 * Writes the buffered logs in batches until the thread is interrupted.
+	 */
+	private void run() {
+		List<JobLogDefinition> batch = new ArrayList<>();
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				JobLogDefinition first = buffer.poll(flushInterval, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				buffer.drainTo(batch, batchSize - 1);
+				write(batch);
+				batch.clear();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Inserts the batch and registers the outcomes in the job definitions in the order of their execution,
+	 * so that every status transition of a job is applied.
+	 *
+	 * @param batch the batch
+	 */
+	private void write(List<JobLogDefinition> batch) {
+		long count = dropped.getAndSet(0);
+		if (count > 0) {
+			if (logger.isWarnEnabled()) {logger.warn(String.format("Job logs buffer is full - %d job logs have been dropped", count));}
+		}
+		try {
+			schedulerCoreService.registerJobLogs(batch);
+		} catch (SchedulerException e) {
+			if (logger.isErrorEnabled()) {logger.error(String.format("Writing of %d job logs failed: %s", batch.size(), e.getMessage()), e);}
+		}
+		for (JobLogDefinition jobLogDefinition : batch) {
+			if (jobLogDefinition.getStatus() == JobLogDefinition.JOB_LOG_STATUS_FINISHED
+					|| jobLogDefinition.getStatus() == JobLogDefinition.JOB_LOG_STATUS_FAILED) {
+				try {
+					schedulerCoreService.registerJobStatus(jobLogDefinition);
+				} catch (SchedulerException e) {
+					if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+				}
+			}
+		}
+	}
+
+}
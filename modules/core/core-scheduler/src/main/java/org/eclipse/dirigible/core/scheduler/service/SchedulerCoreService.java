@@ -16,6 +16,8 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -46,7 +48,9 @@ import org.eclipse.dirigible.core.scheduler.service.definition.JobDefinition;
 import org.eclipse.dirigible.core.scheduler.service.definition.JobEmailDefinition;
 import org.eclipse.dirigible.core.scheduler.service.definition.JobLogDefinition;
 import org.eclipse.dirigible.core.scheduler.service.definition.JobParameterDefinition;
+import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.eclipse.dirigible.database.persistence.processors.identity.PersistenceNextValueIdentityProcessor;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.engine.api.resource.RegistryResourceExecutor;
 import org.slf4j.Logger;
@@ -129,6 +133,12 @@ public class SchedulerCoreService implements ISchedulerCoreService, ICleanupServ
 	/** The Constant DIRIGIBLE_SCHEDULER_EMAIL_URL_PORT. */
 	private static final String DIRIGIBLE_SCHEDULER_EMAIL_URL_PORT = "DIRIGIBLE_SCHEDULER_EMAIL_URL_PORT";
 	
+	/** The Constant JOB_LOGS_TABLE. */
+	private static final String JOB_LOGS_TABLE = "DIRIGIBLE_JOB_LOGS";
+	
+	/** The Constant JOB_LOGS_DELETE_RANGE. */
+	private static final long JOB_LOGS_DELETE_RANGE = 10000;
+	
 	/** The logs retantion in hours. */
 	private static int logsRetantionInHours = 24*7;
 	
@@ -607,16 +617,7 @@ public class SchedulerCoreService implements ISchedulerCoreService, ICleanupServ
 		jobLogDefinition.setTriggeredAt(new Timestamp(triggeredAt.getTime()));
 		jobLogDefinition.setFinishedAt(new Timestamp(new java.util.Date().getTime()));
 		jobLogDefinition = registerJobLog(jobLogDefinition);
-		JobDefinition jobDefinition = getJob(name);
-		boolean statusChanged = jobDefinition.getStatus() != JobLogDefinition.JOB_LOG_STATUS_FINISHED;
-		jobDefinition.setStatus(JobLogDefinition.JOB_LOG_STATUS_FINISHED);
-		jobDefinition.setMessage("");
-		jobDefinition.setExecutedAt(jobLogDefinition.getFinishedAt());
-		createOrUpdateJob(jobDefinition);
-		if (statusChanged) {
-			String content = prepareEmail(jobDefinition, emailTemplateNormal, EMAIL_TEMPLATE_NORMAL);
-			sendEmail(jobDefinition, emailSubjectNormal, content);
-		}
+		registerJobStatus(jobLogDefinition);
 		return jobLogDefinition;
 	}
 	
@@ -647,16 +648,7 @@ public class SchedulerCoreService implements ISchedulerCoreService, ICleanupServ
 		jobLogDefinition.setFinishedAt(new Timestamp(new java.util.Date().getTime()));
 		jobLogDefinition.setMessage(message);
 		jobLogDefinition = registerJobLog(jobLogDefinition);
-		JobDefinition jobDefinition = getJob(name);
-		boolean statusChanged = jobDefinition.getStatus() != JobLogDefinition.JOB_LOG_STATUS_FAILED;
-		jobDefinition.setStatus(JobLogDefinition.JOB_LOG_STATUS_FAILED);
-		jobDefinition.setMessage(message);
-		jobDefinition.setExecutedAt(jobLogDefinition.getFinishedAt());
-		createOrUpdateJob(jobDefinition);
-		if (statusChanged) {
-			String content = prepareEmail(jobDefinition, emailTemplateError, EMAIL_TEMPLATE_ERROR);
-			sendEmail(jobDefinition, emailSubjectError, content);
-		}
+		registerJobStatus(jobLogDefinition);
 		return jobLogDefinition;
 	}
 	
@@ -770,6 +762,94 @@ public class SchedulerCoreService implements ISchedulerCoreService, ICleanupServ
 		}
 	}
 	
+	/**
+	 * Registers the outcome of a job execution in the job definition and notifies the recipients when the status changes.
+	 *
+	 * @param jobLogDefinition the finished or failed job log definition
+	 * @throws SchedulerException the scheduler exception
+	 */
+	public void registerJobStatus(JobLogDefinition jobLogDefinition) throws SchedulerException {
+		JobDefinition jobDefinition = getJob(jobLogDefinition.getName());
+		if (jobDefinition == null) {
+			return;
+		}
+		boolean failed = jobLogDefinition.getStatus() == JobLogDefinition.JOB_LOG_STATUS_FAILED;
+		boolean statusChanged = jobDefinition.getStatus() != jobLogDefinition.getStatus();
+		jobDefinition.setStatus(jobLogDefinition.getStatus());
+		jobDefinition.setMessage(failed ? jobLogDefinition.getMessage() : "");
+		jobDefinition.setExecutedAt(jobLogDefinition.getFinishedAt());
+		createOrUpdateJob(jobDefinition);
+		if (statusChanged) {
+			if (failed) {
+				String content = prepareEmail(jobDefinition, emailTemplateError, EMAIL_TEMPLATE_ERROR);
+				sendEmail(jobDefinition, emailSubjectError, content);
+			} else {
+				String content = prepareEmail(jobDefinition, emailTemplateNormal, EMAIL_TEMPLATE_NORMAL);
+				sendEmail(jobDefinition, emailSubjectNormal, content);
+			}
+		}
+	}
+	
+	/**
+	 * Reserves a range of identifiers for job logs inserted in batches.
+	 *
+	 * @param count the number of identifiers
+	 * @return the last identifier of the reserved range
+	 * @throws SchedulerException the scheduler exception
+	 */
+	public long reserveJobLogIds(int count) throws SchedulerException {
+		try {
+			try (Connection connection = getDataSource().getConnection()) {
+				jobLogPersistenceManager.tableCheck(connection, JobLogDefinition.class);
+				return new PersistenceNextValueIdentityProcessor(null).nextval(connection, JOB_LOGS_TABLE, count);
+			}
+		} catch (SQLException | PersistenceException e) {
+			throw new SchedulerException(e);
+		}
+	}
+	
+	/**
+	 * Inserts job logs with already reserved identifiers in a single batch.
+	 *
+	 * @param jobLogDefinitions the job log definitions
+	 * @throws SchedulerException the scheduler exception
+	 */
+	public void registerJobLogs(List<JobLogDefinition> jobLogDefinitions) throws SchedulerException {
+		try {
+			try (Connection connection = getDataSource().getConnection()) {
+				jobLogPersistenceManager.tableCheck(connection, JobLogDefinition.class);
+				String sql = SqlFactory.getNative(connection).insert().into(JOB_LOGS_TABLE)
+						.column("JOBLOG_ID").column("JOBLOG_NAME").column("JOBLOG_HANDLER").column("JOBLOG_TRIGGERED_AT")
+						.column("JOBLOG_TRIGGERED_ID").column("JOBLOG_FINISHED_AT").column("JOBLOG_STATUS").column("JOBLOG_MESSAGE")
+						.build();
+				boolean autoCommit = connection.getAutoCommit();
+				try (PreparedStatement statement = connection.prepareStatement(sql)) {
+					connection.setAutoCommit(false);
+					for (JobLogDefinition jobLogDefinition : jobLogDefinitions) {
+						statement.setLong(1, jobLogDefinition.getId());
+						statement.setString(2, jobLogDefinition.getName());
+						statement.setString(3, jobLogDefinition.getHandler());
+						statement.setTimestamp(4, jobLogDefinition.getTriggeredAt());
+						statement.setLong(5, jobLogDefinition.getTriggeredId());
+						statement.setTimestamp(6, jobLogDefinition.getFinishedAt());
+						statement.setShort(7, jobLogDefinition.getStatus());
+						statement.setString(8, jobLogDefinition.getMessage());
+						statement.addBatch();
+					}
+					statement.executeBatch();
+					connection.commit();
+				} catch (SQLException e) {
+					connection.rollback();
+					throw e;
+				} finally {
+					connection.setAutoCommit(autoCommit);
+				}
+			}
+		} catch (SQLException e) {
+			throw new SchedulerException(e);
+		}
+	}
+	
 	/**
 	 * Gets the job logs.
 	 *
@@ -833,11 +913,32 @@ public class SchedulerCoreService implements ISchedulerCoreService, ICleanupServ
 	public void deleteOldJobLogs() throws SchedulerException {
 		try {
 			try (Connection connection = getDataSource().getConnection()) {
-				String sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_JOB_LOGS")
-						.where("JOBLOG_TRIGGERED_AT < ?")
-						.build();
 				jobLogPersistenceManager.tableCheck(connection, JobLogDefinition.class);
-				jobLogPersistenceManager.execute(connection, sql, new Timestamp(System.currentTimeMillis() - logsRetantionInHours*60*60*1000)); // older than a week
+				Timestamp threshold = new Timestamp(System.currentTimeMillis() - logsRetantionInHours * 60L * 60 * 1000); // older than a week
+				String range = SqlFactory.getNative(connection).select().column("MIN(JOBLOG_ID)").column("MAX(JOBLOG_ID)")
+						.from(JOB_LOGS_TABLE).where("JOBLOG_TRIGGERED_AT < ?").build();
+				long first;
+				long last;
+				try (PreparedStatement statement = connection.prepareStatement(range)) {
+					statement.setTimestamp(1, threshold);
+					try (ResultSet resultSet = statement.executeQuery()) {
+						if (!resultSet.next()) {
+							return;
+						}
+						first = resultSet.getLong(1);
+						last = resultSet.getLong(2);
+						if (resultSet.wasNull()) {
+							return;
+						}
+					}
+				}
+				// delete by primary key ranges, so that each statement holds its locks only briefly
+				String sql = SqlFactory.getNative(connection).delete().from(JOB_LOGS_TABLE)
+						.where("JOBLOG_ID >= ? AND JOBLOG_ID < ? AND JOBLOG_TRIGGERED_AT < ?")
+						.build();
+				for (long from = first; from <= last; from += JOB_LOGS_DELETE_RANGE) {
+					jobLogPersistenceManager.execute(connection, sql, from, from + JOB_LOGS_DELETE_RANGE, threshold);
+				}
 			}
 		} catch (SQLException e) {
 			throw new SchedulerException(e);
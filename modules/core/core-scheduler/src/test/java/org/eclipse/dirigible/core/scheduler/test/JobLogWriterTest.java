@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.scheduler.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
+import org.eclipse.dirigible.core.scheduler.service.JobLogWriter;
+import org.eclipse.dirigible.core.scheduler.service.SchedulerCoreService;
+import org.eclipse.dirigible.core.scheduler.service.definition.JobLogDefinition;
+import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class JobLogWriterTest.
+ */
+public class JobLogWriterTest extends AbstractDirigibleTest {
+
+	/** The Constant JOB_NAME. */
+	private static final String JOB_NAME = "test_job_logs";
+
+	/** The scheduler core service. */
+	private SchedulerCoreService schedulerCoreService;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Before
+	public void setUp() throws SchedulerException {
+		this.schedulerCoreService = new SchedulerCoreService();
+		schedulerCoreService.removeJob(JOB_NAME);
+		schedulerCoreService.clearJobLogs(JOB_NAME);
+		schedulerCoreService.createJob(JOB_NAME, "test_group", "org....", "handler.js", "engine type", "Test", "expr...", false, Collections.EMPTY_LIST);
+	}
+
+	/**
+	 * Tear down.
+	 *
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@After
+	public void tearDown() throws SchedulerException {
+		schedulerCoreService.clearJobLogs(JOB_NAME);
+		schedulerCoreService.removeJob(JOB_NAME);
+	}
+
+	/**
+	 * The buffered logs are inserted and the job status is updated on flush.
+	 *
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Test
+	public void writeLogs() throws SchedulerException {
+		JobLogWriter writer = new JobLogWriter(schedulerCoreService, 100, 2, 1000, JobLogWriter.OVERFLOW_BLOCK);
+		JobLogDefinition first = writer.jobTriggered(JOB_NAME, "handler.js");
+		writer.jobFinished(first);
+		JobLogDefinition second = writer.jobTriggered(JOB_NAME, "handler.js");
+		writer.jobFailed(second, "failure");
+		assertTrue(first.getId() < second.getId());
+		assertEquals(0, schedulerCoreService.getJobLogs(JOB_NAME).size());
+
+		writer.flush();
+		List<JobLogDefinition> logs = schedulerCoreService.getJobLogs(JOB_NAME);
+		assertEquals(4, logs.size());
+		int outcomes = 0;
+		for (JobLogDefinition log : logs) {
+			if (log.getStatus() == JobLogDefinition.JOB_LOG_STATUS_FINISHED) {
+				assertEquals(first.getId(), log.getTriggeredId());
+				outcomes++;
+			} else if (log.getStatus() == JobLogDefinition.JOB_LOG_STATUS_FAILED) {
+				assertEquals(second.getId(), log.getTriggeredId());
+				outcomes++;
+			}
+		}
+		assertEquals(2, outcomes);
+		assertEquals(JobLogDefinition.JOB_LOG_STATUS_FAILED, schedulerCoreService.getJob(JOB_NAME).getStatus());
+		assertEquals("failure", schedulerCoreService.getJob(JOB_NAME).getMessage());
+	}
+
+	/**
+	 * Every outcome in a batch is registered in the order of the execution, so that no status transition is skipped.
+	 *
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Test
+	public void registerOutcomesInOrder() throws SchedulerException {
+		List<Short> statuses = new ArrayList<>();
+		SchedulerCoreService recordingService = new SchedulerCoreService() {
+			@Override
+			public void registerJobStatus(JobLogDefinition jobLogDefinition) throws SchedulerException {
+				statuses.add(jobLogDefinition.getStatus());
+				super.registerJobStatus(jobLogDefinition);
+			}
+		};
+		JobLogWriter writer = new JobLogWriter(recordingService, 100, 10, 1000, JobLogWriter.OVERFLOW_BLOCK);
+		writer.jobFailed(writer.jobTriggered(JOB_NAME, "handler.js"), "failure");
+		writer.jobFinished(writer.jobTriggered(JOB_NAME, "handler.js"));
+		writer.jobFailed(writer.jobTriggered(JOB_NAME, "handler.js"), "another failure");
+
+		writer.flush();
+		assertEquals(Arrays.asList(JobLogDefinition.JOB_LOG_STATUS_FAILED, JobLogDefinition.JOB_LOG_STATUS_FINISHED,
+				JobLogDefinition.JOB_LOG_STATUS_FAILED), statuses);
+		assertEquals("another failure", schedulerCoreService.getJob(JOB_NAME).getMessage());
+	}
+
+	/**
+	 * The logs over the capacity of the buffer are dropped with the drop policy.
+	 *
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Test
+	public void dropLogs() throws SchedulerException {
+		JobLogWriter writer = new JobLogWriter(schedulerCoreService, 1, 10, 1000, JobLogWriter.OVERFLOW_DROP);
+		writer.jobTriggered(JOB_NAME, "handler.js");
+		writer.jobTriggered(JOB_NAME, "handler.js");
+		writer.flush();
+		assertEquals(1, schedulerCoreService.getJobLogs(JOB_NAME).size());
+	}
+
+	/**
+	 * Only the logs older than the retention period are deleted.
+	 *
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Test
+	public void deleteOldLogs() throws SchedulerException {
+		long last = schedulerCoreService.reserveJobLogIds(2);
+		List<JobLogDefinition> logs = new ArrayList<>();
+		logs.add(createLog(last - 1, new Timestamp(System.currentTimeMillis() - 30L * 24 * 60 * 60 * 1000)));
+		logs.add(createLog(last, new Timestamp(System.currentTimeMillis())));
+		schedulerCoreService.registerJobLogs(logs);
+		assertEquals(2, schedulerCoreService.getJobLogs(JOB_NAME).size());
+
+		schedulerCoreService.deleteOldJobLogs();
+		List<JobLogDefinition> remaining = schedulerCoreService.getJobLogs(JOB_NAME);
+		assertEquals(1, remaining.size());
+		assertEquals(last, remaining.get(0).getId());
+	}
+
+	/**
+	 * Creates the log.
+	 *
+	 * @param id the id
+	 * @param triggeredAt the triggered at
+	 * @return the job log definition
+	 */
+	private static JobLogDefinition createLog(long id, Timestamp triggeredAt) {
+		JobLogDefinition jobLogDefinition = new JobLogDefinition();
+		jobLogDefinition.setId(id);
+		jobLogDefinition.setName(JOB_NAME);
+		jobLogDefinition.setHandler("handler.js");
+		jobLogDefinition.setStatus(JobLogDefinition.JOB_LOG_STATUS_TRIGGRED);
+		jobLogDefinition.setTriggeredAt(triggeredAt);
+		return jobLogDefinition;
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.scheduler.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
+import org.eclipse.dirigible.core.scheduler.api.RegistryWatcher;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class RegistryWatcherTest.
+ */
+public class RegistryWatcherTest {
+
+	/** The Constant ROOT. */
+	private static final String ROOT = IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/watcher";
+
+	/** The Constant EXTENSIONS. */
+	private static final String[] EXTENSIONS = { ".access" };
+
+	/** The repository. */
+	private IRepository repository;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		Configuration.set(ISynchronizer.DIRIGIBLE_SYNCHRONIZER_WATCH_DEBOUNCE, "100");
+		repository = new LocalRepository("target/registry-watcher");
+		repository.createResource(ROOT + "/readme.txt", "Registry watcher test".getBytes());
+	}
+
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		repository.removeCollection(ROOT);
+	}
+
+	/**
+	 * The changes made through the repository are reported right away.
+	 */
+	@Test
+	public void repositoryChanges() {
+		RegistryWatcher watcher = RegistryWatcher.get(repository);
+		assertNotNull(watcher);
+		RegistryWatcher.Subscription subscription = watcher.subscribe("repositoryChanges");
+		assertTrue(subscription.consume(EXTENSIONS));
+		assertFalse(subscription.consume(EXTENSIONS));
+
+		repository.createResource(ROOT + "/test.js", "test".getBytes());
+		assertFalse(subscription.consume(EXTENSIONS));
+
+		repository.createResource(ROOT + "/test.access", "{}".getBytes());
+		assertTrue(subscription.consume(EXTENSIONS));
+		assertFalse(subscription.consume(EXTENSIONS));
+
+		subscription.requestFullScan();
+		assertTrue(subscription.consume(EXTENSIONS));
+	}
+
+	/**
+	 * The changes made directly on the file system are reported after the debounce window.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Test
+	public void fileSystemChanges() throws IOException, InterruptedException {
+		RegistryWatcher watcher = RegistryWatcher.get(repository);
+		assertNotNull(watcher);
+		RegistryWatcher.Subscription subscription = watcher.subscribe("fileSystemChanges");
+		assertTrue(subscription.consume(EXTENSIONS));
+
+		Files.createDirectories(Paths.get(repository.getInternalResourcePath(ROOT + "/external")));
+		Files.write(Paths.get(repository.getInternalResourcePath(ROOT + "/external/test.access")), "{}".getBytes());
+
+		boolean changed = false;
+		for (int i = 0; i < 300 && !changed; i++) {
+			Thread.sleep(100);
+			changed = subscription.consume(EXTENSIONS);
+		}
+		assertTrue(changed);
+	}
+
+}
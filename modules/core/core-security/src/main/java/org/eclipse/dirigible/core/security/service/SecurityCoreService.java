@@ -20,9 +20,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.sql.DataSource;
 
@@ -51,9 +51,13 @@ public class SecurityCoreService implements ISecurityCoreService {
 	/** The access persistence manager. */
 	private PersistenceManager<AccessDefinition> accessPersistenceManager = new PersistenceManager<AccessDefinition>();
 
-	/** The Constant CACHE. */
-	// used by the access security filter to minimize the performance implications on getting the whole list
-	private static final List<AccessDefinition> CACHE = Collections.synchronizedList(new ArrayList<AccessDefinition>());
+	/** The cached access definitions. */
+	// used by the access security filter to minimize the performance implications on getting the whole list,
+	// the same immutable list is returned until the next change, so that the callers can detect a change by identity
+	private static volatile List<AccessDefinition> CACHE;
+	
+	/** The version of the cached access definitions, incremented on each change. */
+	private static final AtomicLong CACHE_VERSION = new AtomicLong();
 	
 	/**
 	 * Gets the data source.
@@ -514,6 +518,7 @@ public class SecurityCoreService implements ISecurityCoreService {
 			try {
 				connection = getDataSource().getConnection();
 				accessPersistenceManager.delete(connection, AccessDefinition.class, id);
+				clearCache();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -648,16 +653,23 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 */
 	@Override
 	public List<AccessDefinition> getAccessDefinitions() throws AccessException {
-		if (!CACHE.isEmpty()) {
-			return Collections.unmodifiableList(CACHE);
+		List<AccessDefinition> cached = CACHE;
+		if (cached != null) {
+			return cached;
 		}
+		long version = CACHE_VERSION.get();
 		try {
 			Connection connection = null;
 			try {
 				connection = getDataSource().getConnection();
-				List<AccessDefinition> accessDefinitions = accessPersistenceManager.findAll(connection, AccessDefinition.class);
-				CACHE.addAll(accessDefinitions);
-				return Collections.unmodifiableList(accessDefinitions);
+				List<AccessDefinition> accessDefinitions = Collections.unmodifiableList(accessPersistenceManager.findAll(connection, AccessDefinition.class));
+				synchronized (CACHE_VERSION) {
+					// a change during the loading makes the loaded list stale
+					if (CACHE_VERSION.get() == version) {
+						CACHE = accessDefinitions;
+					}
+				}
+				return accessDefinitions;
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -822,7 +834,10 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 * Clear cache.
 	 */
 	public void clearCache() {
-		CACHE.clear();
+		synchronized (CACHE_VERSION) {
+			CACHE_VERSION.incrementAndGet();
+			CACHE = null;
+		}
 	}
 
 	/**
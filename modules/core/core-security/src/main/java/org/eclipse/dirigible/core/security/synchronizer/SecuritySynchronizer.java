@@ -312,6 +312,16 @@ public class SecuritySynchronizer extends AbstractSynchronizer implements IOrder
 		if (logger.isTraceEnabled()) {logger.trace("Done synchronizing Extension Points and Extensions from Registry.");}
 	}
 
+	/**
+	 * Gets the file extensions.
+	 *
+	 * @return the file extensions
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { ISecurityCoreService.FILE_EXTENSION_ROLES, ISecurityCoreService.FILE_EXTENSION_ACCESS };
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
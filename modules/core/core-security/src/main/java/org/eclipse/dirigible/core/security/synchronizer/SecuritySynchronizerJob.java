@@ -19,8 +19,8 @@ import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
  */
 public class SecuritySynchronizerJob extends AbstractSynchronizerJob {
 
-	/** The security synchronizer. */
-	private SecuritySynchronizer securitySynchronizer = new SecuritySynchronizer();
+	/** The security synchronizer, shared by the runs of the job. */
+	private static final SecuritySynchronizer securitySynchronizer = new SecuritySynchronizer();
 
 	/**
 	 * Gets the synchronizer.
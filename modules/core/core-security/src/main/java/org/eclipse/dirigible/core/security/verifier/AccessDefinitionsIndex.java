@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.security.verifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.dirigible.core.security.definition.AccessDefinition;
+
+/**
+ * Immutable prefix trie of the access definitions per scope. The lookup walks the characters of the path once
+ * and keeps the definitions of the deepest node, which match the method, i.e. the ones with the longest path
+ * being a prefix of the given path.
+ */
+public class AccessDefinitionsIndex {
+
+	/** The Constant ANY_METHOD. */
+	private static final String ANY_METHOD = "*";
+
+	/** The access definitions the index is built from. */
+	private final List<AccessDefinition> accessDefinitions;
+
+	/** The root nodes per scope. */
+	private final Map<String, Node> scopes = new HashMap<String, Node>();
+
+	/**
+	 * Instantiates a new access definitions index.
+	 *
+	 * @param accessDefinitions the access definitions
+	 */
+	public AccessDefinitionsIndex(List<AccessDefinition> accessDefinitions) {
+		this.accessDefinitions = accessDefinitions;
+		for (AccessDefinition accessDefinition : accessDefinitions) {
+			if (accessDefinition.getScope() == null || accessDefinition.getPath() == null || accessDefinition.getMethod() == null) {
+				continue;
+			}
+			Node node = scopes.computeIfAbsent(accessDefinition.getScope().toUpperCase(Locale.ROOT), k -> new Node());
+			String path = accessDefinition.getPath();
+			for (int i = 0; i < path.length(); i++) {
+				node = node.children.computeIfAbsent(path.charAt(i), k -> new Node());
+			}
+			node.accessDefinitions.add(accessDefinition);
+		}
+		for (Node root : scopes.values()) {
+			root.seal();
+		}
+	}
+
+	/**
+	 * Gets the access definitions the index is built from.
+	 *
+	 * @return the access definitions
+	 */
+	public List<AccessDefinition> getAccessDefinitions() {
+		return accessDefinitions;
+	}
+
+	/**
+	 * Gets the access definitions with the longest path, which is a prefix of the given path.
+	 *
+	 * @param scope the scope
+	 * @param path the path
+	 * @param method the method
+	 * @return the matching access definitions in their original order or an empty list
+	 */
+	public List<AccessDefinition> getMatchingAccessDefinitions(String scope, String path, String method) {
+		Node node = scopes.get(scope.toUpperCase(Locale.ROOT));
+		if (node == null) {
+			return Collections.emptyList();
+		}
+		List<AccessDefinition> matching = node.getAccessDefinitions(method);
+		for (int i = 0; i < path.length(); i++) {
+			node = node.children.get(path.charAt(i));
+			if (node == null) {
+				break;
+			}
+			List<AccessDefinition> current = node.getAccessDefinitions(method);
+			if (!current.isEmpty()) {
+				matching = current;
+			}
+		}
+		return matching;
+	}
+
+	/**
+	 * The node for a path prefix.
+	 */
+	private static class Node {
+
+		/** The children per next character. */
+		private final Map<Character, Node> children = new HashMap<Character, Node>(4);
+
+		/** The access definitions with exactly this path. */
+		private List<AccessDefinition> accessDefinitions = new ArrayList<AccessDefinition>(1);
+
+		/** The access definitions per method, including the ones for any method. */
+		private Map<String, List<AccessDefinition>> methods = Collections.emptyMap();
+
+		/** The access definitions for any method. */
+		private List<AccessDefinition> anyMethod = Collections.emptyList();
+
+		/**
+		 * Gets the access definitions for the method.
+		 *
+		 * @param method the method
+		 * @return the access definitions
+		 */
+		List<AccessDefinition> getAccessDefinitions(String method) {
+			return methods.getOrDefault(method, anyMethod);
+		}
+
+		/**
+		 * Groups the access definitions of the node and its descendants per method.
+		 */
+		void seal() {
+			if (!accessDefinitions.isEmpty()) {
+				Set<String> methodNames = new LinkedHashSet<String>();
+				List<AccessDefinition> wildcard = new ArrayList<AccessDefinition>();
+				for (AccessDefinition accessDefinition : accessDefinitions) {
+					if (ANY_METHOD.equals(accessDefinition.getMethod())) {
+						wildcard.add(accessDefinition);
+					} else {
+						methodNames.add(accessDefinition.getMethod());
+					}
+				}
+				Map<String, List<AccessDefinition>> grouped = new HashMap<String, List<AccessDefinition>>();
+				for (String methodName : methodNames) {
+					List<AccessDefinition> forMethod = new ArrayList<AccessDefinition>();
+					for (AccessDefinition accessDefinition : accessDefinitions) {
+						if (ANY_METHOD.equals(accessDefinition.getMethod()) || methodName.equals(accessDefinition.getMethod())) {
+							forMethod.add(accessDefinition);
+						}
+					}
+					grouped.put(methodName, Collections.unmodifiableList(forMethod));
+				}
+				methods = grouped;
+				anyMethod = Collections.unmodifiableList(wildcard);
+			}
+			accessDefinitions = null;
+			for (Node child : children.values()) {
+				child.seal();
+			}
+		}
+	}
+
+}
@@ -11,8 +11,8 @@
  */
 package org.eclipse.dirigible.core.security.verifier;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.servlet.ServletException;
 
@@ -30,6 +30,9 @@ public class AccessVerifier {
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(AccessVerifier.class);
 
+	/** The index of the access definitions, replaced as a whole when the definitions change. */
+	private static final AtomicReference<AccessDefinitionsIndex> INDEX = new AtomicReference<AccessDefinitionsIndex>();
+
 	/**
 	 * Checks whether the URI is secured via the *.access file or not
 	 *
@@ -49,27 +52,37 @@ public class AccessVerifier {
 	 */
 	public static List<AccessDefinition> getMatchingAccessDefinitions(ISecurityCoreService securityCoreService, String scope, String path, String method)
 			throws ServletException, AccessException {
-		List<AccessDefinition> accessDefinitions = new ArrayList<AccessDefinition>();
-		AccessDefinition current = null;
-		List<AccessDefinition> existing = securityCoreService.getAccessDefinitions();
-		for (AccessDefinition accessDefinition : existing) {
-			if (scope.equalsIgnoreCase(accessDefinition.getScope()) && path.startsWith(accessDefinition.getPath())
-					&& (accessDefinition.getMethod().equals("*") || method.equals(accessDefinition.getMethod()))) {
-				if (logger.isDebugEnabled()) {logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
-						accessDefinition.getLocation()));}
-				if ((current == null) || (accessDefinition.getPath().length() > current.getPath().length())) {
-					current = accessDefinition;
-					accessDefinitions.clear();
-					accessDefinitions.add(accessDefinition);
-				} else if (accessDefinition.getPath().length() == current.getPath().length()) {
-					accessDefinitions.add(accessDefinition);
-				}
-			}
-		}
+		List<AccessDefinition> accessDefinitions = getIndex(securityCoreService).getMatchingAccessDefinitions(scope, path, method);
 		if (accessDefinitions.isEmpty()) {
 			if (logger.isTraceEnabled()) {logger.trace(String.format("URI [%s] with HTTP method [%s] is NOT secured", path, method));}
+		} else if (logger.isDebugEnabled()) {
+			for (AccessDefinition accessDefinition : accessDefinitions) {
+				logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
+						accessDefinition.getLocation()));
+			}
 		}
 		return accessDefinitions;
 	}
 
+	/**
+	 * Gets the index of the current access definitions. The service returns the same list instance until the definitions
+	 * change, so the index is rebuilt only after a change and the lookups in between do not lock.
+	 *
+	 * @param securityCoreService
+	 *            the security core service
+	 * @return the index
+	 * @throws AccessException
+	 *             the access exception
+	 */
+	private static AccessDefinitionsIndex getIndex(ISecurityCoreService securityCoreService) throws AccessException {
+		List<AccessDefinition> existing = securityCoreService.getAccessDefinitions();
+		AccessDefinitionsIndex index = INDEX.get();
+		if (index == null || index.getAccessDefinitions() != existing) {
+			AccessDefinitionsIndex rebuilt = new AccessDefinitionsIndex(existing);
+			INDEX.compareAndSet(index, rebuilt);
+			index = rebuilt;
+		}
+		return index;
+	}
+
 }
@@ -208,6 +208,16 @@ public class WebsocketsSynchronizer extends AbstractSynchronizer {
 		if (logger.isTraceEnabled()) {logger.trace("Done synchronizing Websockets from Registry.");}
 	}
 
+	/**
+	 * Gets the file extensions.
+	 *
+	 * @return the file extensions
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IWebsocketsCoreService.FILE_EXTENSION_WEBSOCKET };
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
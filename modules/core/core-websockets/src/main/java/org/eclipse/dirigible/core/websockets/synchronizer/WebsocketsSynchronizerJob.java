@@ -19,8 +19,8 @@ import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
  */
 public class WebsocketsSynchronizerJob extends AbstractSynchronizerJob {
 
-	/** The websockets synchronizer. */
-	private WebsocketsSynchronizer websocketsSynchronizer = new WebsocketsSynchronizer();
+	/** The websockets synchronizer, shared by the runs of the job. */
+	private static final WebsocketsSynchronizer websocketsSynchronizer = new WebsocketsSynchronizer();
 
 	/**
 	 * Gets the synchronizer.
@@ -1453,6 +1453,7 @@ public class DataStructuresSynchronizer extends AbstractSynchronizer implements
 	 */
 	public void executeTableDrop(Connection connection, DataStructureTableModel tableModel) throws SQLException {
 		TableDropProcessor.execute(connection, tableModel);
+		PersistenceManager.invalidateTable(tableModel.getName());
 	}
 	
 	/**
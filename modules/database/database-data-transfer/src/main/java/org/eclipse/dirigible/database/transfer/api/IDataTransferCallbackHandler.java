@@ -113,6 +113,15 @@ public interface IDataTransferCallbackHandler {
 	 */
 	void tableTransferFinished(String table, int transferedRecords);
 	
+	/**
+	 * Table transfer progress, reported periodically while the records of the table are transferred.
+	 *
+	 * @param table the table
+	 * @param transferedRecords the transfered records so far
+	 * @param recordsPerSecond the records per second
+	 */
+	void tableTransferProgress(String table, int transferedRecords, double recordsPerSecond);
+	
 	/**
 	 * Table transfer failed.
 	 *
@@ -171,6 +171,19 @@ public class DummyDataTransferCallbackHandler implements IDataTransferCallbackHa
 		
 	}
 
+	/**
+	 * Table transfer progress.
+	 *
+	 * @param table the table
+	 * @param transferedRecords the transfered records
+	 * @param recordsPerSecond the records per second
+	 */
+	@Override
+	public void tableTransferProgress(String table, int transferedRecords, double recordsPerSecond) {
+		// TODO Auto-generated method stub
+		
+	}
+
 	/**
 	 * Table transfer failed.
 	 *
@@ -46,7 +46,7 @@ public class WriterDataTransferCallbackHandler implements IDataTransferCallbackH
 	private String identifier;
 	
 	/** The stopped. */
-	private boolean stopped = false;
+	private volatile boolean stopped = false;
 	
 	/**
 	 * Instantiates a new writer data transfer callback handler.
@@ -65,7 +65,7 @@ public class WriterDataTransferCallbackHandler implements IDataTransferCallbackH
 	 * @param s the s
 	 * @param severity the severity
 	 */
-	private void write(String s, String severity) {
+	private synchronized void write(String s, String severity) {
 		try {
 			String message = String.format("[%s][%s] %s", identifier, severity, s);
 			this.writer.write(message);
@@ -226,6 +226,18 @@ public class WriterDataTransferCallbackHandler implements IDataTransferCallbackH
 		
 	}
 
+	/**
+	 * Table transfer progress.
+	 *
+	 * @param table the table
+	 * @param transferedRecords the transfered records
+	 * @param recordsPerSecond the records per second
+	 */
+	@Override
+	public void tableTransferProgress(String table, int transferedRecords, double recordsPerSecond) {
+		write(String.format("Data transfer of table: %s has transferred %d records with %.0f records/s", table, transferedRecords, recordsPerSecond), SEVERITY_INFO);
+	}
+
 	/**
 	 * Table transfer failed.
 	 *
@@ -16,20 +16,30 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
 import org.eclipse.dirigible.commons.api.topology.TopologicalSorter;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.api.DatabaseModule;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableRelationModel;
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCreateTableProcessor;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.InsertBuilder;
+import org.eclipse.dirigible.database.sql.builders.records.SelectBuilder;
 import org.eclipse.dirigible.database.transfer.api.DataTransferConfiguration;
 import org.eclipse.dirigible.database.transfer.api.DataTransferDefinition;
 import org.eclipse.dirigible.database.transfer.api.DataTransferException;
@@ -40,6 +50,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The Class DataTransferManager.
+ * <p>
+ * Tables are copied on a pool of DIRIGIBLE_DATABASE_TRANSFER_THREADS workers, each of them with its own source and
+ * target connections. A table is started only after the tables it references are done. Tables with a single
+ * integer primary key and more than DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE records are split into key ranges,
+ * which are copied in parallel as well.
  */
 public class DataTransferManager {
 	
@@ -52,8 +67,89 @@ public class DataTransferManager {
 	/** The Constant DEFAULT_BATCH_SIZE. */
 	private static final String DEFAULT_BATCH_SIZE = "1000";
 	
-	/** The batch size. */
-	private static int BATCH_SIZE = 1000; 
+	/** The Constant DIRIGIBLE_DATABASE_TRANSFER_THREADS. */
+	private static final String DIRIGIBLE_DATABASE_TRANSFER_THREADS = "DIRIGIBLE_DATABASE_TRANSFER_THREADS";
+	
+	/** The Constant DEFAULT_THREADS. */
+	private static final String DEFAULT_THREADS = "1";
+	
+	/** The Constant DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE. */
+	private static final String DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE";
+	
+	/** The Constant DEFAULT_CHUNK_SIZE. */
+	private static final String DEFAULT_CHUNK_SIZE = "100000";
+	
+	/** The Constant PROGRESS_INTERVAL. */
+	private static final long PROGRESS_INTERVAL = 1000;
+	
+	/** The Constant WHOLE_TABLE. */
+	private static final long[] WHOLE_TABLE = new long[0];
+	
+	/**
+	 * Binds a column of the current source record to the target statement.
+	 */
+	@FunctionalInterface
+	private interface ColumnBinder {
+		
+		/**
+		 * Bind.
+		 *
+		 * @param source the source
+		 * @param target the target
+		 * @param index the index
+		 * @throws SQLException the SQL exception
+		 */
+		void bind(ResultSet source, PreparedStatement target, int index) throws SQLException;
+	}
+	
+	/**
+	 * The state of a table transfer shared by its key ranges.
+	 */
+	private static class TableTransfer {
+		
+		/** The table name. */
+		private final String tableName;
+		
+		/** The select SQL. */
+		private final String selectSQL;
+		
+		/** The primary key. */
+		private final String primaryKey;
+		
+		/** The transfered records. */
+		private final AtomicInteger transferedRecords = new AtomicInteger();
+		
+		/** The last progress. */
+		private final AtomicLong lastProgress;
+		
+		/** The start time. */
+		private final long startTime;
+		
+		/**
+		 * Instantiates a new table transfer.
+		 *
+		 * @param tableName the table name
+		 * @param selectSQL the select SQL
+		 * @param primaryKey the primary key
+		 */
+		TableTransfer(String tableName, String selectSQL, String primaryKey) {
+			this.tableName = tableName;
+			this.selectSQL = selectSQL;
+			this.primaryKey = primaryKey;
+			this.startTime = System.currentTimeMillis();
+			this.lastProgress = new AtomicLong(startTime);
+		}
+		
+		/**
+		 * Gets the records per second.
+		 *
+		 * @return the records per second
+		 */
+		double getRecordsPerSecond() {
+			long elapsed = System.currentTimeMillis() - startTime;
+			return elapsed > 0 ? transferedRecords.get() * 1000d / elapsed : transferedRecords.get();
+		}
+	}
 	
 	/**
 	 * Transfer.
@@ -83,28 +179,18 @@ public class DataTransferManager {
 			handler = new DummyDataTransferCallbackHandler();
 		}
 		
-		try {
-			BATCH_SIZE = Integer.parseInt(Configuration.get(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE));
-		} catch (NumberFormatException e1) {
-			if (logger.isWarnEnabled()) {logger.warn("Wrong configuration for " + DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE);}
-		}
-		
 		handler.transferStarted(configuration);
 		
+		List<PersistenceTableModel> tables;
 		try (Connection sourceConnection = source.getConnection()) {
 			
 			try (Connection targetConnection = target.getConnection()) {
 				
-				List<PersistenceTableModel> tables = DataTransferReverseTableProcessor.reverseTables(source, configuration.getSourceSchema(), handler);
+				tables = DataTransferReverseTableProcessor.reverseTables(source, configuration.getSourceSchema(), handler);
 				if (handler.isStopped()) {
 					return;
 				}
 				tables = sortTables(tables, handler);
-				sourceConnection.setSchema(configuration.getSourceSchema());
-				targetConnection.setSchema(configuration.getTargetSchema());
-				transferData(tables, sourceConnection, targetConnection, handler);
-				
-				handler.transferFinished(tables.size());
 				
 			} catch (SQLException e) {
 				String error = "Error occured when trying to connect to the target database";
@@ -120,6 +206,9 @@ public class DataTransferManager {
 			throw new DataTransferException(e);
 		}
 		
+		transferData(tables, source, target, configuration, handler);
+		
+		handler.transferFinished(tables.size());
 	}
 	
 	/**
@@ -161,196 +250,408 @@ public class DataTransferManager {
 	 * Transfer data.
 	 *
 	 * @param tables the tables
-	 * @param sourceConnection the source connection
-	 * @param targetConnection the target connection
+	 * @param source the source
+	 * @param target the target
+	 * @param configuration the configuration
 	 * @param handler the handler
 	 */
-	private static void transferData(List<PersistenceTableModel> tables, Connection sourceConnection, Connection targetConnection, IDataTransferCallbackHandler handler) {
+	private static void transferData(List<PersistenceTableModel> tables, DataSource source, DataSource target,
+			DataTransferConfiguration configuration, IDataTransferCallbackHandler handler) {
 		
 		handler.dataTransferStarted();
 		
-		for (PersistenceTableModel tableModel : tables) {
-			if (handler.isStopped()) {
-				return;
+		int batchSize = getIntConfiguration(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+		int chunkSize = getIntConfiguration(DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE, DEFAULT_CHUNK_SIZE);
+		int threads = getIntConfiguration(DIRIGIBLE_DATABASE_TRANSFER_THREADS, DEFAULT_THREADS);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		try {
+			Map<String, CompletableFuture<Void>> transfers = new HashMap<String, CompletableFuture<Void>>();
+			for (PersistenceTableModel tableModel : tables) {
+				List<CompletableFuture<Void>> dependencies = new ArrayList<CompletableFuture<Void>>();
+				for (PersistenceTableRelationModel relation : tableModel.getRelations()) {
+					CompletableFuture<Void> dependency = transfers.get(relation.getToTableName());
+					if (dependency != null) {
+						dependencies.add(dependency);
+					}
+				}
+				CompletableFuture<Void> transfer = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]))
+						.thenComposeAsync(v -> transferTable(tableModel, source, target, configuration, handler, batchSize, chunkSize, executor), executor);
+				transfers.put(tableModel.getTableName(), transfer);
 			}
-			if (logger.isInfoEnabled()) {logger.info(String.format("Data transfer of table %s has been started...", tableModel.getTableName()));}
-			handler.tableTransferStarted(tableModel.getTableName());
-			try {
+			CompletableFuture.allOf(transfers.values().toArray(new CompletableFuture[0])).join();
+		} finally {
+			executor.shutdown();
+		}
+		
+		if (handler.isStopped()) {
+			return;
+		}
+		handler.dataTransferFinished();
+	}
+	
+	/**
+	 * Prepares the target table and schedules the transfer of its key ranges.
+	 *
+	 * @param tableModel the table model
+	 * @param source the source
+	 * @param target the target
+	 * @param configuration the configuration
+	 * @param handler the handler
+	 * @param batchSize the batch size
+	 * @param chunkSize the chunk size
+	 * @param executor the executor
+	 * @return the future completed after all the ranges are transferred
+	 */
+	private static CompletableFuture<Void> transferTable(PersistenceTableModel tableModel, DataSource source, DataSource target,
+			DataTransferConfiguration configuration, IDataTransferCallbackHandler handler, int batchSize, int chunkSize, ExecutorService executor) {
+		if (handler.isStopped()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		String tableName = tableModel.getTableName();
+		if (logger.isInfoEnabled()) {logger.info(String.format("Data transfer of table %s has been started...", tableName));}
+		handler.tableTransferStarted(tableName);
+		try {
+			TableTransfer tableTransfer;
+			List<long[]> ranges;
+			try (Connection sourceConnection = getConnection(source, configuration.getSourceSchema());
+					Connection targetConnection = getConnection(target, configuration.getTargetSchema())) {
 				
-				if (!SqlFactory.getNative(sourceConnection).exists(targetConnection, tableModel.getTableName())) {
+				if (!SqlFactory.getNative(sourceConnection).exists(targetConnection, tableName)) {
 					PersistenceCreateTableProcessor createTableProcessor = new PersistenceCreateTableProcessor(null);
 					createTableProcessor.create(targetConnection, tableModel);
 				} else {
 					String countSQL = SqlFactory.getNative(sourceConnection)
 							.select()
 							.column("count(*)")
-							.from(tableModel.getTableName())
+							.from(tableName)
 							.build();
-					try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(countSQL)) {
-						ResultSet rs = pstmtTarget.executeQuery();
-						while (rs.next()) {
-							int count = rs.getInt(1);
-							if (count > 0) {
-								handler.tableSkipped(tableModel.getTableName(), "table exists and it is not empty");
-								continue;
-							}
+					try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(countSQL);
+							ResultSet rs = pstmtTarget.executeQuery()) {
+						if (rs.next() && rs.getInt(1) > 0) {
+							handler.tableSkipped(tableName, "table exists and it is not empty");
+							return CompletableFuture.completedFuture(null);
 						}
 					}
 				}
 				
+				List<PersistenceTableColumnModel> primaryKeys = tableModel.getColumns().stream()
+						.filter(PersistenceTableColumnModel::isPrimaryKey).collect(Collectors.toList());
+				String primaryKey = primaryKeys.size() == 1 ? primaryKeys.get(0).getName() : null;
+				
 				String selectSQL = SqlFactory.getNative(sourceConnection)
 						.select()
 						.column("*")
-						.from(tableModel.getTableName())
+						.from(tableName)
 						.build();
-				
 				handler.tableSelectSQL(selectSQL);
 				
-				int transferedRecords = 0;
-				
-				try (PreparedStatement pstmtSource = sourceConnection.prepareStatement(selectSQL)) {
-					try (ResultSet rs = pstmtSource.executeQuery()) {
-						ResultSetMetaData resultSetMetaData = rs.getMetaData();
-						
-						InsertBuilder insertBuilder = SqlFactory.getNative(targetConnection)
-								.insert()
-								.into(tableModel.getTableName());
-						for (int i=1; i<=resultSetMetaData.getColumnCount(); i++) {
-							String columnName = resultSetMetaData.getColumnName(i);
-							insertBuilder.column(columnName);
+				tableTransfer = new TableTransfer(tableName, selectSQL, primaryKey);
+				ranges = splitTable(tableTransfer, sourceConnection, chunkSize);
+			}
+			
+			CompletableFuture<?>[] parts = new CompletableFuture[ranges.size()];
+			for (int i = 0; i < ranges.size(); i++) {
+				long[] range = ranges.get(i);
+				boolean first = i == 0;
+				parts[i] = CompletableFuture.runAsync(() -> {
+					try {
+						transferRange(tableTransfer, range, first, source, target, configuration, handler, batchSize);
+					} catch (SQLException e) {
+						throw new IllegalStateException(e);
+					}
+				}, executor);
+			}
+			return CompletableFuture.allOf(parts).handle((v, e) -> {
+				if (e != null) {
+					Throwable cause = e.getCause() instanceof IllegalStateException && e.getCause().getCause() != null ? e.getCause().getCause() : e;
+					tableTransferFailed(tableName, handler, cause);
+				} else if (!handler.isStopped()) {
+					String message = String.format("Data of table %s has been transferred successfully.", tableName);
+					if (logger.isInfoEnabled()) {logger.info(message);}
+					handler.tableTransferProgress(tableName, tableTransfer.transferedRecords.get(), tableTransfer.getRecordsPerSecond());
+					handler.tableTransferFinished(tableName, tableTransfer.transferedRecords.get());
+				}
+				return null;
+			});
+			
+		} catch(Exception e) {
+			tableTransferFailed(tableName, handler, e);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+	
+	/**
+	 * Table transfer failed.
+	 *
+	 * @param tableName the table name
+	 * @param handler the handler
+	 * @param e the error
+	 */
+	private static void tableTransferFailed(String tableName, IDataTransferCallbackHandler handler, Throwable e) {
+		String error = "Error occured while transferring the data for table: " + tableName;
+		if (logger.isErrorEnabled()) {logger.error(error, e);}
+		handler.tableTransferFailed(tableName, error + " -> " + e.getMessage());
+	}
+	
+	/**
+	 * Splits the table into ranges of its integer primary key, so that each of them holds about chunk size records.
+	 *
+	 * @param tableTransfer the table transfer
+	 * @param sourceConnection the source connection
+	 * @param chunkSize the chunk size
+	 * @return the inclusive key ranges or a single whole table range
+	 * @throws SQLException the SQL exception
+	 */
+	private static List<long[]> splitTable(TableTransfer tableTransfer, Connection sourceConnection, int chunkSize) throws SQLException {
+		List<long[]> ranges = new ArrayList<long[]>();
+		if (tableTransfer.primaryKey != null && chunkSize > 0) {
+			String statisticsSQL = SqlFactory.getNative(sourceConnection)
+					.select()
+					.column("count(*)")
+					.column("min(" + tableTransfer.primaryKey + ")")
+					.column("max(" + tableTransfer.primaryKey + ")")
+					.from(tableTransfer.tableName)
+					.build();
+			try (PreparedStatement pstmtSource = sourceConnection.prepareStatement(statisticsSQL);
+					ResultSet rs = pstmtSource.executeQuery()) {
+				if (rs.next() && isIntegerType(rs.getMetaData().getColumnType(2))) {
+					long count = rs.getLong(1);
+					long min = rs.getLong(2);
+					long max = rs.getLong(3);
+					long span = max - min;
+					if (count > chunkSize && span > 0) {
+						long chunks = (count + chunkSize - 1) / chunkSize;
+						long step = span / chunks + 1;
+						for (long from = min; from <= max && from >= min; from += step) {
+							long to = max - from < step ? max : from + step - 1;
+							ranges.add(new long[] {from, to});
 						}
-						
-						String insertSQL = insertBuilder.build();
+					}
+				}
+			}
+		}
+		if (ranges.isEmpty()) {
+			ranges.add(WHOLE_TABLE);
+		}
+		return ranges;
+	}
+	
+	/**
+	 * Checks if is integer type.
+	 *
+	 * @param type the type
+	 * @return true, if is integer type
+	 */
+	private static boolean isIntegerType(int type) {
+		return type == Types.TINYINT || type == Types.SMALLINT || type == Types.INTEGER || type == Types.BIGINT;
+	}
+	
+	/**
+	 * Transfer the records of a key range, committing after every batch.
+	 *
+	 * @param tableTransfer the table transfer
+	 * @param range the range
+	 * @param first whether this is the first range of the table
+	 * @param source the source
+	 * @param target the target
+	 * @param configuration the configuration
+	 * @param handler the handler
+	 * @param batchSize the batch size
+	 * @throws SQLException the SQL exception
+	 */
+	private static void transferRange(TableTransfer tableTransfer, long[] range, boolean first, DataSource source, DataSource target,
+			DataTransferConfiguration configuration, IDataTransferCallbackHandler handler, int batchSize) throws SQLException {
+		if (handler.isStopped()) {
+			return;
+		}
+		String tableName = tableTransfer.tableName;
+		try (Connection sourceConnection = getConnection(source, configuration.getSourceSchema());
+				Connection targetConnection = getConnection(target, configuration.getTargetSchema())) {
+			
+			String selectSQL = tableTransfer.selectSQL;
+			if (range != WHOLE_TABLE) {
+				SelectBuilder selectBuilder = SqlFactory.getNative(sourceConnection)
+						.select()
+						.column("*")
+						.from(tableName)
+						.where(tableTransfer.primaryKey + " >= ? AND " + tableTransfer.primaryKey + " <= ?");
+				selectSQL = selectBuilder.build();
+			}
+			
+			// some drivers stream the result set only outside of auto-commit mode
+			boolean sourceAutoCommit = sourceConnection.getAutoCommit();
+			boolean targetAutoCommit = targetConnection.getAutoCommit();
+			sourceConnection.setAutoCommit(false);
+			targetConnection.setAutoCommit(false);
+			try (PreparedStatement pstmtSource = sourceConnection.prepareStatement(selectSQL)) {
+				pstmtSource.setFetchSize(batchSize);
+				if (range != WHOLE_TABLE) {
+					pstmtSource.setLong(1, range[0]);
+					pstmtSource.setLong(2, range[1]);
+				}
+				try (ResultSet rs = pstmtSource.executeQuery()) {
+					ResultSetMetaData resultSetMetaData = rs.getMetaData();
+					int columnCount = resultSetMetaData.getColumnCount();
+					
+					InsertBuilder insertBuilder = SqlFactory.getNative(targetConnection)
+							.insert()
+							.into(tableName);
+					ColumnBinder[] binders = new ColumnBinder[columnCount + 1];
+					for (int i=1; i<=columnCount; i++) {
+						insertBuilder.column(resultSetMetaData.getColumnName(i));
+						binders[i] = getColumnBinder(resultSetMetaData.getColumnType(i));
+					}
+					
+					String insertSQL = insertBuilder.build();
+					if (first) {
 						handler.tableInsertSQL(insertSQL);
-						
-						try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(insertSQL)) {
-							while (rs.next()) {
-								if (handler.isStopped()) {
-									return;
-								}
-								for (int i=1; i<=resultSetMetaData.getColumnCount(); i++) {
-									int type = resultSetMetaData.getColumnType(i);
-									switch (type) {
-									case java.sql.Types.ARRAY:
-										pstmtTarget.setArray(i, rs.getArray(i));
-										break;
-									case java.sql.Types.BIGINT:
-										pstmtTarget.setLong(i, rs.getLong(i));
-										break;
-									case java.sql.Types.BINARY:
-										pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
-										break;
-									case java.sql.Types.BIT:
-										pstmtTarget.setBoolean(i, rs.getBoolean(i));
-										break;
-									case java.sql.Types.BLOB:
-										pstmtTarget.setBlob(i, rs.getBlob(i));
-										break;
-									case java.sql.Types.BOOLEAN:
-										pstmtTarget.setBoolean(i, rs.getBoolean(i));
-										break;
-									case java.sql.Types.CHAR:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									case java.sql.Types.CLOB:
-										pstmtTarget.setClob(i, rs.getClob(i));
-										break;
-									case java.sql.Types.DATE:
-										pstmtTarget.setDate(i, rs.getDate(i));
-										break;
-									case java.sql.Types.DECIMAL:
-										pstmtTarget.setBigDecimal(i, rs.getBigDecimal(i));
-										break;
-									case java.sql.Types.DOUBLE:
-										pstmtTarget.setDouble(i, rs.getDouble(i));
-										break;
-									case java.sql.Types.FLOAT:
-										pstmtTarget.setFloat(i, rs.getFloat(i));
-										break;
-									case java.sql.Types.INTEGER:
-										pstmtTarget.setInt(i, rs.getInt(i));
-										break;
-									case java.sql.Types.LONGNVARCHAR:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									case java.sql.Types.LONGVARBINARY:
-										pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
-										break;
-									case java.sql.Types.LONGVARCHAR:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									case java.sql.Types.NCHAR:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									case java.sql.Types.NCLOB:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									case java.sql.Types.NUMERIC:
-										pstmtTarget.setDouble(i, rs.getDouble(i));
-										break;
-									case java.sql.Types.NVARCHAR:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									case java.sql.Types.REAL:
-										pstmtTarget.setFloat(i, rs.getFloat(i));
-										break;
-									case java.sql.Types.SMALLINT:
-										pstmtTarget.setShort(i, rs.getShort(i));
-										break;
-									case java.sql.Types.TIME:
-										pstmtTarget.setTime(i, rs.getTime(i));
-										break;
-									case java.sql.Types.TIME_WITH_TIMEZONE:
-										pstmtTarget.setTime(i, rs.getTime(i));
-										break;
-									case java.sql.Types.TIMESTAMP:
-										pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
-										break;
-									case java.sql.Types.TIMESTAMP_WITH_TIMEZONE:
-										pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
-										break;
-									case java.sql.Types.TINYINT:
-										pstmtTarget.setByte(i, rs.getByte(i));
-										break;
-									case java.sql.Types.VARBINARY:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									case java.sql.Types.VARCHAR:
-										pstmtTarget.setString(i, rs.getString(i));
-										break;
-									default:
-										pstmtTarget.setObject(i, rs.getObject(i));
-										break;
-									}
-									
-								}
-								handler.recordTransferFinished(tableModel.getTableName(), ++transferedRecords);
-								pstmtTarget.addBatch();
-								if (transferedRecords % BATCH_SIZE == 0) {
-									pstmtTarget.executeBatch();
-								}
+					}
+					
+					try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(insertSQL)) {
+						int batchRecords = 0;
+						while (rs.next()) {
+							if (handler.isStopped()) {
+								targetConnection.rollback();
+								return;
 							}
-							if (transferedRecords % BATCH_SIZE != 0) {
-								pstmtTarget.executeBatch();
+							for (int i=1; i<=columnCount; i++) {
+								binders[i].bind(rs, pstmtTarget, i);
 							}
+							handler.recordTransferFinished(tableName, tableTransfer.transferedRecords.incrementAndGet());
+							pstmtTarget.addBatch();
+							if (++batchRecords == batchSize) {
+								flush(tableTransfer, pstmtTarget, targetConnection, handler);
+								batchRecords = 0;
+							}
+						}
+						if (batchRecords > 0) {
+							flush(tableTransfer, pstmtTarget, targetConnection, handler);
 						}
 					}
 				}
-				
-				String message = String.format("Data of table %s has been transferred successfully.", tableModel.getTableName());
-				if (logger.isInfoEnabled()) {logger.info(message);}
-				
-				handler.tableTransferFinished(tableModel.getTableName(), transferedRecords);
-				
-			} catch(Exception e) {
-				String error = "Error occured while transferring the data for table: " + tableModel.getTableName();
-				if (logger.isErrorEnabled()) {logger.error(error, e);}
-				handler.tableTransferFailed(tableModel.getTableName(), error + " -> " + e.getMessage());
+				sourceConnection.commit();
+			} catch (SQLException | RuntimeException e) {
+				targetConnection.rollback();
+				throw e;
+			} finally {
+				sourceConnection.setAutoCommit(sourceAutoCommit);
+				targetConnection.setAutoCommit(targetAutoCommit);
 			}
 		}
-		
-		handler.dataTransferFinished();
 	}
-
+	
+	/**
+	 * Executes and commits the pending batch and reports the progress at most once per interval.
+	 *
+	 * @param tableTransfer the table transfer
+	 * @param pstmtTarget the target statement
+	 * @param targetConnection the target connection
+	 * @param handler the handler
+	 * @throws SQLException the SQL exception
+	 */
+	private static void flush(TableTransfer tableTransfer, PreparedStatement pstmtTarget, Connection targetConnection,
+			IDataTransferCallbackHandler handler) throws SQLException {
+		pstmtTarget.executeBatch();
+		targetConnection.commit();
+		long now = System.currentTimeMillis();
+		long lastProgress = tableTransfer.lastProgress.get();
+		if (now - lastProgress >= PROGRESS_INTERVAL && tableTransfer.lastProgress.compareAndSet(lastProgress, now)) {
+			handler.tableTransferProgress(tableTransfer.tableName, tableTransfer.transferedRecords.get(), tableTransfer.getRecordsPerSecond());
+		}
+	}
+	
+	/**
+	 * Gets a connection set to the given schema.
+	 *
+	 * @param dataSource the data source
+	 * @param schema the schema
+	 * @return the connection
+	 * @throws SQLException the SQL exception
+	 */
+	private static Connection getConnection(DataSource dataSource, String schema) throws SQLException {
+		Connection connection = dataSource.getConnection();
+		try {
+			connection.setSchema(schema);
+		} catch (SQLException e) {
+			connection.close();
+			throw e;
+		}
+		return connection;
+	}
+	
+	/**
+	 * Gets the integer configuration.
+	 *
+	 * @param key the key
+	 * @param defaultValue the default value
+	 * @return the value
+	 */
+	private static int getIntConfiguration(String key, String defaultValue) {
+		try {
+			return Integer.parseInt(Configuration.get(key, defaultValue));
+		} catch (NumberFormatException e) {
+			if (logger.isWarnEnabled()) {logger.warn("Wrong configuration for " + key);}
+			return Integer.parseInt(defaultValue);
+		}
+	}
+	
+	/**
+	 * Gets the binder for a column of the given type, resolved once per statement instead of once per value.
+	 *
+	 * @param type the type
+	 * @return the column binder
+	 */
+	private static ColumnBinder getColumnBinder(int type) {
+		switch (type) {
+		case Types.ARRAY:
+			return (rs, pstmt, i) -> pstmt.setArray(i, rs.getArray(i));
+		case Types.BIGINT:
+			return (rs, pstmt, i) -> pstmt.setLong(i, rs.getLong(i));
+		case Types.BINARY:
+		case Types.LONGVARBINARY:
+			return (rs, pstmt, i) -> pstmt.setBinaryStream(i, rs.getBinaryStream(i));
+		case Types.BIT:
+		case Types.BOOLEAN:
+			return (rs, pstmt, i) -> pstmt.setBoolean(i, rs.getBoolean(i));
+		case Types.BLOB:
+			return (rs, pstmt, i) -> pstmt.setBlob(i, rs.getBlob(i));
+		case Types.CLOB:
+			return (rs, pstmt, i) -> pstmt.setClob(i, rs.getClob(i));
+		case Types.DATE:
+			return (rs, pstmt, i) -> pstmt.setDate(i, rs.getDate(i));
+		case Types.DECIMAL:
+			return (rs, pstmt, i) -> pstmt.setBigDecimal(i, rs.getBigDecimal(i));
+		case Types.DOUBLE:
+		case Types.NUMERIC:
+			return (rs, pstmt, i) -> pstmt.setDouble(i, rs.getDouble(i));
+		case Types.FLOAT:
+		case Types.REAL:
+			return (rs, pstmt, i) -> pstmt.setFloat(i, rs.getFloat(i));
+		case Types.INTEGER:
+			return (rs, pstmt, i) -> pstmt.setInt(i, rs.getInt(i));
+		case Types.SMALLINT:
+			return (rs, pstmt, i) -> pstmt.setShort(i, rs.getShort(i));
+		case Types.TIME:
+		case Types.TIME_WITH_TIMEZONE:
+			return (rs, pstmt, i) -> pstmt.setTime(i, rs.getTime(i));
+		case Types.TIMESTAMP:
+		case Types.TIMESTAMP_WITH_TIMEZONE:
+			return (rs, pstmt, i) -> pstmt.setTimestamp(i, rs.getTimestamp(i));
+		case Types.TINYINT:
+			return (rs, pstmt, i) -> pstmt.setByte(i, rs.getByte(i));
+		case Types.CHAR:
+		case Types.LONGNVARCHAR:
+		case Types.LONGVARCHAR:
+		case Types.NCHAR:
+		case Types.NCLOB:
+		case Types.NVARCHAR:
+		case Types.VARBINARY:
+		case Types.VARCHAR:
+			return (rs, pstmt, i) -> pstmt.setString(i, rs.getString(i));
+		default:
+			return (rs, pstmt, i) -> pstmt.setObject(i, rs.getObject(i));
+		}
+	}
 
 }
@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.database.transfer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -22,6 +23,7 @@ import java.sql.Statement;
 
 import javax.sql.DataSource;
 
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.h2.H2Database;
 import org.eclipse.dirigible.database.transfer.api.DataTransferConfiguration;
 import org.eclipse.dirigible.database.transfer.api.DataTransferException;
@@ -78,6 +80,52 @@ public class DataTransferTest {
 		assertTrue(checkResults());
 	}
 
+	/**
+	 * Transfer data in parallel, splitting the tables into key ranges.
+	 *
+	 * @throws SQLException             the SQL exception
+	 * @throws DataTransferException             the DataTransferException exception
+	 */
+	@Test
+	public void transferDataParallel() throws SQLException, DataTransferException {
+		
+		prepareSourceDatabase();
+		try (Connection connection = sourceDS.getConnection()) {
+			try (Statement stmt = connection.createStatement()) {
+				for (int i = 4; i <= 100; i++) {
+					stmt.executeUpdate("INSERT INTO DRIVER VALUES (" + i + ", 'Driver" + i + "')");
+				}
+			}
+		}
+		
+		DataTransferConfiguration dataTransferConfiguration = new DataTransferConfiguration();
+		dataTransferConfiguration.setSourceSchema("PUBLIC");
+		dataTransferConfiguration.setTargetSchema("PUBLIC");
+		
+		Configuration.set("DIRIGIBLE_DATABASE_TRANSFER_THREADS", "4");
+		Configuration.set("DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE", "10");
+		Configuration.set("DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE", "7");
+		try {
+			DataTransferManager.transfer(sourceDS, targetDS, dataTransferConfiguration, null);
+		} finally {
+			Configuration.remove("DIRIGIBLE_DATABASE_TRANSFER_THREADS");
+			Configuration.remove("DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE");
+			Configuration.remove("DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE");
+		}
+		
+		try (Connection connection = targetDS.getConnection()) {
+			try (Statement stmt = connection.createStatement()) {
+				ResultSet rs = stmt.executeQuery("SELECT COUNT(*), SUM(ID) FROM DRIVER");
+				assertTrue(rs.next());
+				assertEquals(100, rs.getInt(1));
+				assertEquals(5050, rs.getInt(2));
+				rs = stmt.executeQuery("SELECT COUNT(*) FROM CAR");
+				assertTrue(rs.next());
+				assertEquals(3, rs.getInt(1));
+			}
+		}
+	}
+
 	/**
 	 * Prepare source database.
 	 *
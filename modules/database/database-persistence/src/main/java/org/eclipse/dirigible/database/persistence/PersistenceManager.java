@@ -15,11 +15,12 @@ import static java.text.MessageFormat.format;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.GenerationType;
 
@@ -58,11 +59,8 @@ public class PersistenceManager<T> {
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(PersistenceManager.class);
 
-	/** The Constant CONNECTION_ID_SEPARATOR. */
-	private static final String CONNECTION_ID_SEPARATOR = ":";
-
-	/** The Constant EXISTING_TABLES_CACHE. */
-	private static final List<String> EXISTING_TABLES_CACHE = Collections.synchronizedList(new ArrayList<String>());
+	/** The Constant EXISTING_TABLES_CACHE holding the names of the existing tables per connection URL. */
+	private static final Map<String, Set<String>> EXISTING_TABLES_CACHE = new ConcurrentHashMap<String, Set<String>>();
 
 	/** The entity manager interceptor. */
 	private IEntityManagerInterceptor entityManagerInterceptor;
@@ -128,7 +126,7 @@ public class PersistenceManager<T> {
 		}
 		PersistenceDropTableProcessor dropTableProcessor = new PersistenceDropTableProcessor(getEntityManagerInterceptor());
 		int result = dropTableProcessor.drop(connection, tableModel);
-		reset(connection, clazz);
+		invalidateTable(tableModel.getTableName());
 		return result;
 	}
 
@@ -161,8 +159,10 @@ public class PersistenceManager<T> {
 	 */
 	public void tableCheck(Connection connection, Class clazz) {
 		if (logger.isTraceEnabled()) {logger.trace("tableCheck -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());}
-		String id = getConnectionIdentity(connection);
-		if (!EXISTING_TABLES_CACHE.contains(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName())) {
+		Set<String> existingTables = EXISTING_TABLES_CACHE.computeIfAbsent(getConnectionIdentity(connection),
+				k -> ConcurrentHashMap.newKeySet());
+		String tableName = PersistenceFactory.createModel(clazz).getTableName();
+		if (!existingTables.contains(tableName)) {
 			if (!tableExists(connection, clazz)) {
 				String auto = System.getProperty("DIRIGIBLE_PERSISTENCE_CREATE_TABLE_ON_USE");
 				if ((auto != null) && !"true".equals(auto.toLowerCase(Locale.getDefault()))) {
@@ -172,30 +172,29 @@ public class PersistenceManager<T> {
 				}
 				try {
 					tableCreate(connection, clazz);
-					EXISTING_TABLES_CACHE.add(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName());
 				} catch (Exception e) {
 					if (!tableExists(connection, clazz)) {
 						throw e;
 					}
 				}
 			}
+			existingTables.add(tableName);
 		}
 	}
 
 	/**
-	 * Gets the connection identity.
+	 * Gets the identity of the data source the connection belongs to, which is its URL.
 	 *
 	 * @param connection the connection
 	 * @return the connection identity
 	 */
-	private String getConnectionIdentity(Connection connection) {
+	private static String getConnectionIdentity(Connection connection) {
 		try {
-			String url = connection.getMetaData().getURL();
-			return url.hashCode() + "";
+			return connection.getMetaData().getURL();
 		} catch (SQLException e) {
 			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			return "";
 		}
-		return "";
 	}
 
 	/**
@@ -212,8 +211,22 @@ public class PersistenceManager<T> {
 	 * @param clazz the clazz
 	 */
 	public void reset(Connection connection, Class<T> clazz) {
-		String id = getConnectionIdentity(connection);
-		EXISTING_TABLES_CACHE.remove(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName());
+		Set<String> existingTables = EXISTING_TABLES_CACHE.get(getConnectionIdentity(connection));
+		if (existingTables != null) {
+			existingTables.remove(PersistenceFactory.createModel(clazz).getTableName());
+		}
+	}
+
+	/**
+	 * Removes the table from the existing tables cache of all the data sources, e.g. after it has been dropped
+	 * outside of the persistence manager. The next operation on it checks the database again.
+	 *
+	 * @param tableName the table name
+	 */
+	public static void invalidateTable(String tableName) {
+		for (Set<String> existingTables : EXISTING_TABLES_CACHE.values()) {
+			existingTables.removeIf(next -> next.equalsIgnoreCase(tableName));
+		}
 	}
 	/**
 	 * Insert a single record in the table representing the POJO instance.
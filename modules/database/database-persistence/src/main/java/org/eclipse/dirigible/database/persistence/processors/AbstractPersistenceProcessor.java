@@ -26,9 +26,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 import javax.persistence.EnumType;
 
@@ -37,9 +39,10 @@ import org.eclipse.dirigible.database.persistence.IEntityManagerInterceptor;
 import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
-import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
 import org.eclipse.dirigible.database.persistence.parser.Serializer;
 import org.eclipse.dirigible.database.sql.DataTypeUtils;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +54,12 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(AbstractPersistenceProcessor.class);
 
+	/** The Constant SCRIPTS_CACHE. */
+	private static final Map<String, String> SCRIPTS_CACHE = new ConcurrentHashMap<>();
+
+	/** The Constant DIALECTS_CACHE holding the dialect per connection URL. */
+	private static final Map<String, ISqlDialect> DIALECTS_CACHE = new ConcurrentHashMap<>();
+
 	/** The entity manager interceptor. */
 	private IEntityManagerInterceptor entityManagerInterceptor;
 
@@ -82,6 +91,57 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected abstract String generateScript(Connection connection, PersistenceTableModel tableModel);
 
+	/**
+	 * Gets the script of the given kind, generating it on first use. The scripts of the models parsed from
+	 * annotated classes are cached per class and database dialect, the other models are generated every time.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableModel
+	 *            the table model
+	 * @param kind
+	 *            the kind of the statement
+	 * @param generator
+	 *            the script generator
+	 * @return the script
+	 */
+	protected String getScript(Connection connection, PersistenceTableModel tableModel, String kind,
+			BiFunction<Connection, PersistenceTableModel, String> generator) {
+		if (tableModel.getClassName() == null) {
+			return generator.apply(connection, tableModel);
+		}
+		String key = new StringBuilder().append(getClass().getName()).append(':').append(kind).append(':')
+				.append(tableModel.getClassName()).append(':').append(tableModel.getTableName()).append(':')
+				.append(getDialect(connection).getClass().getName()).toString();
+		String sql = SCRIPTS_CACHE.get(key);
+		if (sql == null) {
+			sql = generator.apply(connection, tableModel);
+			SCRIPTS_CACHE.put(key, sql);
+		}
+		return sql;
+	}
+
+	/**
+	 * Gets the dialect of the database the connection belongs to. The dialect is derived once per data source,
+	 * identified by the connection URL.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @return the dialect
+	 */
+	protected static ISqlDialect getDialect(Connection connection) {
+		String url;
+		try {
+			url = connection.getMetaData().getURL();
+		} catch (SQLException e) {
+			return SqlFactory.deriveDialect(connection);
+		}
+		if (url == null) {
+			return SqlFactory.deriveDialect(connection);
+		}
+		return DIALECTS_CACHE.computeIfAbsent(url, k -> SqlFactory.deriveDialect(connection));
+	}
+
 	/**
 	 * Sets the values from pojo.
 	 *
@@ -110,16 +170,8 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 			if (columnModel.isIdentity()) {
 				continue;
 			}
-			// Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-			Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
 			String dataType = columnModel.getType();
-			Object valueObject = null;
-			boolean oldAccessible = setAccessible(field);
-			try {
-				valueObject = field.get(pojo);
-			} finally {
-				resetAccessible(field, oldAccessible);
-			}
+			Object valueObject = PersistenceFieldAccessor.get(pojo.getClass(), columnModel.getField()).get(pojo);
 			try {
 				if ((columnModel.getEnumerated() != null) && (valueObject != null)) {
 					if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)) {
@@ -174,31 +226,6 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 		return true;
 	}
 
-	/**
-	 * Reset accessible.
-	 *
-	 * @param field
-	 *            the field
-	 * @param oldAccessible
-	 *            the old accessible
-	 */
-	private void resetAccessible(Field field, boolean oldAccessible) {
-		field.setAccessible(oldAccessible);
-	}
-
-	/**
-	 * Sets the accessible.
-	 *
-	 * @param field
-	 *            the field
-	 * @return true, if successful
-	 */
-	private boolean setAccessible(Field field) {
-		boolean oldAccessible = field.isAccessible();
-		field.setAccessible(true);
-		return oldAccessible;
-	}
-
 	/**
 	 * Sets the value primary key.
 	 *
@@ -374,47 +401,43 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 			throws NoSuchFieldException, SQLException, IllegalAccessException, IOException {
 		if (logger.isTraceEnabled()) {logger.trace("setValueToPojo -> pojo: " + Serializer.serializePojo(pojo) + ", value: " + value
 				+ ", columnModel: " + Serializer.serializeColumnModel(columnModel));}
-		Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-		boolean oldAccessible = setAccessible(field);
-		try {
-			if (columnModel.getEnumerated() != null) {
-				if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)
-						&& (value instanceof Integer)) {
-					if (field.getType().isEnum()) {
-						value = field.getType().getEnumConstants()[(Integer) value];
-					} else {
-						throw new IllegalStateException(
-								"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-					}
-				} else if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.STRING)
-						&& (value instanceof String)) {
-					if (field.getType().isEnum()) {
-						value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
-					} else {
-						throw new IllegalStateException(
-								"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-					}
-				} else if (value != null) {
-					throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
+		PersistenceFieldAccessor accessor = PersistenceFieldAccessor.get(pojo.getClass(), columnModel.getField());
+		Field field = accessor.getField();
+		if (columnModel.getEnumerated() != null) {
+			if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)
+					&& (value instanceof Integer)) {
+				if (field.getType().isEnum()) {
+					value = field.getType().getEnumConstants()[(Integer) value];
+				} else {
+					throw new IllegalStateException(
+							"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
 				}
+			} else if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.STRING)
+					&& (value instanceof String)) {
+				if (field.getType().isEnum()) {
+					value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
+				} else {
+					throw new IllegalStateException(
+							"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
+				}
+			} else if (value != null) {
+				throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
 			}
-			value = byteAdaptation(value, field);
-			value = intAdaptation(value, field);
-			value = blobAdaptation(value);
-			value = charAdaptation(value, field);
-			value = booleanAdaptation(value, field);
-			value = bigIntegerAdaptation(value, field);
-			value = shortAdaptation(value, field);
-			value = floatAdaptation(value, field);
-
-			if (getEntityManagerInterceptor() != null) {
-				value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
-			}
+		}
+		value = byteAdaptation(value, field);
+		value = intAdaptation(value, field);
+		value = blobAdaptation(value);
+		value = charAdaptation(value, field);
+		value = booleanAdaptation(value, field);
+		value = bigIntegerAdaptation(value, field);
+		value = shortAdaptation(value, field);
+		value = floatAdaptation(value, field);
 
-			field.set(pojo, value);
-		} finally {
-			resetAccessible(field, oldAccessible);
+		if (getEntityManagerInterceptor() != null) {
+			value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
 		}
+
+		accessor.set(pojo, value);
 	}
 
 	/**
@@ -577,41 +600,7 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 			throws NoSuchFieldException, SQLException, IllegalAccessException {
 		if (logger.isTraceEnabled()) {logger.trace("getValueFromPojo -> pojo: " + Serializer.serializePojo(pojo) + ", columnModel: "
 				+ Serializer.serializeColumnModel(columnModel));}
-		// Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-		Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-		boolean oldAccessible = setAccessible(field);
-		try {
-			return field.get(pojo);
-		} finally {
-			resetAccessible(field, oldAccessible);
-		}
-	}
-
-	/**
-	 * Gets the field from class.
-	 *
-	 * @param clazz
-	 *            the clazz
-	 * @param fieldName
-	 *            the field name
-	 * @return the field from class
-	 * @throws NoSuchFieldException
-	 *             the no such field exception
-	 */
-	private Field getFieldFromClass(Class clazz, String fieldName) throws NoSuchFieldException {
-		Field field = null;
-		List<Field> fields = Arrays.asList(PersistenceAnnotationsParser.collectFields(clazz));
-		for (Field next : fields) {
-			if (next.getName().equals(fieldName)) {
-				field = next;
-				break;
-			}
-		}
-		if (field == null) {
-			throw new NoSuchFieldException(format("There is no a Field named [{0}] in the POJO of Class [{1}]",
-					fieldName, clazz.getCanonicalName()));
-		}
-		return field;
+		return PersistenceFieldAccessor.get(pojo.getClass(), columnModel.getField()).get(pojo);
 	}
 
 	/**
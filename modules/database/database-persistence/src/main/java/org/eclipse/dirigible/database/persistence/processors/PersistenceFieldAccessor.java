@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.processors;
+
+import static java.text.MessageFormat.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.database.persistence.PersistenceException;
+import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
+
+/**
+ * Precompiled getter and setter of a POJO field. The accessors are resolved once per class and field name,
+ * so that reading and writing a row does not look up the field and toggle its accessibility every time.
+ */
+public class PersistenceFieldAccessor {
+
+	/** The Constant ACCESSORS_CACHE. */
+	private static final Map<Class<?>, Map<String, PersistenceFieldAccessor>> ACCESSORS_CACHE = new ConcurrentHashMap<>();
+
+	/** The Constant GETTER_TYPE. */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/** The Constant SETTER_TYPE. */
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/** The field. */
+	private final Field field;
+
+	/** The getter. */
+	private final MethodHandle getter;
+
+	/** The setter. */
+	private final MethodHandle setter;
+
+	/**
+	 * Instantiates a new persistence field accessor.
+	 *
+	 * @param field the field
+	 * @throws IllegalAccessException the illegal access exception
+	 */
+	private PersistenceFieldAccessor(Field field) throws IllegalAccessException {
+		field.setAccessible(true);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		this.field = field;
+		this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+		this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+	}
+
+	/**
+	 * Gets the accessor of the field with the given name.
+	 *
+	 * @param clazz the clazz
+	 * @param fieldName the field name
+	 * @return the accessor
+	 * @throws NoSuchFieldException the no such field exception
+	 */
+	public static PersistenceFieldAccessor get(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+		Map<String, PersistenceFieldAccessor> accessors = ACCESSORS_CACHE.computeIfAbsent(clazz, c -> new ConcurrentHashMap<>());
+		PersistenceFieldAccessor accessor = accessors.get(fieldName);
+		if (accessor == null) {
+			accessor = create(clazz, fieldName);
+			accessors.putIfAbsent(fieldName, accessor);
+		}
+		return accessor;
+	}
+
+	/**
+	 * Creates the accessor.
+	 *
+	 * @param clazz the clazz
+	 * @param fieldName the field name
+	 * @return the accessor
+	 * @throws NoSuchFieldException the no such field exception
+	 */
+	private static PersistenceFieldAccessor create(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+		for (Field next : PersistenceAnnotationsParser.collectFields(clazz)) {
+			if (next.getName().equals(fieldName)) {
+				try {
+					return new PersistenceFieldAccessor(next);
+				} catch (IllegalAccessException | RuntimeException e) {
+					throw new PersistenceException(format("The Field [{0}] in the POJO of Class [{1}] is not accessible",
+							fieldName, clazz.getCanonicalName()), e);
+				}
+			}
+		}
+		throw new NoSuchFieldException(format("There is no a Field named [{0}] in the POJO of Class [{1}]",
+				fieldName, clazz.getCanonicalName()));
+	}
+
+	/**
+	 * Gets the field.
+	 *
+	 * @return the field
+	 */
+	public Field getField() {
+		return field;
+	}
+
+	/**
+	 * Gets the value of the field.
+	 *
+	 * @param pojo the pojo
+	 * @return the value
+	 */
+	public Object get(Object pojo) {
+		try {
+			return (Object) getter.invokeExact(pojo);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new PersistenceException(e);
+		}
+	}
+
+	/**
+	 * Sets the value of the field.
+	 *
+	 * @param pojo the pojo
+	 * @param value the value
+	 */
+	public void set(Object pojo, Object value) {
+		try {
+			setter.invokeExact(pojo, value);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new PersistenceException(e);
+		}
+	}
+
+}
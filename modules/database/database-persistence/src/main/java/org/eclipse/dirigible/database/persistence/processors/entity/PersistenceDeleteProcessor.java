@@ -73,7 +73,7 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
 	 * @return the string
 	 */
 	protected String generateScriptDelete(Connection connection, PersistenceTableModel tableModel) {
-		DeleteBuilder deleteBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection)).delete().from(tableModel.getTableName())
+		DeleteBuilder deleteBuilder = SqlFactory.getNative(getDialect(connection)).delete().from(tableModel.getTableName())
 				.where(getPrimaryKey(tableModel) + new StringBuilder().append(ISqlKeywords.SPACE).append(ISqlKeywords.EQUALS)
 						.append(ISqlKeywords.SPACE).append(ISqlKeywords.QUESTION).toString());
 		String sql = deleteBuilder.toString();
@@ -91,7 +91,7 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
 	 * @return the string
 	 */
 	protected String generateScriptDeleteAll(Connection connection, PersistenceTableModel tableModel) {
-		DeleteBuilder deleteBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection)).delete().from(tableModel.getTableName());
+		DeleteBuilder deleteBuilder = SqlFactory.getNative(getDialect(connection)).delete().from(tableModel.getTableName());
 		String sql = deleteBuilder.toString();
 		if (logger.isTraceEnabled()) {logger.trace(sql);}
 		return sql;
@@ -118,7 +118,7 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
-			sql = generateScriptDelete(connection, tableModel);
+			sql = getScript(connection, tableModel, "delete", this::generateScriptDelete);
 			preparedStatement = openPreparedStatement(connection, sql);
 			setValue(preparedStatement, 1, id);
 			return preparedStatement.executeUpdate();
@@ -150,7 +150,7 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
-			sql = generateScriptDeleteAll(connection, tableModel);
+			sql = getScript(connection, tableModel, "deleteAll", this::generateScriptDeleteAll);
 			preparedStatement = openPreparedStatement(connection, sql);
 			return preparedStatement.executeUpdate();
 		} catch (Exception e) {
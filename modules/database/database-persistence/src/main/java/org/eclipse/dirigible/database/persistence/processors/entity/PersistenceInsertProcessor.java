@@ -70,7 +70,7 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
 	 */
 	@Override
 	protected String generateScript(Connection connection, PersistenceTableModel tableModel) {
-		InsertBuilder insertBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection)).insert().into(tableModel.getTableName());
+		InsertBuilder insertBuilder = SqlFactory.getNative(getDialect(connection)).insert().into(tableModel.getTableName());
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (columnModel.isIdentity()) {
 				continue;
@@ -104,13 +104,13 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
 		try {
 			boolean identified = setGeneratedValues(connection, tableModel, pojo);
 			if (identified) {
-				sql = generateScript(connection, tableModel);
+				sql = getScript(connection, tableModel, "insert", this::generateScript);
 				preparedStatement = openPreparedStatement(connection, sql);
 				setValuesFromPojo(tableModel, pojo, preparedStatement);
 				preparedStatement.executeUpdate();
 				result = getPrimaryKeyValue(tableModel, pojo);
 			} else {
-				sql = generateScript(connection, tableModel);
+				sql = getScript(connection, tableModel, "insert", this::generateScript);
 				preparedStatement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
 				setValuesFromPojo(tableModel, pojo, preparedStatement);
 				int affectedRows = preparedStatement.executeUpdate();
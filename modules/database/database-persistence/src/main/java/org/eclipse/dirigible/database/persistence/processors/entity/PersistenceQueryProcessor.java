@@ -77,7 +77,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 * @return the string
 	 */
 	protected String generateScriptFind(Connection connection, PersistenceTableModel tableModel) {
-		SelectBuilder selectBuilder = SqlFactory.getNative(connection).select().column("*").from(tableModel.getTableName());
+		SelectBuilder selectBuilder = SqlFactory.getNative(getDialect(connection)).select().column("*").from(tableModel.getTableName());
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (columnModel.isPrimaryKey()) {
 				selectBuilder.where(new StringBuilder().append(columnModel.getName()).append(ISqlKeywords.SPACE).append(ISqlKeywords.EQUALS)
@@ -100,7 +100,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 * @return the string
 	 */
 	protected String generateScriptLock(Connection connection, PersistenceTableModel tableModel) {
-		SelectBuilder selectBuilder = SqlFactory.getNative(connection).select().column("*").from(tableModel.getTableName());
+		SelectBuilder selectBuilder = SqlFactory.getNative(getDialect(connection)).select().column("*").from(tableModel.getTableName());
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (columnModel.isPrimaryKey()) {
 				selectBuilder.where(new StringBuilder().append(columnModel.getName()).append(ISqlKeywords.SPACE).append(ISqlKeywords.EQUALS)
@@ -124,7 +124,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 * @return the string
 	 */
 	protected String generateScriptFindAll(Connection connection, PersistenceTableModel tableModel) {
-		SelectBuilder selectBuilder = SqlFactory.getNative(connection).select().column("*").from(tableModel.getTableName());
+		SelectBuilder selectBuilder = SqlFactory.getNative(getDialect(connection)).select().column("*").from(tableModel.getTableName());
 		String sql = selectBuilder.toString();
 		if (logger.isTraceEnabled()) {logger.trace(sql);}
 		return sql;
@@ -148,7 +148,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	public T find(Connection connection, PersistenceTableModel tableModel, Class<T> clazz, Object id) throws PersistenceException {
 		if (logger.isTraceEnabled()) {logger.trace("find -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
 				+ clazz.getCanonicalName() + ", id: " + id);}
-		String sql = generateScriptFind(connection, tableModel);
+		String sql = getScript(connection, tableModel, "find", this::generateScriptFind);
 		return get(connection, tableModel, clazz, id, sql);
 	}
 
@@ -170,7 +170,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	public T lock(Connection connection, PersistenceTableModel tableModel, Class<T> clazz, Object id) throws PersistenceException {
 		if (logger.isTraceEnabled()) {logger.trace("lock -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
 				+ clazz.getCanonicalName() + ", id: " + id);}
-		String sql = generateScriptLock(connection, tableModel);
+		String sql = getScript(connection, tableModel, "lock", this::generateScriptLock);
 		return get(connection, tableModel, clazz, id, sql);
 	}
 
@@ -243,7 +243,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
-			sql = generateScriptFindAll(connection, tableModel);
+			sql = getScript(connection, tableModel, "findAll", this::generateScriptFindAll);
 			preparedStatement = openPreparedStatement(connection, sql);
 			ResultSet resultSet = null;
 			try {
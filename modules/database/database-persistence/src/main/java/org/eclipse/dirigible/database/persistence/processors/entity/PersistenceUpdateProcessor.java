@@ -61,7 +61,7 @@ public class PersistenceUpdateProcessor<T> extends AbstractPersistenceProcessor
 	 */
 	@Override
 	protected String generateScript(Connection connection, PersistenceTableModel tableModel) {
-		UpdateBuilder updateBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection)).update().table(tableModel.getTableName());
+		UpdateBuilder updateBuilder = SqlFactory.getNative(getDialect(connection)).update().table(tableModel.getTableName());
 
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (!columnModel.isPrimaryKey()) {
@@ -106,7 +106,7 @@ public class PersistenceUpdateProcessor<T> extends AbstractPersistenceProcessor
 			if (id == null) {
 				throw new PersistenceException("The key for update cannot be null.");
 			}
-			sql = generateScript(connection, tableModel);
+			sql = getScript(connection, tableModel, "update", this::generateScript);
 			preparedStatement = openPreparedStatement(connection, sql);
 			setValuesFromPojo(tableModel, pojo, preparedStatement);
 			setValue(preparedStatement, tableModel.getColumns().size(), id);
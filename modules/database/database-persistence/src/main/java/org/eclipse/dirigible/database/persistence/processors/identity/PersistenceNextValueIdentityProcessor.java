@@ -87,6 +87,25 @@ public class PersistenceNextValueIdentityProcessor extends AbstractPersistencePr
 	 */
 	public long nextval(Connection connection, String tableName) throws PersistenceException {
 		if (logger.isTraceEnabled()) {logger.trace("nextval -> connection: " + connection.hashCode() + ", tableName: " + tableName);}
+		return nextval(connection, tableName, 1);
+	}
+
+	/**
+	 * Reserves a range of consecutive values at once, so that the callers inserting many records
+	 * do not need a locked round trip per record.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableName
+	 *            the table name
+	 * @param count
+	 *            the number of values to reserve
+	 * @return the last value of the reserved range
+	 * @throws PersistenceException
+	 *             the persistence exception
+	 */
+	public long nextval(Connection connection, String tableName, int count) throws PersistenceException {
+		if (logger.isTraceEnabled()) {logger.trace("nextval -> connection: " + connection.hashCode() + ", tableName: " + tableName + ", count: " + count);}
 		PersistenceManager<Identity> persistenceManager = new PersistenceManager<Identity>();
 		if (!persistenceManager.tableExists(connection, Identity.class)) {
 			persistenceManager.tableCreate(connection, Identity.class);
@@ -96,9 +115,9 @@ public class PersistenceNextValueIdentityProcessor extends AbstractPersistencePr
 		if (identity == null) {
 			identity = new Identity();
 			identity.setTable(tableName);
-			identity.setValue(1);
+			identity.setValue(count);
 			persistenceManager.insert(connection, identity);
-			return 1;
+			return count;
 		}
 
 		try {
@@ -109,7 +128,7 @@ public class PersistenceNextValueIdentityProcessor extends AbstractPersistencePr
 						connection.setAutoCommit(false);
 					}
 					identity = persistenceManager.lock(connection, Identity.class, tableName);
-					identity.setValue(identity.getValue() + 1);
+					identity.setValue(identity.getValue() + count);
 					identity.setTable(tableName);
 					persistenceManager.update(connection, identity);
 				} finally {
@@ -57,7 +57,7 @@ public class PersistenceCreateSequenceProcessor extends AbstractPersistenceProce
 	 */
 	@Override
 	protected String generateScript(Connection connection, PersistenceTableModel tableModel) {
-		CreateSequenceBuilder createSequenceBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection)).create()
+		CreateSequenceBuilder createSequenceBuilder = SqlFactory.getNative(getDialect(connection)).create()
 				.sequence(tableModel.getTableName() + ISqlKeywords.UNDERSCROE + ISqlKeywords.KEYWORD_SEQUENCE);
 
 		String sql = createSequenceBuilder.toString();
@@ -57,7 +57,7 @@ public class PersistenceDropSequenceProcessor extends AbstractPersistenceProcess
 	 */
 	@Override
 	protected String generateScript(Connection connection, PersistenceTableModel tableModel) {
-		DropSequenceBuilder dropSequenceBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection)).drop()
+		DropSequenceBuilder dropSequenceBuilder = SqlFactory.getNative(getDialect(connection)).drop()
 				.sequence(tableModel.getTableName() + ISqlKeywords.UNDERSCROE + ISqlKeywords.KEYWORD_SEQUENCE);
 
 		String sql = dropSequenceBuilder.toString();
@@ -58,7 +58,7 @@ public class PersistenceNextValueSequenceProcessor extends AbstractPersistencePr
 	 */
 	@Override
 	protected String generateScript(Connection connection, PersistenceTableModel tableModel) {
-		NextValueSequenceBuilder nextValueBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection))
+		NextValueSequenceBuilder nextValueBuilder = SqlFactory.getNative(getDialect(connection))
 				.nextval(tableModel.getTableName() + ISqlKeywords.UNDERSCROE + ISqlKeywords.KEYWORD_SEQUENCE);
 
 		String sql = nextValueBuilder.toString();
@@ -56,7 +56,7 @@ public class PersistenceDropTableProcessor extends AbstractPersistenceProcessor
 	 */
 	@Override
 	protected String generateScript(Connection connection, PersistenceTableModel tableModel) {
-		DropTableBuilder dropTableBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection)).drop().table(tableModel.getTableName());
+		DropTableBuilder dropTableBuilder = SqlFactory.getNative(getDialect(connection)).drop().table(tableModel.getTableName());
 
 		String sql = dropTableBuilder.toString();
 		if (logger.isTraceEnabled()) {logger.trace(sql);}
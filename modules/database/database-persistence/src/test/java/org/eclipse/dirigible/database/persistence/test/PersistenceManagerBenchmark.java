@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.database.h2.H2Database;
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the rows per second of the find all and insert operations of the {@link PersistenceManager}.
+ * It is not part of the unit tests, run it with the main method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceManagerBenchmark {
+
+	/** The Constant ROWS. */
+	private static final int ROWS = 1000;
+
+	/** The persistence manager. */
+	private final PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+
+	/** The connection. */
+	private Connection connection;
+
+	/** The next id. */
+	private int nextId;
+
+	/**
+	 * Opens the connection and fills the table.
+	 *
+	 * @throws SQLException the SQL exception
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = new H2Database().getDataSource("target/benchmark").getConnection();
+		if (persistenceManager.tableExists(connection, Customer.class)) {
+			persistenceManager.tableDrop(connection, Customer.class);
+		}
+		persistenceManager.tableCreate(connection, Customer.class);
+		for (nextId = 0; nextId < ROWS; nextId++) {
+			persistenceManager.insert(connection, createCustomer(nextId));
+		}
+	}
+
+	/**
+	 * Drops the table and closes the connection.
+	 *
+	 * @throws SQLException the SQL exception
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try {
+			persistenceManager.tableDrop(connection, Customer.class);
+		} finally {
+			connection.close();
+		}
+	}
+
+	/**
+	 * Find all.
+	 *
+	 * @return the customers
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public List<Customer> findAll() {
+		return persistenceManager.findAll(connection, Customer.class);
+	}
+
+	/**
+	 * Insert.
+	 *
+	 * @return the id
+	 */
+	@Benchmark
+	public Object insert() {
+		return persistenceManager.insert(connection, createCustomer(nextId++));
+	}
+
+	/**
+	 * Creates the customer.
+	 *
+	 * @param id the id
+	 * @return the customer
+	 */
+	private static Customer createCustomer(int id) {
+		Customer customer = new Customer();
+		customer.setId(id);
+		customer.setFirstName("John");
+		customer.setLastName("Smith");
+		customer.setAge(id % 100);
+		return customer;
+	}
+
+	/**
+	 * The main method.
+	 *
+	 * @param args the arguments
+	 * @throws RunnerException the runner exception
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PersistenceManagerBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.junit.Test;
+
+/**
+ * The Persistence Manager Table Check Test.
+ */
+public class PersistenceManagerTableCheckTest extends AbstractPersistenceManagerTest {
+
+	/**
+	 * A table dropped outside of the persistence manager is created again after invalidation.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void invalidateTableTest() throws SQLException {
+		PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+		try (Connection connection = getDataSource().getConnection()) {
+			try {
+				persistenceManager.insert(connection, createCustomer(1));
+				assertTrue(persistenceManager.tableExists(connection, Customer.class));
+
+				try (Statement statement = connection.createStatement()) {
+					statement.executeUpdate("DROP TABLE CUSTOMERS");
+				}
+				assertFalse(persistenceManager.tableExists(connection, Customer.class));
+				PersistenceManager.invalidateTable("customers");
+
+				persistenceManager.insert(connection, createCustomer(2));
+				assertEquals(1, persistenceManager.findAll(connection, Customer.class).size());
+			} finally {
+				if (persistenceManager.tableExists(connection, Customer.class)) {
+					persistenceManager.tableDrop(connection, Customer.class);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The dialect is resolved once per data source and not on every operation.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void resolveDialectOnceTest() throws SQLException {
+		PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+		AtomicInteger productNameCalls = new AtomicInteger();
+		try (Connection connection = countProductNameCalls(getDataSource().getConnection(), productNameCalls)) {
+			try {
+				persistenceManager.insert(connection, createCustomer(1));
+				productNameCalls.set(0);
+
+				persistenceManager.insert(connection, createCustomer(2));
+				Customer customer = persistenceManager.find(connection, Customer.class, 1);
+				customer.setAge(43);
+				persistenceManager.update(connection, customer);
+				persistenceManager.delete(connection, Customer.class, 2);
+				assertEquals(1, persistenceManager.findAll(connection, Customer.class).size());
+				assertEquals(0, productNameCalls.get());
+			} finally {
+				if (persistenceManager.tableExists(connection, Customer.class)) {
+					persistenceManager.tableDrop(connection, Customer.class);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wraps the connection to count the reads of the database product name.
+	 *
+	 * @param connection the connection
+	 * @param calls the calls counter
+	 * @return the wrapped connection
+	 */
+	private static Connection countProductNameCalls(Connection connection, AtomicInteger calls) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+				(proxy, method, args) -> {
+					Object result = invoke(connection, method, args);
+					if ("getMetaData".equals(method.getName())) {
+						DatabaseMetaData metaData = (DatabaseMetaData) result;
+						return Proxy.newProxyInstance(DatabaseMetaData.class.getClassLoader(), new Class<?>[] {DatabaseMetaData.class},
+								(metaProxy, metaMethod, metaArgs) -> {
+									if ("getDatabaseProductName".equals(metaMethod.getName())) {
+										calls.incrementAndGet();
+									}
+									return invoke(metaData, metaMethod, metaArgs);
+								});
+					}
+					return result;
+				});
+	}
+
+	/**
+	 * Invokes the method on the target, unwrapping the thrown exception.
+	 *
+	 * @param target the target
+	 * @param method the method
+	 * @param args the arguments
+	 * @return the result
+	 * @throws Throwable the throwable
+	 */
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Creates the customer.
+	 *
+	 * @param id the id
+	 * @return the customer
+	 */
+	private Customer createCustomer(int id) {
+		Customer customer = new Customer();
+		customer.setId(id);
+		customer.setFirstName("John");
+		customer.setLastName("Smith");
+		customer.setAge(42);
+		return customer;
+	}
+
+}
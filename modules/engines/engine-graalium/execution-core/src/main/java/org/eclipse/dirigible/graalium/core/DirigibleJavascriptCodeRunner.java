@@ -49,6 +49,50 @@ public class DirigibleJavascriptCodeRunner implements JavascriptCodeRunner<Sourc
     /** The interceptor. */
     private final GraalJSInterceptor interceptor;
 
+    /** The Constant REQUIRE_RESET_SCRIPT, dropping the modules loaded by the require polyfill. */
+    private static final String REQUIRE_RESET_SCRIPT = "globalThis.require = Require(); globalThis.dirigibleRequire = globalThis.require;";
+
+    /**
+     * The Constant GLOBALS_RESET_SCRIPT, creating a function which deletes the globals added after its creation
+     * and tells whether all of them could be deleted.
+     */
+    private static final String GLOBALS_RESET_SCRIPT = "(function() {"
+            + " const initial = new Set(Object.getOwnPropertyNames(globalThis));"
+            + " return function() {"
+            + "  let clean = true;"
+            + "  for (const name of Object.getOwnPropertyNames(globalThis)) {"
+            + "   if (!initial.has(name) && !delete globalThis[name]) { clean = false; }"
+            + "  }"
+            + "  return clean;"
+            + " };"
+            + "})()";
+
+    /**
+     * The Constant SCRIPT_SCOPE_SCRIPT, creating a function which evaluates a classic script with a direct eval,
+     * so that the top level declarations of the script are bound in the scope of the function instead of the global one.
+     * The completion value, the global <code>this</code> and a leading <code>"use strict"</code> keep their meaning.
+     */
+    private static final String SCRIPT_SCOPE_SCRIPT = "(function() { return eval(arguments[0]); })";
+
+    /** The Constant MODULE_MIME_TYPE. */
+    private static final String MODULE_MIME_TYPE = "application/javascript+module";
+
+    /** The Constant MODULE_EXTENSION. */
+    private static final String MODULE_EXTENSION = ".mjs";
+
+    /** The function deleting the globals added by the scripts. */
+    private final Value globalsReset;
+
+    /** The function evaluating a classic script in its own scope, null if the scripts run in the global scope. */
+    private final Value scriptScope;
+
+    /**
+     * Whether the context holds no state of the scripts run so far, besides globals and required modules,
+     * which are cleared on recycling. A failed run and the ES modules, which stay in the module cache
+     * of the context, make it unclean.
+     */
+    private boolean clean;
+
     /**
      * Instantiates a new dirigible javascript code runner.
      *
@@ -83,7 +127,16 @@ public class DirigibleJavascriptCodeRunner implements JavascriptCodeRunner<Sourc
                 .addOnAfterContextCreatedListener(onAfterContextCreatedListener)
                 .setOnRealPathNotFound(p -> new DirigibleSourceProvider().unpackedToFileSystem(p, workingDirectoryPath.relativize(p)))
                 .setInterceptor(interceptor)
+                .setOnFileRead(p -> {
+                    if (!p.startsWith(cachePath) && isScript(p.toString())) {
+                        clean = false;
+                    }
+                })
                 .build();
+        // the debugger binds its breakpoints to the script files, hence their code is not evaluated as a string
+        scriptScope = debug && DirigibleJavascriptCodeRunner.shouldEnableDebug() ? null : codeRunner.getGraalContext().eval("js", SCRIPT_SCOPE_SCRIPT);
+        globalsReset = codeRunner.getGraalContext().eval("js", GLOBALS_RESET_SCRIPT);
+        clean = true;
     }
     
     /**
@@ -95,12 +148,36 @@ public class DirigibleJavascriptCodeRunner implements JavascriptCodeRunner<Sourc
 		return codeRunner;
 	}
 
+    /**
+     * Binds the context parameters of the next invocation of a pooled runner.
+     *
+     * @param parameters the parameters
+     */
+    public void resetContext(Map<Object, Object> parameters) {
+        codeRunner.addGlobalObject(new DirigibleContextGlobalObject(parameters));
+    }
+
+    /**
+     * Prepares a given back runner for reuse: deletes the globals added by the scripts and drops the modules
+     * cached by the require polyfill.
+     *
+     * @return true, if the context is clean and can be reused
+     */
+    public boolean recycle() {
+        if (!clean) {
+            return false;
+        }
+        codeRunner.addGlobalObject(new DirigibleContextGlobalObject(null));
+        codeRunner.getGraalContext().eval("js", REQUIRE_RESET_SCRIPT);
+        return globalsReset.execute().asBoolean();
+    }
+
     /**
      * Should enable debug.
      *
      * @return true, if successful
      */
-    private static boolean shouldEnableDebug() {
+    static boolean shouldEnableDebug() {
         return Configuration.get("DIRIGIBLE_GRAALIUM_ENABLE_DEBUG", Boolean.FALSE.toString()).equals(Boolean.TRUE.toString());
     }
 
@@ -127,14 +204,44 @@ public class DirigibleJavascriptCodeRunner implements JavascriptCodeRunner<Sourc
     }
 
     /**
-     * Run.
+     * Run. Classic scripts are evaluated in the scope of a function, so that their top level declarations
+     * do not stay in the context for the next invocation.
      *
      * @param codeSource the code source
      * @return the value
      */
     @Override
     public Value run(Source codeSource) {
-        return codeRunner.run(codeSource);
+        boolean completed = false;
+        try {
+            Value result;
+            if (scriptScope == null || MODULE_MIME_TYPE.equals(codeSource.getMimeType()) || codeSource.getName().endsWith(MODULE_EXTENSION)) {
+                result = codeRunner.run(codeSource);
+            } else {
+                String sourceURL = codeSource.getPath() != null ? codeSource.getPath() : codeSource.getName();
+                result = scriptScope.execute(codeSource.getCharacters() + "\n//# sourceURL=" + sourceURL);
+                if (result.isException()) {
+                    throw result.throwException();
+                }
+            }
+            completed = true;
+            return result;
+        } finally {
+            if (!completed) {
+                clean = false;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the file is a script, which the context reads through its file system only as an ES module
+     * or with <code>load</code>, hence keeps state beyond the globals.
+     *
+     * @param fileName the file name
+     * @return true, if script
+     */
+    private static boolean isScript(String fileName) {
+        return fileName.endsWith(MODULE_EXTENSION) || fileName.endsWith(".js");
     }
 
     /**
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.graalium.core.pool.CodeRunnerLease;
+import org.eclipse.dirigible.graalium.core.pool.CodeRunnerPool;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryChangeListener;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The process wide pool of reusable {@link DirigibleJavascriptCodeRunner} instances.
+ * The pooled runners are retired on every change in the registry, so that no invocation sees
+ * a module cached before its publishing, and only the runners with a clean context are reused.
+ * The pool does not limit the number of the concurrent invocations, the ones beyond the size
+ * of the pool get an unpooled runner. A configurable number of runners is created in advance
+ * in the background, when the pool is started.
+ */
+public class DirigibleJavascriptCodeRunnerPool {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DirigibleJavascriptCodeRunnerPool.class);
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED. */
+    public static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_SIZE. */
+    public static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_SIZE = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_SIZE";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MIN_IDLE. */
+    public static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MIN_IDLE = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MIN_IDLE";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_WAIT. */
+    public static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_WAIT = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_WAIT";
+
+    /** The Constant DEFAULT_MAX_WAIT in milliseconds, zero falls back to an unpooled runner right away. */
+    private static final String DEFAULT_MAX_WAIT = "0";
+
+    /** The Constant DEFAULT_MIN_IDLE. */
+    private static final String DEFAULT_MIN_IDLE = "0";
+
+    /** The Constant REGISTRY_PREFIX. */
+    private static final String REGISTRY_PREFIX = IRepositoryStructure.PATH_REGISTRY_PUBLIC + IRepository.SEPARATOR;
+
+    /** The pool. */
+    private static volatile CodeRunnerPool<DirigibleJavascriptCodeRunner> pool;
+
+    /** The repository change listener, null if the repository does not publish its changes. */
+    private static IRepositoryChangeListener changeListener;
+
+    /** The repository, which the pooled runners have been created for. */
+    private static IRepository repository;
+
+    /** The last modified time of the repository, used if the repository does not publish its changes. */
+    private static volatile long lastModified;
+
+    /**
+     * Borrows a runner with the given context parameters bound. Debug runners are never pooled,
+     * as they are attached to the debuggable engine.
+     *
+     * @param parameters the parameters
+     * @param debug the debug
+     * @return the lease, which has to be closed after the invocation
+     */
+    public static CodeRunnerLease<DirigibleJavascriptCodeRunner> borrow(Map<Object, Object> parameters, boolean debug) {
+        if (!isEnabled() || (debug && DirigibleJavascriptCodeRunner.shouldEnableDebug())) {
+            return CodeRunnerLease.unpooled(new DirigibleJavascriptCodeRunner(parameters, debug));
+        }
+        CodeRunnerPool<DirigibleJavascriptCodeRunner> runners = getPool();
+        if (changeListener == null && repository != null && repository.getLastModified() != lastModified) {
+            lastModified = repository.getLastModified();
+            runners.invalidateAll();
+        }
+        CodeRunnerLease<DirigibleJavascriptCodeRunner> lease = runners.borrow();
+        try {
+            lease.getRunner().resetContext(parameters);
+        } catch (RuntimeException e) {
+            lease.invalidate();
+            lease.close();
+            throw e;
+        }
+        return lease;
+    }
+
+    /**
+     * Gets the pool, creating it on first use.
+     *
+     * @return the pool
+     */
+    public static CodeRunnerPool<DirigibleJavascriptCodeRunner> getPool() {
+        if (pool == null) {
+            synchronized (DirigibleJavascriptCodeRunnerPool.class) {
+                if (pool == null) {
+                    int defaultSize = Runtime.getRuntime().availableProcessors() * 2;
+                    int size = Integer.parseInt(Configuration.get(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_SIZE, Integer.toString(defaultSize)));
+                    long maxWait = Long.parseLong(Configuration.get(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_WAIT, DEFAULT_MAX_WAIT));
+                    CodeRunnerPool<DirigibleJavascriptCodeRunner> created = new CodeRunnerPool<>(() -> new DirigibleJavascriptCodeRunner(null, false),
+                            size, maxWait, DirigibleJavascriptCodeRunner::recycle);
+                    listen(created);
+                    pool = created;
+                    prewarm(created, Integer.parseInt(Configuration.get(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MIN_IDLE, DEFAULT_MIN_IDLE)));
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Closes the idle runners, e.g. after the engine configuration has been changed.
+     * The pool is created again on the next borrow.
+     */
+    public static void reset() {
+        synchronized (DirigibleJavascriptCodeRunnerPool.class) {
+            if (pool != null) {
+                if (changeListener != null) {
+                    repository.removeChangeListener(changeListener);
+                    changeListener = null;
+                }
+                repository = null;
+                pool.close();
+                pool = null;
+            }
+        }
+    }
+
+    /**
+     * Retires the runners of the pool on the changes in the registry. If the repository does not publish
+     * its changes, its last modified time is checked on every borrow instead.
+     *
+     * @param runners the runners
+     */
+    private static void listen(CodeRunnerPool<DirigibleJavascriptCodeRunner> runners) {
+        repository = (IRepository) StaticObjects.get(StaticObjects.REPOSITORY);
+        if (repository == null) {
+            return;
+        }
+        lastModified = repository.getLastModified();
+        IRepositoryChangeListener listener = path -> {
+            if (path.startsWith(REGISTRY_PREFIX) || path.equals(IRepositoryStructure.PATH_REGISTRY_PUBLIC)) {
+                runners.invalidateAll();
+            }
+        };
+        try {
+            repository.addChangeListener(listener);
+            changeListener = listener;
+        } catch (RepositoryException e) {
+            changeListener = null;
+        }
+    }
+
+    /**
+     * Creates the idle runners in the background, so that the first invocations do not wait for them.
+     *
+     * @param runners the runners
+     * @param minIdle the number of the idle runners to create
+     */
+    private static void prewarm(CodeRunnerPool<DirigibleJavascriptCodeRunner> runners, int minIdle) {
+        if (minIdle <= 0) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                runners.prewarm(minIdle);
+            } catch (RuntimeException e) {
+                if (logger.isWarnEnabled()) {logger.warn("Failed to create the pooled code runners in advance", e);}
+            }
+        }, "dirigible-graalium-pool-prewarm");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Checks if pooling is enabled.
+     *
+     * @return true, if enabled
+     */
+    private static boolean isEnabled() {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED, Boolean.TRUE.toString()));
+    }
+}
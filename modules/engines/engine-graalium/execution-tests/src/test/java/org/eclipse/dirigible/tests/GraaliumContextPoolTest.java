@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
+import org.eclipse.dirigible.graalium.core.pool.CodeRunnerLease;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.graalvm.polyglot.Value;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class GraaliumContextPoolTest.
+ */
+public class GraaliumContextPoolTest extends AbstractDirigibleTest {
+
+	/** The Constant PROJECT. */
+	private static final String PROJECT = IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/pool-test/";
+
+	/** The repository. */
+	private IRepository repository;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		repository = (IRepository) StaticObjects.get(StaticObjects.REPOSITORY);
+		DirigibleJavascriptCodeRunnerPool.reset();
+	}
+
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		DirigibleJavascriptCodeRunnerPool.reset();
+		repository.removeCollection(PROJECT);
+	}
+
+	/**
+	 * The next pooled run sees the changes of an imported module.
+	 */
+	@Test
+	public void changedModuleTest() {
+		createResource("dep.mjs", "export const value = 1;");
+		createResource("main.mjs", "import { value } from './dep.mjs'; globalThis.poolResult = value;");
+		assertEquals(1, run("main.mjs"));
+
+		repository.getResource(PROJECT + "dep.mjs").setContent("export const value = 2;".getBytes(StandardCharsets.UTF_8));
+		assertEquals(2, run("main.mjs"));
+	}
+
+	/**
+	 * A clean runner is reused without the globals added by the previous run.
+	 */
+	@Test
+	public void cleanGlobalsTest() {
+		createResource("global.mjs", "globalThis.poolResult = 42;");
+		DirigibleJavascriptCodeRunner runner;
+		try (CodeRunnerLease<DirigibleJavascriptCodeRunner> lease = DirigibleJavascriptCodeRunnerPool.borrow(null, false)) {
+			runner = lease.getRunner();
+			runner.run(runner.prepareSource(getPath("global.mjs")));
+			assertEquals(42, getResult(runner).asInt());
+		}
+		try (CodeRunnerLease<DirigibleJavascriptCodeRunner> lease = DirigibleJavascriptCodeRunnerPool.borrow(null, false)) {
+			assertSame(runner, lease.getRunner());
+			assertFalse(runner.getCodeRunner().getGraalContext().getBindings("js").hasMember("poolResult"));
+		}
+	}
+
+	/**
+	 * A CommonJS handler script with top level declarations reuses its runner, without the declarations of the previous run.
+	 */
+	@Test
+	public void commonJsHandlerTest() {
+		createResource("lib.js", "exports.value = function() { return 7; };");
+		createResource("handler.js", "const lib = require('pool-test/lib');\n"
+				+ "var runs = typeof runs === 'undefined' ? 1 : runs + 1;\n"
+				+ "function handle() { return lib.value() * runs; }\n"
+				+ "handle();");
+		DirigibleJavascriptCodeRunner runner;
+		try (CodeRunnerLease<DirigibleJavascriptCodeRunner> lease = DirigibleJavascriptCodeRunnerPool.borrow(null, false)) {
+			runner = lease.getRunner();
+			assertEquals(7, runner.run(runner.prepareSource(getPath("handler.js"))).asInt());
+		}
+		try (CodeRunnerLease<DirigibleJavascriptCodeRunner> lease = DirigibleJavascriptCodeRunnerPool.borrow(null, false)) {
+			assertSame(runner, lease.getRunner());
+			assertEquals(7, runner.run(runner.prepareSource(getPath("handler.js"))).asInt());
+		}
+		assertEquals(1, DirigibleJavascriptCodeRunnerPool.getPool().getCreatedCount());
+	}
+
+	/**
+	 * Runs a module with a pooled runner.
+	 *
+	 * @param name the name
+	 * @return the result
+	 */
+	private int run(String name) {
+		try (CodeRunnerLease<DirigibleJavascriptCodeRunner> lease = DirigibleJavascriptCodeRunnerPool.borrow(null, false)) {
+			DirigibleJavascriptCodeRunner runner = lease.getRunner();
+			runner.run(runner.prepareSource(getPath(name)));
+			return getResult(runner).asInt();
+		}
+	}
+
+	/**
+	 * Gets the result set by the module.
+	 *
+	 * @param runner the runner
+	 * @return the result
+	 */
+	private static Value getResult(DirigibleJavascriptCodeRunner runner) {
+		return runner.getCodeRunner().getGraalContext().getBindings("js").getMember("poolResult");
+	}
+
+	/**
+	 * Creates the resource.
+	 *
+	 * @param name the name
+	 * @param content the content
+	 */
+	private void createResource(String name, String content) {
+		repository.createResource(PROJECT + name, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Gets the file system path.
+	 *
+	 * @param name the name
+	 * @return the path
+	 */
+	private Path getPath(String name) {
+		return Path.of(repository.getInternalResourcePath(PROJECT + name));
+	}
+
+}
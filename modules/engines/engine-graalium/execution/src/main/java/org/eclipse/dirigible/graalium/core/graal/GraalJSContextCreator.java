@@ -73,6 +73,7 @@ public class GraalJSContextCreator {
      * @param onBeforeContextCreatedHook the on before context created hook
      * @param onAfterContextCreatedHook the on after context created hook
      * @param delegateFileSystem the file system to delegate to
+     * @param onFileRead the callback to invoke for each file read by the context, may be null
      * @return the context
      */
     public Context createContext(
@@ -83,14 +84,16 @@ public class GraalJSContextCreator {
             Consumer<Context.Builder> onBeforeContextCreatedHook,
             Consumer<Context> onAfterContextCreatedHook,
             Function<Path, Path> onRealPathNotFound,
-            FileSystem delegateFileSystem
+            FileSystem delegateFileSystem,
+            Consumer<Path> onFileRead
     ) {
         GraalJSFileSystem graalJSFileSystem = new GraalJSFileSystem(
                 workingDirectoryPath,
                 moduleResolvers,
                 downloadableModuleResolver,
                 onRealPathNotFound,
-                delegateFileSystem
+                delegateFileSystem,
+                onFileRead
         );
 
         Context.Builder contextBuilder = Context.newBuilder()
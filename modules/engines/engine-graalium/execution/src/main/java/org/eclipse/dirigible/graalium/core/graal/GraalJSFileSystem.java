@@ -22,6 +22,7 @@ import java.nio.file.*;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -50,6 +51,11 @@ public class GraalJSFileSystem implements FileSystem {
     private final DownloadableModuleResolver downloadableModuleResolver;
     private final Function<Path, Path> onRealPathNotFound;
 
+    /**
+     * The callback to invoke for each file read by the context, may be null.
+     */
+    private final Consumer<Path> onFileRead;
+
     /**
      * Instantiates a new graal JS file system.
      *
@@ -58,19 +64,22 @@ public class GraalJSFileSystem implements FileSystem {
      * @param downloadableModuleResolver  the downloadable module resolver
      * @param onRealPathNotFound          the callback to invoke on Path::toRealPath failure
      * @param delegateFileSystem          the file system to delegate to
+     * @param onFileRead                  the callback to invoke for each file read by the context, may be null
      */
     public GraalJSFileSystem(
             Path currentWorkingDirectoryPath,
             List<ModuleResolver> moduleResolvers,
             DownloadableModuleResolver downloadableModuleResolver,
             Function<Path, Path> onRealPathNotFound,
-            java.nio.file.FileSystem delegateFileSystem
+            java.nio.file.FileSystem delegateFileSystem,
+            Consumer<Path> onFileRead
     ) {
         this.currentWorkingDirectoryPath = currentWorkingDirectoryPath;
         this.moduleResolvers = moduleResolvers;
         this.downloadableModuleResolver = downloadableModuleResolver;
         this.onRealPathNotFound = onRealPathNotFound;
         this.delegateFileSystemProvider = delegateFileSystem.provider();
+        this.onFileRead = onFileRead;
     }
 
     /**
@@ -160,6 +169,9 @@ public class GraalJSFileSystem implements FileSystem {
      */
     @Override
     public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> options, FileAttribute<?>... attrs) throws IOException {
+        if (onFileRead != null) {
+            onFileRead.accept(path);
+        }
         return delegateFileSystemProvider.newByteChannel(path, options, attrs);
     }
 
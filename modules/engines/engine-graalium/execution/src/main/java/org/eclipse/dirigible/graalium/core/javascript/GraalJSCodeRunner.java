@@ -93,7 +93,8 @@ public class GraalJSCodeRunner implements JavascriptCodeRunner<Source, Value> {
                 onBeforeContextCreatedHook,
                 onAfterContextCreatedHook,
                 builder.onRealPathNotFound,
-                builder.delegateFileSystem
+                builder.delegateFileSystem,
+                builder.onFileRead
         );
 
         registerGlobalObjects(graalContext, builder.globalObjects);
@@ -337,6 +338,11 @@ public class GraalJSCodeRunner implements JavascriptCodeRunner<Source, Value> {
          */
         private FileSystem delegateFileSystem = FileSystems.getDefault();
 
+        /**
+         * The callback to invoke in GraalJS' FileSystem for each file read by the context.
+         */
+        private Consumer<Path> onFileRead;
+
         /**
          * Instantiates a new builder.
          *
@@ -463,6 +469,17 @@ public class GraalJSCodeRunner implements JavascriptCodeRunner<Source, Value> {
             return this;
         }
 
+        /**
+         * Sets a callback to invoke for each file read by the context, e.g. for the imported modules.
+         *
+         * @param onFileRead the callback to invoke
+         * @return the builder
+         */
+        public Builder setOnFileRead(Consumer<Path> onFileRead) {
+            this.onFileRead = onFileRead;
+            return this;
+        }
+
         /**
          * Adds the on after context created listener.
          *
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.pool;
+
+import java.util.function.BiConsumer;
+
+import org.eclipse.dirigible.graalium.core.CodeRunner;
+
+/**
+ * A checked out code runner. Closing the lease gives the runner back to its pool.
+ *
+ * @param <T> the code runner type
+ */
+public class CodeRunnerLease<T extends CodeRunner<?, ?>> implements AutoCloseable {
+
+    /** The runner. */
+    private final T runner;
+
+    /** The callback receiving the runner and its reusable flag on close. */
+    private final BiConsumer<T, Boolean> onRelease;
+
+    /** The reusable flag. */
+    private boolean reusable = true;
+
+    /** The released flag. */
+    private boolean released;
+
+    /**
+     * Instantiates a new code runner lease.
+     *
+     * @param runner the runner
+     * @param onRelease the callback receiving the runner and its reusable flag on close
+     */
+    CodeRunnerLease(T runner, BiConsumer<T, Boolean> onRelease) {
+        this.runner = runner;
+        this.onRelease = onRelease;
+    }
+
+    /**
+     * Creates a lease for a runner which does not belong to a pool. The runner is closed together with the lease.
+     *
+     * @param <T> the code runner type
+     * @param runner the runner
+     * @return the code runner lease
+     */
+    public static <T extends CodeRunner<?, ?>> CodeRunnerLease<T> unpooled(T runner) {
+        return new CodeRunnerLease<>(runner, (r, reusable) -> r.close());
+    }
+
+    /**
+     * Gets the runner.
+     *
+     * @return the runner
+     */
+    public T getRunner() {
+        return runner;
+    }
+
+    /**
+     * Marks the runner as broken, so that it is closed instead of being reused.
+     */
+    public void invalidate() {
+        reusable = false;
+    }
+
+    /**
+     * Gives the runner back.
+     */
+    @Override
+    public void close() {
+        if (!released) {
+            released = true;
+            onRelease.accept(runner, reusable);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.pool;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.dirigible.graalium.core.CodeRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of reusable code runners.
+ * <p>
+ * Up to <code>maxSize</code> pooled runners are checked out at the same time. Returned runners are kept idle
+ * and handed out again, so the expensive context setup (polyfills, global objects) is paid once per runner
+ * instead of once per invocation. A runner is used by a single thread at a time. The pool does not limit
+ * the concurrency of the invocations: if all the pooled runners are checked out, the borrower gets a new
+ * runner outside of the pool, which is closed when given back. Idle runners can be created in advance
+ * with {@link #prewarm(int)}.
+ * <p>
+ * A returned runner is handed out again only if the recycler accepts it, e.g. after clearing the state left
+ * by the previous invocation. {@link #invalidateAll()} retires all the runners created so far, including the
+ * ones which are currently checked out, e.g. after the code they have loaded has been changed.
+ *
+ * @param <T> the code runner type
+ */
+public class CodeRunnerPool<T extends CodeRunner<?, ?>> implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(CodeRunnerPool.class);
+
+    /** The factory. */
+    private final Supplier<T> factory;
+
+    /** The max size. */
+    private final int maxSize;
+
+    /** The max wait for a pooled runner in milliseconds, before falling back to an unpooled one. */
+    private final long maxWaitMillis;
+
+    /** The permits, one per runner which can be checked out. */
+    private final Semaphore permits;
+
+    /** The recycler preparing a given back runner for the next borrower, false if it can not be reused. */
+    private final Predicate<T> recycler;
+
+    /** The idle runners. */
+    private final ConcurrentLinkedDeque<Idle<T>> idle = new ConcurrentLinkedDeque<>();
+
+    /** The generation of the runners, incremented on invalidation. */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** The created count. */
+    private final AtomicLong createdCount = new AtomicLong();
+
+    /** The destroyed count. */
+    private final AtomicLong destroyedCount = new AtomicLong();
+
+    /** The borrowed count. */
+    private final AtomicLong borrowedCount = new AtomicLong();
+
+    /** The count of the unpooled runners handed out, while all the pooled ones were checked out. */
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    /** The total wait time in nanoseconds. */
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    /** The max wait time in nanoseconds. */
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /** The closed flag. */
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new code runner pool.
+     *
+     * @param factory the factory creating new runners
+     * @param maxSize the max number of pooled runners
+     * @param maxWaitMillis the max time to wait for a free pooled runner, before creating an unpooled one
+     */
+    public CodeRunnerPool(Supplier<T> factory, int maxSize, long maxWaitMillis) {
+        this(factory, maxSize, maxWaitMillis, runner -> true);
+    }
+
+    /**
+     * Instantiates a new code runner pool.
+     *
+     * @param factory the factory creating new runners
+     * @param maxSize the max number of pooled runners
+     * @param maxWaitMillis the max time to wait for a free pooled runner, before creating an unpooled one
+     * @param recycler the recycler preparing a given back runner for the next borrower, false if it can not be reused
+     */
+    public CodeRunnerPool(Supplier<T> factory, int maxSize, long maxWaitMillis, Predicate<T> recycler) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The pool size must be positive, but was " + maxSize);
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.recycler = recycler;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Borrows a runner from the pool, creating a new one if there is no idle runner. If all the pooled runners
+     * are checked out, an unpooled runner is created, which is closed when given back.
+     *
+     * @return the lease, which has to be closed to give the runner back
+     */
+    public CodeRunnerLease<T> borrow() {
+        if (closed) {
+            throw new IllegalStateException("The code runner pool is closed");
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = maxWaitMillis > 0 ? permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS) : permits.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        recordWait(System.nanoTime() - start);
+        if (!acquired) {
+            T runner = factory.get();
+            createdCount.incrementAndGet();
+            overflowCount.incrementAndGet();
+            borrowedCount.incrementAndGet();
+            return new CodeRunnerLease<>(runner, (r, reusable) -> destroy(r));
+        }
+
+        Idle<T> next;
+        while ((next = idle.pollFirst()) != null && next.generation != generation.get()) {
+            destroy(next.runner);
+        }
+        T runner;
+        long runnerGeneration;
+        if (next != null) {
+            runner = next.runner;
+            runnerGeneration = next.generation;
+        } else {
+            runnerGeneration = generation.get();
+            try {
+                runner = factory.get();
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            createdCount.incrementAndGet();
+        }
+        borrowedCount.incrementAndGet();
+        return new CodeRunnerLease<>(runner, (r, reusable) -> giveBack(r, runnerGeneration, reusable));
+    }
+
+    /**
+     * Creates idle runners in advance, up to the given count and the max size of the pool.
+     *
+     * @param count the number of the idle runners to have
+     */
+    public void prewarm(int count) {
+        int target = Math.min(count, maxSize);
+        while (!closed && idle.size() < target && permits.tryAcquire()) {
+            try {
+                long runnerGeneration = generation.get();
+                T runner = factory.get();
+                createdCount.incrementAndGet();
+                idle.offerLast(new Idle<>(runner, runnerGeneration));
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Retires all the runners created so far. The idle ones are closed right away, the checked out ones when given back.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        Idle<T> next;
+        while ((next = idle.pollFirst()) != null) {
+            destroy(next.runner);
+        }
+    }
+
+    /**
+     * Gives back a runner.
+     *
+     * @param runner the runner
+     * @param runnerGeneration the generation of the runner
+     * @param reusable whether the runner can be handed out again
+     */
+    private void giveBack(T runner, long runnerGeneration, boolean reusable) {
+        try {
+            if (reusable && !closed && runnerGeneration == generation.get() && recycle(runner)) {
+                idle.offerFirst(new Idle<>(runner, runnerGeneration));
+            } else {
+                destroy(runner);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Recycle.
+     *
+     * @param runner the runner
+     * @return true, if the runner can be reused
+     */
+    private boolean recycle(T runner) {
+        try {
+            return recycler.test(runner);
+        } catch (RuntimeException e) {
+            if (logger.isWarnEnabled()) {logger.warn("Failed to recycle a pooled code runner", e);}
+            return false;
+        }
+    }
+
+    /**
+     * Destroy.
+     *
+     * @param runner the runner
+     */
+    private void destroy(T runner) {
+        destroyedCount.incrementAndGet();
+        try {
+            runner.close();
+        } catch (RuntimeException e) {
+            if (logger.isWarnEnabled()) {logger.warn("Failed to close a pooled code runner", e);}
+        }
+    }
+
+    /**
+     * Record wait.
+     *
+     * @param waitNanos the wait in nanoseconds
+     */
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Closes all idle runners. Runners which are still checked out are closed when given back.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Idle<T> next;
+        while ((next = idle.pollFirst()) != null) {
+            destroy(next.runner);
+        }
+    }
+
+    /**
+     * Gets the max size.
+     *
+     * @return the max size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of idle runners.
+     *
+     * @return the idle count
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Gets the number of runners currently checked out.
+     *
+     * @return the active count
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Gets the number of the unpooled runners handed out, while all the pooled ones were checked out.
+     *
+     * @return the overflow count
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    /**
+     * Gets the number of threads waiting for a runner.
+     *
+     * @return the waiting count
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Gets the number of runners created so far.
+     *
+     * @return the created count
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Gets the number of runners destroyed so far.
+     *
+     * @return the destroyed count
+     */
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    /**
+     * Gets the number of borrow operations so far.
+     *
+     * @return the borrowed count
+     */
+    public long getBorrowedCount() {
+        return borrowedCount.get();
+    }
+
+    /**
+     * Gets the average time spent waiting for a runner.
+     *
+     * @return the average wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long borrowed = borrowedCount.get();
+        return borrowed == 0 ? 0 : totalWaitNanos.get() / 1_000_000d / borrowed;
+    }
+
+    /**
+     * Gets the longest time spent waiting for a runner.
+     *
+     * @return the max wait in milliseconds
+     */
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000d;
+    }
+
+    /**
+     * An idle runner together with its generation.
+     *
+     * @param <T> the code runner type
+     */
+    private static class Idle<T> {
+
+        /** The runner. */
+        private final T runner;
+
+        /** The generation. */
+        private final long generation;
+
+        /**
+         * Instantiates a new idle runner.
+         *
+         * @param runner the runner
+         * @param generation the generation
+         */
+        Idle(T runner, long generation) {
+            this.runner = runner;
+            this.generation = generation;
+        }
+    }
+}
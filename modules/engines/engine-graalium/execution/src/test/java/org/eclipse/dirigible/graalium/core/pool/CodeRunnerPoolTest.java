@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.dirigible.graalium.core.CodeRunner;
+import org.junit.Test;
+
+/**
+ * The Class CodeRunnerPoolTest.
+ */
+public class CodeRunnerPoolTest {
+
+	/**
+	 * Returned runners are reused.
+	 */
+	@Test
+	public void reuseTest() {
+		try (CodeRunnerPool<TestRunner> pool = new CodeRunnerPool<>(TestRunner::new, 2, 100)) {
+			TestRunner first;
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				first = lease.getRunner();
+				assertEquals(1, pool.getActiveCount());
+			}
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				assertSame(first, lease.getRunner());
+			}
+			assertEquals(1, pool.getCreatedCount());
+			assertEquals(2, pool.getBorrowedCount());
+			assertEquals(1, pool.getIdleCount());
+			assertEquals(0, pool.getActiveCount());
+			assertFalse(first.closed);
+		}
+	}
+
+	/**
+	 * Invalidated runners are closed instead of reused.
+	 */
+	@Test
+	public void invalidateTest() {
+		try (CodeRunnerPool<TestRunner> pool = new CodeRunnerPool<>(TestRunner::new, 2, 100)) {
+			TestRunner runner;
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				runner = lease.getRunner();
+				lease.invalidate();
+			}
+			assertTrue(runner.closed);
+			assertEquals(0, pool.getIdleCount());
+			assertEquals(1, pool.getDestroyedCount());
+		}
+	}
+
+	/**
+	 * Invalidating the pool retires both the idle and the borrowed runners.
+	 */
+	@Test
+	public void invalidateAllTest() {
+		try (CodeRunnerPool<TestRunner> pool = new CodeRunnerPool<>(TestRunner::new, 2, 100)) {
+			TestRunner idle;
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				idle = lease.getRunner();
+			}
+			TestRunner borrowed;
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				borrowed = lease.getRunner();
+				assertSame(idle, borrowed);
+				pool.invalidateAll();
+			}
+			assertTrue(borrowed.closed);
+			assertEquals(0, pool.getIdleCount());
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				assertNotSame(borrowed, lease.getRunner());
+			}
+			assertEquals(2, pool.getCreatedCount());
+		}
+	}
+
+	/**
+	 * The runners rejected by the recycler are closed instead of reused.
+	 */
+	@Test
+	public void recycleTest() {
+		try (CodeRunnerPool<TestRunner> pool = new CodeRunnerPool<>(TestRunner::new, 2, 100, runner -> !runner.dirty)) {
+			TestRunner clean;
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				clean = lease.getRunner();
+			}
+			TestRunner dirty;
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				dirty = lease.getRunner();
+				assertSame(clean, dirty);
+				dirty.dirty = true;
+			}
+			assertTrue(dirty.closed);
+			assertEquals(0, pool.getIdleCount());
+			assertEquals(1, pool.getDestroyedCount());
+		}
+	}
+
+	/**
+	 * Borrowing from an exhausted pool hands out an unpooled runner, which is closed when given back.
+	 */
+	@Test
+	public void exhaustedTest() {
+		try (CodeRunnerPool<TestRunner> pool = new CodeRunnerPool<>(TestRunner::new, 1, 10)) {
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				TestRunner overflow;
+				try (CodeRunnerLease<TestRunner> overflowLease = pool.borrow()) {
+					overflow = overflowLease.getRunner();
+					assertNotSame(lease.getRunner(), overflow);
+				}
+				assertTrue(overflow.closed);
+			}
+			assertEquals(1, pool.getOverflowCount());
+			assertEquals(1, pool.getIdleCount());
+		}
+	}
+
+	/**
+	 * Prewarming creates idle runners up to the size of the pool.
+	 */
+	@Test
+	public void prewarmTest() {
+		try (CodeRunnerPool<TestRunner> pool = new CodeRunnerPool<>(TestRunner::new, 2, 10)) {
+			pool.prewarm(3);
+			assertEquals(2, pool.getIdleCount());
+			assertEquals(2, pool.getCreatedCount());
+			try (CodeRunnerLease<TestRunner> lease = pool.borrow()) {
+				assertEquals(2, pool.getCreatedCount());
+			}
+		}
+	}
+
+	/**
+	 * Unpooled leases close their runner.
+	 */
+	@Test
+	public void unpooledTest() {
+		TestRunner runner = new TestRunner();
+		try (CodeRunnerLease<TestRunner> lease = CodeRunnerLease.unpooled(runner)) {
+			assertSame(runner, lease.getRunner());
+		}
+		assertTrue(runner.closed);
+	}
+
+	/**
+	 * The Class TestRunner.
+	 */
+	private static class TestRunner implements CodeRunner<String, String> {
+
+		/** The closed. */
+		private boolean closed;
+
+		/** The dirty. */
+		private boolean dirty;
+
+		@Override
+		public String run(String codeSource) {
+			return codeSource;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+}
@@ -158,6 +158,16 @@ public class WebSynchronizer extends AbstractSynchronizer {
 		if (logger.isTraceEnabled()) {logger.trace("Done synchronizing Webs from Registry.");}
 	}
 
+	/**
+	 * Gets the file extensions.
+	 *
+	 * @return the file extensions
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IRepository.SEPARATOR + IWebCoreService.FILE_PROJECT_JSON };
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
@@ -19,8 +19,8 @@ import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
  */
 public class WebSynchronizerJob extends AbstractSynchronizerJob {
 
-	/** The web synchronizer. */
-	private WebSynchronizer webSynchronizer = new WebSynchronizer();
+	/** The web synchronizer, shared by the runs of the job. */
+	private static final WebSynchronizer webSynchronizer = new WebSynchronizer();
 
 	/**
 	 * Gets the synchronizer.
@@ -223,6 +223,16 @@ public class WikiSynchronizer extends AbstractSynchronizer {
 		if (logger.isTraceEnabled()) {logger.trace("Done synchronizing Wiki from Registry.");}
 	}
 
+	/**
+	 * Gets the file extensions.
+	 *
+	 * @return the file extensions
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IWikiCoreService.FILE_EXTENSION_MARKDOWN, IWikiCoreService.FILE_EXTENSION_MD, IWikiCoreService.FILE_EXTENSION_CONFLUENCE };
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
@@ -19,8 +19,8 @@ import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
  */
 public class WikiSynchronizerJob extends AbstractSynchronizerJob {
 
-	/** The wiki synchronizer. */
-	private WikiSynchronizer wikiSynchronizer = new WikiSynchronizer();
+	/** The wiki synchronizer, shared by the runs of the job. */
+	private static final WikiSynchronizer wikiSynchronizer = new WikiSynchronizer();
 
 	/**
 	 * Gets the synchronizer.
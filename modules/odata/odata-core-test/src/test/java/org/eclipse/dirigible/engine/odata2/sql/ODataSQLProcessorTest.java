@@ -169,6 +169,52 @@ public class ODataSQLProcessorTest extends AbstractSQLProcessorTest {
         assertEquals("7", IOUtils.toString(bais));
     }
 
+    /**
+     * Test inline count.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testInlineCount() throws Exception {
+        Response response = OData2RequestBuilder.createRequest(sf) //
+                .segments("Cars") //
+                .param("$top", "2") //
+                .param("$inlinecount", "allpages") //
+                .accept("application/json")//
+                .executeRequest(GET);
+
+        assertEquals(200, response.getStatus());
+
+        String content = IOUtils.toString((InputStream) response.getEntity());
+        Map jobj = new Gson().fromJson(content, Map.class);
+        assertEquals("7", ((Map) jobj.get("d")).get("__count"));
+        assertEquals(2, ((List) ((Map) jobj.get("d")).get("results")).size());
+    }
+
+    /**
+     * Test inline count with skip beyond the last entity.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testInlineCountSkipAll() throws Exception {
+        Response response = OData2RequestBuilder.createRequest(sf) //
+                .segments("Cars") //
+                .param("$skip", "100") //
+                .param("$inlinecount", "allpages") //
+                .accept("application/json")//
+                .executeRequest(GET);
+
+        assertEquals(200, response.getStatus());
+
+        String content = IOUtils.toString((InputStream) response.getEntity());
+        Map jobj = new Gson().fromJson(content, Map.class);
+        assertEquals("7", ((Map) jobj.get("d")).get("__count"));
+        assertEquals(0, ((List) ((Map) jobj.get("d")).get("results")).size());
+    }
+
     /**
      * Test create entity.
      *
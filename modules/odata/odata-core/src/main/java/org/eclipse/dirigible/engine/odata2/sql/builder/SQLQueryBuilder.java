@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.engine.odata2.sql.builder;
 
+import org.apache.olingo.odata2.api.commons.InlineCount;
 import org.apache.olingo.odata2.api.edm.*;
 import org.apache.olingo.odata2.api.ep.entry.ODataEntry;
 import org.apache.olingo.odata2.api.exception.ODataException;
@@ -28,6 +29,7 @@ import java.util.*;
 
 import static org.apache.olingo.odata2.api.commons.HttpStatusCodes.REQUESTED_RANGE_NOT_SATISFIABLE;
 import static org.eclipse.dirigible.engine.odata2.sql.builder.EdmUtils.evaluateDateTimeExpressions;
+import static org.eclipse.dirigible.engine.odata2.sql.utils.OData2Utils.hasExpand;
 
 /**
  * The Class SQLQueryBuilder.
@@ -138,6 +140,8 @@ public class SQLQueryBuilder {
             //no expand, we filter as usual
             q.select(uri.getSelect(), uri.getExpand()).top(effectiveTop).skip(effectiveSkip).from(target, uri.getKeyPredicates());
             q.filter(uri.getTargetEntitySet(), uri.getFilter());
+            // the expanded entities multiply the rows, so the count can come from the same statement only without them
+            q.setInlineCount(uri.getInlineCount() == InlineCount.ALLPAGES && !hasExpand(uri.getExpand()));
         } else {
             //we have the problem that top does not work for exapnd. Therefore we do 2 queries to select the ids of the target entities (with applied filter),
             //and then we do filter on these IDS with the expand, with no top and skip 
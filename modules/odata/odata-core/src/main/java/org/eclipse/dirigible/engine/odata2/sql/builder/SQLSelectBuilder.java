@@ -51,6 +51,9 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
     /** The Constant SPACE. */
     private static final String SPACE = " ";
 
+    /** The alias of the column holding the total count of the entities, when it is part of the select. */
+    public static final String INLINE_COUNT_COLUMN = "inline_count";
+
     /** The structural types in join. */
     private final Set<String> structuralTypesInJoin;
     
@@ -69,6 +72,9 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
     /** The serverside paging. */
     private boolean serversidePaging;
 
+    /** The inline count. */
+    private boolean inlineCount;
+
     /**
      * Instantiates a new SQL select builder.
      *
@@ -358,6 +364,9 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
             throw new IllegalStateException("Please initialize the select clause!");
         builder.append("SELECT ");
         builder.append(selectExpression.evaluate(context, SELECT_COLUMN_LIST));
+        if (isInlineCountSelected(context)) {
+            builder.append(", COUNT(*) OVER() AS \"").append(INLINE_COUNT_COLUMN).append("\"");
+        }
         builder.append(" FROM ");
         builder.append(selectExpression.evaluate(context, FROM)).append(SPACE);
         builder.append(evaluateJoins(context));
@@ -425,6 +434,30 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
     }
 
 
+    /**
+     * Requests the total count of the entities as an additional column of the select, see {@link #INLINE_COUNT_COLUMN}.
+     *
+     * @param inlineCount the inline count
+     * @return the SQL select builder
+     */
+    public SQLSelectBuilder setInlineCount(final boolean inlineCount) {
+        this.inlineCount = inlineCount;
+        return this;
+    }
+
+    /**
+     * Checks if the total count is selected in the same statement. This is the case when the inline count
+     * is requested, the database supports window functions and the result is not grouped.
+     * Otherwise the count has to be read with a separate count query.
+     *
+     * @param context the context
+     * @return true, if the total count is selected
+     */
+    public boolean isInlineCountSelected(final SQLContext context) {
+        return inlineCount && getGroupByClause() == null && context.getDatabaseProduct() != null
+                && context.getDatabaseProduct().isWindowFunctionsSupported();
+    }
+
     /**
      * Builds the.
      *
@@ -284,51 +284,59 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
         final EdmEntityType targetEntityType = targetEntitySet.getEntityType();
 
         Collection<EdmProperty> properties = getSelectedProperties(uriInfo.getSelect(), targetEntityType);
-        List<ResultSetReader.ExpandAccumulator> entitiesFeed = new ArrayList<>();
         Integer count;
-        String nextLink;
-        try (Connection connection = getDataSource().getConnection()) {
-            if (inlineCountType == InlineCount.ALLPAGES) {
-                SQLSelectBuilder countEntitySet = this.getSQLQueryBuilder().buildSelectCountQuery((UriInfo) uriInfo, getContext());
-                count = doCountEntitySet(countEntitySet, connection); // does not close the connection
-            } else {
-                count = null;
-            }
+        SQLSelectBuilder query;
+        EntitySetIterator entities;
+        Connection connection = null;
+        PreparedStatement statement = null;
+        try {
+            connection = getDataSource().getConnection();
             List<String> readIdsForExpand = new ArrayList<>();
             if (OData2Utils.hasExpand((UriInfo) uriInfo)) {
             	if (logger.isDebugEnabled()) {logger.debug("Reading the ids that will be used for $expand");}
                 readIdsForExpand = readIdsForExpand(uriInfo);
-                if (logger.isInfoEnabled()) {logger.info("Using IDs for $expand: {}", readIdsForExpand);}
+                if (logger.isDebugEnabled()) {logger.debug("Using IDs for $expand: {}", readIdsForExpand);}
             }
 
-            SQLSelectBuilder query = this.getSQLQueryBuilder().buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
-            try (PreparedStatement statement = createSelectStatement(query, connection)) {
-                try (ResultSet resultSet = statement.executeQuery()) {
-                    ResultSetReader.ExpandAccumulator currentAccumulator = new ResultSetReader.ExpandAccumulator(targetEntityType);
-                    while (resultSet.next()) {
-                        boolean hasGeneratedId = query.hasKeyGeneratedPresent(targetEntitySet.getEntityType());
-                        ResultSetReader.ResultSetEntity currentTargetEntity = resultSetReader.getResultSetEntity(query,
-                                targetEntityType, properties, resultSet, hasGeneratedId);
-                        logger.info("Current entity set object is {}", currentTargetEntity);
-                        if (!currentAccumulator.isAccumulatorFor(currentTargetEntity)) {
-                            currentAccumulator = new ResultSetReader.ExpandAccumulator(currentTargetEntity);
-                            entitiesFeed.add(currentAccumulator);
-                        }
-
-                        List<ArrayList<NavigationPropertySegment>> expandEntities = uriInfo.getExpand();
-                        if (hasExpand(expandEntities)) {
-                            resultSetReader.accumulateExpandedEntities(query, resultSet, currentAccumulator, expandEntities);
-                        }
-                    }
-                    boolean needsNextLink = query.isServersidePaging() && entitiesFeed.size() == this
-                            .getSQLQueryBuilder().getEntityPagingSize(targetEntityType);
-                    nextLink = needsNextLink ? generateNextLink(query, targetEntityType) : null;
-                }
+            query = this.getSQLQueryBuilder().buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
+            statement = createSelectStatement(query, connection);
+            boolean inlineCountSelected = inlineCountType == InlineCount.ALLPAGES && query.isInlineCountSelected(createSQLContext(connection));
+            entities = new EntitySetIterator(resultSetReader, query, targetEntityType, properties, uriInfo.getExpand(),
+                    connection, statement, statement.executeQuery(), inlineCountSelected ? SQLSelectBuilder.INLINE_COUNT_COLUMN : null);
+            if (inlineCountType != InlineCount.ALLPAGES) {
+                count = null;
+            } else if (inlineCountSelected && entities.hasNext()) {
+                count = entities.getInlineCount();
+            } else if (inlineCountSelected && query.getSelectExpression().getSkip() <= 0) {
+                count = 0;
+            } else {
+                // an empty page after $skip says nothing about the total count
+                SQLSelectBuilder countEntitySet = this.getSQLQueryBuilder().buildSelectCountQuery((UriInfo) uriInfo, getContext());
+                count = doCountEntitySet(countEntitySet, connection); // does not close the connection
             }
         } catch (Exception e) {
+            try (Connection c = connection; PreparedStatement s = statement) {
+                // release what has been opened so far
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new ODataException("Unable to read entity set", e);
+        }
+
+        // the entities are rendered while the rows are read, so the result set stays open until the feed is written
+        try (EntitySetIterator feed = entities) {
+            if (query.isServersidePaging()) {
+                // the page is bounded, but the next link depends on the number of the entities in it
+                List<ResultSetReader.ExpandAccumulator> entitiesFeed = new ArrayList<>();
+                feed.forEachRemaining(entitiesFeed::add);
+                boolean needsNextLink = entitiesFeed.size() == this.getSQLQueryBuilder().getEntityPagingSize(targetEntityType);
+                String nextLink = needsNextLink ? generateNextLink(query, targetEntityType) : null;
+                return ExpandCallBack.writeFeedWithExpand(getContext(), (UriInfo) uriInfo, entitiesFeed, contentType, count, nextLink);
+            }
+            return ExpandCallBack.writeFeedWithExpand(getContext(), (UriInfo) uriInfo, feed, contentType, count);
+        } catch (SQLException | IllegalStateException e) {
             throw new ODataException("Unable to read entity set", e);
         }
-        return ExpandCallBack.writeFeedWithExpand(getContext(), (UriInfo) uriInfo, entitiesFeed, contentType, count, nextLink);
     }
 
     /**
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.odata2.sql.processor;
+
+import org.apache.olingo.odata2.api.edm.EdmEntityType;
+import org.apache.olingo.odata2.api.edm.EdmProperty;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.apache.olingo.odata2.api.uri.NavigationPropertySegment;
+import org.eclipse.dirigible.engine.odata2.sql.builder.SQLSelectBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.eclipse.dirigible.engine.odata2.sql.utils.OData2Utils.hasExpand;
+
+/**
+ * Reads the entities of an entity set lazily from an open result set. Only the entity being read is held in memory
+ * together with its expanded entities, which are expected in consecutive rows. The iterator owns the connection,
+ * the statement and the result set and closes them on {@link #close()}.
+ */
+public class EntitySetIterator implements Iterator<ResultSetReader.ExpandAccumulator>, AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(EntitySetIterator.class);
+
+    /** The result set reader. */
+    private final ResultSetReader resultSetReader;
+
+    /** The query. */
+    private final SQLSelectBuilder query;
+
+    /** The entity type. */
+    private final EdmEntityType entityType;
+
+    /** The properties. */
+    private final Collection<EdmProperty> properties;
+
+    /** The expand entities. */
+    private final List<ArrayList<NavigationPropertySegment>> expandEntities;
+
+    /** The has generated id. */
+    private final boolean hasGeneratedId;
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** The statement. */
+    private final PreparedStatement statement;
+
+    /** The result set. */
+    private final ResultSet resultSet;
+
+    /** The column holding the total count of the entities, or null if it is not selected. */
+    private final String inlineCountColumn;
+
+    /** The total count of the entities, as read from the first row. */
+    private Integer inlineCount;
+
+    /** The entity of the current row, which belongs to the next accumulator. */
+    private ResultSetReader.ResultSetEntity pendingEntity;
+
+    /** The next accumulator. */
+    private ResultSetReader.ExpandAccumulator next;
+
+    /** The exhausted. */
+    private boolean exhausted;
+
+    /**
+     * Instantiates a new entity set iterator.
+     *
+     * @param resultSetReader the result set reader
+     * @param query the query
+     * @param entityType the entity type
+     * @param properties the properties
+     * @param expandEntities the expand entities
+     * @param connection the connection
+     * @param statement the statement
+     * @param resultSet the result set
+     * @param inlineCountColumn the column holding the total count of the entities, or null if it is not selected
+     * @throws ODataException the o data exception
+     */
+    public EntitySetIterator(ResultSetReader resultSetReader, SQLSelectBuilder query, EdmEntityType entityType,
+                             Collection<EdmProperty> properties, List<ArrayList<NavigationPropertySegment>> expandEntities,
+                             Connection connection, PreparedStatement statement, ResultSet resultSet,
+                             String inlineCountColumn) throws ODataException {
+        this.resultSetReader = resultSetReader;
+        this.query = query;
+        this.entityType = entityType;
+        this.properties = properties;
+        this.expandEntities = hasExpand(expandEntities) ? expandEntities : null;
+        this.hasGeneratedId = query.hasKeyGeneratedPresent(entityType);
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.inlineCountColumn = inlineCountColumn;
+    }
+
+    /**
+     * Gets the total count of the entities, selected together with them. It is known once the first entity is read.
+     *
+     * @return the inline count or null, if it is not selected or no entity has been read yet
+     */
+    public Integer getInlineCount() {
+        return inlineCount;
+    }
+
+    /**
+     * Checks for next.
+     *
+     * @return true, if successful
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            try {
+                next = readNext();
+            } catch (SQLException | ODataException | IOException e) {
+                throw new IllegalStateException("Unable to read entity set", e);
+            }
+            exhausted = next == null;
+        }
+        return next != null;
+    }
+
+    /**
+     * Next.
+     *
+     * @return the expand accumulator
+     */
+    @Override
+    public ResultSetReader.ExpandAccumulator next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ResultSetReader.ExpandAccumulator result = next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Reads the rows of the next entity.
+     *
+     * @return the accumulator or null, if there are no more rows
+     * @throws SQLException the SQL exception
+     * @throws ODataException the o data exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private ResultSetReader.ExpandAccumulator readNext() throws SQLException, ODataException, IOException {
+        ResultSetReader.ExpandAccumulator accumulator = null;
+        while (pendingEntity != null || resultSet.next()) {
+            ResultSetReader.ResultSetEntity currentTargetEntity = pendingEntity;
+            pendingEntity = null;
+            if (currentTargetEntity == null) {
+                if (inlineCount == null && inlineCountColumn != null) {
+                    inlineCount = resultSet.getInt(inlineCountColumn);
+                }
+                currentTargetEntity = resultSetReader.getResultSetEntity(query, entityType, properties, resultSet, hasGeneratedId);
+                if (logger.isTraceEnabled()) {logger.trace("Current entity set object is {}", currentTargetEntity);}
+            }
+            if (accumulator == null) {
+                accumulator = new ResultSetReader.ExpandAccumulator(currentTargetEntity);
+            } else if (!accumulator.isAccumulatorFor(currentTargetEntity)) {
+                pendingEntity = currentTargetEntity;
+                return accumulator;
+            }
+            if (expandEntities != null) {
+                resultSetReader.accumulateExpandedEntities(query, resultSet, accumulator, expandEntities);
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * Closes the result set, the statement and the connection.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Override
+    public void close() throws SQLException {
+        try (Connection c = connection; PreparedStatement s = statement; ResultSet r = resultSet) {
+            exhausted = true;
+        }
+    }
+
+}
@@ -152,6 +152,139 @@ public class ExpandCallBack implements OnWriteFeedContent, OnWriteEntryContent,
         return EntityProvider.writeFeed(contentType, uriInfo.getTargetEntitySet(), feedEntities, feedProperties);
     }
 
+    /**
+     * Write feed with expand, rendering the entities one by one while the feed is written.
+     * The iterator is consumed once and the rendered entities are not retained.
+     *
+     * @param context the context
+     * @param uriInfo the uri info
+     * @param entitiesFeed the entities feed
+     * @param contentType the content type
+     * @param count the count
+     * @return the o data response
+     * @throws ODataException the o data exception
+     */
+    public static ODataResponse writeFeedWithExpand(ODataContext context, UriInfo uriInfo, Iterator<ResultSetReader.ExpandAccumulator> entitiesFeed,
+                                                    final String contentType, Integer count) throws ODataException {
+
+        EntityProviderWriteProperties feedProperties = EntityProviderWriteProperties
+                .serviceRoot(context.getPathInfo().getServiceRoot()).inlineCountType(uriInfo.getInlineCount()).inlineCount(count)
+                .expandSelectTree(UriParser.createExpandSelectTree(uriInfo.getSelect(), uriInfo.getExpand()))
+                .callbacks(ExpandCallBack.getCallbacks(context, uriInfo, null))//
+                .build();
+
+        return EntityProvider.writeFeed(contentType, uriInfo.getTargetEntitySet(), new StreamedFeed(entitiesFeed), feedProperties);
+    }
+
+    /**
+     * The entities of a feed rendered on demand. The entity provider only iterates over the feed data, so the entities
+     * are rendered one by one during the iteration and not retained. The random access operations buffer the entities
+     * not iterated yet, and the iterations after that run over the buffer.
+     */
+    private static class StreamedFeed extends AbstractList<Map<String, Object>> {
+
+        /** The accumulators not rendered yet. */
+        private final Iterator<ResultSetReader.ExpandAccumulator> accumulators;
+
+        /** The entities rendered for random access. */
+        private final List<Map<String, Object>> buffer = new ArrayList<>();
+
+        /** Whether entities have been passed to an iteration without being buffered. */
+        private boolean streamed;
+
+        /**
+         * Instantiates a new streamed feed.
+         *
+         * @param accumulators the accumulators
+         */
+        private StreamedFeed(Iterator<ResultSetReader.ExpandAccumulator> accumulators) {
+            this.accumulators = accumulators;
+        }
+
+        /**
+         * Iterator over the buffered entities followed by the ones rendered on demand.
+         *
+         * @return the iterator
+         */
+        @Override
+        public Iterator<Map<String, Object>> iterator() {
+            if (!accumulators.hasNext()) {
+                return Collections.unmodifiableList(buffer).iterator();
+            }
+            checkNotStreamed();
+            Iterator<Map<String, Object>> buffered = new ArrayList<>(buffer).iterator();
+            return new Iterator<Map<String, Object>>() {
+                @Override
+                public boolean hasNext() {
+                    return buffered.hasNext() || accumulators.hasNext();
+                }
+
+                @Override
+                public Map<String, Object> next() {
+                    if (buffered.hasNext()) {
+                        return buffered.next();
+                    }
+                    streamed = true;
+                    return accumulators.next().renderForExpand();
+                }
+            };
+        }
+
+        /**
+         * Gets the entity at the index.
+         *
+         * @param index the index
+         * @return the entity
+         */
+        @Override
+        public Map<String, Object> get(int index) {
+            bufferAll();
+            return buffer.get(index);
+        }
+
+        /**
+         * Size.
+         *
+         * @return the size
+         */
+        @Override
+        public int size() {
+            bufferAll();
+            return buffer.size();
+        }
+
+        /**
+         * Checks if is empty, without buffering the entities.
+         *
+         * @return true, if is empty
+         */
+        @Override
+        public boolean isEmpty() {
+            return buffer.isEmpty() && !streamed && !accumulators.hasNext();
+        }
+
+        /**
+         * Renders the remaining entities into the buffer.
+         */
+        private void bufferAll() {
+            if (accumulators.hasNext()) {
+                checkNotStreamed();
+                while (accumulators.hasNext()) {
+                    buffer.add(accumulators.next().renderForExpand());
+                }
+            }
+        }
+
+        /**
+         * Checks that no entities have been dropped by an earlier iteration, since the result set cannot be read again.
+         */
+        private void checkNotStreamed() {
+            if (streamed) {
+                throw new IllegalStateException("The streamed feed has been partially iterated already and cannot be read again");
+            }
+        }
+    }
+
     /**
      * Gets the callbacks.
      *
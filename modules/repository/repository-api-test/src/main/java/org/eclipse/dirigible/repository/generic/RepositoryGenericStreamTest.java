@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.generic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.junit.Test;
+
+/**
+ * The Class RepositoryGenericStreamTest.
+ */
+public class RepositoryGenericStreamTest {
+
+	/** The repository. */
+	protected IRepository repository;
+
+	/**
+	 * Creates the content.
+	 *
+	 * @param size the size
+	 * @return the content
+	 */
+	protected byte[] createContent(int size) {
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		return content;
+	}
+
+	/**
+	 * Reads the content of the resource through its stream.
+	 *
+	 * @param resource the resource
+	 * @return the content
+	 * @throws Exception the exception
+	 */
+	private byte[] readContent(IResource resource) throws Exception {
+		try (InputStream in = resource.getContentStream()) {
+			return in.readAllBytes();
+		}
+	}
+
+	/**
+	 * Test write and read stream.
+	 */
+	@Test
+	public void testWriteReadStream() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			byte[] content = createContent(300 * 1024 + 17);
+			IResource resource = repository.getResource("/testCollection/toBeRemovedStream.bin"); //$NON-NLS-1$
+			resource.setContent(new ByteArrayInputStream(content), true, "application/octet-stream"); //$NON-NLS-1$
+			resource = repository.getResource("/testCollection/toBeRemovedStream.bin"); //$NON-NLS-1$
+			assertTrue(resource.exists());
+			assertArrayEquals(content, readContent(resource));
+			assertArrayEquals(content, resource.getContent());
+
+			byte[] updated = createContent(1024);
+			resource.setContent(new ByteArrayInputStream(updated), true, "application/octet-stream"); //$NON-NLS-1$
+			assertArrayEquals(updated, readContent(resource));
+
+			resource.setContent(content);
+			assertArrayEquals(content, readContent(resource));
+
+			resource.setContent(new byte[0]);
+			assertArrayEquals(new byte[0], readContent(resource));
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		} finally {
+			try {
+				repository.removeResource("/testCollection/toBeRemovedStream.bin"); //$NON-NLS-1$
+			} catch (Exception e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Test copy and move stream.
+	 */
+	@Test
+	public void testCopyMoveStream() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			byte[] content = createContent(200 * 1024 + 3);
+			IResource resource = repository.getResource("/testStream/a/file.bin"); //$NON-NLS-1$
+			resource.setContent(new ByteArrayInputStream(content), true, "application/octet-stream"); //$NON-NLS-1$
+
+			repository.getCollection("/testStream/a").copyTo("/testStream/b"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertArrayEquals(content, readContent(repository.getResource("/testStream/b/file.bin"))); //$NON-NLS-1$
+
+			repository.getCollection("/testStream/b").moveTo("/testStream/c"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertFalse(repository.getResource("/testStream/b/file.bin").exists()); //$NON-NLS-1$
+			assertArrayEquals(content, readContent(repository.getResource("/testStream/c/file.bin"))); //$NON-NLS-1$
+			assertArrayEquals(content, readContent(repository.getResource("/testStream/a/file.bin"))); //$NON-NLS-1$
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		} finally {
+			try {
+				repository.removeCollection("/testStream"); //$NON-NLS-1$
+			} catch (Exception e) {
+				// ignore
+			}
+		}
+	}
+
+}
@@ -69,6 +69,24 @@ public interface IRepository
 		throw new RepositoryException("Operation not supported for repository type: " + this.getClass().getName());
 	}
 
+	/**
+	 * Adds a listener for the changes made through the repository.
+	 *
+	 * @param listener the listener
+	 */
+	default void addChangeListener(IRepositoryChangeListener listener) {
+		throw new RepositoryException("Operation not supported for repository type: " + this.getClass().getName());
+	}
+
+	/**
+	 * Removes a listener for the changes made through the repository.
+	 *
+	 * @param listener the listener
+	 */
+	default void removeChangeListener(IRepositoryChangeListener listener) {
+		throw new RepositoryException("Operation not supported for repository type: " + this.getClass().getName());
+	}
+
 	/**
 	 * Gets the repository path.
 	 *
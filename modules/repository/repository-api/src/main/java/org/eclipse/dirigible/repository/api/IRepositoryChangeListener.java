@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.api;
+
+/**
+ * Listener for the changes made through a repository.
+ */
+public interface IRepositoryChangeListener {
+
+	/**
+	 * Called after a path has been created, updated, renamed or removed.
+	 *
+	 * @param path the repository path
+	 */
+	public void pathChanged(String path);
+
+}
@@ -11,6 +11,10 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * The <code>IResource</code> interface represents a resource located in the
  * repository.
@@ -53,6 +57,40 @@ public interface IResource extends IEntity {
 	 */
 	public void setContent(byte[] content, boolean isBinary, String contentType) throws RepositoryWriteException;
 
+	/**
+	 * Returns the content of the resource as a stream. The caller has to close the stream, as it may hold
+	 * resources of the underlying storage until then. Implementations, which can, serve the content without
+	 * loading it into the memory.
+	 *
+	 * @return the content stream
+	 * @throws RepositoryReadException
+	 *             in case the content cannot be retrieved
+	 */
+	public default InputStream getContentStream() throws RepositoryReadException {
+		return new ByteArrayInputStream(getContent());
+	}
+
+	/**
+	 * Sets this resource's content from a stream. The stream is read to its end, but not closed.
+	 * Implementations, which can, store the content without loading it into the memory.
+	 *
+	 * @param content
+	 *            the content stream
+	 * @param isBinary
+	 *            whether it is binary
+	 * @param contentType
+	 *            the type of the content
+	 * @throws RepositoryWriteException
+	 *             in case the content of the {@link IResource} cannot be stored
+	 */
+	public default void setContent(InputStream content, boolean isBinary, String contentType) throws RepositoryWriteException {
+		try {
+			setContent(content.readAllBytes(), isBinary, contentType);
+		} catch (IOException e) {
+			throw new RepositoryWriteException("Could not read the content stream.", e);
+		}
+	}
+
 	/**
 	 * Getter for binary flag.
 	 *
@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.repository.db;
 
+import java.io.InputStream;
 import java.sql.SQLException;
 
 /**
@@ -113,6 +114,33 @@ public class DatabaseFile extends DatabaseObject {
 		}
 	}
 
+	/**
+	 * Gets the data as a stream, which has to be closed by the caller.
+	 *
+	 * @return the data stream or null
+	 * @throws DatabaseRepositoryException
+	 *             the local repository exception
+	 */
+	public InputStream getDataStream() throws DatabaseRepositoryException {
+		return getRepository().getRepositoryDao().getFileContentStream(this);
+	}
+
+	/**
+	 * Sets the data from a stream.
+	 *
+	 * @param content
+	 *            the data stream
+	 * @throws DatabaseRepositoryException
+	 *             the local repository exception
+	 */
+	public void setData(InputStream content) throws DatabaseRepositoryException {
+		try {
+			getRepository().getRepositoryDao().setFileContent(this, content);
+		} catch (SQLException e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Checks if is binary.
 	 *
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.db;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The stream of a file content stored in chunks. The chunks are fetched one by one while reading, so only a
+ * single chunk is held in the memory. It owns the statement fetching the chunks and the given resources
+ * and closes them when the stream is closed or fully read.
+ */
+public class DatabaseFileChunksInputStream extends InputStream {
+
+	/** The statement selecting the content of a chunk by its id. */
+	private final PreparedStatement statement;
+
+	/** The path. */
+	private final String path;
+
+	/** The version. */
+	private final int version;
+
+	/** The resources to be closed after the statement. */
+	private final AutoCloseable[] resources;
+
+	/** The current chunk. */
+	private byte[] chunk = new byte[0];
+
+	/** The position in the current chunk. */
+	private int position;
+
+	/** The index of the next chunk. */
+	private int next;
+
+	/** The closed flag. */
+	private boolean closed;
+
+	/**
+	 * Instantiates a new database file chunks input stream.
+	 *
+	 * @param statement the statement selecting the content of a chunk by its id
+	 * @param path the path
+	 * @param version the version
+	 * @param resources the resources to be closed after the statement, e.g. the connection
+	 */
+	public DatabaseFileChunksInputStream(PreparedStatement statement, String path, int version, AutoCloseable... resources) {
+		this.statement = statement;
+		this.path = path;
+		this.version = version;
+		this.resources = resources;
+	}
+
+	/**
+	 * Read.
+	 *
+	 * @return the byte or -1 at the end of the content
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public int read() throws IOException {
+		if (!ensureAvailable()) {
+			return -1;
+		}
+		return chunk[position++] & 0xFF;
+	}
+
+	/**
+	 * Read.
+	 *
+	 * @param b the buffer
+	 * @param off the offset
+	 * @param len the length
+	 * @return the number of bytes read or -1 at the end of the content
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!ensureAvailable()) {
+			return -1;
+		}
+		int count = Math.min(len, chunk.length - position);
+		System.arraycopy(chunk, position, b, off, count);
+		position += count;
+		return count;
+	}
+
+	/**
+	 * Available.
+	 *
+	 * @return the number of bytes left in the current chunk
+	 */
+	@Override
+	public int available() {
+		return closed ? 0 : chunk.length - position;
+	}
+
+	/**
+	 * Fetches the next non-empty chunk, if the current one has been read.
+	 *
+	 * @return true, if there are bytes to read
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private boolean ensureAvailable() throws IOException {
+		while (!closed && (position >= chunk.length)) {
+			try {
+				statement.setString(1, DatabaseRepositoryUtils.getChunkId(path, version, next));
+				try (ResultSet resultSet = statement.executeQuery()) {
+					if (resultSet.next()) {
+						byte[] bytes = resultSet.getBytes(1);
+						chunk = bytes != null ? bytes : new byte[0];
+						position = 0;
+						next++;
+					} else {
+						close();
+					}
+				}
+			} catch (SQLException e) {
+				close();
+				throw new IOException(e);
+			}
+		}
+		return !closed;
+	}
+
+	/**
+	 * Closes the stream and the resources it owns.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		chunk = new byte[0];
+		position = 0;
+		Exception failure = null;
+		try {
+			statement.close();
+		} catch (SQLException e) {
+			failure = e;
+		}
+		for (AutoCloseable resource : resources) {
+			try {
+				resource.close();
+			} catch (Exception e) {
+				if (failure == null) {
+					failure = e;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+		}
+	}
+
+}
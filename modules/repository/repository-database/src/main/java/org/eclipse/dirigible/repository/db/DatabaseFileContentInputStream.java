@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.db;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The stream of a file content read from a BLOB. It owns the result set, the statement and the connection
+ * the BLOB is read through and closes them when the stream is closed or fully read.
+ */
+public class DatabaseFileContentInputStream extends FilterInputStream {
+
+	/** The resources to be closed, in this order. */
+	private final AutoCloseable[] resources;
+
+	/** The closed flag. */
+	private boolean closed;
+
+	/**
+	 * Instantiates a new database file content input stream.
+	 *
+	 * @param in the BLOB stream
+	 * @param resources the result set, the statement and the connection
+	 */
+	public DatabaseFileContentInputStream(InputStream in, AutoCloseable... resources) {
+		super(in);
+		this.resources = resources;
+	}
+
+	/**
+	 * Read.
+	 *
+	 * @return the byte or -1 at the end of the content
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public int read() throws IOException {
+		if (closed) {
+			return -1;
+		}
+		int read = super.read();
+		if (read < 0) {
+			close();
+		}
+		return read;
+	}
+
+	/**
+	 * Read.
+	 *
+	 * @param b the buffer
+	 * @param off the offset
+	 * @param len the length
+	 * @return the number of bytes read or -1 at the end of the content
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (closed) {
+			return -1;
+		}
+		int read = super.read(b, off, len);
+		if (read < 0) {
+			close();
+		}
+		return read;
+	}
+
+	/**
+	 * Closes the stream and the resources it owns.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		IOException failure = null;
+		try {
+			super.close();
+		} catch (IOException e) {
+			failure = e;
+		}
+		for (AutoCloseable resource : resources) {
+			try {
+				resource.close();
+			} catch (Exception e) {
+				if (failure == null) {
+					failure = e instanceof IOException ? (IOException) e : new IOException(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+}
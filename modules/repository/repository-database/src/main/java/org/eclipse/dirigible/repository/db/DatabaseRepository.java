@@ -609,4 +609,15 @@ public class DatabaseRepository implements IRepository {
 	protected void setLastModified(long time) {
 		lastModified.set(time);
 	}
+
+	/**
+	 * Publishes a changed path to the search index.
+	 *
+	 * @param path the created, updated, renamed or removed path
+	 */
+	protected void pathChanged(String path) {
+		if (repositorySearcher != null) {
+			repositorySearcher.pathChanged(path);
+		}
+	}
 }
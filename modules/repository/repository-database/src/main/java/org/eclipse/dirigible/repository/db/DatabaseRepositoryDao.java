@@ -12,6 +12,7 @@
 package org.eclipse.dirigible.repository.db;
 
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -72,6 +73,9 @@ public class DatabaseRepositoryDao {
 
 	/** The data source. */
 	private DataSource dataSource = null;
+
+	/** Whether the tables have been checked. */
+	private volatile boolean initialized = false;
 	
 	/**
 	 * Gets the data source.
@@ -164,6 +168,7 @@ public class DatabaseRepositoryDao {
 					closeConnection(connection);
 				}
 				((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+				((DatabaseRepository) getRepository()).pathChanged(path);
 				createVersion(path, content);
 			}
 		} catch (Exception e) {
@@ -171,6 +176,38 @@ public class DatabaseRepositoryDao {
 		}
 	}
 
+	/**
+	 * Creates the file from a stream.
+	 *
+	 * @param path
+	 *            the path
+	 * @param content
+	 *            the content stream, which is read to its end, but not closed
+	 * @param isBinary
+	 *            the is binary
+	 * @param contentType
+	 *            the content type
+	 * @throws DatabaseRepositoryException
+	 *             the database repository exception
+	 */
+	public void createFile(String path, InputStream content, boolean isBinary, String contentType) throws DatabaseRepositoryException {
+		try {
+			Connection connection = null;
+			try {
+				connection = openConnection();
+				ensureFoldersCreated(path);
+				DatabaseRepositoryUtils.saveFile(connection, path, content, isBinary, contentType);
+			} finally {
+				closeConnection(connection);
+			}
+			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).pathChanged(path);
+			createVersion(path);
+		} catch (Exception e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Ensure folders created.
 	 *
@@ -205,6 +242,7 @@ public class DatabaseRepositoryDao {
 	 * @throws SQLException the SQL exception
 	 */
 	private Connection openConnection() throws SQLException {
+		checkInitialized();
 		return getDataSource().getConnection();
 	}
 
@@ -226,6 +264,23 @@ public class DatabaseRepositoryDao {
 		}
 	}
 
+	/**
+	 * Creates a version with the stored content of the file.
+	 *
+	 * @param path            the workspace path
+	 * @throws SQLException             on sql error
+	 */
+	private void createVersion(String path) throws SQLException {
+		Connection connection = null;
+		try {
+			connection = openConnection();
+			int version = DatabaseRepositoryUtils.getLastFileVersion(connection, path);
+			DatabaseRepositoryUtils.saveFileVersion(connection, path, ++version);
+		} finally {
+			closeConnection(connection);
+		}
+	}
+
 	/**
 	 * Removes the versions.
 	 *
@@ -243,11 +298,29 @@ public class DatabaseRepositoryDao {
 	}
 
 	/**
-	 * Check initialized.
+	 * Checks once whether the files table is up to date and migrates it if needed.
 	 */
 	public void checkInitialized() {
-		// TODO Auto-generated method stub
-
+		if (!initialized) {
+			synchronized (this) {
+				if (!initialized) {
+					Connection connection = null;
+					try {
+						connection = getDataSource().getConnection();
+						DatabaseRepositoryUtils.initializeFilesTable(connection);
+						initialized = true;
+					} catch (SQLException e) {
+						throw new DatabaseRepositoryException(e);
+					} finally {
+						try {
+							closeConnection(connection);
+						} catch (SQLException e) {
+							if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+						}
+					}
+				}
+			}
+		}
 	}
 
 	/**
@@ -268,12 +341,53 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).pathChanged(workspacePath);
 			createVersion(workspacePath, content);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
 	}
 
+	/**
+	 * Sets the file content from a stream.
+	 *
+	 * @param databaseFile            the database file
+	 * @param content            the content stream, which is read to its end, but not closed
+	 * @throws SQLException the SQL exception
+	 */
+	public void setFileContent(DatabaseFile databaseFile, InputStream content) throws SQLException {
+		try {
+			String workspacePath = databaseFile.getPath();
+			Connection connection = null;
+			try {
+				connection = openConnection();
+				DatabaseRepositoryUtils.saveFile(connection, workspacePath, content, databaseFile.isBinary(), databaseFile.getContentType());
+			} finally {
+				closeConnection(connection);
+			}
+			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).pathChanged(workspacePath);
+			createVersion(workspacePath);
+		} catch (Exception e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
+	/**
+	 * Gets the file content as a stream. The stream holds a connection until it is closed or fully read.
+	 *
+	 * @param databaseFile
+	 *            the database file
+	 * @return the file content stream or null
+	 */
+	public InputStream getFileContentStream(DatabaseFile databaseFile) {
+		try {
+			return DatabaseRepositoryUtils.openFileContent(openConnection(), databaseFile.getPath());
+		} catch (Exception e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Gets the file content.
 	 *
@@ -306,19 +420,17 @@ public class DatabaseRepositoryDao {
 	public void renameFile(String path, String newPath) throws SQLException {
 		try {
 			Connection connection = null;
-			byte[] content = null;
 			try {
 				connection = openConnection();
 				DatabaseRepositoryUtils.moveFile(connection, path, newPath);
-				content = DatabaseRepositoryUtils.loadFile(connection, newPath);
 			} finally {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
-			if (content != null) {
-				createVersion(newPath, content);
-				removeVersions(path);
-			}
+			((DatabaseRepository) getRepository()).pathChanged(path);
+			((DatabaseRepository) getRepository()).pathChanged(newPath);
+			createVersion(newPath);
+			removeVersions(path);
 
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -334,19 +446,16 @@ public class DatabaseRepositoryDao {
 	 */
 	public void copyFile(String path, String newPath) throws SQLException {
 		try {
-			byte[] content = null;
 			Connection connection = null;
 			try {
 				connection = openConnection();
 				DatabaseRepositoryUtils.copyFile(connection, path, newPath);
-				content = DatabaseRepositoryUtils.loadFile(connection, newPath);
 			} finally {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
-			if (content != null) {
-				createVersion(newPath, content);
-			}
+			((DatabaseRepository) getRepository()).pathChanged(newPath);
+			createVersion(newPath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -368,6 +477,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).pathChanged(path);
 			removeVersions(path);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -390,6 +500,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).pathChanged(path);
 			removeVersions(path);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -434,6 +545,8 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).pathChanged(path);
+			((DatabaseRepository) getRepository()).pathChanged(newPath);
 			removeVersions(newPath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -461,6 +574,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).pathChanged(newPath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.database;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IResourceVersion;
+import org.eclipse.dirigible.repository.db.DatabaseRepository;
+import org.eclipse.dirigible.repository.db.DatabaseRepositoryUtils;
+import org.eclipse.dirigible.repository.generic.RepositoryGenericStreamTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class DatabaseRepositoryChunkedStreamTest.
+ */
+public class DatabaseRepositoryChunkedStreamTest extends RepositoryGenericStreamTest {
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		try {
+			Configuration.set(DatabaseRepositoryUtils.DIRIGIBLE_REPOSITORY_DATABASE_CONTENT_CHUNKED, "true");
+			Configuration.set(DatabaseRepositoryUtils.DIRIGIBLE_REPOSITORY_DATABASE_CONTENT_CHUNK_SIZE, "65536");
+			DataSource dataSource = DatabaseTestHelper.createDataSource("target/tests/derby");
+			repository = new DatabaseRepository(dataSource);
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		Configuration.remove(DatabaseRepositoryUtils.DIRIGIBLE_REPOSITORY_DATABASE_CONTENT_CHUNKED);
+		Configuration.remove(DatabaseRepositoryUtils.DIRIGIBLE_REPOSITORY_DATABASE_CONTENT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Test versions of chunked content.
+	 */
+	@Test
+	public void testChunkedVersions() {
+		try {
+			byte[] first = createContent(100 * 1024);
+			byte[] second = createContent(150 * 1024);
+			repository.getResource("/testCollection/toBeRemovedVersioned.bin").setContent(new ByteArrayInputStream(first), true, //$NON-NLS-1$
+					"application/octet-stream"); //$NON-NLS-1$
+			repository.getResource("/testCollection/toBeRemovedVersioned.bin").setContent(new ByteArrayInputStream(second), true, //$NON-NLS-1$
+					"application/octet-stream"); //$NON-NLS-1$
+			List<IResourceVersion> versions = ((DatabaseRepository) repository).getRepositoryDao()
+					.getResourceVersionsByPath("/testCollection/toBeRemovedVersioned.bin"); //$NON-NLS-1$
+			assertEquals(2, versions.size());
+			assertArrayEquals(first, versions.get(0).getContent());
+			assertArrayEquals(second, versions.get(1).getContent());
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		} finally {
+			repository.removeResource("/testCollection/toBeRemovedVersioned.bin"); //$NON-NLS-1$
+		}
+	}
+
+}
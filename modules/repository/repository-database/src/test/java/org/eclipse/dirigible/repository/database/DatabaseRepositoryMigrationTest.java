@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.db.DatabaseRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class DatabaseRepositoryMigrationTest.
+ */
+public class DatabaseRepositoryMigrationTest {
+
+	/** The data source. */
+	private DataSource dataSource;
+
+	/**
+	 * Creates a files table in the layout of the older versions, i.e. without the derived columns and the indices.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		dataSource = DatabaseTestHelper.createDataSource("target/tests/migration");
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("DROP TABLE IF EXISTS DIRIGIBLE_FILES");
+			statement.executeUpdate("CREATE TABLE DIRIGIBLE_FILES (FILE_PATH VARCHAR(255) NOT NULL PRIMARY KEY, FILE_NAME VARCHAR(255) NOT NULL, "
+					+ "FILE_TYPE TINYINT NOT NULL, FILE_CONTENT_TYPE VARCHAR(128), FILE_CREATED_AT BIGINT NOT NULL, FILE_CREATED_BY VARCHAR(255) NOT NULL, "
+					+ "FILE_MODIFIED_AT BIGINT NOT NULL, FILE_MODIFIED_BY VARCHAR(255) NOT NULL)");
+			insert(statement, "/testMigration", "testMigration", 0);
+			insert(statement, "/testMigration/folder", "folder", 0);
+			insert(statement, "/testMigration/folder/ReadMe.txt", "ReadMe.txt", 1);
+			insert(statement, "/testMigration/folder/nested", "nested", 0);
+			insert(statement, "/testMigration/folder/nested/readme.md", "readme.md", 1);
+		}
+	}
+
+	/**
+	 * Inserts a file in the old layout.
+	 *
+	 * @param statement the statement
+	 * @param path the path
+	 * @param name the name
+	 * @param type the type
+	 * @throws Exception the exception
+	 */
+	private static void insert(Statement statement, String path, String name, int type) throws Exception {
+		statement.executeUpdate("INSERT INTO DIRIGIBLE_FILES VALUES ('" + path + "', '" + name + "', " + type + ", NULL, 0, 'test', 0, 'test')");
+	}
+
+	/**
+	 * Test the listing and the search on a migrated table.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testMigration() throws Exception {
+		DatabaseRepository repository = new DatabaseRepository(dataSource);
+
+		ICollection folder = repository.getCollection("/testMigration/folder");
+		assertEquals(1, folder.getResourcesNames().size());
+		assertEquals("ReadMe.txt", folder.getResourcesNames().get(0));
+		assertEquals(1, folder.getCollectionsNames().size());
+		assertEquals("nested", folder.getCollectionsNames().get(0));
+
+		List<IEntity> found = repository.searchName("README", true);
+		assertEquals(2, found.size());
+		found = repository.searchName("/testMigration/folder/nested", "readme", false);
+		assertEquals(1, found.size());
+
+		repository.createResource("/testMigration/folder/another.txt", "another".getBytes());
+		assertEquals(2, folder.getResourcesNames().size());
+
+		Set<String> indices = new HashSet<String>();
+		try (Connection connection = dataSource.getConnection();
+				ResultSet resultSet = connection.getMetaData().getIndexInfo(null, null, "DIRIGIBLE_FILES", false, true)) {
+			while (resultSet.next()) {
+				indices.add(resultSet.getString("INDEX_NAME"));
+			}
+		}
+		assertTrue(indices.contains("DIRIGIBLE_FILES_PARENT_IDX"));
+		assertTrue(indices.contains("DIRIGIBLE_FILES_NAME_UPPER_IDX"));
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.zip.ZipInputStream;
 
 import org.apache.commons.io.FileUtils;
@@ -35,6 +36,7 @@ import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryChangeListener;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryExportException;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
@@ -94,6 +96,9 @@ public abstract class FileSystemRepository implements IRepository {
 	/** The parameters. */
 	private Map<String, String> parameters = Collections.synchronizedMap(new HashMap<>());
 
+	/** The change listeners. */
+	private final List<IRepositoryChangeListener> changeListeners = new CopyOnWriteArrayList<IRepositoryChangeListener>();
+
 	/**
 	 * Constructor with default root folder - user.dir and without database initialization
 	 *
@@ -897,4 +902,49 @@ public abstract class FileSystemRepository implements IRepository {
 		return LocalWorkspaceMapper.getMappedName(this, resourcePath);
 	}
 
+	/**
+	 * Adds a listener for the changes made through the repository.
+	 *
+	 * @param listener the listener
+	 */
+	@Override
+	public void addChangeListener(IRepositoryChangeListener listener) {
+		changeListeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener for the changes made through the repository.
+	 *
+	 * @param listener the listener
+	 */
+	@Override
+	public void removeChangeListener(IRepositoryChangeListener listener) {
+		changeListeners.remove(listener);
+	}
+
+	/**
+	 * Publishes a changed path to the search index and the change listeners.
+	 *
+	 * @param path the created, updated, renamed or removed path, either a repository or a workspace one
+	 */
+	public void pathChanged(String path) {
+		if (repositorySearcher == null && changeListeners.isEmpty()) {
+			return;
+		}
+		String repositoryName = path.startsWith(getRepositoryPath()) ? path.substring(getRepositoryPath().length()) : path;
+		if (!IRepository.SEPARATOR.contentEquals(File.separator)) {
+			repositoryName = repositoryName.replace(File.separator, IRepository.SEPARATOR);
+		}
+		repositoryName = new RepositoryPath(repositoryName).toString();
+		if (repositorySearcher != null) {
+			repositorySearcher.pathChanged(repositoryName);
+		}
+		for (IRepositoryChangeListener listener : changeListeners) {
+			try {
+				listener.pathChanged(repositoryName);
+			} catch (RuntimeException e) {
+				if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			}
+		}
+	}
 }
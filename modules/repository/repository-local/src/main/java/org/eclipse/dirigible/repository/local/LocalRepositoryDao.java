@@ -89,6 +89,7 @@ public class LocalRepositoryDao {
 			FileSystemUtils.saveFile(workspacePath, content);
 			cache.put(workspacePath, content);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(path);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -117,6 +118,7 @@ public class LocalRepositoryDao {
 			FileSystemUtils.saveFile(workspacePath, content);
 			cache.put(workspacePath, content);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(localFile.getPath());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -158,6 +160,8 @@ public class LocalRepositoryDao {
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
 			cache.remove(workspacePathOld);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(path);
+			getRepository().pathChanged(newPath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -178,6 +182,7 @@ public class LocalRepositoryDao {
 			FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
 			cache.remove(workspacePathOld);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(newPath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -195,6 +200,7 @@ public class LocalRepositoryDao {
 			FileSystemUtils.removeFile(workspacePath);
 			cache.remove(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(path);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -212,6 +218,7 @@ public class LocalRepositoryDao {
 			FileSystemUtils.removeFile(workspacePath);
 			cache.clear();
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(path);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -248,6 +255,8 @@ public class LocalRepositoryDao {
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
 			cache.clear();
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(path);
+			getRepository().pathChanged(newPath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -269,6 +278,7 @@ public class LocalRepositoryDao {
 			FileSystemUtils.copyFolder(workspacePathOld, workspacePathNew);
 			cache.clear();
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			getRepository().pathChanged(newPath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
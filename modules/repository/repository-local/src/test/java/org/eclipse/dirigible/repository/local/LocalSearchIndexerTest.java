@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.search.RepositorySearcher;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class LocalSearchIndexerTest.
+ */
+public class LocalSearchIndexerTest {
+
+	/** The Constant TIMEOUT in milliseconds. */
+	private static final long TIMEOUT = 15000;
+
+	/** The repository. */
+	private IRepository repository;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		try {
+			repository = new LocalRepository("target");
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Changes are indexed without an explicit refresh.
+	 *
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Test
+	public void testIndexChanges() throws InterruptedException {
+		try {
+			IResource resource = repository.createResource("/testCollectionIndexer/first.txt", "indexertoken alpha".getBytes()); //$NON-NLS-1$ //$NON-NLS-2$
+			awaitResults("indexertoken", "/testCollectionIndexer/first.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+
+			resource.setContent("indexertoken beta".getBytes()); //$NON-NLS-1$
+			awaitResults("beta", "/testCollectionIndexer/first.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			awaitResults("alpha"); //$NON-NLS-1$
+
+			repository.getCollection("/testCollectionIndexer").renameTo("testCollectionIndexerRenamed"); //$NON-NLS-1$ //$NON-NLS-2$
+			awaitResults("indexertoken", "/testCollectionIndexerRenamed/first.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+
+			repository.removeCollection("/testCollectionIndexerRenamed"); //$NON-NLS-1$
+			awaitResults("indexertoken"); //$NON-NLS-1$
+		} finally {
+			if (repository.hasCollection("/testCollectionIndexer")) { //$NON-NLS-1$
+				repository.removeCollection("/testCollectionIndexer"); //$NON-NLS-1$
+			}
+			if (repository.hasCollection("/testCollectionIndexerRenamed")) { //$NON-NLS-1$
+				repository.removeCollection("/testCollectionIndexerRenamed"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * The index is rebuilt after the changes overflowed the queue, so the lost removals are applied too.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testIndexOverflow() throws Exception {
+		Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_QUEUE_SIZE, "1");
+		try {
+			repository = new LocalRepository("target");
+			repository.createResource("/testCollectionOverflow/removed.txt", "overflowtoken".getBytes()); //$NON-NLS-1$ //$NON-NLS-2$
+			awaitResults("overflowtoken", "/testCollectionOverflow/removed.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+
+			for (int i = 0; i < 10; i++) {
+				repository.createResource("/testCollectionOverflow/added" + i + ".txt", "overflowadded".getBytes()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			repository.removeResource("/testCollectionOverflow/removed.txt"); //$NON-NLS-1$
+			awaitResults("overflowtoken"); //$NON-NLS-1$
+			assertEquals(10, search("overflowadded").size()); //$NON-NLS-1$
+		} finally {
+			Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_QUEUE_SIZE);
+			if (repository.hasCollection("/testCollectionOverflow")) { //$NON-NLS-1$
+				repository.removeCollection("/testCollectionOverflow"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Waits until the search for the term returns the expected paths.
+	 *
+	 * @param term the term
+	 * @param expected the expected paths
+	 * @throws InterruptedException the interrupted exception
+	 */
+	private void awaitResults(String term, String... expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		List<String> actual = search(term);
+		while (!actual.equals(Arrays.asList(expected)) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+			actual = search(term);
+		}
+		assertEquals(Arrays.asList(expected), actual);
+	}
+
+	/**
+	 * Search.
+	 *
+	 * @param term the term
+	 * @return the paths of the found resources
+	 */
+	private List<String> search(String term) {
+		return repository.searchText(term).stream().map(IEntity::getPath).collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * A long-lived Lucene index, holding a single writer and a near-real-time searcher manager.
+ * <p>
+ * Lucene allows only one writer per index directory, so the instances are shared among all the
+ * searchers pointing to the same location.
+ */
+class RepositoryIndex {
+
+	/** The opened indices by location. */
+	private static final Map<Path, RepositoryIndex> INDICES = new ConcurrentHashMap<>();
+
+	/** The directory. */
+	private final Directory directory;
+
+	/** The writer. */
+	private final IndexWriter writer;
+
+	/** The searcher manager. */
+	private final SearcherManager searcherManager;
+
+	/**
+	 * Instantiates a new repository index.
+	 *
+	 * @param location the location
+	 * @param analyzer the analyzer
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private RepositoryIndex(Path location, Analyzer analyzer) throws IOException {
+		this.directory = FSDirectory.open(location);
+		IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
+		iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+		this.writer = new IndexWriter(directory, iwc);
+		this.searcherManager = new SearcherManager(writer, null);
+	}
+
+	/**
+	 * Gets the index for the given location, opening it on first use.
+	 *
+	 * @param location the location
+	 * @param analyzer the analyzer used by the writer
+	 * @return the repository index
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	static RepositoryIndex get(Path location, Analyzer analyzer) throws IOException {
+		try {
+			return INDICES.computeIfAbsent(location.toAbsolutePath().normalize(), path -> {
+				try {
+					return new RepositoryIndex(path, analyzer);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Adds or replaces the document identified by the given term. The change becomes visible after {@link #commit()}.
+	 *
+	 * @param term the term identifying the document
+	 * @param document the document
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	void update(Term term, Document document) throws IOException {
+		writer.updateDocument(term, document);
+	}
+
+	/**
+	 * Deletes the documents identified by the given term. The change becomes visible after {@link #commit()}.
+	 *
+	 * @param term the term identifying the documents
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	void delete(Term term) throws IOException {
+		writer.deleteDocuments(term);
+	}
+
+	/**
+	 * Deletes the documents matching the given query. The change becomes visible after {@link #commit()}.
+	 *
+	 * @param query the query matching the documents
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	void delete(Query query) throws IOException {
+		writer.deleteDocuments(query);
+	}
+
+	/**
+	 * Deletes all the documents. The change becomes visible after {@link #commit()}.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	void deleteAll() throws IOException {
+		writer.deleteAll();
+	}
+
+	/**
+	 * Commits the pending changes, if any, and refreshes the searcher.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	void commit() throws IOException {
+		if (writer.hasUncommittedChanges()) {
+			writer.commit();
+			searcherManager.maybeRefreshBlocking();
+		}
+	}
+
+	/**
+	 * Acquires a searcher, which has to be released after use.
+	 *
+	 * @return the index searcher
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	IndexSearcher acquire() throws IOException {
+		return searcherManager.acquire();
+	}
+
+	/**
+	 * Releases a searcher.
+	 *
+	 * @param searcher the searcher
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	void release(IndexSearcher searcher) throws IOException {
+		searcherManager.release(searcher);
+	}
+
+}
@@ -20,10 +20,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -32,22 +36,18 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
@@ -72,6 +72,18 @@ public class RepositorySearcher {
 	/** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION. */
 	public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION"; //$NON-NLS-1$
 
+	/** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_INTERVAL in milliseconds. */
+	public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_INTERVAL = "DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_INTERVAL"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_QUEUE_SIZE. */
+	public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_QUEUE_SIZE = "DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_QUEUE_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_BATCH_SIZE. */
+	public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_BATCH_SIZE = "DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_BATCH_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL in seconds. */
+	public static final String DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL = "DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL"; //$NON-NLS-1$
+
 	/** The Constant CURRENT_DIR. */
 	private static final String CURRENT_DIR = ".";
 	
@@ -103,14 +115,23 @@ public class RepositorySearcher {
 	/** The timer. */
 	private Timer timer;
 
-	/** The seconds. */
-	private int seconds = 30;
-
 	/** The last updated. */
 	private Date lastUpdated = new Date(0);
 
-	/** The count updated. */
-	private volatile int countUpdated = 0;
+	/** The changed paths, waiting to be indexed. */
+	private final BlockingQueue<String> changes;
+
+	/** The max number of changed paths indexed in one commit. */
+	private final int batchSize;
+
+	/** Set when a change could not be queued, so that the next indexer run falls back to rebuilding the index. */
+	private volatile boolean overflow = false;
+
+	/** The analyzer. */
+	private final Analyzer analyzer = new StandardAnalyzer();
+
+	/** The reindex lock, serializing the reindex passes of this searcher. */
+	private final Object reindexLock = new Object();
 
 	/**
 	 * Instantiates a new repository searcher.
@@ -144,12 +165,19 @@ public class RepositorySearcher {
 
 		this.index = indexLocation;
 
-		timer = new Timer();
-		timer.schedule(new ReindexTask(), 30000, seconds * 1000);
+		this.changes = new LinkedBlockingQueue<>(Integer.parseInt(Configuration.get(DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_QUEUE_SIZE, "10000")));
+		this.batchSize = Integer.parseInt(Configuration.get(DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_BATCH_SIZE, "500"));
+		long indexerInterval = Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_SEARCH_INDEXER_INTERVAL, "1000"));
+		long reconcileInterval = Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL, "3600")) * 1000;
+
+		timer = new Timer("RepositorySearcher", true);
+		timer.schedule(new ReindexTask(), 30000, reconcileInterval);
+		timer.schedule(new IndexerTask(), indexerInterval, indexerInterval);
 	}
 
 	/**
-	 * The Class ReindexTask.
+	 * The reconciliation pass, indexing the resources modified since the last pass.
+	 * It catches the changes made outside of the repository API, e.g. by other nodes or directly on the file system.
 	 */
 	class ReindexTask extends TimerTask {
 		
@@ -158,19 +186,130 @@ public class RepositorySearcher {
 		 */
 		@Override
 		public void run() {
-			synchronized (RepositorySearcher.class) {
-				if (countUpdated > 30) {
-					countUpdated = 0;
-					lastUpdated = new Date(0);
-					if (logger.isTraceEnabled()) {logger.trace("Full reindexing of the Repository Content...");}
-				}
+			try {
 				reindex();
-				lastUpdated = new Date();
-				countUpdated++;
+			} catch (RuntimeException e) {
+				if (logger.isErrorEnabled()) {logger.error("Reindexing of the Repository Content failed", e);}
+			}
+		}
+	}
+
+	/**
+	 * The indexer, draining the changed paths in batches.
+	 */
+	class IndexerTask extends TimerTask {
+
+		/**
+		 * Run.
+		 */
+		@Override
+		public void run() {
+			try {
+				if (overflow) {
+					overflow = false;
+					changes.clear();
+					if (logger.isWarnEnabled()) {logger.warn("Too many Repository Content changes to be indexed one by one, rebuilding the index");}
+					rebuild();
+					return;
+				}
+				while (indexChanges() == batchSize) {
+					// keep draining until the queue is empty
+				}
+			} catch (RuntimeException e) {
+				if (logger.isErrorEnabled()) {logger.error("Indexing of the Repository Content changes failed", e);}
+			}
+		}
+	}
+
+	/**
+	 * Publishes a created, updated or removed file or folder to the index. Renamed entities are published with both
+	 * the old and the new path. The change is indexed asynchronously.
+	 *
+	 * @param path the repository path
+	 */
+	public void pathChanged(String path) {
+		if (!changes.offer(path)) {
+			overflow = true;
+		}
+	}
+
+	/**
+	 * Indexes a batch of the queued changes.
+	 *
+	 * @return the number of the processed changes
+	 */
+	private int indexChanges() {
+		synchronized (reindexLock) {
+			Set<String> paths = new LinkedHashSet<>();
+			String path;
+			int count = 0;
+			while (count < batchSize && (path = changes.poll()) != null) {
+				paths.add(path);
+				count++;
+			}
+			if (paths.isEmpty()) {
+				return 0;
+			}
+			long start = System.currentTimeMillis();
+			try {
+				RepositoryIndex repositoryIndex = getIndex();
+				for (String changed : paths) {
+					indexPath(repositoryIndex, changed);
+				}
+			} catch (IOException e) {
+				throw new RepositoryWriteException(e);
 			}
+			commit();
+			if (logger.isTraceEnabled()) {logger.trace("Indexing of " + paths.size() + " Repository Content changes finished in: " + (System.currentTimeMillis() - start) + "ms");}
+			return count;
+		}
+	}
+
+	/**
+	 * Brings the index in sync with the current state of a single path.
+	 *
+	 * @param repositoryIndex the repository index
+	 * @param path the path
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void indexPath(RepositoryIndex repositoryIndex, String path) throws IOException {
+		if (repository.hasResource(path)) {
+			addResource(repository.getResource(path));
+			return;
+		}
+		String prefix = path.endsWith(IRepository.SEPARATOR) ? path : path + IRepository.SEPARATOR;
+		repositoryIndex.delete(new Term(FIELD_LOCATION, path));
+		repositoryIndex.delete(new PrefixQuery(new Term(FIELD_LOCATION, prefix)));
+		if (repository.hasCollection(path)) {
+			addCollection(repository.getCollection(path));
+		}
+	}
+
+	/**
+	 * Adds all the resources of a collection recursively.
+	 *
+	 * @param collection the collection
+	 */
+	private void addCollection(ICollection collection) {
+		for (IResource resource : collection.getResources()) {
+			addResource(resource);
+		}
+		for (ICollection child : collection.getCollections()) {
+			addCollection(child);
 		}
 	}
 
+	/**
+	 * Adds a resource.
+	 *
+	 * @param resource the resource
+	 */
+	private void addResource(IResource resource) {
+		IEntityInformation information = resource.getInformation();
+		long modified = (information != null) && (information.getModifiedAt() != null) ? information.getModifiedAt().getTime() : System.currentTimeMillis();
+		add(resource.getPath(), resource.getContent(), modified, null);
+	}
+
 	/**
 	 * Adds the.
 	 *
@@ -182,38 +321,34 @@ public class RepositorySearcher {
 	 */
 	private void add(String location, byte[] contents, long lastModified, Map<String, String> parameters)
 			throws RepositoryWriteException {
-		String indexName = index;
-
 		try {
-			Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-			Analyzer analyzer = new StandardAnalyzer();
-			IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-			IndexWriter writer = null;
-			try {
-				writer = new IndexWriter(dir, iwc);
-				Document doc = new Document();
-				Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-				doc.add(pathField);
-				doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-				if (parameters != null) {
-					for (String key : parameters.keySet()) {
-						doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-					}
-				}
-				doc.add(new TextField(FIELD_CONTENTS, new BufferedReader(
-						new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-				writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-			} finally {
-				if (writer != null) {
-					writer.close();
+			Document doc = new Document();
+			Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+			doc.add(pathField);
+			doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+			if (parameters != null) {
+				for (String key : parameters.keySet()) {
+					doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
 				}
 			}
+			doc.add(new TextField(FIELD_CONTENTS, new BufferedReader(
+					new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
+			getIndex().update(new Term(FIELD_LOCATION, location), doc);
 		} catch (IOException e) {
 			throw new RepositoryWriteException(e);
 		}
 	}
 
+	/**
+	 * Gets the index, opening it on first use.
+	 *
+	 * @return the index
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private RepositoryIndex getIndex() throws IOException {
+		return RepositoryIndex.get(Paths.get(root + File.separator + index), analyzer);
+	}
+
 	/**
 	 * Search for a given term in the text files content.
 	 *
@@ -224,17 +359,12 @@ public class RepositorySearcher {
 	 */
 	public List<String> search(String term) throws RepositoryReadException {
 		List<String> results = new ArrayList<String>();
-		String indexName = index;
 
 		try {
-			Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-			IndexReader reader = null;
+			RepositoryIndex repositoryIndex = getIndex();
+			IndexSearcher searcher = repositoryIndex.acquire();
 			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Analyzer analyzer = new StandardAnalyzer();
-				String field = FIELD_CONTENTS;
-				QueryParser parser = new QueryParser(field, analyzer);
+				QueryParser parser = new QueryParser(FIELD_CONTENTS, analyzer);
 				Query query = parser.parse(term);
 				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
 				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
@@ -250,9 +380,7 @@ public class RepositorySearcher {
 
 				}
 			} finally {
-				if (reader != null) {
-					reader.close();
-				}
+				repositoryIndex.release(searcher);
 			}
 			return results;
 		} catch (IOException | ParseException e) {
@@ -264,20 +392,60 @@ public class RepositorySearcher {
 	 * Reindex.
 	 */
 	private void reindex() {
-		synchronized (RepositorySearcher.class) {
+		synchronized (reindexLock) {
 			long start = System.currentTimeMillis();
+			Date passStarted = new Date(start);
 			List<String> paths = repository.getAllResourcePaths();
+			int count = 0;
 			for (String path : paths) {
 				IResource resource = repository.getResource(path);
 				if ((resource != null) && (resource.getInformation() != null)
 						&& (resource.getInformation().getModifiedAt() != null)) {
 					if (lastUpdated.before(resource.getInformation().getModifiedAt())) {
 						add(path, resource.getContent(), resource.getInformation().getModifiedAt().getTime(), null);
+						count++;
 					}
 				}
 			}
+			commit();
+			lastUpdated = passStarted;
 			long end = System.currentTimeMillis();
-			if (logger.isTraceEnabled()) {logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");}
+			if (logger.isTraceEnabled()) {logger.trace("Reindexing of " + count + " Repository Content files finished in: " + (end - start) + "ms");}
+		}
+	}
+
+	/**
+	 * Commits the pending index changes in one go and makes them visible to the searches.
+	 *
+	 * @throws RepositoryWriteException the repository write exception
+	 */
+	private void commit() throws RepositoryWriteException {
+		try {
+			getIndex().commit();
+		} catch (IOException e) {
+			throw new RepositoryWriteException(e);
+		}
+	}
+
+	/**
+	 * Rebuilds the index from scratch, so that also the lost removals are applied. The index is replaced
+	 * with a single commit, hence the searches see either the old or the rebuilt one.
+	 */
+	private void rebuild() {
+		synchronized (reindexLock) {
+			try {
+				getIndex().deleteAll();
+			} catch (IOException e) {
+				throw new RepositoryWriteException(e);
+			}
+			this.lastUpdated = new Date(0);
+			try {
+				reindex();
+			} catch (RuntimeException e) {
+				// the pending deletion is committed by the next pass, so it has to be a rebuild as well
+				overflow = true;
+				throw e;
+			}
 		}
 	}
 
@@ -285,9 +453,8 @@ public class RepositorySearcher {
 	 * Force reindex.
 	 */
 	public void forceReindex() {
-		synchronized (RepositorySearcher.class) {
+		synchronized (reindexLock) {
 			this.lastUpdated = new Date(0);
-			this.countUpdated = 0;
 			reindex();
 		}
 	}
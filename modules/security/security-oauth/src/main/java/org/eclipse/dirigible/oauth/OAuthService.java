@@ -107,6 +107,12 @@ public class OAuthService extends AbstractRestService implements IRestService {
 	/** The Constant DIRIGIBLE_OAUTH_TOKEN_REQUEST_METHOD. */
 	public static final String DIRIGIBLE_OAUTH_TOKEN_REQUEST_METHOD = "DIRIGIBLE_OAUTH_TOKEN_REQUEST_METHOD";
 
+	/** The Constant DIRIGIBLE_OAUTH_TOKEN_CACHE_SIZE. */
+	public static final String DIRIGIBLE_OAUTH_TOKEN_CACHE_SIZE = "DIRIGIBLE_OAUTH_TOKEN_CACHE_SIZE";
+
+	/** The Constant DIRIGIBLE_OAUTH_TOKEN_CACHE_TTL. */
+	public static final String DIRIGIBLE_OAUTH_TOKEN_CACHE_TTL = "DIRIGIBLE_OAUTH_TOKEN_CACHE_TTL";
+
 	/**
 	 * Clone repository.
 	 *
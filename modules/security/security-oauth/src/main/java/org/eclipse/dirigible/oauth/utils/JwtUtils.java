@@ -21,13 +21,13 @@ import java.security.spec.X509EncodedKeySpec;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 
 import org.apache.commons.codec.binary.Base64;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
@@ -39,6 +39,7 @@ import org.slf4j.LoggerFactory;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Verification;
 import com.google.gson.annotations.SerializedName;
 
@@ -59,9 +60,6 @@ public class JwtUtils {
 	/** The Constant JWT_COOKIE_NAME. */
 	private static final String JWT_COOKIE_NAME = "jwt-cookie";
 	
-	/** The Constant JWT_SESSION_NAME. */
-	private static final String JWT_SESSION_NAME = "jwt-session";
-	
 	/** The Constant BASE64. */
 	private static final Base64 BASE64 = new Base64(true);
 	
@@ -80,6 +78,15 @@ public class JwtUtils {
 	/** The Constant SCOPE_SEPARATOR. */
 	private static final String SCOPE_SEPARATOR = ".";
 
+	/** The Constant DEFAULT_TOKEN_CACHE_SIZE. */
+	private static final int DEFAULT_TOKEN_CACHE_SIZE = 10000;
+
+	/** The Constant DEFAULT_TOKEN_CACHE_TTL in seconds. */
+	private static final int DEFAULT_TOKEN_CACHE_TTL = 300;
+
+	/** The verifier for the current configuration together with the tokens it has verified. */
+	private static final AtomicReference<CachedVerifier> VERIFIER = new AtomicReference<CachedVerifier>();
+
 	/**
 	 * Checks if is in role.
 	 *
@@ -583,28 +590,26 @@ public class JwtUtils {
 	}
 
 	/**
-	 * Checks if is valid jwt.
+	 * Checks if is valid jwt. The tokens with a verified signature are cached for a limited time,
+	 * so that the repeated requests with the same token are not verified again.
 	 *
 	 * @param request the request
 	 * @param token the token
 	 * @return true, if is valid jwt
 	 */
 	public static boolean isValidJwt(ServletRequest request, String token) {
-		boolean isValid = true;
-
-		String sessionToken = getSessionToken(request);
-		if (sessionToken == null || !sessionToken.equals(token)) {
-			try {
-				verifyJwt(token);
-				setSessionToken(request, token);
-			} catch (Exception e) {
-				isValid = false;
-				removeSessionToken(request);
-				if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+		try {
+			CachedVerifier cachedVerifier = getVerifier();
+			if (cachedVerifier.getTokens().isVerified(token)) {
+				return true;
 			}
+			DecodedJWT decoded = cachedVerifier.getVerifier().verify(token);
+			cachedVerifier.getTokens().add(token, decoded.getExpiresAt());
+			return true;
+		} catch (Exception e) {
+			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			return false;
 		}
-
-		return isValid;
 	}
 
 	/**
@@ -615,22 +620,61 @@ public class JwtUtils {
 	 * @throws GeneralSecurityException the general security exception
 	 */
 	public static void verifyJwt(String token) throws IOException, GeneralSecurityException {
+		getVerifier().getVerifier().verify(token);
+	}
+
+	/**
+	 * Gets the verifier for the current configuration, creating a new one only if the configuration has changed.
+	 *
+	 * @return the cached verifier
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	private static CachedVerifier getVerifier() throws IOException, GeneralSecurityException {
 		String verificationKey = OAuthUtils.getOAuthVerificationKey();
-		RSAPublicKey publicKey = getPublicKeyFromString(verificationKey);
+		String keyExponent = Configuration.get(OAuthService.DIRIGIBLE_OAUTH_VERIFICATION_KEY_EXPONENT);
+		boolean checkAudience = Boolean.parseBoolean(Configuration.get(OAuthService.DIRIGIBLE_OAUTH_CHECK_AUDIENCE_ENABLED, Boolean.TRUE.toString()));
+		boolean checkIssuer = Boolean.parseBoolean(Configuration.get(OAuthService.DIRIGIBLE_OAUTH_CHECK_ISSUER_ENABLED, Boolean.TRUE.toString()));
+		String audience = checkAudience ? OAuthUtils.getOAuthClientId() : null;
+		String[] issuers = checkIssuer ? new String[] {OAuthUtils.getOAuthTokenUrl(), OAuthUtils.getOAuthIssuer()} : null;
+		int cacheSize = Integer.parseInt(Configuration.get(OAuthService.DIRIGIBLE_OAUTH_TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE + ""));
+		long cacheTimeToLive = Long.parseLong(Configuration.get(OAuthService.DIRIGIBLE_OAUTH_TOKEN_CACHE_TTL, DEFAULT_TOKEN_CACHE_TTL + "")) * 1000;
+		String configuration = String.join("|", String.valueOf(verificationKey), String.valueOf(keyExponent), String.valueOf(audience),
+				issuers != null ? String.join(",", String.valueOf(issuers[0]), String.valueOf(issuers[1])) : "null",
+				String.valueOf(cacheSize), String.valueOf(cacheTimeToLive));
+
+		CachedVerifier cachedVerifier = VERIFIER.get();
+		if (cachedVerifier != null && cachedVerifier.getConfiguration().equals(configuration)) {
+			return cachedVerifier;
+		}
+
+		RSAPublicKey publicKey = getPublicKeyFromString(verificationKey, keyExponent);
 		Algorithm algorithm = Algorithm.RSA256(publicKey, null);
 		Verification verification = JWT.require(algorithm)
 				.acceptLeeway(1) // 1 sec for nbf and iat
 				.acceptExpiresAt(5); // 5 secs for exp
 
-		if (Boolean.parseBoolean(Configuration.get(OAuthService.DIRIGIBLE_OAUTH_CHECK_AUDIENCE_ENABLED, Boolean.TRUE.toString()))) {
-			verification.withAudience(OAuthUtils.getOAuthClientId());
+		if (audience != null) {
+			verification.withAudience(audience);
 		}
-		if (Boolean.parseBoolean(Configuration.get(OAuthService.DIRIGIBLE_OAUTH_CHECK_ISSUER_ENABLED, Boolean.TRUE.toString()))) {
-			verification.withIssuer(OAuthUtils.getOAuthTokenUrl(), OAuthUtils.getOAuthIssuer());
+		if (issuers != null) {
+			verification.withIssuer(issuers);
 		}
 
-		JWTVerifier verifier = verification.build();
-		verifier.verify(token);
+		CachedVerifier created = new CachedVerifier(configuration, verification.build(), new VerifiedTokenCache(cacheSize, cacheTimeToLive));
+		VERIFIER.set(created);
+		if (logger.isDebugEnabled()) {logger.debug("JWT verifier created for the current OAuth configuration");}
+		return created;
+	}
+
+	/**
+	 * Gets the tokens verified with the current configuration.
+	 *
+	 * @return the verified tokens or null, if no token has been verified yet
+	 */
+	static VerifiedTokenCache getVerifiedTokens() {
+		CachedVerifier cachedVerifier = VERIFIER.get();
+		return cachedVerifier != null ? cachedVerifier.getTokens() : null;
 	}
 
 	/**
@@ -648,61 +692,25 @@ public class JwtUtils {
 		boolean isExpired = currentTime >= expirantionTime;
 
 		if (isExpired) {
-			removeSessionToken(request);
+			CachedVerifier cachedVerifier = VERIFIER.get();
+			if (cachedVerifier != null) {
+				cachedVerifier.getTokens().remove(token);
+			}
 		}
 
 		return isExpired;
 	}
 
-	/**
-	 * Gets the session token.
-	 *
-	 * @param request the request
-	 * @return the session token
-	 */
-	private static String getSessionToken(ServletRequest request) {
-		String value = null;
-		HttpSession session = ((HttpServletRequest) request).getSession();
-		if (session != null) {
-			value = (String) session.getAttribute(JWT_SESSION_NAME);
-		}
-		return value;
-	}
-
-	/**
-	 * Sets the session token.
-	 *
-	 * @param request the request
-	 * @param value the value
-	 */
-	private static void setSessionToken(ServletRequest request, String value) {
-		HttpSession session = ((HttpServletRequest) request).getSession();
-		if (session != null) {
-			session.setAttribute(JWT_SESSION_NAME, value);
-		}
-	}
-
-	/**
-	 * Removes the session token.
-	 *
-	 * @param request the request
-	 */
-	private static void removeSessionToken(ServletRequest request) {
-		HttpSession session = ((HttpServletRequest) request).getSession();
-		if (session != null) {
-			session.removeAttribute(JWT_SESSION_NAME);
-		}
-	}
-
 	/**
 	 * Gets the public key from string.
 	 *
 	 * @param key the key
+	 * @param keyExponent the key exponent, if the key is a modulus
 	 * @return the public key from string
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 * @throws GeneralSecurityException the general security exception
 	 */
-	private static RSAPublicKey getPublicKeyFromString(String key) throws IOException, GeneralSecurityException {
+	private static RSAPublicKey getPublicKeyFromString(String key, String keyExponent) throws IOException, GeneralSecurityException {
 		RSAPublicKey publicKey = null;
 		KeyFactory kf = KeyFactory.getInstance("RSA");
 
@@ -710,7 +718,6 @@ public class JwtUtils {
 				.replace("-----BEGIN PUBLIC KEY-----", "") //
 				.replace("-----END PUBLIC KEY-----", "");
 
-		String keyExponent = Configuration.get(OAuthService.DIRIGIBLE_OAUTH_VERIFICATION_KEY_EXPONENT);
 		if (keyExponent != null) {
 			BigInteger modulus = new BigInteger(1, BASE64.decode(publicKeyPEM));
 			BigInteger exponent = new BigInteger(1, BASE64.decode(keyExponent));
@@ -721,4 +728,59 @@ public class JwtUtils {
 
 		return publicKey;
 	}
+
+	/**
+	 * The verifier built for a configuration and the tokens verified by it.
+	 */
+	private static class CachedVerifier {
+
+		/** The configuration. */
+		private final String configuration;
+
+		/** The verifier. */
+		private final JWTVerifier verifier;
+
+		/** The verified tokens. */
+		private final VerifiedTokenCache tokens;
+
+		/**
+		 * Instantiates a new cached verifier.
+		 *
+		 * @param configuration the configuration
+		 * @param verifier the verifier
+		 * @param tokens the verified tokens
+		 */
+		CachedVerifier(String configuration, JWTVerifier verifier, VerifiedTokenCache tokens) {
+			this.configuration = configuration;
+			this.verifier = verifier;
+			this.tokens = tokens;
+		}
+
+		/**
+		 * Gets the configuration.
+		 *
+		 * @return the configuration
+		 */
+		String getConfiguration() {
+			return configuration;
+		}
+
+		/**
+		 * Gets the verifier.
+		 *
+		 * @return the verifier
+		 */
+		JWTVerifier getVerifier() {
+			return verifier;
+		}
+
+		/**
+		 * Gets the verified tokens.
+		 *
+		 * @return the verified tokens
+		 */
+		VerifiedTokenCache getTokens() {
+			return tokens;
+		}
+	}
 }
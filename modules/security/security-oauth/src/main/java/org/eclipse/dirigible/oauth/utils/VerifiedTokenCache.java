@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.oauth.utils;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Bounded cache of the tokens with a verified signature. The tokens are kept by their SHA-256 hash
+ * until the configured time to live, but not longer than their own expiration time.
+ * A full cache evicts the least recently used token.
+ */
+public class VerifiedTokenCache {
+
+	/** The expiration times per token hash, in access order. */
+	private final Map<String, Long> tokens;
+
+	/** The max size. */
+	private final int maxSize;
+
+	/** The time to live in milliseconds. */
+	private final long timeToLive;
+
+	/**
+	 * Instantiates a new verified token cache.
+	 *
+	 * @param maxSize the max size
+	 * @param timeToLive the time to live in milliseconds
+	 */
+	public VerifiedTokenCache(int maxSize, long timeToLive) {
+		this.maxSize = maxSize;
+		this.timeToLive = timeToLive;
+		this.tokens = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > VerifiedTokenCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Checks whether the token has been verified and has not expired since.
+	 *
+	 * @param token the token
+	 * @return true, if verified
+	 */
+	public synchronized boolean isVerified(String token) {
+		String hash = DigestUtils.sha256Hex(token);
+		Long expiresAt = tokens.get(hash);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt <= System.currentTimeMillis()) {
+			tokens.remove(hash);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a verified token, evicting the least recently used one, if the cache is full.
+	 *
+	 * @param token the token
+	 * @param tokenExpiresAt the expiration time of the token, if any
+	 */
+	public synchronized void add(String token, Date tokenExpiresAt) {
+		long now = System.currentTimeMillis();
+		long expiresAt = now + timeToLive;
+		if (tokenExpiresAt != null) {
+			expiresAt = Math.min(expiresAt, tokenExpiresAt.getTime());
+		}
+		if (expiresAt <= now || maxSize <= 0) {
+			return;
+		}
+		tokens.put(DigestUtils.sha256Hex(token), expiresAt);
+	}
+
+	/**
+	 * Removes the token.
+	 *
+	 * @param token the token
+	 */
+	public synchronized void remove(String token) {
+		tokens.remove(DigestUtils.sha256Hex(token));
+	}
+
+	/**
+	 * Gets the number of the cached tokens.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return tokens.size();
+	}
+
+}
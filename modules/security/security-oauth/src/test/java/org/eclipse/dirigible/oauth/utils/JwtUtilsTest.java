@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.oauth.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.oauth.OAuthService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+
+/**
+ * The Class JwtUtilsTest.
+ */
+public class JwtUtilsTest {
+
+	/** The algorithm signing the tokens. */
+	private Algorithm algorithm;
+
+	/**
+	 * Configures the verification key of a generated key pair.
+	 *
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	@Before
+	public void setUp() throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		algorithm = Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+		Configuration.set(OAuthService.DIRIGIBLE_OAUTH_VERIFICATION_KEY, Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+		Configuration.set(OAuthService.DIRIGIBLE_OAUTH_CHECK_AUDIENCE_ENABLED, Boolean.FALSE.toString());
+		Configuration.set(OAuthService.DIRIGIBLE_OAUTH_CHECK_ISSUER_ENABLED, Boolean.FALSE.toString());
+	}
+
+	/**
+	 * Removes the configuration.
+	 */
+	@After
+	public void tearDown() {
+		Configuration.remove(OAuthService.DIRIGIBLE_OAUTH_VERIFICATION_KEY);
+		Configuration.remove(OAuthService.DIRIGIBLE_OAUTH_CHECK_AUDIENCE_ENABLED);
+		Configuration.remove(OAuthService.DIRIGIBLE_OAUTH_CHECK_ISSUER_ENABLED);
+		Configuration.remove(OAuthService.DIRIGIBLE_OAUTH_TOKEN_CACHE_SIZE);
+		Configuration.remove(OAuthService.DIRIGIBLE_OAUTH_TOKEN_CACHE_TTL);
+	}
+
+	/**
+	 * A valid token is cached after its verification.
+	 */
+	@Test
+	public void validTest() {
+		String token = createToken(new Date(System.currentTimeMillis() + 60000));
+		assertTrue(JwtUtils.isValidJwt(null, token));
+		assertTrue(JwtUtils.getVerifiedTokens().isVerified(token));
+		assertTrue(JwtUtils.isValidJwt(null, token));
+	}
+
+	/**
+	 * A token with a modified payload is not served from the cache of the original one.
+	 */
+	@Test
+	public void tamperedTest() {
+		String token = createToken(new Date(System.currentTimeMillis() + 60000));
+		assertTrue(JwtUtils.isValidJwt(null, token));
+		String[] parts = token.split("\\.");
+		String payload = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"sub\":\"admin\"}".getBytes());
+		String tampered = parts[0] + "." + payload + "." + parts[2];
+		assertFalse(JwtUtils.isValidJwt(null, tampered));
+		assertFalse(JwtUtils.getVerifiedTokens().isVerified(tampered));
+	}
+
+	/**
+	 * An expired token is neither valid nor cached.
+	 */
+	@Test
+	public void expiredTest() {
+		String token = createToken(new Date(System.currentTimeMillis() - 60000));
+		assertFalse(JwtUtils.isValidJwt(null, token));
+		assertFalse(JwtUtils.getVerifiedTokens().isVerified(token));
+	}
+
+	/**
+	 * A changed configuration of the cache rebuilds the verifier with an empty cache.
+	 */
+	@Test
+	public void configurationTest() {
+		String token = createToken(new Date(System.currentTimeMillis() + 60000));
+		assertTrue(JwtUtils.isValidJwt(null, token));
+		VerifiedTokenCache tokens = JwtUtils.getVerifiedTokens();
+		assertTrue(JwtUtils.isValidJwt(null, token));
+		assertSame(tokens, JwtUtils.getVerifiedTokens());
+
+		Configuration.set(OAuthService.DIRIGIBLE_OAUTH_TOKEN_CACHE_TTL, "60");
+		assertTrue(JwtUtils.isValidJwt(null, token));
+		assertNotSame(tokens, JwtUtils.getVerifiedTokens());
+		tokens = JwtUtils.getVerifiedTokens();
+		assertEquals(1, tokens.size());
+
+		Configuration.set(OAuthService.DIRIGIBLE_OAUTH_TOKEN_CACHE_SIZE, "0");
+		assertTrue(JwtUtils.isValidJwt(null, token));
+		assertNotSame(tokens, JwtUtils.getVerifiedTokens());
+		assertEquals(0, JwtUtils.getVerifiedTokens().size());
+	}
+
+	/**
+	 * Creates a signed token.
+	 *
+	 * @param expiresAt the expiration time
+	 * @return the token
+	 */
+	private String createToken(Date expiresAt) {
+		return JWT.create().withSubject("user").withExpiresAt(expiresAt).sign(algorithm);
+	}
+
+}
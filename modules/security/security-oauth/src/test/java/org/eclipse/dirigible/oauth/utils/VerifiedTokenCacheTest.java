@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.oauth.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+/**
+ * The Class VerifiedTokenCacheTest.
+ */
+public class VerifiedTokenCacheTest {
+
+	/**
+	 * A token is verified until the time to live.
+	 *
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Test
+	public void timeToLiveTest() throws InterruptedException {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 100);
+		cache.add("token", null);
+		assertTrue(cache.isVerified("token"));
+		Thread.sleep(200);
+		assertFalse(cache.isVerified("token"));
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * The time to live of a token is capped by its expiration time.
+	 *
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Test
+	public void expirationTest() throws InterruptedException {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 60000);
+		cache.add("token", new Date(System.currentTimeMillis() + 100));
+		assertTrue(cache.isVerified("token"));
+		Thread.sleep(200);
+		assertFalse(cache.isVerified("token"));
+	}
+
+	/**
+	 * An already expired token is not cached.
+	 */
+	@Test
+	public void expiredTest() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 60000);
+		cache.add("token", new Date(System.currentTimeMillis() - 1000));
+		assertFalse(cache.isVerified("token"));
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * A full cache evicts the least recently used token.
+	 */
+	@Test
+	public void evictionTest() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(2, 60000);
+		cache.add("first", null);
+		cache.add("second", null);
+		assertTrue(cache.isVerified("first"));
+		cache.add("third", null);
+		assertEquals(2, cache.size());
+		assertTrue(cache.isVerified("first"));
+		assertFalse(cache.isVerified("second"));
+		assertTrue(cache.isVerified("third"));
+	}
+
+	/**
+	 * A removed token is not verified anymore.
+	 */
+	@Test
+	public void removeTest() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 60000);
+		cache.add("token", null);
+		cache.remove("token");
+		assertFalse(cache.isVerified("token"));
+	}
+
+}
@@ -205,6 +205,16 @@ public class OpenAPISynchronizer extends AbstractSynchronizer {
 		if (logger.isTraceEnabled()) {logger.trace("Done synchronizing OpenAPI from Registry.");}
 	}
 
+	/**
+	 * Gets the file extensions.
+	 *
+	 * @return the file extensions
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IOpenAPICoreService.FILE_EXTENSION_OPENAPI };
+	}
+
 	/**
 	 * Synchronize resource.
 	 *
@@ -19,8 +19,8 @@ import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
  */
 public class OpenAPISynchronizerJob extends AbstractSynchronizerJob {
 
-	/** The open API synchronizer. */
-	private OpenAPISynchronizer openAPISynchronizer = new OpenAPISynchronizer();
+	/** The open API synchronizer, shared by the runs of the job. */
+	private static final OpenAPISynchronizer openAPISynchronizer = new OpenAPISynchronizer();
 
 	/**
 	 * Gets the synchronizer.
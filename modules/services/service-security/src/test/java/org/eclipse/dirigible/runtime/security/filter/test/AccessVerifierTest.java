@@ -103,4 +103,37 @@ public class AccessVerifierTest extends AbstractDirigibleTest {
 		securityCoreService.removeRole("test_role3");
 	}
 
+	/**
+	 * Matching after a change of the access definitions.
+	 *
+	 * @throws AccessException
+	 *             the access exception
+	 * @throws ServletException
+	 *             the servlet exception
+	 */
+	@Test
+	public void matchAfterChange() throws AccessException, ServletException {
+		securityCoreService.createAccessDefinition("/abc/my.access", "HTTP", "/m/n", "POST", "test_role1", "Test", "1234");
+
+		List<AccessDefinition> matchingAccessDefinitions = AccessVerifier.getMatchingAccessDefinitions(securityCoreService, "HTTP", "/m/n/o", "GET");
+		assertTrue(matchingAccessDefinitions.isEmpty());
+		matchingAccessDefinitions = AccessVerifier.getMatchingAccessDefinitions(securityCoreService, "http", "/m/n/o", "POST");
+		assertEquals(1, matchingAccessDefinitions.size());
+		matchingAccessDefinitions = AccessVerifier.getMatchingAccessDefinitions(securityCoreService, "CMIS", "/m/n/o", "POST");
+		assertTrue(matchingAccessDefinitions.isEmpty());
+
+		securityCoreService.createAccessDefinition("/abc/my.access", "HTTP", "/m/n/o", "*", "test_role2", "Test", "1234");
+
+		matchingAccessDefinitions = AccessVerifier.getMatchingAccessDefinitions(securityCoreService, "HTTP", "/m/n/o", "GET");
+		assertEquals(1, matchingAccessDefinitions.size());
+		assertEquals("test_role2", matchingAccessDefinitions.get(0).getRole());
+		matchingAccessDefinitions = AccessVerifier.getMatchingAccessDefinitions(securityCoreService, "HTTP", "/m/n/p", "POST");
+		assertEquals("test_role1", matchingAccessDefinitions.get(0).getRole());
+
+		securityCoreService.deleteAccessDefinitionsByLocation("/abc/my.access");
+
+		matchingAccessDefinitions = AccessVerifier.getMatchingAccessDefinitions(securityCoreService, "HTTP", "/m/n/o", "POST");
+		assertTrue(matchingAccessDefinitions.isEmpty());
+	}
+
 }
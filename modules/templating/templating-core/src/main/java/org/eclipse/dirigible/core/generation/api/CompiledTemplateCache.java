@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.generation.api;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.repository.api.IRepository;
+
+/**
+ * Bounded cache of compiled templates used by the generation engines.
+ * <p>
+ * The entries are keyed by the location, the engine specific variant (e.g. the delimiters) and the exact content
+ * of the template, so a changed template is always compiled again. The least recently used entries are evicted
+ * when the capacity is reached and all the entries are dropped, when the repository has been modified since
+ * they have been compiled.
+ *
+ * @param <T> the type of the compiled template
+ */
+public class CompiledTemplateCache<T> {
+
+	/** The maximum number of the compiled templates per engine, 0 disables the cache. */
+	public static final String DIRIGIBLE_TEMPLATING_CACHE_SIZE = "DIRIGIBLE_TEMPLATING_CACHE_SIZE";
+
+	/** The Constant DEFAULT_CACHE_SIZE. */
+	private static final int DEFAULT_CACHE_SIZE = 256;
+
+	/** The capacity. */
+	private final int capacity;
+
+	/** The compiled templates in access order. */
+	private final Map<TemplateKey, T> templates;
+
+	/** The last modified time of the repository the entries have been compiled at. */
+	private long repositoryLastModified = -1;
+
+	/**
+	 * Instantiates a new compiled template cache with the configured capacity.
+	 */
+	public CompiledTemplateCache() {
+		this(Integer.parseInt(Configuration.get(DIRIGIBLE_TEMPLATING_CACHE_SIZE, DEFAULT_CACHE_SIZE + "")));
+	}
+
+	/**
+	 * Instantiates a new compiled template cache.
+	 *
+	 * @param capacity the maximum number of the compiled templates, 0 disables the cache
+	 */
+	public CompiledTemplateCache(int capacity) {
+		this.capacity = capacity;
+		this.templates = new LinkedHashMap<TemplateKey, T>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<TemplateKey, T> eldest) {
+				return size() > CompiledTemplateCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Gets the compiled template or compiles and caches it.
+	 *
+	 * @param location the location
+	 * @param variant the engine specific variant, e.g. the delimiters
+	 * @param content the content of the template
+	 * @param compiler the compiler
+	 * @return the compiled template
+	 * @throws IOException in case the template cannot be compiled
+	 */
+	public T get(String location, String variant, byte[] content, TemplateCompiler<T> compiler) throws IOException {
+		if (capacity <= 0) {
+			return compiler.compile();
+		}
+		long lastModified = getRepositoryLastModified();
+		TemplateKey key = new TemplateKey(location, variant, content);
+		synchronized (templates) {
+			if (lastModified != repositoryLastModified) {
+				templates.clear();
+				repositoryLastModified = lastModified;
+			}
+			T template = templates.get(key);
+			if (template != null) {
+				return template;
+			}
+		}
+		T template = compiler.compile();
+		synchronized (templates) {
+			if (lastModified == repositoryLastModified) {
+				templates.put(new TemplateKey(location, variant, content.clone()), template);
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Removes the compiled templates of a location.
+	 *
+	 * @param location the location
+	 */
+	public void invalidate(String location) {
+		synchronized (templates) {
+			Iterator<TemplateKey> iterator = templates.keySet().iterator();
+			while (iterator.hasNext()) {
+				if (Objects.equals(iterator.next().location, location)) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all the compiled templates.
+	 */
+	public void clear() {
+		synchronized (templates) {
+			templates.clear();
+		}
+	}
+
+	/**
+	 * Gets the number of the compiled templates.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		synchronized (templates) {
+			return templates.size();
+		}
+	}
+
+	/**
+	 * Gets the last modified time of the repository or 0 if there is none.
+	 *
+	 * @return the last modified time
+	 */
+	private static long getRepositoryLastModified() {
+		if (!StaticObjects.exists(StaticObjects.REPOSITORY)) {
+			return 0;
+		}
+		Object repository = StaticObjects.get(StaticObjects.REPOSITORY);
+		return repository instanceof IRepository ? ((IRepository) repository).getLastModified() : 0;
+	}
+
+	/**
+	 * Compiles a template.
+	 *
+	 * @param <T> the type of the compiled template
+	 */
+	@FunctionalInterface
+	public interface TemplateCompiler<T> {
+
+		/**
+		 * Compiles the template.
+		 *
+		 * @return the compiled template
+		 * @throws IOException in case the template cannot be compiled
+		 */
+		T compile() throws IOException;
+
+	}
+
+	/**
+	 * The key of a compiled template.
+	 */
+	private static final class TemplateKey {
+
+		/** The location. */
+		private final String location;
+
+		/** The variant. */
+		private final String variant;
+
+		/** The content. */
+		private final byte[] content;
+
+		/** The hash code. */
+		private final int hash;
+
+		/**
+		 * Instantiates a new template key.
+		 *
+		 * @param location the location
+		 * @param variant the variant
+		 * @param content the content
+		 */
+		TemplateKey(String location, String variant, byte[] content) {
+			this.location = location;
+			this.variant = variant;
+			this.content = content;
+			this.hash = 31 * Objects.hash(location, variant) + Arrays.hashCode(content);
+		}
+
+		/**
+		 * Hash code.
+		 *
+		 * @return the hash code
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * Equals.
+		 *
+		 * @param obj the other object
+		 * @return true, if the location, the variant and the content are equal
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof TemplateKey)) {
+				return false;
+			}
+			TemplateKey other = (TemplateKey) obj;
+			return hash == other.hash && Objects.equals(location, other.location) && Objects.equals(variant, other.variant)
+					&& Arrays.equals(content, other.content);
+		}
+	}
+
+}
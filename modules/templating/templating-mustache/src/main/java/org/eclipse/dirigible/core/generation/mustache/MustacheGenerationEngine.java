@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.CompiledTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 
 import com.github.mustachejava.DefaultMustacheFactory;
@@ -44,7 +45,29 @@ public class MustacheGenerationEngine implements IGenerationEngine {
 	
 	/** The Constant MUSTACHE_DEFAULT_END_SYMBOL. */
 	private static final String MUSTACHE_DEFAULT_END_SYMBOL = "}}";
-	
+
+	/** The mustache factory. */
+	private final DefaultMustacheFactory mustacheFactory = new DefaultMustacheFactory();
+
+	/** The compiled templates. */
+	private final CompiledTemplateCache<Mustache> templates;
+
+	/**
+	 * Instantiates a new mustache generation engine.
+	 */
+	public MustacheGenerationEngine() {
+		this(new CompiledTemplateCache<Mustache>());
+	}
+
+	/**
+	 * Instantiates a new mustache generation engine.
+	 *
+	 * @param templates the cache of the compiled templates
+	 */
+	public MustacheGenerationEngine(CompiledTemplateCache<Mustache> templates) {
+		this.templates = templates;
+	}
+
 	/**
 	 * Gets the name.
 	 *
@@ -88,8 +111,10 @@ public class MustacheGenerationEngine implements IGenerationEngine {
 		decorateParameters(parameters);
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-		DefaultMustacheFactory defaultMustacheFactory = new DefaultMustacheFactory();
-		Mustache mustache = defaultMustacheFactory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8), location, sm, em);
+		String start = sm;
+		String end = em;
+		Mustache mustache = templates.get(location, sm + em, input,
+				() -> mustacheFactory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8), location, start, end));
 		mustache.execute(writer, parameters);
 		writer.flush();
 		return baos.toByteArray();
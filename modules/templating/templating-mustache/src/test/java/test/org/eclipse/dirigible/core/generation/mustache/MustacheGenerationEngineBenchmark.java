@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package test.org.eclipse.dirigible.core.generation.mustache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.core.generation.api.CompiledTemplateCache;
+import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
+import org.eclipse.dirigible.core.generation.mustache.MustacheGenerationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.mustachejava.Mustache;
+
+/**
+ * Measures the latency of a single render of the {@link MustacheGenerationEngine} with and without the cache of
+ * the compiled templates. It is not part of the unit tests, run it with the main method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MustacheGenerationEngineBenchmark {
+
+	/** The Constant TEMPLATE. */
+	private static final byte[] TEMPLATE = "<h1>{{title}}</h1>\n<ul>\n{{#items}}  <li>{{name}}: {{value}}</li>\n{{/items}}</ul>\n".getBytes();
+
+	/** The cache size, 0 disables the cache. */
+	@Param({"0", "256"})
+	private int cacheSize;
+
+	/** The generation engine. */
+	private IGenerationEngine generationEngine;
+
+	/**
+	 * Creates the engine.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		generationEngine = new MustacheGenerationEngine(new CompiledTemplateCache<Mustache>(cacheSize));
+	}
+
+	/**
+	 * Render.
+	 *
+	 * @return the result
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public byte[] render() throws IOException {
+		return generationEngine.generate(createParameters(), "/benchmark/template", TEMPLATE);
+	}
+
+	/**
+	 * Creates the parameters.
+	 *
+	 * @return the parameters
+	 */
+	private static Map<String, Object> createParameters() {
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("title", "Benchmark");
+		List<Map<String, Object>> items = new ArrayList<Map<String, Object>>();
+		for (int i = 0; i < 10; i++) {
+			Map<String, Object> item = new HashMap<String, Object>();
+			item.put("name", "name" + i);
+			item.put("value", i);
+			items.add(item);
+		}
+		parameters.put("items", items);
+		return parameters;
+	}
+
+	/**
+	 * The main method.
+	 *
+	 * @param args the arguments
+	 * @throws RunnerException the runner exception
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MustacheGenerationEngineBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
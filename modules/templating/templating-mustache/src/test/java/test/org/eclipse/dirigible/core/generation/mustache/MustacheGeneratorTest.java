@@ -18,10 +18,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.CompiledTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 import org.eclipse.dirigible.core.generation.mustache.MustacheGenerationEngine;
 import org.junit.Test;
 
+import com.github.mustachejava.Mustache;
 import com.github.mustachejava.util.DecoratedCollection;
 
 /**
@@ -145,4 +147,25 @@ public class MustacheGeneratorTest {
 		byte[] result = generationEngine.generate(parameters, "/location", "test {{#elements_}}{{#value.properties_}}{{value.table}}{{^last}}, {{/last}}{{/value.properties_}}{{/elements_}}".getBytes(), "{{", "}}");
 		assertEquals("test table1, table2", new String(result));
 	}
+
+	/**
+	 * Generate with a cached template.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void generateCached() throws IOException {
+		CompiledTemplateCache<Mustache> templates = new CompiledTemplateCache<Mustache>(16);
+		IGenerationEngine generationEngine = new MustacheGenerationEngine(templates);
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("testParameter", "testValue");
+		assertEquals("test testValue", new String(generationEngine.generate(parameters, "/location", "test {{testParameter}}".getBytes())));
+		parameters.put("testParameter", "otherValue");
+		assertEquals("test otherValue", new String(generationEngine.generate(parameters, "/location", "test {{testParameter}}".getBytes())));
+		assertEquals(1, templates.size());
+		assertEquals("test otherValue", new String(generationEngine.generate(parameters, "/location", "test [[testParameter]]".getBytes(), "[[", "]]")));
+		assertEquals(2, templates.size());
+		templates.clear();
+		assertEquals(0, templates.size());
+	}
 }
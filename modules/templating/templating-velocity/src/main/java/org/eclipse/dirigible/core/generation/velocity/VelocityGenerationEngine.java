@@ -21,8 +21,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.eclipse.dirigible.core.generation.api.CompiledTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 
 /**
@@ -34,13 +36,26 @@ public class VelocityGenerationEngine implements IGenerationEngine {
 	public static final String ENGINE_NAME = "velocity";
 	
 	/** The engine. */
-	private VelocityEngine engine;
+	private RuntimeInstance engine;
+
+	/** The compiled templates. */
+	private final CompiledTemplateCache<Template> templates;
 
 	/**
 	 * Instantiates a new velocity generation engine.
 	 */
 	public VelocityGenerationEngine() {
-		engine = new VelocityEngine();
+		this(new CompiledTemplateCache<Template>());
+	}
+
+	/**
+	 * Instantiates a new velocity generation engine.
+	 *
+	 * @param templates the cache of the compiled templates
+	 */
+	public VelocityGenerationEngine(CompiledTemplateCache<Template> templates) {
+		this.templates = templates;
+		engine = new RuntimeInstance();
 		try {
 			engine.init();
 		} catch (Throwable e) {
@@ -90,21 +105,36 @@ public class VelocityGenerationEngine implements IGenerationEngine {
 			throws IOException {
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-		ByteArrayInputStream in = new ByteArrayInputStream(input);
+		Template template = templates.get(location, null, input, () -> compile(location, input));
 		try {
 			final VelocityContext context = new VelocityContext();
 			prepareContextData(parameters, context);
-			engine.evaluate(context, writer, location, new InputStreamReader(in, StandardCharsets.UTF_8));
+			template.merge(context, writer);
 			writer.flush();
 			return baos.toByteArray();
 		} catch (Exception ex) {
 			throw new IOException("Could not evaluate template by Velocity [" + location + "]: " + ex.getMessage(), ex);
-		} finally {
-			try {
-				in.close();
-			} catch (IOException e) {
-				// do nothing
-			}
+		}
+	}
+
+	/**
+	 * Parses the template and initializes its nodes, so that it can be merged concurrently.
+	 *
+	 * @param location the location
+	 * @param input the input
+	 * @return the template
+	 * @throws IOException Signals that the template cannot be parsed.
+	 */
+	private Template compile(String location, byte[] input) throws IOException {
+		try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8)) {
+			Template template = new Template();
+			template.setName(location);
+			template.setRuntimeServices(engine);
+			template.setData(engine.parse(reader, template));
+			template.initDocument();
+			return template;
+		} catch (Exception ex) {
+			throw new IOException("Could not evaluate template by Velocity [" + location + "]: " + ex.getMessage(), ex);
 		}
 	}
 	
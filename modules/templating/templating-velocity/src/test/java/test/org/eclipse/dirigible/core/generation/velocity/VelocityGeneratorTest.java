@@ -17,6 +17,8 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.velocity.Template;
+import org.eclipse.dirigible.core.generation.api.CompiledTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 import org.eclipse.dirigible.core.generation.velocity.VelocityGenerationEngine;
 import org.junit.Test;
@@ -40,4 +42,25 @@ public class VelocityGeneratorTest {
 		assertEquals("test testValue", new String(result));
 	}
 
+	/**
+	 * Generate with a cached template.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void generateCached() throws IOException {
+		CompiledTemplateCache<Template> templates = new CompiledTemplateCache<Template>(16);
+		IGenerationEngine generationEngine = new VelocityGenerationEngine(templates);
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("testParameter", "testValue");
+		assertEquals("test testValue", new String(generationEngine.generate(parameters, "/location", "test $testParameter".getBytes())));
+		parameters.put("testParameter", "otherValue");
+		assertEquals("test otherValue", new String(generationEngine.generate(parameters, "/location", "test $testParameter".getBytes())));
+		assertEquals(1, templates.size());
+		assertEquals("changed otherValue", new String(generationEngine.generate(parameters, "/location", "changed $testParameter".getBytes())));
+		assertEquals(2, templates.size());
+		templates.invalidate("/location");
+		assertEquals(0, templates.size());
+	}
+
 }
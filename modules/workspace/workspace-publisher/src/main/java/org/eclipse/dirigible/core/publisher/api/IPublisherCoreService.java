@@ -17,6 +17,7 @@ import java.util.List;
 import org.eclipse.dirigible.commons.api.service.ICoreService;
 import org.eclipse.dirigible.core.publisher.definition.PublishLogDefinition;
 import org.eclipse.dirigible.core.publisher.definition.PublishRequestDefinition;
+import org.eclipse.dirigible.core.publisher.definition.PublishedResourceDefinition;
 import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
 
 /**
@@ -195,4 +196,35 @@ public interface IPublisherCoreService extends ICoreService {
 	 */
 	public void deleteOldPublishLogs() throws SchedulerException;
 
+	/**
+	 * Gets the published resources at and below the location.
+	 *
+	 * @param location
+	 *            the registry location
+	 * @return the published resources
+	 * @throws PublisherException
+	 *             the publisher exception
+	 */
+	public List<PublishedResourceDefinition> getPublishedResources(String location) throws PublisherException;
+
+	/**
+	 * Saves the published resources, replacing the already recorded ones.
+	 *
+	 * @param publishedResources
+	 *            the published resources
+	 * @throws PublisherException
+	 *             the publisher exception
+	 */
+	public void savePublishedResources(List<PublishedResourceDefinition> publishedResources) throws PublisherException;
+
+	/**
+	 * Removes the published resources at and below the location.
+	 *
+	 * @param location
+	 *            the registry location
+	 * @throws PublisherException
+	 *             the publisher exception
+	 */
+	public void removePublishedResources(String location) throws PublisherException;
+
 }
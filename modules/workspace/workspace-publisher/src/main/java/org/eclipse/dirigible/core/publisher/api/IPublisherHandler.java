@@ -11,6 +11,8 @@
  */
 package org.eclipse.dirigible.core.publisher.api;
 
+import java.util.List;
+
 import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
 
 /**
@@ -35,6 +37,19 @@ public interface IPublisherHandler {
      */
     void afterPublish(String workspaceLocation, String registryLocation) throws SchedulerException;
 
+    /**
+     * After publish, with the registry locations created, updated or deleted by the publishing.
+     * A collection location stands for everything below it.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param changedLocations the changed registry locations
+     * @throws SchedulerException the scheduler exception
+     */
+    default void afterPublish(String workspaceLocation, String registryLocation, List<String> changedLocations) throws SchedulerException {
+        afterPublish(workspaceLocation, registryLocation);
+    }
+
     /**
      * Before unpublish.
      *
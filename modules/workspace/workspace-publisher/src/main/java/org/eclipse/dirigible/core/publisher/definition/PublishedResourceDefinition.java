@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.publisher.definition;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * The PublishedResourceDefinition serialization object, which records the content hash of a published resource
+ * together with its modification time at the moment of the publishing.
+ */
+@Table(name = "DIRIGIBLE_PUBLISHED_RESOURCES")
+public class PublishedResourceDefinition {
+
+	/** The target. */
+	@Id
+	@Column(name = "PUBRES_TARGET", columnDefinition = "VARCHAR", nullable = false, length = 1024)
+	private String target;
+
+	/** The hash. */
+	@Column(name = "PUBRES_HASH", columnDefinition = "VARCHAR", nullable = false, length = 32)
+	private String hash;
+
+	/** The modified at. */
+	@Column(name = "PUBRES_MODIFIED_AT", columnDefinition = "BIGINT", nullable = false)
+	private long modifiedAt;
+
+	/**
+	 * Gets the target.
+	 *
+	 * @return the target
+	 */
+	public String getTarget() {
+		return target;
+	}
+
+	/**
+	 * Sets the target.
+	 *
+	 * @param target
+	 *            the new target
+	 */
+	public void setTarget(String target) {
+		this.target = target;
+	}
+
+	/**
+	 * Gets the hash.
+	 *
+	 * @return the hash
+	 */
+	public String getHash() {
+		return hash;
+	}
+
+	/**
+	 * Sets the hash.
+	 *
+	 * @param hash
+	 *            the new hash
+	 */
+	public void setHash(String hash) {
+		this.hash = hash;
+	}
+
+	/**
+	 * Gets the modification time of the published resource in milliseconds.
+	 *
+	 * @return the modified at
+	 */
+	public long getModifiedAt() {
+		return modifiedAt;
+	}
+
+	/**
+	 * Sets the modification time of the published resource in milliseconds.
+	 *
+	 * @param modifiedAt
+	 *            the new modified at
+	 */
+	public void setModifiedAt(long modifiedAt) {
+		this.modifiedAt = modifiedAt;
+	}
+
+}
@@ -28,6 +28,7 @@ import org.eclipse.dirigible.core.publisher.api.IPublisherCoreService;
 import org.eclipse.dirigible.core.publisher.api.PublisherException;
 import org.eclipse.dirigible.core.publisher.definition.PublishLogDefinition;
 import org.eclipse.dirigible.core.publisher.definition.PublishRequestDefinition;
+import org.eclipse.dirigible.core.publisher.definition.PublishedResourceDefinition;
 import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.database.sql.SqlFactory;
@@ -46,6 +47,9 @@ public class PublisherCoreService implements IPublisherCoreService, ICleanupServ
 
 	/** The publish log persistence manager. */
 	private PersistenceManager<PublishLogDefinition> publishLogPersistenceManager = new PersistenceManager<PublishLogDefinition>();
+
+	/** The published resource persistence manager. */
+	private PersistenceManager<PublishedResourceDefinition> publishedResourcePersistenceManager = new PersistenceManager<PublishedResourceDefinition>();
 	
 	/**
 	 * Gets the data source.
@@ -544,6 +548,102 @@ public class PublisherCoreService implements IPublisherCoreService, ICleanupServ
 		}
 	}
 	
+	// Published Resources
+
+	/**
+	 * Gets the published resources.
+	 *
+	 * @param location the location
+	 * @return the published resources
+	 * @throws PublisherException the publisher exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.publisher.api.IPublisherCoreService#getPublishedResources(java.lang.String)
+	 */
+	@Override
+	public List<PublishedResourceDefinition> getPublishedResources(String location) throws PublisherException {
+		try {
+			Connection connection = null;
+			try {
+				connection = getDataSource().getConnection();
+				String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_PUBLISHED_RESOURCES")
+						.where("PUBRES_TARGET = ? OR PUBRES_TARGET LIKE ?").toString();
+				return publishedResourcePersistenceManager.query(connection, PublishedResourceDefinition.class, sql, location, location + "/%");
+			} finally {
+				if (connection != null) {
+					connection.close();
+				}
+			}
+		} catch (SQLException e) {
+			throw new PublisherException(e);
+		}
+	}
+
+	/**
+	 * Save published resources.
+	 *
+	 * @param publishedResources the published resources
+	 * @throws PublisherException the publisher exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.publisher.api.IPublisherCoreService#savePublishedResources(java.util.List)
+	 */
+	@Override
+	public void savePublishedResources(List<PublishedResourceDefinition> publishedResources) throws PublisherException {
+		if (publishedResources.isEmpty()) {
+			return;
+		}
+		try {
+			Connection connection = null;
+			try {
+				connection = getDataSource().getConnection();
+				for (PublishedResourceDefinition publishedResource : publishedResources) {
+					if (publishedResourcePersistenceManager.update(connection, publishedResource) == 0) {
+						publishedResourcePersistenceManager.insert(connection, publishedResource);
+					}
+				}
+			} finally {
+				if (connection != null) {
+					connection.close();
+				}
+			}
+		} catch (SQLException e) {
+			throw new PublisherException(e);
+		}
+	}
+
+	/**
+	 * Removes the published resources.
+	 *
+	 * @param location the location
+	 * @throws PublisherException the publisher exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.publisher.api.IPublisherCoreService#removePublishedResources(java.lang.String)
+	 */
+	@Override
+	public void removePublishedResources(String location) throws PublisherException {
+		try {
+			Connection connection = null;
+			try {
+				connection = getDataSource().getConnection();
+				publishedResourcePersistenceManager.tableCheck(connection, PublishedResourceDefinition.class);
+				String sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_PUBLISHED_RESOURCES")
+						.where("PUBRES_TARGET = ? OR PUBRES_TARGET LIKE ?")
+						.build();
+				publishedResourcePersistenceManager.execute(connection, sql, location, location + "/%");
+			} finally {
+				if (connection != null) {
+					connection.close();
+				}
+			}
+		} catch (SQLException e) {
+			throw new PublisherException(e);
+		}
+	}
 
 	/**
 	 * Cleanup.
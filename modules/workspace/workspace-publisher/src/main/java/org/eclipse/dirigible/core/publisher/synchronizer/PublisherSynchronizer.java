@@ -11,10 +11,12 @@
  */
 package org.eclipse.dirigible.core.publisher.synchronizer;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.eclipse.dirigible.commons.config.ResourcesCache;
 import org.eclipse.dirigible.core.publisher.api.IPublisherHandler;
 import org.eclipse.dirigible.core.publisher.api.PublisherException;
 import org.eclipse.dirigible.core.publisher.definition.PublishRequestDefinition;
+import org.eclipse.dirigible.core.publisher.definition.PublishedResourceDefinition;
 import org.eclipse.dirigible.core.publisher.service.PublisherCoreService;
 import org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer;
 import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
@@ -196,15 +198,16 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 						next.beforePublish(entry.getKey());
 					}
 		
+					List<String> changedLocations = new ArrayList<String>();
 					try {
 						// publish
-						publishResource(entry);
+						publishResource(entry, changedLocations);
 					} catch (SynchronizationException e) {
 						if (logger.isErrorEnabled()) {logger.error("Failed to publish: " + entry.getKey(), e);}
 					}
 
 					for (IPublisherHandler next : publisherHandlers) {
-						next.afterPublish(entry.getKey(), entry.getValue());
+						next.afterPublish(entry.getKey(), entry.getValue(), changedLocations);
 					}
 				}
 			} catch (SchedulerException e) {
@@ -224,10 +227,12 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 	 *
 	 * @param entry
 	 *            the entry
+	 * @param changedLocations
+	 *            the registry locations created, updated or deleted by the publishing
 	 * @throws SynchronizationException
 	 *             the synchronization exception
 	 */
-	private void publishResource(Map.Entry<String, String> entry) throws SynchronizationException {
+	private void publishResource(Map.Entry<String, String> entry, List<String> changedLocations) throws SynchronizationException {
 		String sourceLocation = entry.getKey();
 		String targetLocation = entry.getValue();
 		
@@ -235,7 +240,23 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 		if (sourceCollection.exists()) {
 			// publish collection
 			ICollection targetCollection = getRepository().getCollection(targetLocation);
-			sourceCollection.copyTo(targetCollection.getPath());
+			if (targetCollection.exists()) {
+				try {
+					Map<String, PublishedResourceDefinition> publishedResources = new HashMap<String, PublishedResourceDefinition>();
+					for (PublishedResourceDefinition publishedResource : publishCoreService.getPublishedResources(targetCollection.getPath())) {
+						publishedResources.put(publishedResource.getTarget(), publishedResource);
+					}
+					List<PublishedResourceDefinition> modifiedResources = new ArrayList<PublishedResourceDefinition>();
+					publishCollection(sourceCollection, targetCollection, changedLocations, publishedResources, modifiedResources);
+					publishCoreService.savePublishedResources(modifiedResources);
+				} catch (PublisherException e) {
+					throw new SynchronizationException(e);
+				}
+			} else {
+				sourceCollection.copyTo(targetCollection.getPath());
+				changedLocations.add(targetCollection.getPath());
+			}
+			if (logger.isDebugEnabled()) {logger.debug(String.format("Published [%s] with %d changed locations", targetCollection.getPath(), changedLocations.size()));}
 			try {
 				publishCoreService.createPublishLog(sourceCollection.getPath(), targetCollection.getPath());
 			} catch (PublisherException e) {
@@ -249,9 +270,11 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 				java.util.Date lastModified = targetResource.getInformation().getModifiedAt();
 				if ((lastModified == null) || (currentRequestTime.getTime() > lastModified.getTime())) {
 					targetResource.setContent(sourceResource.getContent());
+					changedLocations.add(targetResource.getPath());
 				}
 			} else {
 				getRepository().createResource(targetLocation, sourceResource.getContent());
+				changedLocations.add(targetResource.getPath());
 			}
 			try {
 				publishCoreService.createPublishLog(sourceResource.getPath(), targetResource.getPath());
@@ -261,6 +284,120 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 		}
 	}
 	
+	/**
+	 * Publishes a collection over its already published version, by writing only the resources which differ
+	 * and deleting the ones which are no longer in the source.
+	 *
+	 * @param sourceCollection
+	 *            the source collection
+	 * @param targetCollection
+	 *            the target collection
+	 * @param changedLocations
+	 *            the registry locations created, updated or deleted by the publishing
+	 * @param publishedResources
+	 *            the recorded published resources by their location
+	 * @param modifiedResources
+	 *            the published resources to be recorded
+	 */
+	private void publishCollection(ICollection sourceCollection, ICollection targetCollection, List<String> changedLocations,
+			Map<String, PublishedResourceDefinition> publishedResources, List<PublishedResourceDefinition> modifiedResources) {
+		Set<String> resourceNames = new HashSet<String>();
+		for (IResource sourceResource : sourceCollection.getResources()) {
+			resourceNames.add(sourceResource.getName());
+			IResource targetResource = targetCollection.getResource(sourceResource.getName());
+			if (!targetResource.exists()) {
+				sourceResource.copyTo(targetCollection.getPath());
+				changedLocations.add(targetResource.getPath());
+			} else if (publishModifiedResource(sourceResource, targetResource, publishedResources.get(targetResource.getPath()), modifiedResources)) {
+				changedLocations.add(targetResource.getPath());
+			}
+		}
+		Set<String> collectionNames = new HashSet<String>();
+		for (ICollection sourceChild : sourceCollection.getCollections()) {
+			collectionNames.add(sourceChild.getName());
+			ICollection targetChild = targetCollection.getCollection(sourceChild.getName());
+			if (!targetChild.exists()) {
+				sourceChild.copyTo(targetChild.getPath());
+				changedLocations.add(targetChild.getPath());
+			} else {
+				publishCollection(sourceChild, targetChild, changedLocations, publishedResources, modifiedResources);
+			}
+		}
+		for (IResource targetResource : targetCollection.getResources()) {
+			if (!resourceNames.contains(targetResource.getName())) {
+				targetResource.delete();
+				changedLocations.add(targetResource.getPath());
+			}
+		}
+		for (ICollection targetChild : targetCollection.getCollections()) {
+			if (!collectionNames.contains(targetChild.getName())) {
+				targetChild.delete();
+				changedLocations.add(targetChild.getPath());
+			}
+		}
+	}
+
+	/**
+	 * Writes the content of the source resource over the published one, if it differs. The registry is shared by the
+	 * workspaces of all the users, so the modification times cannot tell which version is published. A source of
+	 * another size is written right away. A source of the same size is compared with the content hash recorded on
+	 * the last publishing, as long as the published resource has not been modified since, and otherwise with the
+	 * published content.
+	 *
+	 * @param sourceResource
+	 *            the source resource
+	 * @param targetResource
+	 *            the published resource
+	 * @param publishedResource
+	 *            the recorded published resource, if any
+	 * @param modifiedResources
+	 *            the published resources to be recorded
+	 * @return true, if written
+	 */
+	private static boolean publishModifiedResource(IResource sourceResource, IResource targetResource, PublishedResourceDefinition publishedResource,
+			List<PublishedResourceDefinition> modifiedResources) {
+		Long sourceSize = sourceResource.getInformation().getSize();
+		boolean sameSize = sourceSize != null && sourceSize.equals(targetResource.getInformation().getSize());
+		byte[] content = sourceResource.getContent();
+		String hash = DigestUtils.md5Hex(content);
+		if (sameSize) {
+			Date modifiedAt = targetResource.getInformation().getModifiedAt();
+			boolean recorded = publishedResource != null && modifiedAt != null && publishedResource.getModifiedAt() == modifiedAt.getTime();
+			if (recorded) {
+				if (hash.equals(publishedResource.getHash())) {
+					return false;
+				}
+			} else if (Arrays.equals(content, targetResource.getContent())) {
+				recordPublishedResource(targetResource, hash, modifiedResources);
+				return false;
+			}
+		}
+		targetResource.setContent(content);
+		recordPublishedResource(targetResource, hash, modifiedResources);
+		return true;
+	}
+
+	/**
+	 * Records the content hash of a published resource together with its current modification time.
+	 *
+	 * @param targetResource
+	 *            the published resource
+	 * @param hash
+	 *            the content hash
+	 * @param modifiedResources
+	 *            the published resources to be recorded
+	 */
+	private static void recordPublishedResource(IResource targetResource, String hash, List<PublishedResourceDefinition> modifiedResources) {
+		Date modifiedAt = targetResource.getInformation().getModifiedAt();
+		if (modifiedAt != null) {
+			PublishedResourceDefinition publishedResource = new PublishedResourceDefinition();
+			publishedResource.setTarget(targetResource.getPath());
+			publishedResource.setHash(hash);
+			publishedResource.setModifiedAt(modifiedAt.getTime());
+			modifiedResources.add(publishedResource);
+		}
+	}
+	
 	/**
 	 * Unpublish resources.
 	 *
@@ -320,6 +457,7 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 			// unpublish collection
 			targetCollection.delete();
 			try {
+				publishCoreService.removePublishedResources(targetCollection.getPath());
 				publishCoreService.createPublishLog(PublishRequestDefinition.COMMAND_UNPUBLISH, targetCollection.getPath());
 			} catch (PublisherException e) {
 				throw new SynchronizationException(e);
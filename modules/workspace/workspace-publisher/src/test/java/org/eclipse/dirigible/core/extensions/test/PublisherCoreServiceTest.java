@@ -15,12 +15,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.dirigible.core.publisher.api.IPublisherCoreService;
 import org.eclipse.dirigible.core.publisher.api.PublisherException;
 import org.eclipse.dirigible.core.publisher.definition.PublishLogDefinition;
 import org.eclipse.dirigible.core.publisher.definition.PublishRequestDefinition;
+import org.eclipse.dirigible.core.publisher.definition.PublishedResourceDefinition;
 import org.eclipse.dirigible.core.publisher.service.PublisherCoreService;
 import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
 import org.junit.Before;
@@ -154,4 +156,28 @@ public class PublisherCoreServiceTest extends AbstractDirigibleTest {
 		assertNull(publishLogDefinition);
 	}
 
+	/**
+	 * Save published resources test.
+	 *
+	 * @throws PublisherException the publisher exception
+	 */
+	@Test
+	public void savePublishedResourcesTest() throws PublisherException {
+		PublishedResourceDefinition publishedResource = new PublishedResourceDefinition();
+		publishedResource.setTarget("/registry1/project1/file1");
+		publishedResource.setHash("hash1");
+		publishedResource.setModifiedAt(1);
+		publisherCoreService.savePublishedResources(Collections.singletonList(publishedResource));
+		publishedResource.setHash("hash2");
+		publisherCoreService.savePublishedResources(Collections.singletonList(publishedResource));
+
+		List<PublishedResourceDefinition> list = publisherCoreService.getPublishedResources("/registry1/project1");
+		assertEquals(1, list.size());
+		assertEquals("hash2", list.get(0).getHash());
+		assertEquals(0, publisherCoreService.getPublishedResources("/registry1/project").size());
+
+		publisherCoreService.removePublishedResources("/registry1/project1");
+		assertEquals(0, publisherCoreService.getPublishedResources("/registry1/project1").size());
+	}
+
 }
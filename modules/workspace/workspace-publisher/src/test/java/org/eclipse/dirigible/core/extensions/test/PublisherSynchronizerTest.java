@@ -17,10 +17,14 @@ import static org.junit.Assert.assertTrue;
 
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.core.publisher.api.IPublisherCoreService;
 import org.eclipse.dirigible.core.publisher.api.PublisherException;
+import org.eclipse.dirigible.core.publisher.definition.PublishedResourceDefinition;
 import org.eclipse.dirigible.core.publisher.service.PublisherCoreService;
 import org.eclipse.dirigible.core.publisher.synchronizer.PublisherSynchronizer;
 import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
@@ -112,4 +116,104 @@ public class PublisherSynchronizerTest extends AbstractDirigibleTest {
 		assertFalse(before.equals(new Timestamp(0)));
 	}
 
+	/**
+	 * Publish project twice test - only the differences are written on the second publish.
+	 *
+	 * @throws PublisherException the publisher exception
+	 */
+	@Test
+	public void publishProjectTwiceTest() throws PublisherException {
+
+		repository.createResource("/user1/workspace1/project2/changed.txt", "My Data".getBytes());
+		repository.createResource("/user1/workspace1/project2/removed.txt", "My Data".getBytes());
+		repository.createResource("/user1/workspace1/project2/folder1/unchanged.txt", "My Data".getBytes());
+		repository.createResource("/user1/workspace1/project2/folder2/removed.txt", "My Data".getBytes());
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project2", null);
+		publisherSynchronizer.synchronize();
+
+		String registry = IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/project2";
+		assertTrue(repository.getResource(registry + "/folder2/removed.txt").exists());
+		Date unchangedAt = repository.getResource(registry + "/folder1/unchanged.txt").getInformation().getModifiedAt();
+
+		repository.getResource("/user1/workspace1/project2/changed.txt").setContent("My Data 2".getBytes());
+		repository.removeResource("/user1/workspace1/project2/removed.txt");
+		repository.removeCollection("/user1/workspace1/project2/folder2");
+		repository.createResource("/user1/workspace1/project2/folder1/added.txt", "My Data".getBytes());
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project2", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals("My Data 2", new String(repository.getResource(registry + "/changed.txt").getContent(), StandardCharsets.UTF_8));
+		assertFalse(repository.getResource(registry + "/removed.txt").exists());
+		assertFalse(repository.getCollection(registry + "/folder2").exists());
+		assertTrue(repository.getResource(registry + "/folder1/added.txt").exists());
+		assertEquals(unchangedAt, repository.getResource(registry + "/folder1/unchanged.txt").getInformation().getModifiedAt());
+	}
+
+	/**
+	 * Publish project from another workspace test - a source older than the published resource is published too.
+	 *
+	 * @throws PublisherException the publisher exception
+	 */
+	@Test
+	public void publishProjectFromAnotherWorkspaceTest() throws PublisherException {
+
+		repository.createResource("/user2/workspace1/project3/shared.txt", "Data of user2".getBytes());
+		repository.createResource("/user1/workspace1/project3/shared.txt", "Data of user1".getBytes());
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project3", null);
+		publisherSynchronizer.synchronize();
+
+		String registry = IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/project3";
+		assertEquals("Data of user1", new String(repository.getResource(registry + "/shared.txt").getContent(), StandardCharsets.UTF_8));
+
+		publisherCoreService.createPublishRequest("/user2/workspace1", "/project3", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals("Data of user2", new String(repository.getResource(registry + "/shared.txt").getContent(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Publish project with a source of the same size test - the content hash recorded on publishing tells whether
+	 * the source differs from the published resource.
+	 *
+	 * @throws PublisherException the publisher exception
+	 */
+	@Test
+	public void publishProjectSameSizeTest() throws PublisherException {
+
+		repository.createResource("/user1/workspace1/project4/file.txt", "My Data".getBytes());
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project4", null);
+		publisherSynchronizer.synchronize();
+
+		String registry = IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/project4";
+		repository.getResource("/user1/workspace1/project4/file.txt").setContent("My Date".getBytes());
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project4", null);
+		publisherSynchronizer.synchronize();
+
+		IResource publishedResource = repository.getResource(registry + "/file.txt");
+		assertEquals("My Date", new String(publishedResource.getContent(), StandardCharsets.UTF_8));
+		List<PublishedResourceDefinition> publishedResources = publisherCoreService.getPublishedResources(registry);
+		assertEquals(1, publishedResources.size());
+		assertEquals(DigestUtils.md5Hex("My Date"), publishedResources.get(0).getHash());
+		assertEquals(publishedResource.getInformation().getModifiedAt().getTime(), publishedResources.get(0).getModifiedAt());
+
+		Date publishedAt = publishedResource.getInformation().getModifiedAt();
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project4", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals(publishedAt, repository.getResource(registry + "/file.txt").getInformation().getModifiedAt());
+
+		repository.getResource("/user1/workspace1/project4/file.txt").setContent("My Data".getBytes());
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project4", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals("My Data", new String(repository.getResource(registry + "/file.txt").getContent(), StandardCharsets.UTF_8));
+		assertEquals(DigestUtils.md5Hex("My Data"), publisherCoreService.getPublishedResources(registry).get(0).getHash());
+	}
+
 }